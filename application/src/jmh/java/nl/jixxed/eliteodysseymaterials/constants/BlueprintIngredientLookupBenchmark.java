@@ -0,0 +1,97 @@
+package nl.jixxed.eliteodysseymaterials.constants;
+
+import nl.jixxed.eliteodysseymaterials.domain.HorizonsBlueprint;
+import nl.jixxed.eliteodysseymaterials.enums.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Looks up the blueprints containing each material, comparing a scan over all recipes (how the lookups used to work)
+ * with the reverse index of the blueprint constants.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BlueprintIngredientLookupBenchmark {
+    private List<OdysseyMaterial> odysseyMaterials;
+    private List<HorizonsMaterial> horizonsMaterials;
+
+    @Setup
+    public void setup() {
+        this.odysseyMaterials = Stream.of(Good.values(), Data.values(), Asset.values())
+                .flatMap(Stream::of)
+                .map(OdysseyMaterial.class::cast)
+                .toList();
+        this.horizonsMaterials = Stream.of(Raw.values(), Encoded.values(), Manufactured.values(), Commodity.values())
+                .flatMap(Stream::of)
+                .map(HorizonsMaterial.class::cast)
+                .toList();
+    }
+
+    @Benchmark
+    public void odysseyScan(final Blackhole blackhole) {
+        this.odysseyMaterials.forEach(material -> blackhole.consume(scan(material)));
+    }
+
+    @Benchmark
+    public void odysseyIndex(final Blackhole blackhole) {
+        this.odysseyMaterials.forEach(material -> blackhole.consume(OdysseyBlueprintConstants.findRecipesContaining(material)));
+    }
+
+    @Benchmark
+    public void odysseyIsEngineeringIngredientScan(final Blackhole blackhole) {
+        this.odysseyMaterials.forEach(material -> blackhole.consume(OdysseyBlueprintConstants.RECIPES.get(BlueprintCategory.ENGINEER_UNLOCKS).values().stream()
+                .anyMatch(recipe -> recipe.getMaterialCollection(material.getClass()).containsKey(material))));
+    }
+
+    @Benchmark
+    public void odysseyIsEngineeringIngredientIndex(final Blackhole blackhole) {
+        this.odysseyMaterials.forEach(material -> blackhole.consume(OdysseyBlueprintConstants.isEngineeringIngredient(material)));
+    }
+
+    @Benchmark
+    public void horizonsScan(final Blackhole blackhole) {
+        this.horizonsMaterials.forEach(material -> blackhole.consume(scan(material)));
+    }
+
+    @Benchmark
+    public void horizonsIndex(final Blackhole blackhole) {
+        this.horizonsMaterials.forEach(material -> blackhole.consume(HorizonsBlueprintConstants.findRecipesContaining(material)));
+    }
+
+    private static Map<OdysseyBlueprintName, Integer> scan(final OdysseyMaterial odysseyMaterial) {
+        final Map<OdysseyBlueprintName, Integer> recipes = new EnumMap<>(OdysseyBlueprintName.class);
+        OdysseyBlueprintConstants.RECIPES.values()
+                .forEach(blueprints -> blueprints.entrySet().stream()
+                        .filter(entry -> entry.getValue().getMaterialCollection(odysseyMaterial.getClass()).containsKey(odysseyMaterial))
+                        .forEach(entry -> recipes.put(entry.getKey(), entry.getValue().getMaterialCollection(odysseyMaterial.getClass()).get(odysseyMaterial))));
+        return recipes;
+    }
+
+    private static Map<HorizonsBlueprint, Integer> scan(final HorizonsMaterial horizonsMaterial) {
+        final Map<HorizonsBlueprint, Integer> recipes = new HashMap<>();
+        Stream.of(
+                        HorizonsBlueprintConstants.getEngineerUnlockRequirements().values().stream().map(HorizonsBlueprint.class::cast),
+                        HorizonsBlueprintConstants.RECIPES.values().stream()
+                                .flatMap(blueprintNames -> blueprintNames.values().stream())
+                                .flatMap(blueprintTypes -> blueprintTypes.values().stream())
+                                .flatMap(blueprintGrades -> blueprintGrades.values().stream()),
+                        HorizonsBlueprintConstants.getExperimentalEffects().values().stream().flatMap(blueprintTypes -> blueprintTypes.values().stream()),
+                        HorizonsBlueprintConstants.getSynthesis().values().stream().flatMap(blueprintGrades -> blueprintGrades.values().stream()),
+                        HorizonsBlueprintConstants.getTechbrokerUnlocks().values().stream().flatMap(blueprintTypes -> blueprintTypes.values().stream()))
+                .flatMap(blueprints -> blueprints)
+                .filter(blueprint -> blueprint.getMaterialCollection(horizonsMaterial.getClass()).containsKey(horizonsMaterial))
+                .forEach(blueprint -> recipes.put(blueprint, blueprint.getMaterialCollection(horizonsMaterial.getClass()).get(horizonsMaterial)));
+        return recipes;
+    }
+}
@@ -0,0 +1,88 @@
+package nl.jixxed.eliteodysseymaterials.enums;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Resolves journal event and material names, comparing valueOf on the upper-cased name with an exception for unknown
+ * names (how the lookups used to work) with the generated name tables.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnumNamesBenchmark {
+    private List<String> eventNames;
+    private List<String> materialNames;
+
+    @Param({"HIT", "MISS", "MIXED_CASE"})
+    public String input;
+
+    @Setup
+    public void setup() {
+        this.eventNames = names(Arrays.stream(JournalEventType.values()));
+        this.materialNames = names(Stream.of(Data.values(), Good.values(), Asset.values(), Consumable.values()).flatMap(Arrays::stream));
+    }
+
+    private List<String> names(final Stream<? extends Enum<?>> constants) {
+        //the journal writes names in camel case, like "MaterialCollected"
+        return constants.map(Enum::name)
+                .map(name -> switch (this.input) {
+                    case "HIT" -> name;
+                    case "MISS" -> name + "X";
+                    default -> name.charAt(0) + name.substring(1).toLowerCase(Locale.ROOT);
+                })
+                .toList();
+    }
+
+    @Benchmark
+    public void journalEventTypeValueOf(final Blackhole blackhole) {
+        this.eventNames.forEach(name -> {
+            try {
+                blackhole.consume(JournalEventType.valueOf(name.toUpperCase()));
+            } catch (final IllegalArgumentException ex) {
+                blackhole.consume(JournalEventType.UNKNOWN);
+            }
+        });
+    }
+
+    @Benchmark
+    public void journalEventTypeTable(final Blackhole blackhole) {
+        this.eventNames.forEach(name -> blackhole.consume(JournalEventType.forName(name)));
+    }
+
+    @Benchmark
+    public void odysseyMaterialValueOf(final Blackhole blackhole) {
+        this.materialNames.forEach(name -> blackhole.consume(valueOfChain(name)));
+    }
+
+    @Benchmark
+    public void odysseyMaterialTable(final Blackhole blackhole) {
+        this.materialNames.forEach(name -> {
+            try {
+                blackhole.consume(OdysseyMaterial.subtypeForName(name));
+            } catch (final IllegalArgumentException ex) {
+                blackhole.consume(ex);
+            }
+        });
+    }
+
+    private static Object valueOfChain(final String name) {
+        for (final Class<? extends Enum<?>> type : List.of(Data.class, Good.class, Asset.class, Consumable.class, TradeOdysseyMaterial.class)) {
+            try {
+                return Enum.valueOf(type.asSubclass(Enum.class), name.toUpperCase());
+            } catch (final IllegalArgumentException ex) {
+                //try the next type
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,48 @@
+package nl.jixxed.eliteodysseymaterials.helper;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loads the translations of one language at startup, comparing parsing all locale CSV files (how the bundles used to
+ * be loaded) with reading the compiled bundle of the language.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LocaleBundleBenchmark {
+    private static final String[] BASE_NAMES = LocaleBundleCompiler.BASE_NAMES.toArray(String[]::new);
+    private byte[] compiled;
+
+    @Param({"en", "de", "ru"})
+    public String language;
+
+    @Setup
+    public void setup() throws IOException, URISyntaxException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        LocaleBundle.write(LocaleBundleCompiler.compile(Path.of(Objects.requireNonNull(LocaleBundleBenchmark.class.getResource("/locale")).toURI())).get(this.language), outputStream);
+        this.compiled = outputStream.toByteArray();
+    }
+
+    @Benchmark
+    public void csv(final Blackhole blackhole) {
+        blackhole.consume(new CSVResourceBundle(new Locale(this.language), BASE_NAMES));
+    }
+
+    @Benchmark
+    public void compiled(final Blackhole blackhole) throws IOException {
+        blackhole.consume(LocaleBundle.read(new ByteArrayInputStream(this.compiled)));
+    }
+}
@@ -0,0 +1,239 @@
+package nl.jixxed.eliteodysseymaterials.service;
+
+import nl.jixxed.eliteodysseymaterials.constants.PreferenceConstants;
+import nl.jixxed.eliteodysseymaterials.enums.ApplicationLocale;
+import nl.jixxed.eliteodysseymaterials.enums.OdysseyMaterial;
+import nl.jixxed.eliteodysseymaterials.service.ar.*;
+
+import java.awt.Point;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the AR download menu recognition headless on recorded frames and reports frames per second, template match
+ * latency, OCR latency per row and, for labelled frames, recognition accuracy.
+ * <p>
+ * Run with {@code gradlew arReplay -Pframes=<folder> [-Pfps=<fps>]}. Without a frame rate every frame is processed as
+ * fast as possible; with a frame rate frames that pass while a frame is processed are skipped, like in the game. As in
+ * the AR timers, matching and OCR are skipped for frames where the captured regions did not change.
+ * <p>
+ * Labels are read from {@code labels.properties} in the frame folder. {@code frame_0001.png=BIOMETRICDATA,,UNKNOWN}
+ * lists the expected material per menu row from the top, where empty entries are not checked, and
+ * {@code frame_0002.png=none} marks a frame without a download menu.
+ */
+public class ARReplayBenchmark {
+    private static final String LABELS_FILE = "labels.properties";
+    private static final String NO_MENU = "none";
+    private static final Point ORIGIN = new Point(0, 0);
+
+    public static void main(final String[] args) throws IOException, InterruptedException, ExecutionException {
+        if (args.length < 1) {
+            System.err.println("Usage: ARReplayBenchmark <frame folder> [fps]");
+            System.exit(1);
+        }
+        final File folder = new File(args[0]);
+        final double fps = args.length > 1 ? Double.parseDouble(args[1]) : 0;
+        final Report report = run(new ReplayScreenshotService(folder, fps), loadLabels(folder));
+        report.print(System.out);
+    }
+
+    static Report run(final ReplayScreenshotService replay, final Properties labels) throws InterruptedException, ExecutionException {
+        final Locale locale = ApplicationLocale.valueOf(PreferencesService.getPreference(PreferenceConstants.AR_LOCALE, "ENGLISH")).getLocale();
+        final ExecutorService rowExecutor = Executors.newFixedThreadPool(OcrConstants.OCR_ENGINES);
+        final Report report = new Report();
+        ARService.loadTemplates();
+        final RegionChangeDetector arrowChanges = new RegionChangeDetector(8, 6);
+        final RegionChangeDetector downloadMenuChanges = new RegionChangeDetector(16, 4);
+        double scaling = 0;
+        int lastIndex = -1;
+        boolean detected = false;
+        Map<Integer, OdysseyMaterial> rows = Map.of();
+        replay.start();
+        final long start = System.nanoTime();
+        try {
+            do {
+                final int index = replay.getFrameIndex();
+                report.skipped += index - lastIndex - 1;
+                lastIndex = index;
+
+                final BufferedImage frame = replay.getFrame();
+                final double frameScaling = frame.getHeight() / 1600D;
+                if (frameScaling != scaling) {
+                    scaling = frameScaling;
+                    ARService.rescaleDownloadMenuTemplates(scaling);
+                }
+                final DownloadMenu downloadMenu = new DownloadMenu(scaling, false, null, frame.getWidth(), frame.getHeight());
+                //like the AR timers, only match and recognise regions that changed since the previous frame
+                final BufferedImage arrowCapture = replay.getScreenshot(ORIGIN, downloadMenu.getArrow().getAwtRectangle(), null);
+                final boolean arrowChanged = arrowChanges.hasChanged(arrowCapture);
+                if (arrowChanged) {
+                    final long matchStart = System.nanoTime();
+                    detected = arrowCapture != null && ARService.matchDownloadMenu(arrowCapture) > ARService.getMatchingThreshold();
+                    report.match.add(System.nanoTime() - matchStart);
+                }
+                final BufferedImage downloadMenuCapture = detected ? replay.getScreenshot(ORIGIN, downloadMenu.getMenu().getAwtRectangle(), null) : null;
+                final boolean menuChanged = downloadMenuChanges.hasChanged(downloadMenuCapture);
+                if (!detected) {
+                    rows = Map.of();
+                } else if (menuChanged) {
+                    rows = recognizeRows(downloadMenuCapture, downloadMenu, scaling, locale, rowExecutor, report);
+                }
+                if (!arrowChanged && !(detected && menuChanged)) {
+                    report.unchanged++;
+                }
+                report.frame(replay.getFrameName(), labels, detected, rows);
+                if (report.frames == 1) {
+                    report.warmAllocations = MatPool.getAllocations();
+                    report.warmAcquisitions = MatPool.getAcquisitions();
+                }
+            } while (replay.nextFrame());
+            report.skipped += replay.getFrameCount() - 1 - lastIndex;
+        } finally {
+            rowExecutor.shutdownNow();
+        }
+        report.elapsedNanos = System.nanoTime() - start;
+        return report;
+    }
+
+    private static Map<Integer, OdysseyMaterial> recognizeRows(final BufferedImage downloadMenuCapture, final DownloadMenu downloadMenu, final double scaling, final Locale locale, final ExecutorService rowExecutor, final Report report) throws InterruptedException, ExecutionException {
+        if (downloadMenuCapture == null) {
+            return Map.of();
+        }
+        final boolean hasWarning = WarningHelper.menuHasWarning(downloadMenuCapture, scaling, ARService.getMatchingThreshold());
+        downloadMenu.setHasWarning(hasWarning);
+        downloadMenu.setScrollBar(ScrollBarHelper.getScrollBar(downloadMenuCapture, hasWarning, scaling));
+        ImageTransformHelper.init(downloadMenu, scaling);
+
+        final Map<Integer, Future<OdysseyMaterial>> tasks = new TreeMap<>();
+        for (int index = 1; index <= downloadMenu.menuSize(); index++) {
+            if (downloadMenu.isMenuItemVisibleForOCR(index)) {
+                final int finalIndex = index;
+                tasks.put(index, rowExecutor.submit(() -> {
+                    final long rowStart = System.nanoTime();
+                    try {
+                        return ARService.recognizeMenuItem(downloadMenuCapture, downloadMenu, finalIndex, locale);
+                    } finally {
+                        report.row.add(System.nanoTime() - rowStart);
+                    }
+                }));
+            }
+        }
+        final Map<Integer, OdysseyMaterial> rows = new TreeMap<>();
+        for (final Map.Entry<Integer, Future<OdysseyMaterial>> task : tasks.entrySet()) {
+            rows.put(task.getKey(), task.getValue().get());
+        }
+        return rows;
+    }
+
+    private static Properties loadLabels(final File folder) throws IOException {
+        final Properties labels = new Properties();
+        final File labelsFile = new File(folder, LABELS_FILE);
+        if (labelsFile.exists()) {
+            try (final InputStream inputStream = new FileInputStream(labelsFile)) {
+                labels.load(inputStream);
+            }
+        }
+        return labels;
+    }
+
+    static class Report {
+        private final Latency match = new Latency();
+        private final Latency row = new Latency();
+        private final List<String> mismatches = new ArrayList<>();
+        private int frames;
+        private int skipped;
+        private int unchanged;
+        private long elapsedNanos;
+        private long warmAllocations;
+        private long warmAcquisitions;
+        private int labelledFrames;
+        private int correctFrames;
+        private int labelledRows;
+        private int correctRows;
+
+        private void frame(final String frameName, final Properties labels, final boolean detected, final Map<Integer, OdysseyMaterial> rows) {
+            this.frames++;
+            final String label = labels.getProperty(frameName);
+            if (label == null) {
+                return;
+            }
+            final boolean expectMenu = !NO_MENU.equalsIgnoreCase(label.trim());
+            this.labelledFrames++;
+            if (detected == expectMenu) {
+                this.correctFrames++;
+            } else {
+                this.mismatches.add(frameName + ": download menu " + (detected ? "detected" : "not detected"));
+            }
+            if (!expectMenu) {
+                return;
+            }
+            final String[] expectedRows = label.split(",", -1);
+            for (int index = 1; index <= expectedRows.length; index++) {
+                final String expected = expectedRows[index - 1].trim();
+                if (expected.isEmpty()) {
+                    continue;
+                }
+                this.labelledRows++;
+                final OdysseyMaterial recognized = rows.get(index);
+                if (recognized != null && (recognized.isUnknown() ? "UNKNOWN".equalsIgnoreCase(expected) : recognized.name().equalsIgnoreCase(expected))) {
+                    this.correctRows++;
+                } else {
+                    this.mismatches.add(frameName + " row " + index + ": expected " + expected + ", recognized " + (recognized == null ? "nothing" : recognized.name()));
+                }
+            }
+        }
+
+        void print(final PrintStream out) {
+            final double seconds = this.elapsedNanos / 1_000_000_000D;
+            out.printf("Frames: %d processed, %d skipped in %.1f s (%.1f frames/s)%n", this.frames, this.skipped, seconds, this.frames / seconds);
+            out.printf("Unchanged frames: %d (%.1f%%)%n", this.unchanged, this.frames == 0 ? 0 : 100D * this.unchanged / this.frames);
+            out.printf("Match latency: %s%n", this.match);
+            out.printf("OCR latency per row: %s%n", this.row);
+            out.printf("OCR cache: %d hits, %d misses%n", OCRService.getCacheHits(), OCRService.getCacheMisses());
+            out.printf("Native buffers after the first frame: %d allocated for %d uses%n", MatPool.getAllocations() - this.warmAllocations, MatPool.getAcquisitions() - this.warmAcquisitions);
+            if (this.labelledFrames > 0) {
+                out.printf("Menu detection accuracy: %.1f%% (%d/%d labelled frames)%n", 100D * this.correctFrames / this.labelledFrames, this.correctFrames, this.labelledFrames);
+            }
+            if (this.labelledRows > 0) {
+                out.printf("Row recognition accuracy: %.1f%% (%d/%d labelled rows)%n", 100D * this.correctRows / this.labelledRows, this.correctRows, this.labelledRows);
+            }
+            this.mismatches.forEach(mismatch -> out.println("  " + mismatch));
+        }
+    }
+
+    private static class Latency {
+        private final List<Long> nanos = new ArrayList<>();
+
+        private synchronized void add(final long nanos) {
+            this.nanos.add(nanos);
+        }
+
+        @Override
+        public synchronized String toString() {
+            if (this.nanos.isEmpty()) {
+                return "no samples";
+            }
+            final long[] sorted = this.nanos.stream().mapToLong(Long::longValue).sorted().toArray();
+            return String.format("avg %.2f ms, p50 %.2f ms, p95 %.2f ms, max %.2f ms (%d samples)",
+                    millis((long) Arrays.stream(sorted).average().orElse(0)), millis(percentile(sorted, 50)), millis(percentile(sorted, 95)), millis(sorted[sorted.length - 1]), sorted.length);
+        }
+
+        private static long percentile(final long[] sorted, final int percentile) {
+            return sorted[Math.max(0, (int) Math.ceil(percentile / 100D * sorted.length) - 1)];
+        }
+
+        private static double millis(final long nanos) {
+            return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        }
+    }
+}
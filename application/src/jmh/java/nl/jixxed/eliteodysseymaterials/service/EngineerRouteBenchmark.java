@@ -0,0 +1,119 @@
+package nl.jixxed.eliteodysseymaterials.service;
+
+import nl.jixxed.eliteodysseymaterials.constants.HorizonsBlueprintConstants;
+import nl.jixxed.eliteodysseymaterials.domain.HorizonsModuleBlueprint;
+import nl.jixxed.eliteodysseymaterials.domain.StarSystem;
+import nl.jixxed.eliteodysseymaterials.enums.Engineer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Picks the engineers for generated Horizons wishlists, comparing the enumeration of every route (how the wishlist
+ * path used to be optimized) with the route solver. Enumerating is exponential in the number of blueprints, so it is
+ * only measured for small wishlists.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EngineerRouteBenchmark {
+    private static final StarSystem START = new StarSystem("Sol", 0, 0, 0);
+
+    @State(Scope.Benchmark)
+    public static class Wishlist {
+        @Param({"5", "10", "20", "50", "100", "200"})
+        public int blueprints;
+        List<List<Engineer>> stops;
+
+        @Setup
+        public void setup() {
+            this.stops = generate(this.blueprints);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class SmallWishlist {
+        @Param({"5", "8"})
+        public int blueprints;
+        List<List<Engineer>> stops;
+
+        @Setup
+        public void setup() {
+            this.stops = generate(this.blueprints);
+        }
+    }
+
+    @Benchmark
+    public void solve(final Wishlist wishlist, final Blackhole blackhole) {
+        blackhole.consume(EngineerRouteSolver.solve(wishlist.stops, START));
+    }
+
+    @Benchmark
+    public void solveSmall(final SmallWishlist wishlist, final Blackhole blackhole) {
+        blackhole.consume(EngineerRouteSolver.solve(wishlist.stops, START));
+    }
+
+    @Benchmark
+    public void enumerateSmall(final SmallWishlist wishlist, final Blackhole blackhole) {
+        blackhole.consume(enumerate(wishlist.stops));
+    }
+
+    /**
+     * Stops for random module blueprints, each listing the engineers of the blueprint. Like the wishlist path, the
+     * stops that share an engineer are not merged.
+     */
+    private static List<List<Engineer>> generate(final int blueprints) {
+        final List<HorizonsModuleBlueprint> moduleBlueprints = HorizonsBlueprintConstants.RECIPES.values().stream()
+                .flatMap(blueprintNames -> blueprintNames.values().stream())
+                .flatMap(blueprintTypes -> blueprintTypes.values().stream())
+                .flatMap(blueprintGrades -> blueprintGrades.values().stream())
+                .filter(HorizonsModuleBlueprint.class::isInstance)
+                .map(HorizonsModuleBlueprint.class::cast)
+                .filter(blueprint -> !blueprint.getEngineers().isEmpty())
+                .toList();
+        final Random random = new Random(blueprints);
+        final List<List<Engineer>> stops = new ArrayList<>();
+        for (int blueprint = 0; blueprint < blueprints; blueprint++) {
+            stops.add(List.copyOf(moduleBlueprints.get(random.nextInt(moduleBlueprints.size())).getEngineers()));
+        }
+        return stops;
+    }
+
+    private static List<Engineer> enumerate(final List<List<Engineer>> stops) {
+        List<List<Engineer>> paths = List.of(List.of());
+        for (final List<Engineer> engineers : stops) {
+            final List<List<Engineer>> extended = new ArrayList<>();
+            for (final List<Engineer> path : paths) {
+                for (final Engineer engineer : engineers) {
+                    final List<Engineer> next = new ArrayList<>(path);
+                    next.add(engineer);
+                    extended.add(next);
+                }
+            }
+            paths = extended;
+        }
+        List<Engineer> shortestPath = new ArrayList<>();
+        double shortestLength = Double.MAX_VALUE;
+        for (final List<Engineer> engineers : paths) {
+            if (engineers.contains(Engineer.REMOTE_WORKSHOP) && !engineers.get(0).equals(Engineer.REMOTE_WORKSHOP)) {
+                continue;
+            }
+            double total = 0D;
+            for (final Engineer engineer : engineers) {
+                final StarSystem starSystem = (engineers.indexOf(engineer) == 0) ? START : engineers.get(engineers.indexOf(engineer) - 1).getStarSystem();
+                total += engineer.getDistance(starSystem);
+            }
+            if (total < shortestLength) {
+                shortestLength = total;
+                shortestPath = engineers;
+            }
+        }
+        return shortestPath;
+    }
+}
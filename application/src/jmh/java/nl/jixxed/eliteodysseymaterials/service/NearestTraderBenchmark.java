@@ -0,0 +1,55 @@
+package nl.jixxed.eliteodysseymaterials.service;
+
+import nl.jixxed.eliteodysseymaterials.constants.PreferenceConstants;
+import nl.jixxed.eliteodysseymaterials.domain.StarSystem;
+import nl.jixxed.eliteodysseymaterials.enums.HorizonsStorageType;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Finds the closest material trader from random galactic coordinates, comparing a scan over all traders (how the
+ * lookup used to work) with the k-d trees of the material trader service.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NearestTraderBenchmark {
+    private List<StarSystem> locations;
+
+    @Param({"RAW", "ENCODED", "MANUFACTURED"})
+    public HorizonsStorageType type;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(42);
+        this.locations = new ArrayList<>();
+        for (int index = 0; index < 100; index++) {
+            this.locations.add(new StarSystem("location " + index, random.nextDouble(-40000, 40000), random.nextDouble(-2000, 2000), random.nextDouble(-20000, 60000)));
+        }
+    }
+
+    @Benchmark
+    public void linearScan(final Blackhole blackhole) {
+        this.locations.forEach(location -> {
+            final Integer range = PreferencesService.getPreference(PreferenceConstants.HORIZONS_MATERIAL_TRADER_MAX_RANGE, 5000);
+            blackhole.consume(MaterialTraderService.getMaterialTraders().stream()
+                    .filter(materialTrader -> materialTrader.getType().equals(this.type) && materialTrader.getDistanceFromStar() <= range)
+                    .min(Comparator.comparing(materialTrader -> Math.sqrt(Math.pow(materialTrader.getStarSystem().getX() - location.getX(), 2) + Math.pow(materialTrader.getStarSystem().getY() - location.getY(), 2) + Math.pow(materialTrader.getStarSystem().getZ() - location.getZ(), 2))))
+                    .orElseThrow(IllegalArgumentException::new));
+        });
+    }
+
+    @Benchmark
+    public void kdTree(final Blackhole blackhole) {
+        this.locations.forEach(location -> blackhole.consume(MaterialTraderService.findClosest(location, this.type)));
+    }
+}
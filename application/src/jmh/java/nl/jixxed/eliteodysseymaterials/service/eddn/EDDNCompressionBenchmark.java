@@ -0,0 +1,161 @@
+package nl.jixxed.eliteodysseymaterials.service.eddn;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+
+/**
+ * Compresses typical Scan and Commodity EDDN messages, comparing the previous approach (string, new Deflater and
+ * oversized buffer per message) with the reusable compressor.
+ * <p>
+ * The bytes counter reports uncompressed json bytes per second. Run with {@code -prof gc} for the allocation per
+ * message (gc.alloc.rate.norm).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EDDNCompressionBenchmark {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    @Param({"scan", "commodity"})
+    private String payload;
+    @Param({"9", "6"})
+    private int level;
+    private Object message;
+    private byte[] json;
+    private EDDNCompressor compressor;
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Counters {
+        public long bytes;
+    }
+
+    @Setup
+    public void setup() throws JsonProcessingException {
+        this.message = "scan".equals(this.payload) ? createScan() : createCommodity();
+        this.json = this.objectMapper.writeValueAsBytes(this.message);
+        this.compressor = new EDDNCompressor(this.level);
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.compressor.close();
+    }
+
+    @Benchmark
+    public byte[] newDeflaterPerMessage(final Counters counters) throws JsonProcessingException {
+        final String data = this.objectMapper.writeValueAsString(this.message);
+        final Deflater def = new Deflater(this.level, true);
+        def.setInput(data.getBytes(StandardCharsets.UTF_8));
+        def.finish();
+        final byte[] compressedBuffer = new byte[data.length() * 2];
+        final int numberOfBytesAfterCompression = def.deflate(compressedBuffer, 0, compressedBuffer.length, Deflater.FULL_FLUSH);
+        final byte[] compressedBytes = new byte[numberOfBytesAfterCompression];
+        System.arraycopy(compressedBuffer, 0, compressedBytes, 0, numberOfBytesAfterCompression);
+        counters.bytes += this.json.length;
+        return compressedBytes;
+    }
+
+    @Benchmark
+    public int reusedCompressor(final Counters counters) throws JsonProcessingException {
+        final int length = this.compressor.compress(this.objectMapper.writeValueAsBytes(this.message));
+        counters.bytes += this.json.length;
+        return length;
+    }
+
+    @Benchmark
+    public int reusedCompressorPreSerialized(final Counters counters) {
+        final int length = this.compressor.compress(this.json);
+        counters.bytes += this.json.length;
+        return length;
+    }
+
+    private static Map<String, Object> createScan() {
+        final Map<String, Object> message = new LinkedHashMap<>();
+        message.put("timestamp", "2022-03-15T15:12:50Z");
+        message.put("event", "Scan");
+        message.put("ScanType", "Detailed");
+        message.put("BodyName", "Colonia 3 a");
+        message.put("BodyID", 12);
+        message.put("Parents", List.of(Map.of("Planet", 6), Map.of("Star", 0)));
+        message.put("StarSystem", "Colonia");
+        message.put("StarPos", List.of(-9530.5, -910.28125, 19808.125));
+        message.put("SystemAddress", 3238296097059L);
+        message.put("DistanceFromArrivalLS", 1036.412842);
+        message.put("TidalLock", true);
+        message.put("TerraformState", "");
+        message.put("PlanetClass", "Rocky body");
+        message.put("Atmosphere", "thin sulphur dioxide atmosphere");
+        message.put("AtmosphereType", "SulphurDioxide");
+        message.put("AtmosphereComposition", List.of(Map.of("Name", "SulphurDioxide", "Percent", 100.0)));
+        message.put("Volcanism", "");
+        message.put("MassEM", 0.002354);
+        message.put("Radius", 1034556.8125);
+        message.put("SurfaceGravity", 0.876612);
+        message.put("SurfaceTemperature", 211.645676);
+        message.put("SurfacePressure", 9.346813);
+        message.put("Landable", true);
+        message.put("Materials", List.of(
+                Map.of("Name", "iron", "Percent", 21.3), Map.of("Name", "sulphur", "Percent", 20.1),
+                Map.of("Name", "nickel", "Percent", 16.1), Map.of("Name", "carbon", "Percent", 16.9),
+                Map.of("Name", "phosphorus", "Percent", 10.8), Map.of("Name", "chromium", "Percent", 9.6),
+                Map.of("Name", "germanium", "Percent", 5.6), Map.of("Name", "tungsten", "Percent", 1.2)));
+        message.put("Composition", Map.of("Ice", 0.0, "Rock", 0.9, "Metal", 0.1));
+        message.put("SemiMajorAxis", 1063254833.221436);
+        message.put("Eccentricity", 0.000011);
+        message.put("OrbitalInclination", -0.028423);
+        message.put("Periapsis", 331.424347);
+        message.put("OrbitalPeriod", 173214.099407);
+        message.put("RotationPeriod", 173225.066382);
+        message.put("AxialTilt", -0.206157);
+        message.put("WasDiscovered", true);
+        message.put("WasMapped", false);
+        message.put("horizons", true);
+        message.put("odyssey", true);
+        return envelope("https://eddn.edcd.io/schemas/journal/1", message);
+    }
+
+    private static Map<String, Object> createCommodity() {
+        final List<Map<String, Object>> commodities = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            final Map<String, Object> commodity = new LinkedHashMap<>();
+            commodity.put("name", "commodity" + i);
+            commodity.put("meanPrice", 1000 + i * 37);
+            commodity.put("buyPrice", i % 3 == 0 ? 0 : 900 + i * 31);
+            commodity.put("stock", i % 3 == 0 ? 0 : i * 113);
+            commodity.put("stockBracket", i % 3);
+            commodity.put("sellPrice", 950 + i * 33);
+            commodity.put("demand", i * 71);
+            commodity.put("demandBracket", (i + 1) % 3);
+            commodities.add(commodity);
+        }
+        final Map<String, Object> message = new LinkedHashMap<>();
+        message.put("timestamp", "2022-03-15T15:12:50Z");
+        message.put("systemName", "Colonia");
+        message.put("stationName", "Jaques Station");
+        message.put("marketId", 128749063L);
+        message.put("horizons", true);
+        message.put("odyssey", true);
+        message.put("commodities", commodities);
+        return envelope("https://eddn.edcd.io/schemas/commodity/3", message);
+    }
+
+    private static Map<String, Object> envelope(final String schemaRef, final Map<String, Object> message) {
+        final Map<String, Object> envelope = new LinkedHashMap<>();
+        envelope.put("$schemaRef", schemaRef);
+        envelope.put("header", Map.of("uploaderID", "F1234567", "gameversion", "4.0.0.1450", "gamebuild", "r290993/r0 ", "softwareName", "EDO Materials Helper", "softwareVersion", "dev"));
+        envelope.put("message", message);
+        return envelope;
+    }
+}
@@ -29,12 +29,15 @@ module nl.jixxed.eliteodysseymaterials {
     requires nl.jixxed.lept4j;
     requires org.apache.commons.io;
     requires java.desktop;
+    requires java.management;
+    requires jdk.jfr;
     requires org.leadpony.justify;
     requires org.glassfish.jakarta.json;
     requires ch.qos.logback.classic;
     requires ch.qos.logback.core;
     opens nl.jixxed.eliteodysseymaterials to javafx.graphics, java.desktop;
     opens nl.jixxed.eliteodysseymaterials.service.message to com.fasterxml.jackson.databind;
+    opens nl.jixxed.eliteodysseymaterials.watchdog to com.fasterxml.jackson.databind;
     opens nl.jixxed.eliteodysseymaterials.trade.message.outbound to com.fasterxml.jackson.databind;
     opens nl.jixxed.eliteodysseymaterials.trade.message.outbound.payload to com.fasterxml.jackson.databind;
     opens nl.jixxed.eliteodysseymaterials.trade.message.common to com.fasterxml.jackson.databind;
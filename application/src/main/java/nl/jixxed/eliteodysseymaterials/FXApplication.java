@@ -12,12 +12,16 @@ import javafx.stage.FileChooser;
 import javafx.stage.Modality;
 import javafx.stage.Screen;
 import javafx.stage.Stage;
+import javafx.stage.WindowEvent;
 import jfxtras.styles.jmetro.JMetro;
 import jfxtras.styles.jmetro.Style;
 import lombok.extern.slf4j.Slf4j;
 import nl.jixxed.eliteodysseymaterials.constants.AppConstants;
+import nl.jixxed.eliteodysseymaterials.constants.HorizonsBlueprintConstants;
+import nl.jixxed.eliteodysseymaterials.constants.OdysseyBlueprintConstants;
 import nl.jixxed.eliteodysseymaterials.constants.OsConstants;
 import nl.jixxed.eliteodysseymaterials.constants.PreferenceConstants;
+import nl.jixxed.eliteodysseymaterials.constants.SpawnConstants;
 import nl.jixxed.eliteodysseymaterials.domain.ApplicationState;
 import nl.jixxed.eliteodysseymaterials.domain.Commander;
 import nl.jixxed.eliteodysseymaterials.enums.*;
@@ -72,36 +76,46 @@ public class FXApplication extends Application {
 
     @Override
     public void start(final Stage primaryStage) {
-        NotificationService.init();
-        PinnedBlueprintService.init();
-        EDDNService.init();
+        final StartupOrchestrator startup = new StartupOrchestrator();
+        startup.task("fonts", this::registerFonts);
+        startup.task("notifications", NotificationService::init);
+        startup.task("eddn", EDDNService::init);
+        startup.task("capi", () -> CAPIService.getInstance(this));
+        startup.task("material traders", () -> StartupOrchestrator.initialize(MaterialTraderService.class));
+        startup.task("technology brokers", () -> StartupOrchestrator.initialize(TechnologyBrokerService.class));
+        //these initialize the same material, engineer and storage classes, so they run one after the other
+        //the popups below only touch preferences and locale, not these classes
+        startup.task("odyssey blueprints", () -> StartupOrchestrator.initialize(OdysseyBlueprintConstants.class));
+        startup.task("horizons blueprints", () -> StartupOrchestrator.initialize(HorizonsBlueprintConstants.class), "odyssey blueprints");
+        startup.task("spawn locations", () -> StartupOrchestrator.initialize(SpawnConstants.class), "horizons blueprints");
+        startup.task("pinned blueprints", PinnedBlueprintService::init, "spawn locations");
+        startup.task("material tracking", MaterialTrackingService::initialize, "pinned blueprints");
         try {
-            try {
-                final GraphicsEnvironment ge =
-                        GraphicsEnvironment.getLocalGraphicsEnvironment();
-                ge.registerFont(Font.createFont(Font.TRUETYPE_FONT, this.getClass().getResourceAsStream("/fonts/eurocaps.ttf")));
-                ge.registerFont(Font.createFont(Font.TRUETYPE_FONT, this.getClass().getResourceAsStream("/fonts/832-font.ttf")));
-            } catch (final IOException | FontFormatException e) {
-                //Handle exception
-            }
             PreferencesService.setPreference(PreferenceConstants.APP_SETTINGS_VERSION, System.getProperty("app.version"));
             whatsnewPopup();
             urlSchemePopup();
             eddnPopup();
             versionPopup();
-            MaterialTrackingService.initialize();
-            CAPIService.getInstance(this);
+            startup.await();
+            startup.phase("services ready");
             this.applicationLayout = new ApplicationLayout(this);
             this.primaryStage = primaryStage;
             primaryStage.setTitle(AppConstants.APP_TITLE);
             primaryStage.getIcons().add(new Image(FXApplication.class.getResourceAsStream(AppConstants.APP_ICON_PATH)));
-            setupDeeplinkWatcher();
-            setupWatchers();
 
             initEventHandling();
+            this.eventListeners.add(EventService.addListener(this, JournalInitEvent.class, event -> {
+                if (event.isInitialised()) {
+                    startup.phase("journal ready");
+                }
+            }));
             final Scene scene = createApplicationScene();
             setupStyling(scene);
             primaryStage.setScene(scene);
+            primaryStage.addEventHandler(WindowEvent.WINDOW_SHOWN, event -> {
+                startup.phase("first frame");
+                startup.report();
+            });
             primaryStage.show();
 
             EventService.publish(new ApplicationLifeCycleEvent());
@@ -110,12 +124,33 @@ public class FXApplication extends Application {
                     ARService.toggle();
                 }
             }
+            //build the hidden tabs before the journal is read, as they keep their state up to date through its events
+            Platform.runLater(() -> {
+                try {
+                    this.applicationLayout.buildContentAreas();
+                    setupDeeplinkWatcher();
+                    setupWatchers();
+                } catch (final Exception ex) {
+                    showAlert(ex);
+                }
+            });
 
         } catch (final Exception ex) {
             showAlert(ex);
         }
     }
 
+    private void registerFonts() {
+        try {
+            final GraphicsEnvironment ge =
+                    GraphicsEnvironment.getLocalGraphicsEnvironment();
+            ge.registerFont(Font.createFont(Font.TRUETYPE_FONT, this.getClass().getResourceAsStream("/fonts/eurocaps.ttf")));
+            ge.registerFont(Font.createFont(Font.TRUETYPE_FONT, this.getClass().getResourceAsStream("/fonts/832-font.ttf")));
+        } catch (final IOException | FontFormatException e) {
+            //Handle exception
+        }
+    }
+
     private void showAlert(final Exception ex) {
         final Alert alert = new Alert(Alert.AlertType.ERROR);
         alert.setResizable(true);
@@ -21,6 +21,7 @@ public class AppConstants {
     public static final String ODYSSEY_LOADOUTS_FILE = "odyssey_loadouts.json";
     public static final String ODYSSEY_WISHLIST_FILE = "odyssey_wishlist.json";
     public static final String HORIZONS_WISHLIST_FILE = "horizons_wishlist.json";
+    public static final String JOURNAL_CHECKPOINT_FILE = "journal_checkpoint.json";
     public static final String HORIZONS_PINNED_BLUEPRINTS_FILE = "horizons_pinned_blueprints.json";
     public static final String ODYSSEY_FAVOURITES_FILE = "odyssey_favourites.json";
     public static final String CARGO_FILE = "Cargo.json";
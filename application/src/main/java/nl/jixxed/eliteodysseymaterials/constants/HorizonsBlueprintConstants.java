@@ -14,10 +14,9 @@ import nl.jixxed.eliteodysseymaterials.domain.Blueprint;
 import nl.jixxed.eliteodysseymaterials.domain.HorizonsBlueprint;
 import nl.jixxed.eliteodysseymaterials.domain.HorizonsEngineerBlueprint;
 import nl.jixxed.eliteodysseymaterials.enums.*;
-import nl.jixxed.eliteodysseymaterials.service.StorageService;
 
 import java.util.*;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 @SuppressWarnings("java:S1192")
@@ -72,6 +71,8 @@ public abstract class HorizonsBlueprintConstants {
                     BlueprintCategory.CORE_INTERNAL, CORE_INTERNAL_BLUEPRINTS,
                     BlueprintCategory.OPTIONAL_INTERNAL, OPTIONAL_INTERNAL_BLUEPRINTS
             );
+    //reverse index, built once at the end of the static initializer
+    private static final Map<HorizonsMaterial, Map<HorizonsBlueprint, Integer>> RECIPES_CONTAINING;
 
     public static Blueprint<HorizonsBlueprintName> getRecipeByInternalName(final String internalModuleName, final String internalBlueprintName, final HorizonsBlueprintGrade horizonsBlueprintGrade) {
 
@@ -150,37 +151,6 @@ public abstract class HorizonsBlueprintConstants {
         return Collections.emptyMap();
     }
 
-    public static Craftability getCraftability(final HorizonsBlueprintName horizonsBlueprintName, final HorizonsBlueprintType horizonsBlueprintType, final HorizonsBlueprintGrade horizonsBlueprintGrade) {
-        return getCraftability(horizonsBlueprintName, horizonsBlueprintType, horizonsBlueprintGrade == null ? Collections.emptyMap() : Map.of(horizonsBlueprintGrade, 1));
-    }
-
-    public static Craftability getCraftability(final HorizonsBlueprintName horizonsBlueprintName, final HorizonsBlueprintType horizonsBlueprintType, final Map<HorizonsBlueprintGrade, Integer> horizonsBlueprintGrades) {
-        final List<Craftability> craftabilities = horizonsBlueprintGrades.entrySet().stream().map(horizonsBlueprintGradeRolls -> {
-            final HorizonsBlueprint blueprint = (HorizonsBlueprint) HorizonsBlueprintConstants.getRecipe(horizonsBlueprintName, horizonsBlueprintType, horizonsBlueprintGradeRolls.getKey());
-            final AtomicBoolean hasRaw = new AtomicBoolean(true);
-            final AtomicBoolean hasEncoded = new AtomicBoolean(true);
-            final AtomicBoolean hasManufactured = new AtomicBoolean(true);
-            final AtomicBoolean hasCommodity = new AtomicBoolean(true);
-            final Integer numberOfRolls = horizonsBlueprintGradeRolls.getValue();
-            blueprint.getMaterialCollection(Raw.class).forEach((material, amountRequired) -> hasRaw.set(hasRaw.get() && (StorageService.getMaterialCount(material) - (amountRequired * numberOfRolls)) >= 0));
-            blueprint.getMaterialCollection(Encoded.class).forEach((material, amountRequired) -> hasEncoded.set(hasEncoded.get() && (StorageService.getMaterialCount(material) - (amountRequired * numberOfRolls)) >= 0));
-            blueprint.getMaterialCollection(Manufactured.class).forEach((material, amountRequired) -> hasManufactured.set(hasManufactured.get() && (StorageService.getMaterialCount(material) - (amountRequired * numberOfRolls)) >= 0));
-            blueprint.getMaterialCollection(Commodity.class).forEach((material, amountRequired) -> hasCommodity.set(hasCommodity.get() && (StorageService.getCommodityCount((Commodity) material, StoragePool.SHIP) - (amountRequired * numberOfRolls)) >= 0));
-            if (!hasRaw.get() || !hasEncoded.get() || !hasManufactured.get()) {
-                return Craftability.NOT_CRAFTABLE;
-            } else if (hasRaw.get() && hasEncoded.get() && hasManufactured.get() && !hasCommodity.get()) {
-                return Craftability.CRAFTABLE_WITH_TRADE;
-            } else {
-                return Craftability.CRAFTABLE;
-            }
-        }).toList();
-        if (craftabilities.stream().allMatch(Craftability.CRAFTABLE::equals)) {
-            return Craftability.CRAFTABLE;
-        } else if (craftabilities.stream().allMatch(craftability -> Craftability.CRAFTABLE.equals(craftability) || Craftability.CRAFTABLE_WITH_TRADE.equals(craftability))) {
-            return Craftability.CRAFTABLE_WITH_TRADE;
-        }
-        return Craftability.NOT_CRAFTABLE;
-    }
     public static int getEngineerMaxGrade(final HorizonsBlueprint horizonsBlueprint1, final Engineer engineer) {
         return RECIPES.values().stream()
                 .flatMap(horizonsBlueprintTypeMapMap -> horizonsBlueprintTypeMapMap.values().stream())
@@ -345,36 +315,31 @@ public abstract class HorizonsBlueprintConstants {
         TECHBROKER_UNLOCKS.put(HorizonsBlueprintName.GUARDIAN_MODULES, TechbrokerBlueprints.GUARDIAN_MODULES);
         TECHBROKER_UNLOCKS.put(HorizonsBlueprintName.GUARDIAN_WEAPONS, TechbrokerBlueprints.GUARDIAN_WEAPONS);
         TECHBROKER_UNLOCKS.put(HorizonsBlueprintName.GUARDIAN_FIGHTERS, TechbrokerBlueprints.GUARDIAN_FIGHTERS);
+        RECIPES_CONTAINING = indexRecipesContaining();
     }
 
+    /**
+     * @return an unmodifiable map of the blueprints that require the material, with the required amount
+     */
     public static Map<HorizonsBlueprint, Integer> findRecipesContaining(final HorizonsMaterial horizonsMaterial) {
-        final Map<HorizonsBlueprint, Integer> newMap = new HashMap<>();
-        ENGINEER_UNLOCK_REQUIREMENTS.values()
-                .stream()
-                .filter(horizonsBlueprint -> horizonsBlueprint.getMaterialCollection(horizonsMaterial.getClass()).containsKey(horizonsMaterial))
-                .forEach(horizonsBlueprint -> newMap.put(horizonsBlueprint, horizonsBlueprint.getMaterialCollection(horizonsMaterial.getClass()).get(horizonsMaterial)));
-        RECIPES.values()
-                .stream()
-                .flatMap(horizonsBlueprintNameMap -> horizonsBlueprintNameMap.values().stream())
-                .flatMap(horizonsBlueprintTypesMap -> horizonsBlueprintTypesMap.values().stream())
-                .flatMap(horizonsBlueprintGradesMap -> horizonsBlueprintGradesMap.values().stream())
-                .filter(horizonsBlueprint -> horizonsBlueprint.getMaterialCollection(horizonsMaterial.getClass()).containsKey(horizonsMaterial))
-                .forEach(horizonsBlueprint -> newMap.put(horizonsBlueprint, horizonsBlueprint.getMaterialCollection(horizonsMaterial.getClass()).get(horizonsMaterial)));
-        EXPERIMENTAL_EFFECTS.values()
-                .stream()
-                .flatMap(horizonsBlueprintNameMap -> horizonsBlueprintNameMap.values().stream())
-                .filter(horizonsBlueprint -> horizonsBlueprint.getMaterialCollection(horizonsMaterial.getClass()).containsKey(horizonsMaterial))
-                .forEach(horizonsBlueprint -> newMap.put(horizonsBlueprint, horizonsBlueprint.getMaterialCollection(horizonsMaterial.getClass()).get(horizonsMaterial)));
-        SYNTHESIS.values()
-                .stream()
-                .flatMap(horizonsBlueprintNameMap -> horizonsBlueprintNameMap.values().stream())
-                .filter(horizonsBlueprint -> horizonsBlueprint.getMaterialCollection(horizonsMaterial.getClass()).containsKey(horizonsMaterial))
-                .forEach(horizonsBlueprint -> newMap.put(horizonsBlueprint, horizonsBlueprint.getMaterialCollection(horizonsMaterial.getClass()).get(horizonsMaterial)));
-        TECHBROKER_UNLOCKS.values()
-                .stream()
-                .flatMap(horizonsBlueprintNameMap -> horizonsBlueprintNameMap.values().stream())
-                .filter(horizonsBlueprint -> horizonsBlueprint.getMaterialCollection(horizonsMaterial.getClass()).containsKey(horizonsMaterial))
-                .forEach(horizonsBlueprint -> newMap.put(horizonsBlueprint, horizonsBlueprint.getMaterialCollection(horizonsMaterial.getClass()).get(horizonsMaterial)));
-        return newMap;
+        return RECIPES_CONTAINING.getOrDefault(horizonsMaterial, Collections.emptyMap());
+    }
+
+    private static Map<HorizonsMaterial, Map<HorizonsBlueprint, Integer>> indexRecipesContaining() {
+        final Map<HorizonsMaterial, Map<HorizonsBlueprint, Integer>> index = new HashMap<>();
+        Stream.of(
+                        ENGINEER_UNLOCK_REQUIREMENTS.values().stream().map(HorizonsBlueprint.class::cast),
+                        RECIPES.values().stream()
+                                .flatMap(horizonsBlueprintNameMap -> horizonsBlueprintNameMap.values().stream())
+                                .flatMap(horizonsBlueprintTypesMap -> horizonsBlueprintTypesMap.values().stream())
+                                .flatMap(horizonsBlueprintGradesMap -> horizonsBlueprintGradesMap.values().stream()),
+                        EXPERIMENTAL_EFFECTS.values().stream().flatMap(horizonsBlueprintTypesMap -> horizonsBlueprintTypesMap.values().stream()),
+                        SYNTHESIS.values().stream().flatMap(horizonsBlueprintGradesMap -> horizonsBlueprintGradesMap.values().stream()),
+                        TECHBROKER_UNLOCKS.values().stream().flatMap(horizonsBlueprintTypesMap -> horizonsBlueprintTypesMap.values().stream()))
+                .flatMap(blueprints -> blueprints)
+                .forEach(horizonsBlueprint -> horizonsBlueprint.getMaterialCollection(HorizonsMaterial.class).forEach((material, amount) ->
+                        index.computeIfAbsent(material, key -> new HashMap<>()).put(horizonsBlueprint, amount)));
+        index.replaceAll((material, blueprints) -> Collections.unmodifiableMap(blueprints));
+        return Map.copyOf(index);
     }
 }
\ No newline at end of file
@@ -5,10 +5,14 @@ import lombok.NoArgsConstructor;
 import nl.jixxed.eliteodysseymaterials.domain.*;
 import nl.jixxed.eliteodysseymaterials.enums.*;
 import nl.jixxed.eliteodysseymaterials.service.PreferencesService;
-import nl.jixxed.eliteodysseymaterials.service.StorageService;
+import nl.jixxed.eliteodysseymaterials.service.event.EngineerEvent;
+import nl.jixxed.eliteodysseymaterials.service.event.EventListener;
+import nl.jixxed.eliteodysseymaterials.service.event.EventService;
+import nl.jixxed.eliteodysseymaterials.service.event.IrrelevantMaterialOverrideEvent;
+import nl.jixxed.eliteodysseymaterials.service.event.SoloModeEvent;
 
 import java.util.*;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 @SuppressWarnings("java:S1192")
@@ -26,6 +30,14 @@ public abstract class OdysseyBlueprintConstants {
             BlueprintCategory.WEAPON_MODULES, WEAPON_MODULE_BLUEPRINTS,
             BlueprintCategory.ENGINEER_UNLOCKS, ENGINEER_UNLOCK_REQUIREMENTS
     );
+    //reverse indexes, built once at the end of the static initializer
+    private static final Map<OdysseyMaterial, Map<OdysseyBlueprintName, Integer>> RECIPES_CONTAINING;
+    private static final Set<OdysseyMaterial> BLUEPRINT_INGREDIENTS;
+    private static final Map<OdysseyMaterial, List<EngineerBlueprint>> ENGINEER_UNLOCKS_CONTAINING;
+    //relevance that depends on settings and engineer progress, rebuilt lazily after one of them changed
+    private static final AtomicInteger RELEVANCE_VERSION = new AtomicInteger();
+    private static final List<EventListener<?>> EVENT_LISTENERS = new ArrayList<>();
+    private static volatile Relevance relevance;
 
     public static OdysseyBlueprint getRecipe(final BlueprintName<OdysseyBlueprintName> name) {
         OdysseyBlueprint blueprint = WEAPON_MODULE_BLUEPRINTS.get(name);
@@ -55,40 +67,15 @@ public abstract class OdysseyBlueprintConstants {
                 .orElse(null);
     }
 
+    /**
+     * @return an unmodifiable map of the blueprints that require the material, with the required amount
+     */
     public static Map<OdysseyBlueprintName, Integer> findRecipesContaining(final OdysseyMaterial odysseyMaterial) {
-        final Map<OdysseyBlueprintName, Integer> newMap = new EnumMap<>(OdysseyBlueprintName.class);
-        RECIPES.values()
-                .forEach(recipes -> recipes.entrySet().stream()
-                        .filter(stringIngredientsEntry -> stringIngredientsEntry.getValue().getMaterialCollection(odysseyMaterial.getClass()).containsKey(odysseyMaterial))
-                        .forEach(entry -> newMap.put(entry.getKey(), entry.getValue().getMaterialCollection(odysseyMaterial.getClass()).get(odysseyMaterial))));
-        return newMap;
-    }
-    public static Craftability getCraftability(final OdysseyBlueprintName odysseyBlueprintName) {
-        final OdysseyBlueprint blueprint = OdysseyBlueprintConstants.getRecipe(odysseyBlueprintName);
-        if (blueprint instanceof EngineerBlueprint engineerBlueprint) {
-            return engineerBlueprint.getCraftability();
-        } else {
-            final AtomicBoolean hasGoods = new AtomicBoolean(true);
-            final AtomicBoolean hasData = new AtomicBoolean(true);
-            final AtomicBoolean hasAssets = new AtomicBoolean(true);
-            blueprint.getMaterialCollection(Good.class).forEach((material, amountRequired) -> hasGoods.set(hasGoods.get() && (StorageService.getMaterialStorage(material).getTotalValue() - amountRequired) >= 0));
-            blueprint.getMaterialCollection(Data.class).forEach((material, amountRequired) -> hasData.set(hasData.get() && (StorageService.getMaterialStorage(material).getTotalValue() - amountRequired) >= 0));
-            blueprint.getMaterialCollection(Asset.class).forEach((material, amountRequired) -> hasAssets.set(hasAssets.get() && (StorageService.getMaterialStorage(material).getTotalValue() - amountRequired) >= 0));
-            if (!hasGoods.get() || !hasData.get()) {
-                return Craftability.NOT_CRAFTABLE;
-            } else if (hasGoods.get() && hasData.get() && !hasAssets.get()) {
-                return Craftability.CRAFTABLE_WITH_TRADE;
-            } else {
-                return Craftability.CRAFTABLE;
-            }
-        }
+        return RECIPES_CONTAINING.getOrDefault(odysseyMaterial, Collections.emptyMap());
     }
 
     private static boolean isBlueprintIngredient(final OdysseyMaterial odysseyMaterial) {
-        return SUIT_UPGRADES.values().stream().anyMatch(recipe -> recipe.getMaterialCollection(odysseyMaterial.getClass()).containsKey(odysseyMaterial)) ||
-                WEAPON_UPGRADES.values().stream().anyMatch(recipe -> recipe.getMaterialCollection(odysseyMaterial.getClass()).containsKey(odysseyMaterial)) ||
-                SUIT_MODULE_BLUEPRINTS.values().stream().anyMatch(recipe -> recipe.getMaterialCollection(odysseyMaterial.getClass()).containsKey(odysseyMaterial)) ||
-                WEAPON_MODULE_BLUEPRINTS.values().stream().anyMatch(recipe -> recipe.getMaterialCollection(odysseyMaterial.getClass()).containsKey(odysseyMaterial));
+        return BLUEPRINT_INGREDIENTS.contains(odysseyMaterial);
     }
 
     public static boolean isBlueprintIngredientWithOverride(final OdysseyMaterial odysseyMaterial) {
@@ -116,21 +103,80 @@ public abstract class OdysseyBlueprintConstants {
     }
 
     public static boolean isEngineeringOrBlueprintIngredientWithOverride(final OdysseyMaterial odysseyMaterial) {
-        final boolean isEngineerUnlockMaterial = (APPLICATION_STATE.getSoloMode()) ? OdysseyBlueprintConstants.isEngineeringIngredientAndNotCompleted(odysseyMaterial) : OdysseyBlueprintConstants.isEngineeringIngredient(odysseyMaterial);
+        final boolean isEngineerUnlockMaterial = (getRelevance().soloMode()) ? OdysseyBlueprintConstants.isEngineeringIngredientAndNotCompleted(odysseyMaterial) : OdysseyBlueprintConstants.isEngineeringIngredient(odysseyMaterial);
         return isEngineerUnlockMaterial || isBlueprintIngredientWithOverride(odysseyMaterial);
     }
 
     public static boolean isEngineeringIngredient(final OdysseyMaterial odysseyMaterial) {
-        return !odysseyMaterial.isUnknown() && ENGINEER_UNLOCK_REQUIREMENTS.values().stream().anyMatch(recipe -> recipe.getMaterialCollection(odysseyMaterial.getClass()).containsKey(odysseyMaterial));
+        return !odysseyMaterial.isUnknown() && ENGINEER_UNLOCKS_CONTAINING.containsKey(odysseyMaterial);
     }
 
     public static boolean isEngineeringIngredientAndNotCompleted(final OdysseyMaterial odysseyMaterial) {
-        return ENGINEER_UNLOCK_REQUIREMENTS.values().stream().filter(engineerRecipe -> !engineerRecipe.isCompleted()).anyMatch(recipe -> recipe.getMaterialCollection(odysseyMaterial.getClass()).containsKey(odysseyMaterial));
+        return getRelevance().requiredEngineeringIngredients().contains(odysseyMaterial);
     }
 
     private static boolean isRelevantOverride(final OdysseyMaterial odysseyMaterial) {
-        final String irrelevantValues = PreferencesService.getPreference(PreferenceConstants.IRRELEVANT_OVERRIDE, "");
-        return Arrays.stream(irrelevantValues.split(",")).filter(string -> !string.isEmpty()).map(OdysseyMaterial::subtypeForName).anyMatch(mat -> mat.equals(odysseyMaterial));
+        return getRelevance().relevantOverrides().contains(odysseyMaterial);
+    }
+
+    private static Relevance getRelevance() {
+        final Relevance current = relevance;
+        final int version = RELEVANCE_VERSION.get();
+        if (current != null && current.version() == version) {
+            return current;
+        }
+        //an invalidation while building bumps the version again, so the next call rebuilds
+        final Relevance rebuilt = Relevance.build(version);
+        relevance = rebuilt;
+        return rebuilt;
+    }
+
+    private static void invalidateRelevance() {
+        RELEVANCE_VERSION.incrementAndGet();
+    }
+
+    /**
+     * Classification of the materials that depends on the irrelevant override setting, solo mode and the engineer
+     * progress of the commander.
+     */
+    private record Relevance(int version, Set<OdysseyMaterial> relevantOverrides, Set<OdysseyMaterial> requiredEngineeringIngredients, boolean soloMode) {
+        static Relevance build(final int version) {
+            final String irrelevantValues = PreferencesService.getPreference(PreferenceConstants.IRRELEVANT_OVERRIDE, "");
+            final Set<OdysseyMaterial> relevantOverrides = new HashSet<>();
+            Arrays.stream(irrelevantValues.split(",")).filter(string -> !string.isEmpty()).map(OdysseyMaterial::subtypeForName).forEach(relevantOverrides::add);
+            final Set<OdysseyMaterial> requiredEngineeringIngredients = new HashSet<>();
+            ENGINEER_UNLOCKS_CONTAINING.forEach((material, engineerRecipes) -> {
+                if (engineerRecipes.stream().anyMatch(engineerRecipe -> !engineerRecipe.isCompleted())) {
+                    requiredEngineeringIngredients.add(material);
+                }
+            });
+            return new Relevance(version, Set.copyOf(relevantOverrides), Set.copyOf(requiredEngineeringIngredients), APPLICATION_STATE.getSoloMode());
+        }
+    }
+
+    private static Map<OdysseyMaterial, Map<OdysseyBlueprintName, Integer>> indexRecipesContaining() {
+        final Map<OdysseyMaterial, Map<OdysseyBlueprintName, Integer>> index = new HashMap<>();
+        RECIPES.values().forEach(recipes -> recipes.forEach((blueprintName, blueprint) ->
+                blueprint.getMaterialCollection(OdysseyMaterial.class).forEach((material, amount) ->
+                        index.computeIfAbsent(material, key -> new EnumMap<>(OdysseyBlueprintName.class)).put(blueprintName, amount))));
+        index.replaceAll((material, recipes) -> Collections.unmodifiableMap(recipes));
+        return Map.copyOf(index);
+    }
+
+    private static Set<OdysseyMaterial> indexBlueprintIngredients() {
+        final Set<OdysseyMaterial> ingredients = new HashSet<>();
+        List.of(SUIT_UPGRADES, WEAPON_UPGRADES, SUIT_MODULE_BLUEPRINTS, WEAPON_MODULE_BLUEPRINTS)
+                .forEach(recipes -> recipes.values().forEach(recipe -> ingredients.addAll(recipe.getMaterialCollection(OdysseyMaterial.class).keySet())));
+        return Set.copyOf(ingredients);
+    }
+
+    private static Map<OdysseyMaterial, List<EngineerBlueprint>> indexEngineerUnlocksContaining() {
+        final Map<OdysseyMaterial, List<EngineerBlueprint>> index = new HashMap<>();
+        ENGINEER_UNLOCK_REQUIREMENTS.values().forEach(recipe ->
+                recipe.getMaterialCollection(OdysseyMaterial.class).keySet().forEach(material ->
+                        index.computeIfAbsent(material, key -> new ArrayList<>()).add(recipe)));
+        index.replaceAll((material, recipes) -> List.copyOf(recipes));
+        return Map.copyOf(index);
     }
 
     public static Map<OdysseyBlueprintName, ModuleBlueprint> getSuitModuleBlueprints() {
@@ -1074,6 +1120,12 @@ public abstract class OdysseyBlueprintConstants {
                         Asset.ENCRYPTEDMEMORYCHIP, 15
                 ), List.of(Engineer.KIT_FOWLER, Engineer.UMA_LASZLO, Engineer.ELEANOR_BRESA)
         ));
+        RECIPES_CONTAINING = indexRecipesContaining();
+        BLUEPRINT_INGREDIENTS = indexBlueprintIngredients();
+        ENGINEER_UNLOCKS_CONTAINING = indexEngineerUnlocksContaining();
+        EVENT_LISTENERS.add(EventService.addStaticListener(0, IrrelevantMaterialOverrideEvent.class, event -> invalidateRelevance()));
+        EVENT_LISTENERS.add(EventService.addStaticListener(0, SoloModeEvent.class, event -> invalidateRelevance()));
+        EVENT_LISTENERS.add(EventService.addStaticListener(0, EngineerEvent.class, event -> invalidateRelevance()));
     }
 
 }
\ No newline at end of file
@@ -19,6 +19,9 @@ public class OsConstants {
     public static String LOCK;
     public static String DEEPLINK_FOLDER;
     public static String STATISTICS;
+    public static String JOURNAL_INDEX;
+    public static String OCR_CACHE;
+    public static String EDDN_SPOOL;
     public static String CUSTOM_CSS;
     public static String TESS4J;
     public static String OS_SLASH;
@@ -42,6 +45,9 @@ public class OsConstants {
         DEEPLINK = CONFIG_DIRECTORY + "\\deeplink";
         LOCK = CONFIG_DIRECTORY + "\\lock";
         STATISTICS = CONFIG_DIRECTORY + "\\material-report.json";
+        JOURNAL_INDEX = CONFIG_DIRECTORY + "\\journal-index.json";
+        OCR_CACHE = CONFIG_DIRECTORY + "\\ocr-cache.json";
+        EDDN_SPOOL = CONFIG_DIRECTORY + "\\eddn-spool";
         CUSTOM_CSS = CONFIG_DIRECTORY + "\\style.css";
         OS_SLASH = "\\";
     }
@@ -57,6 +63,9 @@ public class OsConstants {
         DEEPLINK = CONFIG_DIRECTORY + "/deeplink";
         LOCK = CONFIG_DIRECTORY + "/lock";
         STATISTICS = CONFIG_DIRECTORY + "/material-report.json";
+        JOURNAL_INDEX = CONFIG_DIRECTORY + "/journal-index.json";
+        OCR_CACHE = CONFIG_DIRECTORY + "/ocr-cache.json";
+        EDDN_SPOOL = CONFIG_DIRECTORY + "/eddn-spool";
         CUSTOM_CSS = CONFIG_DIRECTORY + "/style.css";
         OS_SLASH = "/";
     }
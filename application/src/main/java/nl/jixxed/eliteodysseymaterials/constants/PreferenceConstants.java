@@ -47,6 +47,7 @@ public class PreferenceConstants {
     public static final String USER_LATEST_EVENT = "latest.event";
     public static final String EDDN_ENABLED = "eddn.enabled";
     public static final String EDDN_ASKED = "eddn.asked";
+    public static final String EDDN_COMPRESSION_LEVEL = "eddn.compression.level";
     public static final String SELECTED_TAB_MAIN = "selected.tab.main";
     public static final String SELECTED_TAB_HORIZONS = "selected.tab.horizons";
     public static final String SELECTED_TAB_ODYSSEY = "selected.tab.odyssey";
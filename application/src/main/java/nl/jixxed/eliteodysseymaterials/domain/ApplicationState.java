@@ -152,6 +152,10 @@ public class ApplicationState {
         return this.engineerStates.get(engineer).getProgress();
     }
 
+    public Map<Engineer, EngineerStatus> getEngineerStates() {
+        return Collections.unmodifiableMap(this.engineerStates);
+    }
+
 
     public void resetEngineerStates() {
         this.engineerStates.forEach((engineer, engineerState) -> {
@@ -2,9 +2,11 @@ package nl.jixxed.eliteodysseymaterials.domain;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 import nl.jixxed.eliteodysseymaterials.enums.EngineerState;
 
 @Data
+@NoArgsConstructor
 @AllArgsConstructor
 public final class EngineerStatus {
     private EngineerState engineerState;
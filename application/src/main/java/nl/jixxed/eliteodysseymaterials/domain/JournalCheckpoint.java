@@ -0,0 +1,71 @@
+package nl.jixxed.eliteodysseymaterials.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.NoArgsConstructor;
+import nl.jixxed.eliteodysseymaterials.enums.*;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Position in a journal file together with the state derived from everything before that position.
+ * <p>
+ * The journal is identified by its name and its header line. Context lines are the latest journal lines per event type
+ * that are not covered by the snapshot, e.g. commander and loadout, and are replayed before the snapshot is restored.
+ */
+@NoArgsConstructor
+@lombok.Data
+public class JournalCheckpoint {
+    private String journalFile;
+    private String header;
+    private long offset;
+    private List<String> contextLines = new ArrayList<>();
+    private Map<Raw, Integer> raw = new EnumMap<>(Raw.class);
+    private Map<Encoded, Integer> encoded = new EnumMap<>(Encoded.class);
+    private Map<Manufactured, Integer> manufactured = new EnumMap<>(Manufactured.class);
+    private Map<Commodity, Integer> commoditiesShip = new EnumMap<>(Commodity.class);
+    private Map<Commodity, Integer> commoditiesSrv = new EnumMap<>(Commodity.class);
+    private Map<Commodity, Integer> commoditiesFleetcarrier = new EnumMap<>(Commodity.class);
+    private Map<Good, StorageCounts> goods = new EnumMap<>(Good.class);
+    private Map<Asset, StorageCounts> assets = new EnumMap<>(Asset.class);
+    private Map<Data, StorageCounts> data = new EnumMap<>(Data.class);
+    private Map<Consumable, StorageCounts> consumables = new EnumMap<>(Consumable.class);
+    private Map<Engineer, EngineerStatus> engineerStates = new EnumMap<>(Engineer.class);
+    private LocationSnapshot location;
+
+    public boolean matches(final String journalFile, final String header, final long length) {
+        return this.offset > 0 && this.offset <= length && journalFile.equals(this.journalFile) && header.equals(this.header);
+    }
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @lombok.Data
+    public static class StorageCounts {
+        private int backPack;
+        private int shipLocker;
+        private int fleetCarrier;
+    }
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @lombok.Data
+    public static class LocationSnapshot {
+        private String starSystem;
+        private double x;
+        private double y;
+        private double z;
+        private SystemEconomy primaryEconomy;
+        private SystemEconomy secondaryEconomy;
+        private SystemGovernment government;
+        private SystemSecurity security;
+        private String state;
+        private Long systemAddress;
+        private String body;
+        private Long bodyID;
+        private String station;
+        private Double latitude;
+        private Double longitude;
+    }
+}
@@ -9,9 +9,9 @@ import nl.jixxed.eliteodysseymaterials.enums.StoragePool;
 @EqualsAndHashCode
 @ToString
 public class Storage {
-    private Integer backPack;
-    private Integer shipLocker;
-    private Integer fleetCarrier;
+    private int backPack;
+    private int shipLocker;
+    private int fleetCarrier;
 
     public Storage() {
         this.backPack = 0;
@@ -50,11 +50,7 @@ public enum Asset implements OdysseyMaterial {
     private final int sellValue;
 
     public static Asset forName(final String name) {
-        try {
-            return Asset.valueOf(name.toUpperCase());
-        } catch (final IllegalArgumentException ex) {
-            return Asset.UNKNOWN;
-        }
+        return EnumNames.forName(Asset.class, name, Asset.UNKNOWN);
     }
 
     @Override
@@ -450,11 +450,7 @@ public enum Commodity implements HorizonsMaterial {
     }
 
     public static Commodity forName(final String name) {
-        try {
-            return Commodity.valueOf(name.toUpperCase());
-        } catch (final IllegalArgumentException ex) {
-            return Commodity.UNKNOWN;
-        }
+        return EnumNames.forName(Commodity.class, name, Commodity.UNKNOWN);
     }
 
     @Override
@@ -16,11 +16,7 @@ public enum Consumable implements OdysseyMaterial {
     }
 
     public static Consumable forName(final String name) {
-        try {
-            return Consumable.valueOf(name.toUpperCase());
-        } catch (final IllegalArgumentException ex) {
-            return Consumable.UNKNOWN;
-        }
+        return EnumNames.forName(Consumable.class, name, Consumable.UNKNOWN);
     }
 
     @Override
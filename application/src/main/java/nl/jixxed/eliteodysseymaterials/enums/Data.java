@@ -133,11 +133,7 @@ public enum Data implements OdysseyMaterial {
     }
 
     public static Data forName(final String name) {
-        try {
-            return Data.valueOf(name.toUpperCase());
-        } catch (final IllegalArgumentException ex) {
-            return Data.UNKNOWN;
-        }
+        return EnumNames.forName(Data.class, name, Data.UNKNOWN);
     }
 
     @Override
@@ -78,11 +78,7 @@ public enum Encoded implements HorizonsMaterial {
     }
 
     public static Encoded forName(final String name) {
-        try {
-            return Encoded.valueOf(name.toUpperCase());
-        } catch (final IllegalArgumentException ex) {
-            return Encoded.UNKNOWN;
-        }
+        return EnumNames.forName(Encoded.class, name, Encoded.UNKNOWN);
     }
 
     public static Encoded[] materialsForType(final HorizonsMaterialType materialType) {
@@ -4,10 +4,6 @@ public enum EngineerState {
     UNKNOWN, KNOWN, INVITED, UNLOCKED, BARRED;
 
     public static EngineerState forName(final String name) {
-        try {
-            return EngineerState.valueOf(name.toUpperCase());
-        } catch (final IllegalArgumentException ex) {
-            return EngineerState.UNKNOWN;
-        }
+        return EnumNames.forName(EngineerState.class, name, EngineerState.UNKNOWN);
     }
 }
@@ -0,0 +1,117 @@
+package nl.jixxed.eliteodysseymaterials.enums;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Case-insensitive lookup of enum constants by the names found in the journal, without exceptions for unknown names.
+ * <p>
+ * A table is generated per enum on first use, with open addressing over the upper-case names of its constants and the
+ * aliases of names the game got wrong. The input is hashed and compared one upper-cased character at a time, so a
+ * lookup doesn't allocate.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class EnumNames {
+    //names written by the game that don't match the name of the constant
+    private static final Map<Class<?>, Map<String, String>> ALIASES = Map.of(
+            Data.class, Map.of(
+                    "ENHANCEDINTERROGATION", "ENHANCEDINTERROGATIONRECORDINGS",
+                    "GEOGRAPHICALDATA", "GEOLOGICALDATA"
+            )
+    );
+    private static final ClassValue<Table> TABLES = new ClassValue<>() {
+        @Override
+        protected Table computeValue(final Class<?> type) {
+            return new Table(type, ALIASES.getOrDefault(type, Map.of()));
+        }
+    };
+
+    /**
+     * @return the constant with the name, ignoring case, or the fallback if there is none
+     */
+    static <E extends Enum<E>> E forName(final Class<E> type, final String name, final E fallback) {
+        if (name == null) {
+            return fallback;
+        }
+        final Enum<?> constant = TABLES.get(type).get(name);
+        return constant == null ? fallback : type.cast(constant);
+    }
+
+    private static int hash(final String name) {
+        int hash = 0;
+        for (int index = 0; index < name.length(); index++) {
+            hash = 31 * hash + Character.toUpperCase(name.charAt(index));
+        }
+        //spread the high bits, as the table index only uses the low ones
+        return hash ^ (hash >>> 16);
+    }
+
+    private static final class Table {
+        private final String[] keys;
+        private final int[] hashes;
+        private final Enum<?>[] constants;
+        private final int mask;
+
+        private Table(final Class<?> type, final Map<String, String> aliases) {
+            final Enum<?>[] enumConstants = (Enum<?>[]) type.getEnumConstants();
+            final int capacity = Integer.highestOneBit(Math.max(1, enumConstants.length + aliases.size()) * 2 - 1) << 1;
+            this.keys = new String[capacity];
+            this.hashes = new int[capacity];
+            this.constants = new Enum<?>[capacity];
+            this.mask = capacity - 1;
+            for (final Enum<?> constant : enumConstants) {
+                //like valueOf on the upper-cased input, constants with lower case letters in their name can't be found
+                if (isUpperCase(constant.name())) {
+                    put(constant.name(), constant);
+                }
+            }
+            aliases.forEach((alias, name) -> put(alias, get(name)));
+        }
+
+        private void put(final String key, final Enum<?> constant) {
+            final int hash = hash(key);
+            int slot = hash & this.mask;
+            while (this.keys[slot] != null) {
+                slot = (slot + 1) & this.mask;
+            }
+            this.keys[slot] = key;
+            this.hashes[slot] = hash;
+            this.constants[slot] = constant;
+        }
+
+        private Enum<?> get(final String name) {
+            final int hash = hash(name);
+            int slot = hash & this.mask;
+            while (this.keys[slot] != null) {
+                if (this.hashes[slot] == hash && matches(this.keys[slot], name)) {
+                    return this.constants[slot];
+                }
+                slot = (slot + 1) & this.mask;
+            }
+            return null;
+        }
+
+        private static boolean matches(final String key, final String name) {
+            if (key.length() != name.length()) {
+                return false;
+            }
+            for (int index = 0; index < key.length(); index++) {
+                if (key.charAt(index) != Character.toUpperCase(name.charAt(index))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean isUpperCase(final String name) {
+            for (int index = 0; index < name.length(); index++) {
+                if (Character.toUpperCase(name.charAt(index)) != name.charAt(index)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
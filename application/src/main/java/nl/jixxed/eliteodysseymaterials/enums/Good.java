@@ -54,11 +54,7 @@ public enum Good implements OdysseyMaterial {
     }
 
     public static Good forName(final String name) {
-        try {
-            return Good.valueOf(name.toUpperCase());
-        } catch (final IllegalArgumentException ex) {
-            return Good.UNKNOWN;
-        }
+        return EnumNames.forName(Good.class, name, Good.UNKNOWN);
     }
 
     @Override
@@ -116,11 +116,7 @@ public enum HorizonsBlueprintName implements BlueprintName<HorizonsBlueprintName
     private final BlueprintCategory blueprintCategory;
 
     public static HorizonsBlueprintName forName(final String name) {
-        try {
-            return HorizonsBlueprintName.valueOf(name.toUpperCase());
-        } catch (final IllegalArgumentException ex) {
-            return null;
-        }
+        return EnumNames.forName(HorizonsBlueprintName.class, name, null);
     }
 
     public static HorizonsBlueprintName forEngineer(final Engineer engineer) {
@@ -176,11 +176,7 @@ public enum HorizonsBlueprintType {
     private final boolean experimental;
 
     public static HorizonsBlueprintType forName(final String name) {
-        try {
-            return HorizonsBlueprintType.valueOf(name.toUpperCase());
-        } catch (final IllegalArgumentException ex) {
-            return null;
-        }
+        return EnumNames.forName(HorizonsBlueprintType.class, name, null);
     }
 
 
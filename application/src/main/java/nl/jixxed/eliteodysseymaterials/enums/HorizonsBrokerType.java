@@ -10,12 +10,7 @@ public enum HorizonsBrokerType {
     UNKNOWN;
 
     public static HorizonsBrokerType forName(final String name) {
-        try {
-            return HorizonsBrokerType.valueOf(name.toUpperCase());
-        } catch (final IllegalArgumentException ex) {
-            return HorizonsBrokerType.UNKNOWN;
-        }
-
+        return EnumNames.forName(HorizonsBrokerType.class, name, HorizonsBrokerType.UNKNOWN);
     }
 
     public String getLocalizationKey() {
@@ -94,11 +94,7 @@ public enum HorizonsModifier {
     ANTI_XENO_DAMAGE;
 
     public static HorizonsModifier forName(final String name) {
-        try {
-            return HorizonsModifier.valueOf(name.toUpperCase());
-        } catch (final IllegalArgumentException ex) {
-            return null;
-        }
+        return EnumNames.forName(HorizonsModifier.class, name, null);
     }
 
     public String getLocalizationKey() {
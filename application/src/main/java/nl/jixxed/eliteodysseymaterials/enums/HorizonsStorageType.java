@@ -13,12 +13,7 @@ public enum HorizonsStorageType implements StorageType {
     }
 
     public static HorizonsStorageType forName(final String name) {
-        try {
-            return HorizonsStorageType.valueOf(name.toUpperCase());
-        } catch (final IllegalArgumentException ex) {
-            return HorizonsStorageType.UNKNOWN;
-        }
-
+        return EnumNames.forName(HorizonsStorageType.class, name, HorizonsStorageType.UNKNOWN);
     }
 
     public String getLocalizationKey() {
@@ -65,11 +65,7 @@ public enum JournalEventType {
     private final String name;
 
     public static JournalEventType forName(final String name) {
-        try {
-            return JournalEventType.valueOf(name.toUpperCase());
-        } catch (final IllegalArgumentException ex) {
-            return JournalEventType.UNKNOWN;
-        }
+        return EnumNames.forName(JournalEventType.class, name, JournalEventType.UNKNOWN);
     }
 
     public String friendlyName() {
@@ -96,11 +96,7 @@ public enum Manufactured implements HorizonsMaterial {
     }
 
     public static Manufactured forName(final String name) {
-        try {
-            return Manufactured.valueOf(name.toUpperCase());
-        } catch (final IllegalArgumentException ex) {
-            return Manufactured.UNKNOWN;
-        }
+        return EnumNames.forName(Manufactured.class, name, Manufactured.UNKNOWN);
     }
 
     public static Manufactured[] materialsForType(final HorizonsMaterialType materialType) {
@@ -82,11 +82,7 @@ public enum OdysseyBlueprintName implements BlueprintName<OdysseyBlueprintName>
     NONE;
 
     public static OdysseyBlueprintName forName(final String name) {
-        try {
-            return OdysseyBlueprintName.valueOf(name.toUpperCase());
-        } catch (final IllegalArgumentException ex) {
-            return null;
-        }
+        return EnumNames.forName(OdysseyBlueprintName.class, name, null);
     }
 
     @Override
@@ -17,18 +17,17 @@ public interface OdysseyMaterial extends Material {
     }
 
     static OdysseyMaterial subtypeForName(final String name) {
-        final String fixedName = hotfixName(name);
-        OdysseyMaterial odysseyMaterial = Data.forName(fixedName);
+        OdysseyMaterial odysseyMaterial = Data.forName(name);
         if (odysseyMaterial.isUnknown()) {
-            odysseyMaterial = Good.forName(fixedName);
+            odysseyMaterial = Good.forName(name);
             if (odysseyMaterial.isUnknown()) {
-                odysseyMaterial = Asset.forName(fixedName);
+                odysseyMaterial = Asset.forName(name);
                 if (odysseyMaterial.isUnknown()) {
-                    odysseyMaterial = Consumable.forName(fixedName);
+                    odysseyMaterial = Consumable.forName(name);
                     if (odysseyMaterial.isUnknown()) {
-                        odysseyMaterial = TradeOdysseyMaterial.forName(fixedName);
+                        odysseyMaterial = TradeOdysseyMaterial.forName(name);
                         if (odysseyMaterial.isUnknown()) {
-                            throw new IllegalArgumentException("Unknown material type for name: " + fixedName);
+                            throw new IllegalArgumentException("Unknown material type for name: " + name);
                         }
                     }
                 }
@@ -37,15 +36,6 @@ public interface OdysseyMaterial extends Material {
         return odysseyMaterial;
     }
 
-    static String hotfixName(final String name) {
-        if ("ENHANCEDINTERROGATION".equalsIgnoreCase(name)) {
-            return "ENHANCEDINTERROGATIONRECORDINGS";
-        } else if ("GEOGRAPHICALDATA".equalsIgnoreCase(name)) {
-            return "GEOLOGICALDATA";
-        }
-        return name;
-    }
-
     static List<OdysseyMaterial> getAllMaterials() {
         return Stream.concat(Arrays.stream(Data.values()), Stream.concat(Arrays.stream(Asset.values()), Arrays.stream(Good.values())))
                 .filter(material -> !material.isUnknown())
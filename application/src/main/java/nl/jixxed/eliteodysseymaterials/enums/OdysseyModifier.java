@@ -39,11 +39,7 @@ public enum OdysseyModifier {
     WEAPON_MELEE_DAMAGE_MULTIPLIER;
 
     public static OdysseyModifier forName(final String name) {
-        try {
-            return OdysseyModifier.valueOf(name.toUpperCase());
-        } catch (final IllegalArgumentException ex) {
-            return null;
-        }
+        return EnumNames.forName(OdysseyModifier.class, name, null);
     }
 
     public String getLocalizationKey() {
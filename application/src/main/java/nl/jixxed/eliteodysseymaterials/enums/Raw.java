@@ -58,11 +58,7 @@ public enum Raw implements HorizonsMaterial {
     }
 
     public static Raw forName(final String name) {
-        try {
-            return Raw.valueOf(name.toUpperCase());
-        } catch (final IllegalArgumentException ex) {
-            return Raw.UNKNOWN;
-        }
+        return EnumNames.forName(Raw.class, name, Raw.UNKNOWN);
     }
 
     public static Raw[] materialsForType(final HorizonsMaterialType materialType) {
@@ -4,11 +4,7 @@ public enum TradeOdysseyMaterial implements OdysseyMaterial {
     ANY_RELEVANT, NOTHING, UNKNOWN;
 
     public static TradeOdysseyMaterial forName(final String name) {
-        try {
-            return TradeOdysseyMaterial.valueOf(name.toUpperCase());
-        } catch (final IllegalArgumentException ex) {
-            return TradeOdysseyMaterial.UNKNOWN;
-        }
+        return EnumNames.forName(TradeOdysseyMaterial.class, name, TradeOdysseyMaterial.UNKNOWN);
     }
 
     @Override
@@ -11,6 +11,7 @@ import nl.jixxed.eliteodysseymaterials.domain.UpgradeBlueprint;
 import nl.jixxed.eliteodysseymaterials.enums.Craftability;
 import nl.jixxed.eliteodysseymaterials.enums.HorizonsBlueprintName;
 import nl.jixxed.eliteodysseymaterials.enums.OdysseyBlueprintName;
+import nl.jixxed.eliteodysseymaterials.service.CraftabilityService;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class BlueprintHelper {
@@ -20,7 +21,7 @@ public class BlueprintHelper {
         if (!(OdysseyBlueprintConstants.getRecipe(odysseyBlueprintName) instanceof ModuleBlueprint) && !(OdysseyBlueprintConstants.getRecipe(odysseyBlueprintName) instanceof UpgradeBlueprint)) {
             return Craftability.NOT_CRAFTABLE;
         }
-        return OdysseyBlueprintConstants.getCraftability(odysseyBlueprintName);
+        return CraftabilityService.getCraftability(odysseyBlueprintName);
     }
 
     public static boolean isCompletedEngineerRecipe(final OdysseyBlueprintName odysseyBlueprintName) {
@@ -9,14 +9,15 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.IntStream;
-import java.util.stream.StreamSupport;
 
 public class CSVResourceBundle extends ResourceBundle {
-    private static final Map<String, ResourceBundle> BUNDLES = new HashMap<>();
+    //looked up from the OCR threads as well
+    private static final Map<String, ResourceBundle> BUNDLES = new ConcurrentHashMap<>();
     private Properties properties = new Properties();
 
-    private CSVResourceBundle(final Locale locale, final String... baseNames) {
+    CSVResourceBundle(final Locale locale, final String... baseNames) {
         Arrays.stream(baseNames).forEach(baseName -> {
             try (final CSVParser csvParser = CSVFormat.DEFAULT.parse(new InputStreamReader(Objects.requireNonNull(CSVResourceBundle.class.getResourceAsStream("/locale/" + baseName + ".csv")), StandardCharsets.UTF_8))) {
                 // find language column
@@ -30,7 +31,7 @@ public class CSVResourceBundle extends ResourceBundle {
                 }).filter(index -> index > 0).max().orElseThrow(IllegalArgumentException::new);
 
                 // reading to properties
-                StreamSupport.stream(csvParser.spliterator(), true).forEach(csvRecord -> {
+                csvParser.forEach(csvRecord -> {
                     final String key = csvRecord.get(0);
                     String translation = csvRecord.get(translationColumn);
                     translation = translation.isEmpty() ? csvRecord.get(1) : translation;
@@ -48,7 +49,8 @@ public class CSVResourceBundle extends ResourceBundle {
     }
 
     public static ResourceBundle getResourceBundle(final Locale locale,final String... resourceBundleNames) {
-        return BUNDLES.computeIfAbsent("merged" + locale, key -> new CSVResourceBundle(locale,resourceBundleNames));
+        //the build compiles the CSV files into a bundle per language, they are only parsed when running without those
+        return BUNDLES.computeIfAbsent("merged" + locale, key -> LocaleBundle.load(locale).orElseGet(() -> new CSVResourceBundle(locale, resourceBundleNames)));
     }
 
     @Override
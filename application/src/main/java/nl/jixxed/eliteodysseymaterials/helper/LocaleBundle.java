@@ -0,0 +1,97 @@
+package nl.jixxed.eliteodysseymaterials.helper;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Translations of one language, read from a bundle compiled by {@link LocaleBundleCompiler}.
+ * <p>
+ * A bundle holds the sorted keys, followed by the offsets of the values and all values as one UTF-8 blob. Loading a
+ * bundle only reads the keys and copies the blob, a value is decoded the first time it is asked for.
+ */
+public final class LocaleBundle extends ResourceBundle {
+    static final String FOLDER = "/locale/compiled/";
+    static final String EXTENSION = ".bin";
+    private static final int MAGIC = 0x45444C42;
+    private static final int VERSION = 1;
+    private final String[] keys;
+    private final int[] offsets;
+    private final byte[] blob;
+    private final String[] values;
+
+    private LocaleBundle(final String[] keys, final int[] offsets, final byte[] blob) {
+        this.keys = keys;
+        this.offsets = offsets;
+        this.blob = blob;
+        this.values = new String[keys.length];
+    }
+
+    /**
+     * @return the compiled bundle of the language of the locale, if the build compiled one
+     */
+    static Optional<ResourceBundle> load(final Locale locale) {
+        try (final InputStream inputStream = LocaleBundle.class.getResourceAsStream(FOLDER + locale.getLanguage() + EXTENSION)) {
+            return inputStream == null ? Optional.empty() : Optional.of(read(inputStream));
+        } catch (final IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    static LocaleBundle read(final InputStream inputStream) throws IOException {
+        final DataInputStream input = new DataInputStream(new BufferedInputStream(inputStream));
+        if (input.readInt() != MAGIC || input.readInt() != VERSION) {
+            throw new IOException("Not a compiled locale bundle");
+        }
+        final String[] keys = new String[input.readInt()];
+        for (int index = 0; index < keys.length; index++) {
+            keys[index] = input.readUTF();
+        }
+        final int[] offsets = new int[keys.length + 1];
+        for (int index = 0; index < offsets.length; index++) {
+            offsets[index] = input.readInt();
+        }
+        final byte[] blob = new byte[offsets[keys.length]];
+        input.readFully(blob);
+        return new LocaleBundle(keys, offsets, blob);
+    }
+
+    static void write(final Map<String, String> translations, final OutputStream outputStream) throws IOException {
+        final SortedMap<String, String> sorted = new TreeMap<>(translations);
+        final DataOutputStream output = new DataOutputStream(new BufferedOutputStream(outputStream));
+        output.writeInt(MAGIC);
+        output.writeInt(VERSION);
+        output.writeInt(sorted.size());
+        for (final String key : sorted.keySet()) {
+            output.writeUTF(key);
+        }
+        final ByteArrayOutputStream blob = new ByteArrayOutputStream();
+        output.writeInt(0);
+        for (final String value : sorted.values()) {
+            blob.writeBytes(value.getBytes(StandardCharsets.UTF_8));
+            output.writeInt(blob.size());
+        }
+        blob.writeTo(output);
+        output.flush();
+    }
+
+    @Override
+    protected Object handleGetObject(final String key) {
+        final int index = Arrays.binarySearch(this.keys, key);
+        if (index < 0) {
+            return null;
+        }
+        String value = this.values[index];
+        if (value == null) {
+            //decoding twice from different threads is harmless, both produce the same string
+            value = new String(this.blob, this.offsets[index], this.offsets[index + 1] - this.offsets[index], StandardCharsets.UTF_8);
+            this.values[index] = value;
+        }
+        return value;
+    }
+
+    @Override
+    public Enumeration<String> getKeys() {
+        return Collections.enumeration(Arrays.asList(this.keys));
+    }
+}
@@ -0,0 +1,112 @@
+package nl.jixxed.eliteodysseymaterials.helper;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Compiles the locale CSV files into a {@link LocaleBundle} per language. Run by the build, with the folder of the CSV
+ * files and the folder to write the bundles to as arguments.
+ * <p>
+ * Like the CSV bundle, a translation that is empty falls back to the default text, and a key that is in more than one
+ * file gets the translation of the last file.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class LocaleBundleCompiler {
+    public static final List<String> BASE_NAMES = List.of(
+            "blueprint/horizons/category",
+            "blueprint/horizons/description",
+            "blueprint/horizons/modifier",
+            "blueprint/horizons/names",
+            "blueprint/horizons/type.description",
+            "blueprint/horizons/type.names",
+            "blueprint/odyssey/category",
+            "blueprint/odyssey/description",
+            "blueprint/odyssey/modifier",
+            "blueprint/odyssey/names",
+            "blueprint/odyssey/tips",
+            "broker/broker",
+            "engineer/names",
+            "engineer/specialisation",
+            "loadout/equipment",
+            "loadout/modification",
+            "loadout/stat.group",
+            "loadout/stat.name",
+            "loadout/stat.value",
+            "material/horizons/category",
+            "material/horizons/commodity",
+            "material/horizons/commodity.type",
+            "material/horizons/encoded",
+            "material/horizons/manufactured",
+            "material/horizons/raw",
+            "material/horizons/spawn",
+            "material/odyssey/asset",
+            "material/odyssey/consumable",
+            "material/odyssey/data",
+            "material/odyssey/good",
+            "material/odyssey/spawn",
+            "material/trade",
+            "application",
+            "blueprint",
+            "menu",
+            "tab.bartender",
+            "tab.engineer",
+            "tab.loadout",
+            "tab.overview",
+            "tab.settings",
+            "tab.trade",
+            "tab.wishlist",
+            "tooltip"
+    );
+
+    public static void main(final String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: LocaleBundleCompiler <csv folder> <bundle folder>");
+            System.exit(1);
+        }
+        final Path target = Path.of(args[1]);
+        Files.createDirectories(target);
+        for (final Map.Entry<String, Map<String, String>> language : compile(Path.of(args[0])).entrySet()) {
+            try (final OutputStream outputStream = Files.newOutputStream(target.resolve(language.getKey() + LocaleBundle.EXTENSION))) {
+                LocaleBundle.write(language.getValue(), outputStream);
+            }
+        }
+    }
+
+    /**
+     * @return the translations per language
+     */
+    static Map<String, Map<String, String>> compile(final Path folder) throws IOException {
+        final Map<String, Map<String, String>> languages = new TreeMap<>();
+        for (final String baseName : BASE_NAMES) {
+            try (final CSVParser csvParser = CSVFormat.DEFAULT.parse(Files.newBufferedReader(folder.resolve(baseName + ".csv"), StandardCharsets.UTF_8))) {
+                final Iterator<CSVRecord> records = csvParser.iterator();
+                final CSVRecord header = records.next();
+                final List<Map<String, String>> columns = new ArrayList<>();
+                for (int column = 2; column < header.size(); column++) {
+                    final String language = header.get(column);
+                    columns.add(language.isEmpty() ? null : languages.computeIfAbsent(new Locale(language).getLanguage(), key -> new HashMap<>()));
+                }
+                records.forEachRemaining(csvRecord -> {
+                    for (int column = 2; column < header.size(); column++) {
+                        final Map<String, String> translations = columns.get(column - 2);
+                        if (translations != null) {
+                            final String translation = csvRecord.get(column);
+                            translations.put(csvRecord.get(0), translation.isEmpty() ? csvRecord.get(1) : translation);
+                        }
+                    }
+                });
+            }
+        }
+        return languages;
+    }
+}
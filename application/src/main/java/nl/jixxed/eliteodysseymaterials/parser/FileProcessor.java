@@ -2,17 +2,17 @@ package nl.jixxed.eliteodysseymaterials.parser;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.google.common.io.CountingInputStream;
-import javafx.application.Platform;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import nl.jixxed.eliteodysseymaterials.domain.ApplicationState;
+import nl.jixxed.eliteodysseymaterials.domain.JournalCheckpoint;
 import nl.jixxed.eliteodysseymaterials.enums.JournalEventType;
 import nl.jixxed.eliteodysseymaterials.schemas.journal.Status.Status;
+import nl.jixxed.eliteodysseymaterials.service.JournalCheckpointService;
 import nl.jixxed.eliteodysseymaterials.service.LocationService;
 import nl.jixxed.eliteodysseymaterials.service.event.EventService;
 import nl.jixxed.eliteodysseymaterials.service.event.JournalInitEvent;
@@ -26,39 +26,96 @@ import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
 import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
 @Slf4j
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class FileProcessor {
 
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final ObjectMapper OBJECT_MAPPER = JournalLine.createObjectMapper();
 
     static {
         OBJECT_MAPPER.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
         OBJECT_MAPPER.registerModule(new JavaTimeModule());
     }
 
-    private static final String EVENT = "event";
+    private static final Set<JournalEventType> ALWAYS_TRACK_MATERIAL_EVENT_TYPES = EnumSet.of(
+            JournalEventType.MISSIONCOMPLETED,
+            JournalEventType.MATERIALCOLLECTED,
+            JournalEventType.MATERIALTRADE,
+            JournalEventType.ENGINEERCRAFT,
+            JournalEventType.LOCATION,
+            JournalEventType.FSDJUMP,
+            JournalEventType.CARRIERJUMP,
+            JournalEventType.APPROACHSETTLEMENT,
+            JournalEventType.CODEXENTRY,
+            JournalEventType.DOCKED,
+            JournalEventType.FSSALLBODIESFOUND,
+            JournalEventType.FSSSIGNALDISCOVERED,
+            JournalEventType.FSSBODYSIGNALS,
+            JournalEventType.FSSDISCOVERYSCAN,
+            JournalEventType.NAVBEACONSCAN,
+            JournalEventType.SAASIGNALSFOUND,
+            JournalEventType.SCANBARYCENTRE,
+            JournalEventType.SCAN
+    );
+    private static final JournalMessageDispatcher DISPATCHER = new JournalMessageDispatcher();
+    private static final ApplicationState APPLICATION_STATE = ApplicationState.getInstance();
+    //latest line per event type that is not covered by a journal checkpoint snapshot
+    private static final Map<JournalEventType, JournalLine> LATEST_MESSAGES = new EnumMap<>(JournalEventType.class);
+    //live journal reads save a checkpoint at most this often, resuming from an older one only reads a few more lines
+    private static final long CHECKPOINT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(30);
     private static long position = 0L;
+    private static String header = "";
+    private static long lastCheckpoint = 0L;
 
-    static {
-        OBJECT_MAPPER.registerModule(new JavaTimeModule());
+    public static synchronized void resetAndProcessJournal(final File file) {
+        reset();
+        header = readHeader(file);
+        final JournalCheckpoint checkpoint = APPLICATION_STATE.getPreferredCommander()
+                .flatMap(commander -> JournalCheckpointService.find(commander, file.getName(), header, file.length()))
+                .orElse(null);
+        processJournalFast(file, checkpoint);
     }
 
-    public static synchronized void resetAndProcessJournal(final File file) {
+    static synchronized void reset() {
         position = 0L;
-        processJournalFast(file);
+        LATEST_MESSAGES.clear();
     }
 
-    @SuppressWarnings("java:S2674")
-    private static synchronized void processJournalFast(final File file) {
+    private static synchronized void processJournalFast(final File file, final JournalCheckpoint checkpoint) {
         EventService.publish(new JournalInitEvent(false));
+        if (checkpoint != null) {
+            resumeFromCheckpoint(file, checkpoint);
+        }
+        try {
+            readMessages(file).forEach(message -> DISPATCHER.submit(() -> MessageHandler.handleMessage(message, file)));
+            submitCheckpoint(file);
+        } catch (final JsonProcessingException e) {
+            log.error("Read error", e);
+        } catch (final IOException e) {
+            log.error("Error processing journal", e);
+        }
+        DISPATCHER.submit(() -> {
+            log.info("Processed journal {} at {} parses per line", file.getName(), String.format("%.2f", getParsesPerLine()));
+            EventService.publish(new JournalInitEvent(true));
+        });
+    }
+
+    /**
+     * Reads the journal from the current position.
+     *
+     * @return the messages to handle, in order: the latest message of each type and every message that always has to
+     * be handled
+     */
+    @SuppressWarnings("java:S2674")
+    static synchronized List<JournalLine> readMessages(final File file) throws IOException {
         try (final CountingInputStream is = new CountingInputStream(Files.newInputStream(Paths.get(file.toURI()), StandardOpenOption.READ))) {
-            final Map<JournalEventType, String> messages = new EnumMap<>(JournalEventType.class);
-            final List<String> alwaysProcessMessages = new ArrayList<>();
+            final Map<JournalEventType, JournalLine> messages = new EnumMap<>(JournalEventType.class);
+            final List<JournalLine> alwaysProcessMessages = new ArrayList<>();
             if (file.length() >= position) {
                 // Skip over already processed bytes.
                 is.skip(position);
@@ -69,100 +126,125 @@ public class FileProcessor {
             // Process all lines.
             String line;
             while ((line = lineReader.readLine()) != null) {
+                JournalLine.lineRead();
                 //try to read line as json, if exception occurs we get JsonProcessingException and can try to read again later
-                final JsonNode jsonNode = OBJECT_MAPPER.readTree(line);
-                final List<JournalEventType> alwaysTrackMaterialEventTypes = List.of(
-                        JournalEventType.MISSIONCOMPLETED,
-                        JournalEventType.MATERIALCOLLECTED,
-                        JournalEventType.MATERIALTRADE,
-                        JournalEventType.ENGINEERCRAFT,
-                        JournalEventType.LOCATION,
-                        JournalEventType.FSDJUMP,
-                        JournalEventType.CARRIERJUMP,
-                        JournalEventType.APPROACHSETTLEMENT,
-                        JournalEventType.CODEXENTRY,
-                        JournalEventType.DOCKED,
-                        JournalEventType.FSSALLBODIESFOUND,
-                        JournalEventType.FSSSIGNALDISCOVERED,
-                        JournalEventType.FSSBODYSIGNALS,
-                        JournalEventType.FSSDISCOVERYSCAN,
-                        JournalEventType.NAVBEACONSCAN,
-                        JournalEventType.SAASIGNALSFOUND,
-                        JournalEventType.SCANBARYCENTRE,
-                        JournalEventType.SCAN
-                );
-                if (jsonNode.get(EVENT) != null) {
-                    final JournalEventType journalEventType = JournalEventType.forName(jsonNode.get(EVENT).asText());
-                    if (alwaysTrackMaterialEventTypes.contains(journalEventType)) {
-                        alwaysProcessMessages.add(line);
+                final JournalLine journalLine = JournalLine.parse(OBJECT_MAPPER, line);
+                if (journalLine.hasEvent()) {
+                    final JournalEventType journalEventType = journalLine.journalEventType();
+                    if (ALWAYS_TRACK_MATERIAL_EVENT_TYPES.contains(journalEventType)) {
+                        alwaysProcessMessages.add(journalLine);
                     } else if (!JournalEventType.UNKNOWN.equals(journalEventType)) {
                         if (JournalEventType.MATERIALS.equals(journalEventType)) {
-                            alwaysProcessMessages.removeIf(lineA -> {
-                                try {
-                                    return alwaysTrackMaterialEventTypes.contains(JournalEventType.forName(OBJECT_MAPPER.readTree(lineA).get(EVENT).asText()));
-                                } catch (final JsonProcessingException e) {
-                                    e.printStackTrace();
-                                }
-                                return false;
-                            });
-                            messages.put(journalEventType, line);
+                            alwaysProcessMessages.removeIf(lineA -> ALWAYS_TRACK_MATERIAL_EVENT_TYPES.contains(lineA.journalEventType()));
+                            messages.put(journalEventType, journalLine);
                         } else if (JournalEventType.ENGINEERPROGRESS.equals(journalEventType)) {
-                            if (messages.containsKey(JournalEventType.ENGINEERPROGRESS) && jsonNode.has("Engineer")) {
-                                alwaysProcessMessages.add(line);//add additional engineerprogress messages to alwaysProcessMessages instead
-                            } else if (jsonNode.has("Engineers")) {
-                                alwaysProcessMessages.removeIf(line2 -> { //clear any additional engineerprogress messages if we get a full message (again)
-                                    try {
-                                        return JournalEventType.ENGINEERPROGRESS.equals(OBJECT_MAPPER.readTree(line2).get(EVENT));
-                                    } catch (final JsonProcessingException e) {
-                                        return false;
-                                    }
-                                });
-                                messages.put(journalEventType, line);//set the full message (again)
+                            //a full message may also have been restored from the checkpoint
+                            if (LATEST_MESSAGES.containsKey(JournalEventType.ENGINEERPROGRESS) && journalLine.has("Engineer")) {
+                                alwaysProcessMessages.add(journalLine);//add additional engineerprogress messages to alwaysProcessMessages instead
+                            } else if (journalLine.has("Engineers")) {
+                                //clear any additional engineerprogress messages if we get a full message (again)
+                                alwaysProcessMessages.removeIf(line2 -> JournalEventType.ENGINEERPROGRESS.equals(line2.journalEventType()));
+                                messages.put(journalEventType, journalLine);//set the full message (again)
                             }
                         } else {
-                            messages.put(journalEventType, line);
+                            messages.put(journalEventType, journalLine);
                         }
-
+                        trackLatest(journalLine);
                     }
                 }
                 position = is.getCount();
             }
 
-            final List<String> singleMessages = messages.entrySet().stream()
-                    .sorted(Comparator.comparing(entry -> {
-                        try {
-                            return OBJECT_MAPPER.readTree(entry.getValue()).get("timestamp").asText();
-                        } catch (final JsonProcessingException e) {
-                            log.error("Failed to read timestamp for event", e);
-                        }
-                        return "";
-                    }))
-                    .filter(entry -> (!entry.getKey().equals(JournalEventType.BACKPACKCHANGE) && !entry.getKey().equals(JournalEventType.BACKPACK)) || backpackAfterShiplocker(messages, entry))
-                    .map(Map.Entry::getValue)
-                    .collect(Collectors.toList());
-            Stream.concat(singleMessages.stream(), alwaysProcessMessages.stream())
-                    .sorted(Comparator.comparing(event -> {
-                        try {
-                            return OBJECT_MAPPER.readTree(event).get("timestamp").asText();
-                        } catch (final JsonProcessingException e) {
-                            log.error("Failed to read timestamp for event", e);
-                        }
-                        return "";
-                    }))
-                    .forEach(message -> Platform.runLater(() -> MessageHandler.handleMessage(message, file)));
+            return Stream.concat(selectSingleMessages(messages).stream(), alwaysProcessMessages.stream())
+                    .sorted(Comparator.comparing(JournalLine::timestamp))
+                    .toList();
+        }
+    }
 
-        } catch (final JsonProcessingException e) {
-            log.error("Read error", e);
+    /**
+     * Continues after the checkpoint: the context lines are handled first to restore state like the commander and
+     * loadouts, after which the snapshot overwrites whatever those lines derived for storage, engineers and location.
+     */
+    private static void resumeFromCheckpoint(final File file, final JournalCheckpoint checkpoint) {
+        final List<JournalLine> contextMessages = restoreContext(checkpoint);
+        DISPATCHER.submit(() -> {
+            contextMessages.forEach(message -> MessageHandler.handleMessage(message, file));
+            JournalCheckpointService.restore(checkpoint);
+        });
+        log.info("Resuming journal {} from checkpoint at offset {} of {}", file.getName(), position, file.length());
+    }
+
+    /**
+     * Continues reading at the offset of the checkpoint, with its context lines as the latest messages.
+     *
+     * @return the context messages to handle, in order
+     */
+    static synchronized List<JournalLine> restoreContext(final JournalCheckpoint checkpoint) {
+        for (final String contextLine : checkpoint.getContextLines()) {
+            try {
+                JournalLine.lineRead();
+                trackLatest(JournalLine.parse(OBJECT_MAPPER, contextLine));
+            } catch (final JsonProcessingException e) {
+                log.warn("Skipping unreadable checkpoint line", e);
+            }
+        }
+        position = checkpoint.getOffset();
+        return selectSingleMessages(LATEST_MESSAGES).stream()
+                .sorted(Comparator.comparing(JournalLine::timestamp))
+                .toList();
+    }
+
+    private static void trackLatest(final JournalLine journalLine) {
+        final JournalEventType journalEventType = journalLine.journalEventType();
+        if (ALWAYS_TRACK_MATERIAL_EVENT_TYPES.contains(journalEventType) || JournalEventType.UNKNOWN.equals(journalEventType)) {
+            return;
+        }
+        if (!JournalEventType.ENGINEERPROGRESS.equals(journalEventType) || journalLine.has("Engineers")) {
+            LATEST_MESSAGES.put(journalEventType, journalLine);
+        }
+    }
+
+    private static List<JournalLine> selectSingleMessages(final Map<JournalEventType, JournalLine> messages) {
+        return messages.entrySet().stream()
+                .filter(entry -> (!entry.getKey().equals(JournalEventType.BACKPACKCHANGE) && !entry.getKey().equals(JournalEventType.BACKPACK)) || backpackAfterShiplocker(entry))
+                .map(Map.Entry::getValue)
+                .toList();
+    }
+
+    /**
+     * Saves a checkpoint at the current position once everything read so far has been handled on the FX thread.
+     */
+    private static void submitCheckpoint(final File file) {
+        lastCheckpoint = System.nanoTime();
+        if (header.isEmpty()) {
+            header = readHeader(file);
+        }
+        final String journalHeader = header;
+        final long offset = position;
+        final List<String> contextLines = LATEST_MESSAGES.values().stream().map(JournalLine::line).toList();
+        DISPATCHER.submit(() -> APPLICATION_STATE.getPreferredCommander().ifPresent(commander ->
+                JournalCheckpointService.save(commander, file.getName(), journalHeader, offset, contextLines)));
+    }
+
+    private static String readHeader(final File file) {
+        try (final BufferedReader lineReader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            final String line = lineReader.readLine();
+            return line != null ? line : "";
         } catch (final IOException e) {
-            log.error("Error processing journal", e);
+            log.error("Error reading journal header", e);
+            return "";
         }
-        Platform.runLater(() -> EventService.publish(new JournalInitEvent(true)));
     }
 
-    private static boolean backpackAfterShiplocker(final Map<JournalEventType, String> messages, final Map.Entry<JournalEventType, String> entry) {
+    private static boolean backpackAfterShiplocker(final Map.Entry<JournalEventType, JournalLine> entry) {
+        //the latest ship locker may have been read before the checkpoint that processing resumed from
+        final JournalLine shipLocker = LATEST_MESSAGES.get(JournalEventType.SHIPLOCKER);
+        if (shipLocker == null) {
+            return false;
+        }
         try {
-            return ZonedDateTime.parse(OBJECT_MAPPER.readTree(entry.getValue()).get("timestamp").asText()).isAfter(ZonedDateTime.parse(OBJECT_MAPPER.readTree(messages.get(JournalEventType.SHIPLOCKER)).get("timestamp").asText()));
-        } catch (final JsonProcessingException e) {
+            return ZonedDateTime.parse(entry.getValue().timestamp()).isAfter(ZonedDateTime.parse(shipLocker.timestamp()));
+        } catch (final DateTimeParseException e) {
             return false;
         }
     }
@@ -178,13 +260,18 @@ public class FileProcessor {
             final BufferedReader lineReader = new BufferedReader(reader);
 
             // Process all lines.
+            final long start = position;
             String line;
             while ((line = lineReader.readLine()) != null) {
-                final String finalLine = line;
+                JournalLine.lineRead();
                 //try to read line as json, if exception occurs we get JsonProcessingException and can try to read again later
-                OBJECT_MAPPER.readTree(finalLine);
+                final JournalLine journalLine = JournalLine.parse(OBJECT_MAPPER, line);
                 position = is.getCount();
-                Platform.runLater(() -> MessageHandler.handleMessage(finalLine, file));
+                trackLatest(journalLine);
+                DISPATCHER.submit(() -> MessageHandler.handleMessage(journalLine, file));
+            }
+            if (position > start && System.nanoTime() - lastCheckpoint >= CHECKPOINT_INTERVAL_NANOS) {
+                submitCheckpoint(file);
             }
         } catch (final JsonProcessingException e) {
             log.error("Read error", e);
@@ -193,16 +280,38 @@ public class FileProcessor {
         }
     }
 
+    /**
+     * Average number of times each journal line has been tokenized since startup, including the parsing done while
+     * handling it. Should stay at 1.0.
+     */
+    public static double getParsesPerLine() {
+        return JournalLine.getParsesPerLine();
+    }
+
+    /**
+     * Number of messages read from the journal that are still waiting to be handled on the FX thread.
+     */
+    public static int getBacklog() {
+        return DISPATCHER.getBacklog();
+    }
+
+    /**
+     * Messages handled per second on the FX thread during the current or last catch-up.
+     */
+    public static double getDrainRate() {
+        return DISPATCHER.getDrainRate();
+    }
+
     public static synchronized void processCargoStateFile(final File file, final JournalEventType journalEventType) {
-        Platform.runLater(() -> MessageHandler.handleMessage(file, journalEventType));
+        DISPATCHER.submit(() -> MessageHandler.handleMessage(file, journalEventType));
     }
 
     public static synchronized void processOtherStateFile(final File file) {
-        Platform.runLater(() -> MessageHandler.handleStateFileMessage(file));
+        DISPATCHER.submit(() -> MessageHandler.handleStateFileMessage(file));
     }
 
     public static synchronized void processCapiFile(final File file, final JournalEventType journalEventType) {
-        Platform.runLater(() -> MessageHandler.handleCapiMessage(file, journalEventType));
+        DISPATCHER.submit(() -> MessageHandler.handleCapiMessage(file, journalEventType));
     }
 
     public static synchronized void processStatusFile(final File file) {
@@ -211,7 +320,7 @@ public class FileProcessor {
 //            log.info(statusFileContents);
             if (!statusFileContents.isBlank()) {//status file can be empty
                 final Status status = OBJECT_MAPPER.readValue(statusFileContents, Status.class);
-                Platform.runLater(() -> {
+                DISPATCHER.submit(() -> {
                     if (status.getFlags2().isPresent()) {
                         ApplicationState.getInstance().updateWithFlags(status.getFlags().intValue(), status.getFlags2().get().intValue());
                     }
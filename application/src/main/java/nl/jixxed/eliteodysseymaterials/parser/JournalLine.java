@@ -0,0 +1,116 @@
+package nl.jixxed.eliteodysseymaterials.parser;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.IOContext;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import nl.jixxed.eliteodysseymaterials.enums.JournalEventType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A journal line that has been tokenized exactly once. The tree is reused for deduplication, sorting and
+ * for binding to the schema class of the message processor, so the raw line is never parsed again.
+ */
+record JournalLine(String line, JsonNode jsonNode, String eventName, JournalEventType journalEventType, String timestamp) {
+    private static final String EVENT = "event";
+    private static final String TIMESTAMP = "timestamp";
+    private static final AtomicLong LINES = new AtomicLong();
+    private static final AtomicLong PARSES = new AtomicLong();
+
+    /**
+     * @return a mapper that counts every time it tokenizes text, for reading and handling journal lines
+     */
+    static ObjectMapper createObjectMapper() {
+        return new ObjectMapper(new CountingJsonFactory());
+    }
+
+    static JournalLine parse(final ObjectMapper objectMapper, final String line) throws JsonProcessingException {
+        final JsonNode jsonNode = objectMapper.readTree(line);
+        final JsonNode event = jsonNode.get(EVENT);
+        final JsonNode timestamp = jsonNode.get(TIMESTAMP);
+        final String eventName = event != null ? event.asText() : null;
+        return new JournalLine(
+                line,
+                jsonNode,
+                eventName,
+                eventName != null ? JournalEventType.forName(eventName) : JournalEventType.UNKNOWN,
+                timestamp != null ? timestamp.asText() : ""
+        );
+    }
+
+    boolean hasEvent() {
+        return this.eventName != null;
+    }
+
+    boolean has(final String fieldName) {
+        return this.jsonNode.has(fieldName);
+    }
+
+    static void lineRead() {
+        LINES.incrementAndGet();
+    }
+
+    static long getLinesRead() {
+        return LINES.get();
+    }
+
+    static long getParses() {
+        return PARSES.get();
+    }
+
+    /**
+     * Number of times a journal line has been tokenized on average, by the readers and by the message handling.
+     * Anything above 1.0 means a line was parsed again somewhere in the ingestion pipeline.
+     */
+    static double getParsesPerLine() {
+        final long lines = LINES.get();
+        return lines == 0 ? 0D : (double) PARSES.get() / lines;
+    }
+
+    /**
+     * Counts the parsers created for text. Binding an already parsed tree doesn't create one, so isn't counted.
+     */
+    private static final class CountingJsonFactory extends JsonFactory {
+        private CountingJsonFactory() {
+        }
+
+        private CountingJsonFactory(final CountingJsonFactory source) {
+            super(source, null);
+        }
+
+        @Override
+        public JsonFactory copy() {
+            return new CountingJsonFactory(this);
+        }
+
+        @Override
+        protected JsonParser _createParser(final InputStream in, final IOContext ctxt) throws IOException {
+            PARSES.incrementAndGet();
+            return super._createParser(in, ctxt);
+        }
+
+        @Override
+        protected JsonParser _createParser(final Reader r, final IOContext ctxt) throws IOException {
+            PARSES.incrementAndGet();
+            return super._createParser(r, ctxt);
+        }
+
+        @Override
+        protected JsonParser _createParser(final char[] data, final int offset, final int len, final IOContext ctxt, final boolean recyclable) throws IOException {
+            PARSES.incrementAndGet();
+            return super._createParser(data, offset, len, ctxt, recyclable);
+        }
+
+        @Override
+        protected JsonParser _createParser(final byte[] data, final int offset, final int len, final IOContext ctxt) throws IOException {
+            PARSES.incrementAndGet();
+            return super._createParser(data, offset, len, ctxt);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package nl.jixxed.eliteodysseymaterials.parser;
+
+import javafx.application.Platform;
+import lombok.extern.slf4j.Slf4j;
+import nl.jixxed.eliteodysseymaterials.service.event.EventService;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Hands parsed journal messages over to the FX thread in batches.
+ * <p>
+ * Instead of one runLater per message, a single drain is scheduled that handles messages until either the batch size
+ * or the time slice is reached, and reschedules itself while there is a backlog. Storage and journal line processed
+ * events published while handling a batch are coalesced into one notification per batch for each storage pool and
+ * journal event type, since listeners filter on those.
+ */
+@Slf4j
+class JournalMessageDispatcher {
+    private static final int BATCH_SIZE = 250;
+    private static final long TIME_SLICE_NANOS = TimeUnit.MILLISECONDS.toNanos(8);
+
+    private final Consumer<Runnable> fxExecutor;
+    private final int batchSize;
+    private final long timeSliceNanos;
+    private final Queue<Runnable> messages = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger backlog = new AtomicInteger();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    //only accessed on the FX thread
+    private long sessionStart;
+    private int sessionDrained;
+    private int sessionPeakBacklog;
+    private volatile double drainRate;
+
+    JournalMessageDispatcher() {
+        this(Platform::runLater, BATCH_SIZE, TIME_SLICE_NANOS);
+    }
+
+    JournalMessageDispatcher(final Consumer<Runnable> fxExecutor, final int batchSize, final long timeSliceNanos) {
+        this.fxExecutor = fxExecutor;
+        this.batchSize = batchSize;
+        this.timeSliceNanos = timeSliceNanos;
+    }
+
+    void submit(final Runnable message) {
+        this.messages.add(message);
+        this.backlog.incrementAndGet();
+        scheduleDrain();
+    }
+
+    /**
+     * @return the number of messages waiting to be handled on the FX thread
+     */
+    int getBacklog() {
+        return this.backlog.get();
+    }
+
+    /**
+     * @return messages handled per second during the current or last catch-up
+     */
+    double getDrainRate() {
+        return this.drainRate;
+    }
+
+    private void scheduleDrain() {
+        if (this.drainScheduled.compareAndSet(false, true)) {
+            this.fxExecutor.accept(this::drain);
+        }
+    }
+
+    private void drain() {
+        final long start = System.nanoTime();
+        if (this.sessionDrained == 0) {
+            this.sessionStart = start;
+        }
+        this.sessionPeakBacklog = Math.max(this.sessionPeakBacklog, this.backlog.get());
+        final int[] handled = new int[1];
+        EventService.publishCoalesced(() -> {
+            Runnable message;
+            while (handled[0] < this.batchSize && System.nanoTime() - start < this.timeSliceNanos && (message = this.messages.poll()) != null) {
+                this.backlog.decrementAndGet();
+                handled[0]++;
+                try {
+                    message.run();
+                } catch (final RuntimeException ex) {
+                    log.error("Failed to handle journal message", ex);
+                }
+            }
+        });
+        this.sessionDrained += handled[0];
+        final long elapsed = Math.max(1L, System.nanoTime() - this.sessionStart);
+        this.drainRate = this.sessionDrained * (double) TimeUnit.SECONDS.toNanos(1) / elapsed;
+        this.drainScheduled.set(false);
+        if (!this.messages.isEmpty()) {
+            scheduleDrain();
+        } else {
+            if (this.sessionDrained > this.batchSize) {
+                log.info("Drained {} journal messages in {} ms ({} per second), peak backlog {}", this.sessionDrained, TimeUnit.NANOSECONDS.toMillis(elapsed), String.format("%.0f", this.drainRate), this.sessionPeakBacklog);
+            }
+            this.sessionDrained = 0;
+            this.sessionPeakBacklog = 0;
+        }
+    }
+}
@@ -27,7 +27,7 @@ import java.util.Map;
 @Slf4j
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 class MessageHandler {
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final ObjectMapper OBJECT_MAPPER = JournalLine.createObjectMapper();
 
     static {
         OBJECT_MAPPER.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
@@ -103,25 +103,23 @@ class MessageHandler {
     private static final String EVENT = "event";
     private static final String TIMESTAMP = "timestamp";
 
-    static void handleMessage(final String message, final File file) {
+    static void handleMessage(final JournalLine journalLine, final File file) {
         try {
-            final JsonNode jsonNode = OBJECT_MAPPER.readTree(message);
-            if (jsonNode.get(EVENT) != null) {
-                final String eventName = jsonNode.get(EVENT).asText();
-                log.info("event: " + eventName + "("+jsonNode.get(TIMESTAMP).asText()+")");
-                final JournalEventType journalEventType = JournalEventType.forName(jsonNode.get(EVENT).asText());
+            if (journalLine.hasEvent()) {
+                log.info("event: " + journalLine.eventName() + "(" + journalLine.timestamp() + ")");
+                final JournalEventType journalEventType = journalLine.journalEventType();
                 final MessageProcessor<Event> messageProcessor = (MessageProcessor<Event>) messageProcessors.get(journalEventType);
                 if (messageProcessor != null) {
                     final Class<? extends Event> messageClass = messageProcessor.getMessageClass();
-                    final Event event = OBJECT_MAPPER.readValue(message, messageClass);
+                    final Event event = OBJECT_MAPPER.treeToValue(journalLine.jsonNode(), messageClass);
                     messageProcessor.process(event);
-                    EventService.publish(new JournalLineProcessedEvent(jsonNode.get("timestamp").asText(), journalEventType, file));
+                    EventService.publish(new JournalLineProcessedEvent(journalLine.timestamp(), journalEventType, file));
                 }
-                    final LocalDateTime timestamp = LocalDateTime.parse(jsonNode.get(TIMESTAMP).asText(), DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss'Z'"));
-                    EDDNService.anyEvent(journalEventType, timestamp);
+                final LocalDateTime timestamp = LocalDateTime.parse(journalLine.timestamp(), DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss'Z'"));
+                EDDNService.anyEvent(journalEventType, timestamp);
 
             } else {
-                log.warn("EVENT NULL: " + jsonNode.toPrettyString());
+                log.warn("EVENT NULL: " + journalLine.jsonNode().toPrettyString());
             }
         } catch (final JsonProcessingException e) {
             log.error("Error processing json message from: " + file.getName(), e);
@@ -136,13 +134,14 @@ class MessageHandler {
     static void handleMessage(final File file, final JournalEventType journalEventType) {
         try {
             final String message = Files.readString(file.toPath());
+            JournalLine.lineRead();
             final JsonNode jsonNode = OBJECT_MAPPER.readTree(message);
             final String eventName = jsonNode.get(EVENT).asText();
             log.info("event: " + eventName + "("+jsonNode.get(TIMESTAMP).asText()+")");
             final MessageProcessor<Event> messageProcessor = (MessageProcessor<Event>) messageProcessors.get(journalEventType);
             if (messageProcessor != null) {
                 final Class<? extends Event> messageClass = messageProcessor.getMessageClass();
-                final Event event = OBJECT_MAPPER.readValue(message, messageClass);
+                final Event event = OBJECT_MAPPER.treeToValue(jsonNode, messageClass);
                 messageProcessor.process(event);
                 EventService.publish(new JournalLineProcessedEvent("now", journalEventType, file));
             }
@@ -158,6 +157,7 @@ class MessageHandler {
     static void handleStateFileMessage(final File file) {
         try {
             final String message = Files.readString(file.toPath());
+            JournalLine.lineRead();
             final JsonNode jsonNode = OBJECT_MAPPER.readTree(message);
             final String eventName = jsonNode.get(EVENT).asText();
             log.info("event: " + eventName + "("+jsonNode.get(TIMESTAMP).asText()+")");
@@ -165,7 +165,7 @@ class MessageHandler {
             final MessageProcessor<Event> messageProcessor = (MessageProcessor<Event>) messageProcessors.get(journalEventType);
             if (messageProcessor != null) {
                 final Class<? extends Event> messageClass = messageProcessor.getMessageClass();
-                final Event event = OBJECT_MAPPER.readValue(message, messageClass);
+                final Event event = OBJECT_MAPPER.treeToValue(jsonNode, messageClass);
                 messageProcessor.process(event);
                 EventService.publish(new JournalLineProcessedEvent("now", JournalEventType.forName(eventName), file));
             }
@@ -181,6 +181,7 @@ class MessageHandler {
     static void handleCapiMessage(final File file, final JournalEventType journalEventType) {
         try {
             final String message = Files.readString(file.toPath());
+            JournalLine.lineRead();
             final JsonNode jsonNode = OBJECT_MAPPER.readTree(message);
             log.info("event: " + journalEventType);
             final CapiMessageProcessor messageProcessor = capiMessageProcessors.get(journalEventType);
@@ -60,14 +60,10 @@ public class ARService {
     private static Stage arStage;
     private static Mat arrowTemplate;
     private static Mat arrowTemplateScaled;
-    private static Mat arrowCaptureMat;
-    private static Mat arrowCaptureMatGray = new Mat();
     private static Mat cocktailTemplate;
     private static Mat cocktailTemplateScaled;
     private static Mat cocktailMask;
     private static Mat cocktailMaskScaled;
-    private static Mat cocktailCaptureMat;
-    private static Mat cocktailCaptureMatGray = new Mat();
     private static BufferedImage downloadMenuCapture;
     private static BufferedImage bartenderMenuCapture;
     private static BufferedImage arrowCapture;
@@ -96,13 +92,23 @@ public class ARService {
     private static int contentX;
     private static int contentY;
     private static double newScaling;
-    private static Mat downloadMenuResult;
-    private static Mat bartenderMenuResult;
     private static final Map<String, Render> renderCache = new HashMap<>();
     private static final ScreenshotService screenshotService = GDIScreenshotService.getInstance();
-    private static final ExecutorService executorService = Executors.newFixedThreadPool(6);
+    private static final ExecutorService executorService = Executors.newFixedThreadPool(OcrConstants.OCR_ENGINES);
+    //time from the start of a menu scan until a row is recognised, over all scans
+    private static final LongSummaryStatistics ROW_LATENCY = new LongSummaryStatistics();
     private static final Pattern DATA_PORT_NAME_PATTERN = Pattern.compile("^([A-Z]*[\s]?DATA PORT)[\s]?([\\d]{0,2})$");
     private static final List<EventListener<?>> EVENT_LISTENERS = new ArrayList<>();
+    //template matching and OCR only run when the captured region changed since the previous tick
+    private static final RegionChangeDetector ARROW_CHANGES = new RegionChangeDetector(8, 6);
+    private static final RegionChangeDetector COCKTAIL_CHANGES = new RegionChangeDetector(8, 6);
+    private static final RegionChangeDetector DOWNLOAD_MENU_CHANGES = new RegionChangeDetector(16, 4);
+    private static final RegionChangeDetector BARTENDER_MENU_CHANGES = new RegionChangeDetector(16, 4);
+    private static final TickStatistics DISPLAY_TICKS = new TickStatistics();
+    private static final TickStatistics ANALYZE_TICKS = new TickStatistics();
+    private static final long STATISTICS_LOG_TICKS = 1200;
+    //gamma 1.5, then the contrast boost of multiplying with white at scale 0.05, folded into one table
+    private static final byte[] TERMINAL_TYPE_LOOK_UP_TABLE = createTerminalTypeLookUpTable(1.5, 0.05F);
 
     static {
         EVENT_LISTENERS.add(EventService.addStaticListener(TerminateApplicationEvent.class, event -> {
@@ -122,6 +128,14 @@ public class ARService {
                 }
         ));
     }
+    public static TickStatistics getDisplayTickStatistics() {
+        return DISPLAY_TICKS;
+    }
+
+    public static TickStatistics getAnalyzeTickStatistics() {
+        return ANALYZE_TICKS;
+    }
+
     public static void bartenderToggle() {
         bartenderOverlayEnabled.set(PreferencesService.getPreference(PreferenceConstants.ENABLE_BARTENDER_AR, Boolean.TRUE));
     }
@@ -131,20 +145,7 @@ public class ARService {
             scaling = 1;
             log.debug("enabling AR Service");
 
-            arrowTemplate = CvHelper.convertToMat(new Image(ARService.class.getResourceAsStream("/images/opencv/cv_template_download.png")));
-            arrowTemplateScaled = CvHelper.convertToMat(new Image(ARService.class.getResourceAsStream("/images/opencv/cv_template_download.png")));
-            cocktailTemplate = CvHelper.convertToMat(new Image(ARService.class.getResourceAsStream("/images/opencv/cv_template_cocktail.png")));
-            cocktailTemplateScaled = CvHelper.convertToMat(new Image(ARService.class.getResourceAsStream("/images/opencv/cv_template_cocktail.png")));
-            cocktailMask = CvHelper.convertToMat(new Image(ARService.class.getResourceAsStream("/images/opencv/cv_template_cocktail_tp.png")));
-            cocktailMaskScaled = CvHelper.convertToMat(new Image(ARService.class.getResourceAsStream("/images/opencv/cv_template_cocktail_tp.png")));
-            //greyscale templates
-            Imgproc.cvtColor(arrowTemplate, arrowTemplate, Imgproc.COLOR_BGRA2GRAY);
-            Imgproc.cvtColor(arrowTemplateScaled, arrowTemplateScaled, Imgproc.COLOR_BGRA2GRAY);
-            Imgproc.cvtColor(cocktailTemplate, cocktailTemplate, Imgproc.COLOR_BGRA2GRAY);
-            Imgproc.cvtColor(cocktailTemplateScaled, cocktailTemplateScaled, Imgproc.COLOR_BGRA2GRAY);
-            Imgproc.cvtColor(cocktailMask, cocktailMask, Imgproc.COLOR_BGRA2GRAY);
-            Imgproc.cvtColor(cocktailMaskScaled, cocktailMaskScaled, Imgproc.COLOR_BGRA2GRAY);
-            Imgproc.threshold(cocktailMaskScaled, cocktailMaskScaled, 50, 255, Imgproc.THRESH_BINARY);
+            loadTemplates();
 
             arStage = new Stage();
             arOverlay = new AROverlay(arStage);
@@ -191,10 +192,34 @@ public class ARService {
         }
     }
 
+    static void loadTemplates() {
+        arrowTemplate = CvHelper.loadTemplate("/images/opencv/cv_template_download.png");
+        arrowTemplateScaled = CvHelper.loadTemplate("/images/opencv/cv_template_download.png");
+        cocktailTemplate = CvHelper.loadTemplate("/images/opencv/cv_template_cocktail.png");
+        cocktailTemplateScaled = CvHelper.loadTemplate("/images/opencv/cv_template_cocktail.png");
+        cocktailMask = CvHelper.loadTemplate("/images/opencv/cv_template_cocktail_tp.png");
+        cocktailMaskScaled = CvHelper.loadTemplate("/images/opencv/cv_template_cocktail_tp.png");
+        //greyscale templates
+        Imgproc.cvtColor(arrowTemplate, arrowTemplate, Imgproc.COLOR_BGRA2GRAY);
+        Imgproc.cvtColor(arrowTemplateScaled, arrowTemplateScaled, Imgproc.COLOR_BGRA2GRAY);
+        Imgproc.cvtColor(cocktailTemplate, cocktailTemplate, Imgproc.COLOR_BGRA2GRAY);
+        Imgproc.cvtColor(cocktailTemplateScaled, cocktailTemplateScaled, Imgproc.COLOR_BGRA2GRAY);
+        Imgproc.cvtColor(cocktailMask, cocktailMask, Imgproc.COLOR_BGRA2GRAY);
+        Imgproc.cvtColor(cocktailMaskScaled, cocktailMaskScaled, Imgproc.COLOR_BGRA2GRAY);
+        Imgproc.threshold(cocktailMaskScaled, cocktailMaskScaled, 50, 255, Imgproc.THRESH_BINARY);
+    }
+
+    static void rescaleDownloadMenuTemplates(final double scaling) {
+        Imgproc.resize(arrowTemplate, arrowTemplateScaled, new Size(), scaling, scaling, Imgproc.INTER_AREA);
+        WarningHelper.updateScale(scaling);
+    }
+
     private static void setupTimerDisplay() {
         final TimerTask timerDisplayTask = new TimerTask() {
             @Override
             public void run() {
+                final long cpuBefore = TickStatistics.currentThreadCpuNanos();
+                boolean skipped = false;
                 try {
                     //determine the window handle if it is unknown
                     if (targetWindowInfo.hwnd == 0 || !WindowInfoUtil.isWindow(targetWindowInfo.hwnd)) {
@@ -242,22 +267,27 @@ public class ARService {
                         log.debug("detected resolution: " + contentWidth + "x" + contentHeight);
                         //scaling
                         scaling = newScaling;
-                        Imgproc.resize(arrowTemplate, arrowTemplateScaled, new Size(), scaling, scaling, Imgproc.INTER_AREA);
+                        rescaleDownloadMenuTemplates(scaling);
                         Imgproc.resize(cocktailTemplate, cocktailTemplateScaled, new Size(), bartenderMenu1.getScale(), bartenderMenu1.getScale(), Imgproc.INTER_AREA);
                         Imgproc.resize(cocktailMask, cocktailMaskScaled, new Size(), bartenderMenu1.getScale(), bartenderMenu1.getScale(), Imgproc.INTER_AREA);
                         Imgproc.threshold(cocktailMaskScaled, cocktailMaskScaled, 50, 255, Imgproc.THRESH_BINARY);
-                        WarningHelper.updateScale(scaling);
+                        ARROW_CHANGES.reset();
+                        COCKTAIL_CHANGES.reset();
 
                         ImageTransformHelper.init(downloadMenu1, scaling);
                     }
                     //test if download image is present
                     arrowCapture = getArrowCapture();
-                    final boolean menuPresent = isDownloadMenu(arrowCapture);
+                    final boolean arrowChanged = ARROW_CHANGES.hasChanged(arrowCapture);
+                    final boolean menuPresent = arrowChanged ? isDownloadMenu(arrowCapture) : previousDataportMatch;
                     boolean tradeMenuPresent = false;
+                    boolean cocktailChanged = false;
                     if (!menuPresent && bartenderOverlayEnabled.get()) {
                         cocktailCapture = getCocktailCapture();
-                        tradeMenuPresent = isBartenderMenu(cocktailCapture);
+                        cocktailChanged = COCKTAIL_CHANGES.hasChanged(cocktailCapture);
+                        tradeMenuPresent = cocktailChanged ? isBartenderMenu(cocktailCapture) : previousBartenderMatch;
                     }
+                    skipped = !arrowChanged && !cocktailChanged;
                     boolean pauseThread = false;
                     if (menuPresent) {
                         //show
@@ -286,6 +316,13 @@ public class ARService {
                     }
                 } catch (final Exception e) {
                     log.error("error", e);
+                    ARROW_CHANGES.reset();
+                    COCKTAIL_CHANGES.reset();
+                } finally {
+                    DISPLAY_TICKS.record(TickStatistics.currentThreadCpuNanos() - cpuBefore, skipped);
+                    if (DISPLAY_TICKS.getTicks() % STATISTICS_LOG_TICKS == 0) {
+                        log.debug("AR display timer: " + DISPLAY_TICKS + ", analyze timer: " + ANALYZE_TICKS + ", native buffers: " + MatPool.getAllocations() + " allocated for " + MatPool.getAcquisitions() + " uses");
+                    }
                 }
             }
         };
@@ -297,21 +334,12 @@ public class ARService {
         if (capture == null) {
             return false;
         }
-        cocktailCaptureMat = CvHelper.convertToMat(capture, cocktailCaptureMat);
+        final MatPool pool = MatPool.get();
+        final Mat cocktailCaptureMat = pool.toMat("cocktailCapture", capture);
         final int result_cols = cocktailCaptureMat.cols() - cocktailTemplateScaled.cols() + 1;
         final int result_rows = cocktailCaptureMat.rows() - cocktailTemplateScaled.rows() + 1;
-        if (bartenderMenuResult == null || bartenderMenuResult.cols() != result_cols || bartenderMenuResult.rows() != result_rows) {
-            if (bartenderMenuResult != null) {
-                bartenderMenuResult.release();
-            }
-            bartenderMenuResult = new Mat(result_rows, result_cols, CvType.CV_32FC1);
-        }
-        if (cocktailCaptureMatGray == null || cocktailCaptureMat.cols() != cocktailCaptureMatGray.cols() || cocktailCaptureMat.rows() != cocktailCaptureMatGray.rows()) {
-            if (cocktailCaptureMatGray != null) {
-                cocktailCaptureMatGray.release();
-            }
-            cocktailCaptureMatGray = new Mat();
-        }
+        final Mat bartenderMenuResult = pool.acquire("cocktailMatch", result_rows, result_cols, CvType.CV_32FC1);
+        final Mat cocktailCaptureMatGray = pool.acquire("cocktailCaptureGray", cocktailCaptureMat.rows(), cocktailCaptureMat.cols(), CvType.CV_8UC1);
         //grayscale capture
         Imgproc.cvtColor(cocktailCaptureMat, cocktailCaptureMatGray, Imgproc.COLOR_BGRA2GRAY);
         //matching
@@ -371,9 +399,16 @@ public class ARService {
 
             @Override
             public void run() {
+                final long cpuBefore = TickStatistics.currentThreadCpuNanos();
+                boolean skipped = false;
                 try {
                     if (MENU_VISIBLE.get()) {
+                        BARTENDER_MENU_CHANGES.reset();
                         downloadMenuCapture = getDownloadMenuCapture();
+                        if (!DOWNLOAD_MENU_CHANGES.hasChanged(downloadMenuCapture)) {
+                            skipped = true;
+                            return;
+                        }
                         final Boolean newHasWarning = WarningHelper.menuHasWarning(downloadMenuCapture, scaling, MATCHING_THRESHOLD);
                         final ScrollBar newScrollBar = getScrollBar(downloadMenuCapture, newHasWarning);
                         final boolean render = !Objects.equals(newScrollBar, scrollBar) || newHasWarning.equals(hasWarning);//initialRender.get();//only render on change
@@ -407,7 +442,12 @@ public class ARService {
                             }
                         }
                     } else if (TRADE_VISIBLE.get()) {
+                        DOWNLOAD_MENU_CHANGES.reset();
                         bartenderMenuCapture = getBartenderMenuCapture();
+                        if (!BARTENDER_MENU_CHANGES.hasChanged(bartenderMenuCapture)) {
+                            skipped = true;
+                            return;
+                        }
                         if (BartenderMenuHelper.isTradeMenu(bartenderMenuCapture, getBartenderMenu())) {
                             processTradeMenu();
                         } else {
@@ -418,6 +458,8 @@ public class ARService {
                             }
                         }
                     } else {
+                        DOWNLOAD_MENU_CHANGES.reset();
+                        BARTENDER_MENU_CHANGES.reset();
                         getDownloadMenu().getScanned().clear();
                         getDownloadMenu().setType(null);
                         getDownloadMenu().setDataPortName(null);
@@ -432,6 +474,11 @@ public class ARService {
                     }
                 } catch (final Exception e) {
                     log.error("error", e);
+                    //process the same frame again on the next tick
+                    DOWNLOAD_MENU_CHANGES.reset();
+                    BARTENDER_MENU_CHANGES.reset();
+                } finally {
+                    ANALYZE_TICKS.record(TickStatistics.currentThreadCpuNanos() - cpuBefore, skipped);
                 }
             }
         };
@@ -486,28 +533,29 @@ public class ARService {
                 final nl.jixxed.eliteodysseymaterials.service.ar.Rectangle textArea = (bartenderMenu.getSubMenu().equals(BartenderMenuType.SUBMENU)) ? bartenderMenu.getSubMenuEntryText(index) : bartenderMenu.getMenuEntryText(index);
                 BufferedImage textImage = bartenderMenuCapture.getSubimage((int) textArea.getX(), (int) textArea.getY(), (int) textArea.getWidth(), (int) textArea.getHeight());
 
-                final Mat image = CvHelper.convertToMat(textImage, null);
-                Imgproc.resize(image, image, new Size(image.size().width * 4, image.size().height * 4), 4, 4, INTER_LANCZOS4);
-                final Mat temp = image.clone();
-                Imgproc.cvtColor(image, image, Imgproc.COLOR_BGRA2GRAY);
+                final MatPool pool = MatPool.get();
+                final Mat capture = pool.toMat("bartenderItem", textImage);
+                final Mat scaled = pool.acquire("bartenderItemScaled", capture.rows() * 4, capture.cols() * 4, capture.type());
+                Imgproc.resize(capture, scaled, scaled.size(), 4, 4, INTER_LANCZOS4);
+                final Mat image = pool.acquire("bartenderItemGray", scaled.rows(), scaled.cols(), CvType.CV_8UC1);
+                final Mat temp = pool.acquire("bartenderItemBinary", scaled.rows(), scaled.cols(), CvType.CV_8UC1);
+                Imgproc.cvtColor(scaled, image, Imgproc.COLOR_BGRA2GRAY);
                 Imgproc.threshold(image, temp, 50, 255, Imgproc.THRESH_BINARY_INV + THRESH_OTSU);
-                textImage = CvHelper.createBufferedImage(temp);
-                String textAsset = bartenderMenuItemToString(textImage);
+                textImage = pool.toBufferedImage("bartenderItemRgba", temp);
+                String textAsset = bartenderMenuItemToString(textImage, locale);
                 Asset asset = Asset.forLocalizedName(textAsset, locale);
                 if (asset.isUnknown()) {
                     Imgproc.threshold(image, temp, 50, 255, Imgproc.THRESH_BINARY_INV + THRESH_OTSU);
-                    textImage = CvHelper.createBufferedImage(temp);
-                    textAsset = bartenderMenuItemToString(textImage);
+                    textImage = pool.toBufferedImage("bartenderItemRgba", temp);
+                    textAsset = bartenderMenuItemToString(textImage, locale);
                     asset = Asset.forLocalizedName(textAsset, locale);
                 }
                 if (asset.isUnknown()) {
                     Imgproc.threshold(image, temp, 127, 255, Imgproc.THRESH_BINARY + THRESH_OTSU);
-                    textImage = CvHelper.createBufferedImage(temp);
-                    textAsset = bartenderMenuItemToString(textImage);
+                    textImage = pool.toBufferedImage("bartenderItemRgba", temp);
+                    textAsset = bartenderMenuItemToString(textImage, locale);
                     asset = Asset.forLocalizedName(textAsset, locale);
                 }
-                image.release();
-                temp.release();
                 assets.add(asset);
             }
             bartenderMenu.getVisibleAssets().clear();
@@ -519,17 +567,12 @@ public class ARService {
 
     }
 
-    private static String bartenderMenuItemToString(final BufferedImage bartenderMenuCapture) throws TesseractException {
+    private static String bartenderMenuItemToString(final BufferedImage bartenderMenuCapture, final Locale locale) throws TesseractException {
         final String assetCharacterForCurrentARLocale = LocaleService.getAssetCharacterForCurrentARLocale();
-        OCRService.setCharWhitelist(assetCharacterForCurrentARLocale);
-        final String assetCharacterForCurrentLocale = assetCharacterForCurrentARLocale;
-        final String dataCharacterForCurrentLocaleWithoutSpace = assetCharacterForCurrentLocale.replace("\s", "");
-        final String ocr = OCRService.imageToString(bartenderMenuCapture);
+        final String ocr = OCRService.imageToString(bartenderMenuCapture, assetCharacterForCurrentARLocale,
+                text -> !Asset.forLocalizedName(cleanMenuItem(text, assetCharacterForCurrentARLocale), locale).isUnknown());
 //        log.debug("ocr detected: " + ocr);
-        String cleaned = ocr.replaceAll("[^" + assetCharacterForCurrentLocale + "]", "").replace("\s\s", "\s").trim();
-        if (cleaned.matches("^[" + assetCharacterForCurrentLocale + "]*\s[" + dataCharacterForCurrentLocaleWithoutSpace + "]$")) {
-            cleaned = cleaned.substring(0, cleaned.length() - 2);
-        }
+        final String cleaned = cleanMenuItem(ocr, assetCharacterForCurrentARLocale);
 //        log.debug("ocr cleaned: " + cleaned);
         return cleaned;
     }
@@ -613,6 +656,15 @@ public class ARService {
         overlayImage = SwingFXUtils.toFXImage(bufferedImage, null);
     }
 
+    private static byte[] createTerminalTypeLookUpTable(final double gammaValue, final float contrast) {
+        final byte[] lookUpTable = new byte[256];
+        for (int i = 0; i < lookUpTable.length; i++) {
+            final int corrected = saturate(Math.pow(i / 255.0, gammaValue) * 255.0) & 0xFF;
+            lookUpTable[i] = saturate(contrast * corrected * 255F);
+        }
+        return lookUpTable;
+    }
+
     private static byte saturate(final double val) {
         int iVal = (int) Math.round(val);
         iVal = iVal > 255 ? 255 : (iVal < 0 ? 0 : iVal);
@@ -640,32 +692,19 @@ public class ARService {
                         (int) downloadMenu.getTerminalType().getHeight()
                 );
 
-                final Mat matColor = CvHelper.convertToMat(typeLabelCaptureOriginalColor, null);
-                final Mat matGray = new Mat(matColor.size(), CvType.CV_8UC1);
-                final Mat lookUpTable = new Mat(1, 256, CvType.CV_8U);
-                final double gammaValue = 1.5;
-                final byte[] lookUpTableData = new byte[(int) (lookUpTable.total() * lookUpTable.channels())];
-                for (int i = 0; i < lookUpTable.cols(); i++) {
-                    lookUpTableData[i] = saturate(Math.pow(i / 255.0, gammaValue) * 255.0);
-                }
-                lookUpTable.put(0, 0, lookUpTableData);
-                final Mat img = new Mat();
-                Core.LUT(matColor, lookUpTable, img);
-                final Mat m = new Mat(matColor.size(), matColor.type(), new Scalar(255, 255, 255, 255));
-                final Mat mMul = img.mul(m, 0.05);
-                Imgproc.cvtColor(mMul, matGray, Imgproc.COLOR_RGB2GRAY);
+                final MatPool pool = MatPool.get();
+                final Mat matColor = pool.toMat("terminalType", typeLabelCaptureOriginalColor);
+                final Mat matContrast = pool.acquire("terminalTypeContrast", matColor.rows(), matColor.cols(), matColor.type());
+                final Mat matGray = pool.acquire("terminalTypeGray", matColor.rows(), matColor.cols(), CvType.CV_8UC1);
+                Core.LUT(matColor, pool.lookUpTable("terminalTypeLookUpTable", TERMINAL_TYPE_LOOK_UP_TABLE), matContrast);
+                Imgproc.cvtColor(matContrast, matGray, Imgproc.COLOR_RGB2GRAY);
 
                 Imgproc.threshold(matGray, matGray, 0, 255, Imgproc.THRESH_BINARY_INV + THRESH_OTSU);
 
                 final BufferedImage typeLabelCaptureOriginalGray = CvHelper.mat2Img(matGray);
-                matColor.release();
-                lookUpTable.release();
-                matGray.release();
-                m.release();
-                mMul.release();
                 timeRenderBefore = System.currentTimeMillis();
-                String cleaned = imageToTerminalType(typeLabelCaptureOriginalGray);
                 final Locale locale = ApplicationLocale.valueOf(PreferencesService.getPreference(PreferenceConstants.AR_LOCALE, "ENGLISH")).getLocale();
+                String cleaned = imageToTerminalType(typeLabelCaptureOriginalGray, locale);
                 try {
                     final Matcher matcher = DATA_PORT_NAME_PATTERN.matcher(cleaned);
                     if (matcher.matches()) {
@@ -674,14 +713,12 @@ public class ARService {
                         throw new IllegalArgumentException("no match");
                     }
                 } catch (final Exception e) {
-                    final Mat normal = CvHelper.convertToMat(typeLabelCaptureOriginalGray, null);
-                    final Mat inverted = new Mat();
+                    final Mat normal = pool.toMat("terminalTypeNormal", typeLabelCaptureOriginalGray);
+                    final Mat inverted = pool.acquire("terminalTypeInverted", normal.rows(), normal.cols(), normal.type());
                     Core.bitwise_not(normal, inverted);
                     final BufferedImage typeLabelCaptureInverted = CvHelper.mat2Img(inverted);
-                    normal.release();
-                    inverted.release();
                     log.debug("Attempt OCR inverted");
-                    cleaned = imageToTerminalType(typeLabelCaptureInverted);
+                    cleaned = imageToTerminalType(typeLabelCaptureInverted, locale);
                 }
                 try {
                     if (!cleaned.isBlank()) {
@@ -712,74 +749,25 @@ public class ARService {
     private static void processMenu(final BufferedImage downloadMenuCapture, final DownloadMenu downloadMenu) {
 
         final long timeRenderBeforeMenu = System.currentTimeMillis();
+        final long engineWaitBeforeMenu = OCRService.getEngineWaitMillis();
+        final long cacheHitsBeforeMenu = OCRService.getCacheHits();
+        final LongSummaryStatistics rowLatency = new LongSummaryStatistics();
         final List<Future> tasks = new ArrayList<>();
         for (int index = 1; index <= downloadMenu.menuSize(); index++) {
             final int finalIndex = index;
             final Future<?> future = executorService.submit(() -> {
                 if (Boolean.TRUE.equals(!downloadMenu.getScanned().getOrDefault(finalIndex, false)) && downloadMenu.isMenuItemVisibleForOCR(finalIndex)) {
                     try {
-                        final double menuItemY = downloadMenu.getMenuItem(finalIndex).getY() + downloadMenu.getMenuItemPositionYOffset();
-
-                        long timeRenderBefore = System.currentTimeMillis();
-                        final BufferedImage warped = ImageTransformHelper.transformForSelection(downloadMenuCapture, new Rectangle(
-                                (int) (downloadMenu.getMenuItem(finalIndex).getX() + downloadMenu.getMenuTextReadOffset().getX() - 10),
-                                (int) (menuItemY + downloadMenu.getMenuTextReadOffset().getY() - 50),
-                                (int) downloadMenu.getMenuTextReadOffset().getWidth() + 20,
-                                (int) downloadMenu.getMenuTextReadOffset().getHeight() + 100)
-                        );
-                        long timeRenderAfter = System.currentTimeMillis();
-                        log.debug("Transform menu item time: " + (timeRenderAfter - timeRenderBefore));
-                        final int y = (int) (menuItemY + downloadMenu.getMenuTextReadOffset().getY() - downloadMenu.getMenu().getY());
-                        final BufferedImage menuItemLabelCaptureOriginalColor = warped.getSubimage(
-                                (int) (downloadMenu.getMenuItem(finalIndex).getX() + downloadMenu.getMenuTextReadOffset().getX()),
-                                (int) (downloadMenu.getMenuItem(finalIndex).getY() + downloadMenu.getMenuTextReadOffset().getY() + downloadMenu.getMenuItemPositionYOffset()),
-                                (int) downloadMenu.getMenuTextReadOffset().getWidth(),
-                                (int) downloadMenu.getMenuTextReadOffset().getHeight()
-                        );
-
-                        final Mat matColor = CvHelper.convertToMat(menuItemLabelCaptureOriginalColor, null);
-                        final Mat matGray = new Mat(matColor.size(), CvType.CV_8UC1);
-                        Imgproc.cvtColor(matColor, matGray, Imgproc.COLOR_RGB2GRAY);
-                        final BufferedImage menuItemLabelCaptureOriginalGray = CvHelper.mat2Img(matGray);
-                        matColor.release();
-                        matGray.release();
-                        timeRenderBefore = System.currentTimeMillis();
-                        String cleaned = imageToString(finalIndex, menuItemLabelCaptureOriginalGray);
                         final Locale locale = ApplicationLocale.valueOf(PreferencesService.getPreference(PreferenceConstants.AR_LOCALE, "ENGLISH")).getLocale();
-                        try {
-                            OdysseyMaterial.forLocalizedName(cleaned, locale);
-                        } catch (final Exception e) {
-                            final Mat normal = CvHelper.convertToMat(menuItemLabelCaptureOriginalGray, null);
-                            final Mat inverted = new Mat();
-                            Core.bitwise_not(normal, inverted);
-                            final BufferedImage menuItemLabelCaptureInverted = CvHelper.mat2Img(inverted);
-                            normal.release();
-                            inverted.release();
-                            log.debug("Attempt OCR inverted");
-                            cleaned = imageToString(finalIndex, menuItemLabelCaptureInverted);
-
+                        final OdysseyMaterial odysseyMaterial = recognizeMenuItem(downloadMenuCapture, downloadMenu, finalIndex, locale);
+                        if (odysseyMaterial instanceof Data data && !data.isUnknown() && PreferencesService.getPreference(PreferenceConstants.AR_LOCALE, "").equals("ENGLISH") && downloadMenu.getDataPortName() != null && !downloadMenu.getDataPortName().equals("UNKNOWN")) {
+                            MaterialTrackingService.registerData(downloadMenu.getDataPortName(), downloadMenu.getType(), data, finalIndex);
                         }
-                        try {
-                            if (cleaned.isBlank()) {
-                                downloadMenu.getDownloadData().put(finalIndex, Data.UNKNOWN);
-                                downloadMenu.getScanned().put(finalIndex, true);
-                            } else {
-                                final OdysseyMaterial odysseyMaterial = OdysseyMaterial.forLocalizedName(cleaned, locale);
-                                if (odysseyMaterial instanceof Data data && PreferencesService.getPreference(PreferenceConstants.AR_LOCALE, "").equals("ENGLISH") && downloadMenu.getDataPortName() != null && !downloadMenu.getDataPortName().equals("UNKNOWN")) {
-                                    MaterialTrackingService.registerData(downloadMenu.getDataPortName(), downloadMenu.getType(), data, finalIndex);
-                                }
-                                downloadMenu.getDownloadData().put(finalIndex, odysseyMaterial);
-                                downloadMenu.getScanned().put(finalIndex, true);
-                            }
-
-                        } catch (final IllegalArgumentException ex) {
-                            log.debug("detected material: UNKNOWN");
-                            downloadMenu.getDownloadData().put(finalIndex, Data.UNKNOWN);
-                            downloadMenu.getScanned().put(finalIndex, true);
+                        downloadMenu.getDownloadData().put(finalIndex, odysseyMaterial);
+                        downloadMenu.getScanned().put(finalIndex, true);
+                        synchronized (rowLatency) {
+                            rowLatency.accept(System.currentTimeMillis() - timeRenderBeforeMenu);
                         }
-
-                        timeRenderAfter = System.currentTimeMillis();
-                        log.debug("OCR menu item time: " + (timeRenderAfter - timeRenderBefore));
                     } catch (final TesseractException e) {
                         log.error("", e);
                         throw new RuntimeException(e);
@@ -798,6 +786,69 @@ public class ARService {
         });
         final long timeRenderAfterMenu = System.currentTimeMillis();
         log.debug("OCR menu full time: " + (timeRenderAfterMenu - timeRenderBeforeMenu));
+        if (rowLatency.getCount() > 0) {
+            synchronized (ROW_LATENCY) {
+                ROW_LATENCY.combine(rowLatency);
+                log.info("OCR menu: {} rows in {} ms, row latency avg {} ms max {} ms, engine wait {} ms, cache hits {}, session row latency avg {} ms, session cache hits {} misses {}",
+                        rowLatency.getCount(), timeRenderAfterMenu - timeRenderBeforeMenu, Math.round(rowLatency.getAverage()), rowLatency.getMax(),
+                        OCRService.getEngineWaitMillis() - engineWaitBeforeMenu, OCRService.getCacheHits() - cacheHitsBeforeMenu, Math.round(ROW_LATENCY.getAverage()),
+                        OCRService.getCacheHits(), OCRService.getCacheMisses());
+            }
+        }
+    }
+
+    /**
+     * Reads the name of a download menu row. Rows that can't be read or matched to a material are {@link Data#UNKNOWN}.
+     */
+    static OdysseyMaterial recognizeMenuItem(final BufferedImage downloadMenuCapture, final DownloadMenu downloadMenu, final int index, final Locale locale) throws TesseractException {
+        final double menuItemY = downloadMenu.getMenuItem(index).getY() + downloadMenu.getMenuItemPositionYOffset();
+
+        long timeRenderBefore = System.currentTimeMillis();
+        final BufferedImage warped = ImageTransformHelper.transformForSelection(downloadMenuCapture, new Rectangle(
+                (int) (downloadMenu.getMenuItem(index).getX() + downloadMenu.getMenuTextReadOffset().getX() - 10),
+                (int) (menuItemY + downloadMenu.getMenuTextReadOffset().getY() - 50),
+                (int) downloadMenu.getMenuTextReadOffset().getWidth() + 20,
+                (int) downloadMenu.getMenuTextReadOffset().getHeight() + 100)
+        );
+        long timeRenderAfter = System.currentTimeMillis();
+        log.debug("Transform menu item time: " + (timeRenderAfter - timeRenderBefore));
+        final BufferedImage menuItemLabelCaptureOriginalColor = warped.getSubimage(
+                (int) (downloadMenu.getMenuItem(index).getX() + downloadMenu.getMenuTextReadOffset().getX()),
+                (int) (downloadMenu.getMenuItem(index).getY() + downloadMenu.getMenuTextReadOffset().getY() + downloadMenu.getMenuItemPositionYOffset()),
+                (int) downloadMenu.getMenuTextReadOffset().getWidth(),
+                (int) downloadMenu.getMenuTextReadOffset().getHeight()
+        );
+
+        final MatPool pool = MatPool.get();
+        final Mat matColor = pool.toMat("menuItem", menuItemLabelCaptureOriginalColor);
+        final Mat matGray = pool.acquire("menuItemGray", matColor.rows(), matColor.cols(), CvType.CV_8UC1);
+        Imgproc.cvtColor(matColor, matGray, Imgproc.COLOR_RGB2GRAY);
+        final BufferedImage menuItemLabelCaptureOriginalGray = CvHelper.mat2Img(matGray);
+        timeRenderBefore = System.currentTimeMillis();
+        String cleaned = imageToString(index, menuItemLabelCaptureOriginalGray, locale);
+        try {
+            OdysseyMaterial.forLocalizedName(cleaned, locale);
+        } catch (final Exception e) {
+            final Mat normal = pool.toMat("menuItemNormal", menuItemLabelCaptureOriginalGray);
+            final Mat inverted = pool.acquire("menuItemInverted", normal.rows(), normal.cols(), normal.type());
+            Core.bitwise_not(normal, inverted);
+            final BufferedImage menuItemLabelCaptureInverted = CvHelper.mat2Img(inverted);
+            log.debug("Attempt OCR inverted");
+            cleaned = imageToString(index, menuItemLabelCaptureInverted, locale);
+
+        }
+        try {
+            if (cleaned.isBlank()) {
+                return Data.UNKNOWN;
+            }
+            return OdysseyMaterial.forLocalizedName(cleaned, locale);
+        } catch (final IllegalArgumentException ex) {
+            log.debug("detected material: UNKNOWN");
+            return Data.UNKNOWN;
+        } finally {
+            timeRenderAfter = System.currentTimeMillis();
+            log.debug("OCR menu item time: " + (timeRenderAfter - timeRenderBefore));
+        }
     }
 
     private static void makeGray(final BufferedImage img) {
@@ -875,74 +926,81 @@ public class ARService {
         if (capture == null) {
             return false;
         }
-        arrowCaptureMat = CvHelper.convertToMat(capture, arrowCaptureMat);
-        final int result_cols = arrowCaptureMat.cols() - arrowTemplateScaled.cols() + 1;
-        final int result_rows = arrowCaptureMat.rows() - arrowTemplateScaled.rows() + 1;
-        if (downloadMenuResult == null || downloadMenuResult.cols() != result_cols || downloadMenuResult.rows() != result_rows) {
-            if (downloadMenuResult != null) {
-                downloadMenuResult.release();
-            }
-            downloadMenuResult = new Mat(result_rows, result_cols, CvType.CV_32FC1);
-        }
-        if (arrowCaptureMatGray == null || arrowCaptureMat.cols() != arrowCaptureMatGray.cols() || arrowCaptureMat.rows() != arrowCaptureMatGray.rows()) {
-            if (arrowCaptureMatGray != null) {
-                arrowCaptureMatGray.release();
-            }
-            arrowCaptureMatGray = new Mat();
-        }
-        //grayscale capture
-        Imgproc.cvtColor(arrowCaptureMat, arrowCaptureMatGray, Imgproc.COLOR_BGRA2GRAY);
-        //matching
-        Imgproc.matchTemplate(arrowCaptureMatGray, arrowTemplateScaled, downloadMenuResult, MATCH_METHOD);
-        final Core.MinMaxLocResult mmr = Core.minMaxLoc(downloadMenuResult);
-
-
-        if (mmr.maxVal > getMatchingThreshold()) {
+        final double confidence = matchDownloadMenu(capture);
+        if (confidence > getMatchingThreshold()) {
             if (!previousDataportMatch) {
                 previousDataportMatch = true;
-                log.debug("dataport downloadmenu detection confidence(" + getMatchingThreshold() + "): " + mmr.maxVal);
+                log.debug("dataport downloadmenu detection confidence(" + getMatchingThreshold() + "): " + confidence);
             }
             return true;
         }
         if (previousDataportMatch) {
 
             previousDataportMatch = false;
-            log.debug("dataport downloadmenu detection confidence(" + getMatchingThreshold() + "): " + mmr.maxVal);
+            log.debug("dataport downloadmenu detection confidence(" + getMatchingThreshold() + "): " + confidence);
             arrowCapture = getArrowCapture();
             return isDownloadMenu(arrowCapture);
         }
         return false;
     }
 
+    /**
+     * @return how well the download arrow template matches the capture, compared to {@link #getMatchingThreshold()}
+     */
+    static double matchDownloadMenu(final BufferedImage capture) {
+        final MatPool pool = MatPool.get();
+        final Mat arrowCaptureMat = pool.toMat("arrowCapture", capture);
+        final int result_cols = arrowCaptureMat.cols() - arrowTemplateScaled.cols() + 1;
+        final int result_rows = arrowCaptureMat.rows() - arrowTemplateScaled.rows() + 1;
+        final Mat downloadMenuResult = pool.acquire("arrowMatch", result_rows, result_cols, CvType.CV_32FC1);
+        final Mat arrowCaptureMatGray = pool.acquire("arrowCaptureGray", arrowCaptureMat.rows(), arrowCaptureMat.cols(), CvType.CV_8UC1);
+        //grayscale capture
+        Imgproc.cvtColor(arrowCaptureMat, arrowCaptureMatGray, Imgproc.COLOR_BGRA2GRAY);
+        //matching
+        Imgproc.matchTemplate(arrowCaptureMatGray, arrowTemplateScaled, downloadMenuResult, MATCH_METHOD);
+        return Core.minMaxLoc(downloadMenuResult).maxVal;
+    }
+
     private static boolean previousDataportMatch = false;
     private static boolean previousBartenderMatch = false;
 
-    private static double getMatchingThreshold() {
+    static double getMatchingThreshold() {
         return MATCHING_THRESHOLD;
     }
 
-    private static String imageToString(final int index, final BufferedImage menuItemLabelCapture) throws TesseractException {
+    private static String imageToString(final int index, final BufferedImage menuItemLabelCapture, final Locale locale) throws TesseractException {
         final String dataCharacterForCurrentARLocale = LocaleService.getDataCharacterForCurrentARLocale();
-        OCRService.setCharWhitelist(dataCharacterForCurrentARLocale);
-        final String dataCharacterForCurrentLocale = dataCharacterForCurrentARLocale;
-        final String dataCharacterForCurrentLocaleWithoutSpace = dataCharacterForCurrentLocale.replace("\s", "");
-        final String ocr = OCRService.imageToString(menuItemLabelCapture);
+        final String ocr = OCRService.imageToString(menuItemLabelCapture, dataCharacterForCurrentARLocale,
+                text -> isKnownMaterial(cleanMenuItem(text, dataCharacterForCurrentARLocale), locale));
         log.debug("ocr detected " + index + ": " + ocr);
-        String cleaned = ocr.replaceAll("[^" + dataCharacterForCurrentLocale + "]", "").replace("\s\s", "\s").trim();
-        if (cleaned.matches("^[" + dataCharacterForCurrentLocale + "]*\s[" + dataCharacterForCurrentLocaleWithoutSpace + "]$")) {
+        final String cleaned = cleanMenuItem(ocr, dataCharacterForCurrentARLocale);
+        log.debug("ocr cleaned " + index + ": " + cleaned);
+        return cleaned;
+    }
+
+    private static String cleanMenuItem(final String ocr, final String characters) {
+        final String charactersWithoutSpace = characters.replace("\s", "");
+        String cleaned = ocr.replaceAll("[^" + characters + "]", "").replace("\s\s", "\s").trim();
+        if (cleaned.matches("^[" + characters + "]*\s[" + charactersWithoutSpace + "]$")) {
             cleaned = cleaned.substring(0, cleaned.length() - 2);
         }
-        log.debug("ocr cleaned " + index + ": " + cleaned);
         return cleaned;
     }
 
-    private static String imageToTerminalType(final BufferedImage terminalLabelCapture) throws TesseractException {
+    private static boolean isKnownMaterial(final String name, final Locale locale) {
+        try {
+            return !OdysseyMaterial.forLocalizedName(name, locale).isUnknown();
+        } catch (final IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static String imageToTerminalType(final BufferedImage terminalLabelCapture, final Locale locale) throws TesseractException {
         final String dataCharacterForCurrentLocale = "ABCDEFGHIJKLMNOPQRSTUVWXYZ1234567890 ";
-        OCRService.setCharWhitelist(dataCharacterForCurrentLocale);
-        final String dataCharacterForCurrentLocaleWithoutSpace = dataCharacterForCurrentLocale.replace("\s", "");
-        final String ocr = OCRService.imageToString(terminalLabelCapture);
+        final String ocr = OCRService.imageToString(terminalLabelCapture, dataCharacterForCurrentLocale,
+                text -> isKnownDataPort(cleanTerminalType(text, dataCharacterForCurrentLocale), locale));
         log.debug("ocr detected terminal: " + ocr);
-        final String cleaned = ocr.replaceAll("[^" + dataCharacterForCurrentLocale + "]", "").replace("\s\s", "\s").trim();
+        final String cleaned = cleanTerminalType(ocr, dataCharacterForCurrentLocale);
 //        if (cleaned.matches("^[" + dataCharacterForCurrentLocale + "]*\s[" + dataCharacterForCurrentLocaleWithoutSpace + "]$")) {
 //            cleaned = cleaned.substring(0, cleaned.length() - 2);
 //        }
@@ -950,5 +1008,18 @@ public class ARService {
         return cleaned;
     }
 
+    private static String cleanTerminalType(final String ocr, final String characters) {
+        return ocr.replaceAll("[^" + characters + "]", "").replace("\s\s", "\s").trim();
+    }
+
+    private static boolean isKnownDataPort(final String name, final Locale locale) {
+        final Matcher matcher = DATA_PORT_NAME_PATTERN.matcher(name);
+        try {
+            return matcher.matches() && DataPortType.forLocalizedName(matcher.group(1), locale) != null;
+        } catch (final IllegalArgumentException e) {
+            return false;
+        }
+    }
+
 
 }
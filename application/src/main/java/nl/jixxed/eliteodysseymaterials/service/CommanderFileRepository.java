@@ -0,0 +1,233 @@
+package nl.jixxed.eliteodysseymaterials.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.reactivex.rxjava3.schedulers.Schedulers;
+import io.reactivex.rxjava3.subjects.PublishSubject;
+import io.reactivex.rxjava3.subjects.Subject;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import nl.jixxed.eliteodysseymaterials.constants.OsConstants;
+import nl.jixxed.eliteodysseymaterials.domain.Commander;
+import nl.jixxed.eliteodysseymaterials.service.event.EventListener;
+import nl.jixxed.eliteodysseymaterials.service.event.EventService;
+import nl.jixxed.eliteodysseymaterials.service.event.TerminateApplicationEvent;
+import nl.jixxed.eliteodysseymaterials.watchdog.FolderChangeWatcher;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * In-memory copy of a json file in the commander folder.
+ * <p>
+ * Reads are served from memory and only go to disk when the file was never loaded, or when the folder watcher reported
+ * a change to it that wasn't written by the repository itself. Every read returns the same cached instance, which is
+ * only replaced by a save or a reload. A save stores a copy of the value, so later changes to the saved object only
+ * count once saved again. Saves are serialized immediately, marked dirty and written behind to disk after a quiet
+ * period, through a temp file that is moved over the original.
+ * <p>
+ * Each save and load gives the cached value a new version, so caches derived from it can check if they are current.
+ */
+@Slf4j
+class CommanderFileRepository<T> {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final long WRITE_DEBOUNCE_MS = 1000;
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final String fileName;
+    private final Class<T> type;
+    private final Supplier<T> defaultSupplier;
+    private final Map<String, CachedFile> cache = new HashMap<>();
+    private final Subject<String> writeRequests = PublishSubject.<String>create().toSerialized();
+    private final List<EventListener<?>> eventListeners = new ArrayList<>();
+    private final Set<String> watchedFolders = new HashSet<>();
+    private long lastVersion;
+
+    CommanderFileRepository(final String fileName, final Class<T> type, final Supplier<T> defaultSupplier) {
+        this.fileName = fileName;
+        this.type = type;
+        this.defaultSupplier = defaultSupplier;
+        this.writeRequests
+                .groupBy(folder -> folder)
+                .flatMap(folderRequests -> folderRequests.debounce(WRITE_DEBOUNCE_MS, TimeUnit.MILLISECONDS))
+                .observeOn(Schedulers.io())
+                .subscribe(this::flush, throwable -> log.error("Write behind failed for " + fileName, throwable));
+        this.eventListeners.add(EventService.addStaticListener(TerminateApplicationEvent.class, event -> flushAll()));
+    }
+
+    synchronized T get(final Commander commander) {
+        return getCachedFile(commander).getValue();
+    }
+
+    /**
+     * @return the version of the value {@link #get} returns, which changes on every save and reload
+     */
+    synchronized long getVersion(final Commander commander) {
+        return getCachedFile(commander).getVersion();
+    }
+
+    synchronized void save(final Commander commander, final T value) {
+        final String folder = commander.getCommanderFolder();
+        try {
+            final byte[] json = OBJECT_MAPPER.writeValueAsBytes(value);
+            final CachedFile cachedFile = this.cache.computeIfAbsent(folder, key -> new CachedFile());
+            cachedFile.setValue(copy(json));
+            cachedFile.setVersion(++this.lastVersion);
+            cachedFile.setPendingWrite(json);
+            this.writeRequests.onNext(folder);
+        } catch (final IOException e) {
+            log.error("Failed to save " + this.fileName, e);
+        }
+    }
+
+    /**
+     * Writes all pending changes to disk immediately.
+     */
+    synchronized void flushAll() {
+        List.copyOf(this.cache.keySet()).forEach(this::flush);
+    }
+
+    private synchronized void flush(final String folder) {
+        final CachedFile cachedFile = this.cache.get(folder);
+        if (cachedFile == null || !cachedFile.isDirty()) {
+            return;
+        }
+        final File file = getFile(folder);
+        try {
+            write(file, cachedFile.getPendingWrite());
+            cachedFile.setPendingWrite(null);
+            cachedFile.stamp(file);
+        } catch (final IOException e) {
+            log.error("Failed to save " + this.fileName + " to " + file.getAbsolutePath(), e);
+        }
+    }
+
+    private CachedFile getCachedFile(final Commander commander) {
+        final String folder = commander.getCommanderFolder();
+        final File file = getFile(folder);
+        final CachedFile cachedFile = this.cache.get(folder);
+        if (cachedFile != null && (cachedFile.isDirty() || !cachedFile.isChangedOnDisk(file))) {
+            return cachedFile;
+        }
+        if (cachedFile != null) {
+            log.info("Reloading externally modified " + this.fileName);
+        }
+        return load(folder, file);
+    }
+
+    private CachedFile load(final String folder, final File file) {
+        try {
+            if (!file.exists() || file.length() == 0) {//create default if missing or empty
+                return createDefault(folder, file);
+            }
+            try {
+                final T value = OBJECT_MAPPER.readValue(Files.readAllBytes(file.toPath()), this.type);
+                return cache(folder, file, value);
+            } catch (final IOException e) {
+                log.warn("Unable to load " + this.fileName + " from configuration. Try to create new one.", e);
+                return createDefault(folder, file);
+            }
+        } catch (final IOException e) {
+            log.error("Unable to load " + this.fileName + " from configuration.", e);
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private CachedFile createDefault(final String folder, final File file) throws IOException {
+        final T value = this.defaultSupplier.get();
+        write(file, OBJECT_MAPPER.writeValueAsBytes(value));
+        return cache(folder, file, value);
+    }
+
+    private CachedFile cache(final String folder, final File file, final T value) {
+        final CachedFile cachedFile = new CachedFile();
+        cachedFile.setValue(value);
+        cachedFile.setVersion(++this.lastVersion);
+        cachedFile.stamp(file);
+        this.cache.put(folder, cachedFile);
+        if (this.watchedFolders.add(folder)) {
+            FolderChangeWatcher.watch(file.getParentFile(), changedFile -> onFileChanged(folder, changedFile));
+        }
+        return cachedFile;
+    }
+
+    private synchronized void onFileChanged(final String folder, final File changedFile) {
+        final CachedFile cachedFile = this.cache.get(folder);
+        if (cachedFile != null && this.fileName.equals(changedFile.getName())) {
+            cachedFile.reportChange();
+        }
+    }
+
+    private T copy(final byte[] json) {
+        try {
+            return OBJECT_MAPPER.readValue(json, this.type);
+        } catch (final IOException e) {
+            throw new IllegalStateException("Failed to read cached " + this.fileName, e);
+        }
+    }
+
+    private static void write(final File file, final byte[] json) throws IOException {
+        final Path target = file.toPath();
+        final Path temp = target.resolveSibling(file.getName() + TEMP_SUFFIX);
+        file.getParentFile().mkdirs();
+        Files.write(temp, json);
+        try {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private File getFile(final String folder) {
+        return new File(folder + OsConstants.OS_SLASH + this.fileName);
+    }
+
+    @Getter
+    @Setter
+    private class CachedFile {
+        private T value;
+        private long version;
+        private byte[] pendingWrite;
+        @Getter(AccessLevel.NONE)
+        @Setter(AccessLevel.NONE)
+        private long lastModified = -1L;
+        @Getter(AccessLevel.NONE)
+        @Setter(AccessLevel.NONE)
+        private long length = -1L;
+        @Getter(AccessLevel.NONE)
+        @Setter(AccessLevel.NONE)
+        private boolean changeReported = false;
+
+        boolean isDirty() {
+            return this.pendingWrite != null;
+        }
+
+        void stamp(final File file) {
+            this.lastModified = file.lastModified();
+            this.length = file.length();
+        }
+
+        void reportChange() {
+            this.changeReported = true;
+        }
+
+        /**
+         * Only looks at the file after the watcher reported a change, which includes the repository's own writes.
+         */
+        boolean isChangedOnDisk(final File file) {
+            if (!this.changeReported) {
+                return false;
+            }
+            this.changeReported = false;
+            return file.lastModified() != this.lastModified || file.length() != this.length;
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package nl.jixxed.eliteodysseymaterials.service;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import nl.jixxed.eliteodysseymaterials.constants.HorizonsBlueprintConstants;
+import nl.jixxed.eliteodysseymaterials.constants.OdysseyBlueprintConstants;
+import nl.jixxed.eliteodysseymaterials.domain.ApplicationState;
+import nl.jixxed.eliteodysseymaterials.domain.EngineerBlueprint;
+import nl.jixxed.eliteodysseymaterials.domain.HorizonsBlueprint;
+import nl.jixxed.eliteodysseymaterials.domain.OdysseyBlueprint;
+import nl.jixxed.eliteodysseymaterials.enums.*;
+import nl.jixxed.eliteodysseymaterials.service.event.CommanderSelectedEvent;
+import nl.jixxed.eliteodysseymaterials.service.event.CraftabilityEvent;
+import nl.jixxed.eliteodysseymaterials.service.event.EngineerPinEvent;
+import nl.jixxed.eliteodysseymaterials.service.event.EventListener;
+import nl.jixxed.eliteodysseymaterials.service.event.EventService;
+import nl.jixxed.eliteodysseymaterials.service.event.HorizonsWishlistChangedEvent;
+import nl.jixxed.eliteodysseymaterials.service.event.StorageEvent;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Craftability of the blueprints shown in the blueprint bars and wishlists, kept up to date incrementally.
+ * <p>
+ * A blueprint is tracked from the first time its craftability is asked for, with a count of its ingredients that are
+ * short. Tradeable ingredients (assets and commodities) are counted separately, as they only make the blueprint
+ * craftable with trade. Every material points to the requirements on it. On a storage event the materials changed
+ * since the last update are read from the storage change log, and only the blueprints that need them are updated.
+ * Blueprints whose craftability flipped are published in a {@link CraftabilityEvent}.
+ * <p>
+ * Horizons blueprints are tracked per number of rolls. When the wishlists or pinned blueprints change, the ones that
+ * are no longer on them are dropped, with their requirements.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class CraftabilityService {
+    private static final List<EventListener<?>> EVENT_LISTENERS = new ArrayList<>();
+    private static final Map<OdysseyBlueprintName, Tracked> ODYSSEY_BLUEPRINTS = new EnumMap<>(OdysseyBlueprintName.class);
+    private static final Map<HorizonsRolls, Tracked> HORIZONS_BLUEPRINTS = new HashMap<>();
+    private static final Map<Material, List<Requirement>> REQUIREMENTS = new HashMap<>();
+    //amount of every tracked material as of the last update
+    private static final Map<Material, Integer> AMOUNTS = new HashMap<>();
+    private static long changeLogPosition = StorageService.getChangeLogPosition();
+
+    static {
+        EVENT_LISTENERS.add(EventService.addStaticListener(0, StorageEvent.class, event -> update().ifPresent(EventService::publish)));
+        EVENT_LISTENERS.add(EventService.addStaticListener(0, HorizonsWishlistChangedEvent.class, event -> evictHorizonsBlueprints()));
+        EVENT_LISTENERS.add(EventService.addStaticListener(0, EngineerPinEvent.class, event -> evictHorizonsBlueprints()));
+        EVENT_LISTENERS.add(EventService.addStaticListener(0, CommanderSelectedEvent.class, event -> evictHorizonsBlueprints()));
+    }
+
+    public static synchronized Craftability getCraftability(final OdysseyBlueprintName odysseyBlueprintName) {
+        return ODYSSEY_BLUEPRINTS.computeIfAbsent(odysseyBlueprintName, CraftabilityService::track).craftability;
+    }
+
+    public static Craftability getCraftability(final HorizonsBlueprintName horizonsBlueprintName, final HorizonsBlueprintType horizonsBlueprintType, final HorizonsBlueprintGrade horizonsBlueprintGrade) {
+        return getCraftability(horizonsBlueprintName, horizonsBlueprintType, horizonsBlueprintGrade == null ? Collections.emptyMap() : Map.of(horizonsBlueprintGrade, 1));
+    }
+
+    public static synchronized Craftability getCraftability(final HorizonsBlueprintName horizonsBlueprintName, final HorizonsBlueprintType horizonsBlueprintType, final Map<HorizonsBlueprintGrade, Integer> horizonsBlueprintGrades) {
+        boolean withTrade = false;
+        for (final Map.Entry<HorizonsBlueprintGrade, Integer> gradeRolls : horizonsBlueprintGrades.entrySet()) {
+            final HorizonsBlueprint blueprint = (HorizonsBlueprint) HorizonsBlueprintConstants.getRecipe(horizonsBlueprintName, horizonsBlueprintType, gradeRolls.getKey());
+            final Craftability craftability = HORIZONS_BLUEPRINTS.computeIfAbsent(new HorizonsRolls(blueprint, gradeRolls.getValue()), CraftabilityService::track).craftability;
+            if (Craftability.NOT_CRAFTABLE.equals(craftability)) {
+                return Craftability.NOT_CRAFTABLE;
+            }
+            withTrade |= Craftability.CRAFTABLE_WITH_TRADE.equals(craftability);
+        }
+        return withTrade ? Craftability.CRAFTABLE_WITH_TRADE : Craftability.CRAFTABLE;
+    }
+
+    /**
+     * Applies the changed amounts of the tracked materials to the blueprints that need them.
+     *
+     * @return the event for the blueprints whose craftability changed, if any
+     */
+    static synchronized Optional<CraftabilityEvent> update() {
+        final Set<Material> changed = new HashSet<>();
+        changeLogPosition = StorageService.readChanges(changeLogPosition, change -> changed.add(change.material()), () -> changed.addAll(AMOUNTS.keySet()));
+        final Map<Tracked, Craftability> before = new HashMap<>();
+        changed.forEach(material -> {
+            final Integer previous = AMOUNTS.get(material);
+            if (previous == null) {
+                return;
+            }
+            final int amount = getAmount(material);
+            if (amount != previous) {
+                AMOUNTS.put(material, amount);
+                REQUIREMENTS.get(material).forEach(requirement -> {
+                    before.putIfAbsent(requirement.blueprint(), requirement.blueprint().craftability);
+                    requirement.blueprint().apply(requirement, previous, amount);
+                });
+            }
+        });
+        final Set<OdysseyBlueprintName> odysseyBlueprints = EnumSet.noneOf(OdysseyBlueprintName.class);
+        final Set<HorizonsBlueprint> horizonsBlueprints = new HashSet<>();
+        before.forEach((tracked, craftability) -> {
+            if (!craftability.equals(tracked.craftability)) {
+                if (tracked.key instanceof OdysseyBlueprintName odysseyBlueprintName) {
+                    odysseyBlueprints.add(odysseyBlueprintName);
+                } else if (tracked.key instanceof HorizonsBlueprint horizonsBlueprint) {
+                    horizonsBlueprints.add(horizonsBlueprint);
+                }
+            }
+        });
+        if (odysseyBlueprints.isEmpty() && horizonsBlueprints.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new CraftabilityEvent(Collections.unmodifiableSet(odysseyBlueprints), Collections.unmodifiableSet(horizonsBlueprints)));
+    }
+
+    private static void evictHorizonsBlueprints() {
+        final Set<HorizonsRolls> wanted = new HashSet<>();
+        ApplicationState.getInstance().getPreferredCommander().ifPresent(commander ->
+                WishlistService.forEachHorizonsBlueprint(commander, (blueprint, rolls) -> wanted.add(new HorizonsRolls(blueprint, rolls))));
+        Arrays.stream(Engineer.values())
+                .map(PinnedBlueprintService::getPinnedBlueprint)
+                .filter(Objects::nonNull)
+                .forEach(blueprint -> wanted.add(new HorizonsRolls(blueprint, 1)));
+        retainHorizonsBlueprints(wanted);
+    }
+
+    /**
+     * Stops tracking the Horizons blueprints that aren't wanted. Materials no blueprint requires anymore are dropped too.
+     */
+    static synchronized void retainHorizonsBlueprints(final Set<HorizonsRolls> wanted) {
+        final Set<Tracked> evicted = new HashSet<>();
+        HORIZONS_BLUEPRINTS.entrySet().removeIf(entry -> !wanted.contains(entry.getKey()) && evicted.add(entry.getValue()));
+        if (evicted.isEmpty()) {
+            return;
+        }
+        final Iterator<Map.Entry<Material, List<Requirement>>> requirements = REQUIREMENTS.entrySet().iterator();
+        while (requirements.hasNext()) {
+            final Map.Entry<Material, List<Requirement>> entry = requirements.next();
+            entry.getValue().removeIf(requirement -> evicted.contains(requirement.blueprint()));
+            if (entry.getValue().isEmpty()) {
+                requirements.remove();
+                AMOUNTS.remove(entry.getKey());
+            }
+        }
+    }
+
+    static synchronized int getTrackedHorizonsBlueprints() {
+        return HORIZONS_BLUEPRINTS.size();
+    }
+
+    static synchronized int getTrackedMaterials() {
+        return AMOUNTS.size();
+    }
+
+    private static Tracked track(final OdysseyBlueprintName odysseyBlueprintName) {
+        final OdysseyBlueprint blueprint = OdysseyBlueprintConstants.getRecipe(odysseyBlueprintName);
+        if (blueprint instanceof EngineerBlueprint engineerBlueprint) {
+            //engineer unlocks have their own rules, so they are evaluated again when one of their materials changes
+            final Tracked tracked = new Tracked(odysseyBlueprintName, engineerBlueprint::getCraftability);
+            blueprint.getMaterialCollection(OdysseyMaterial.class).forEach((material, amountRequired) -> require(tracked, material, amountRequired, false));
+            return tracked;
+        }
+        final Tracked tracked = new Tracked(odysseyBlueprintName, null);
+        blueprint.getMaterialCollection(Good.class).forEach((material, amountRequired) -> require(tracked, material, amountRequired, false));
+        blueprint.getMaterialCollection(Data.class).forEach((material, amountRequired) -> require(tracked, material, amountRequired, false));
+        blueprint.getMaterialCollection(Asset.class).forEach((material, amountRequired) -> require(tracked, material, amountRequired, true));
+        return tracked;
+    }
+
+    private static Tracked track(final HorizonsRolls horizonsRolls) {
+        final HorizonsBlueprint blueprint = horizonsRolls.blueprint();
+        final Tracked tracked = new Tracked(blueprint, null);
+        blueprint.getMaterialCollection(Raw.class).forEach((material, amountRequired) -> require(tracked, material, amountRequired * horizonsRolls.rolls(), false));
+        blueprint.getMaterialCollection(Encoded.class).forEach((material, amountRequired) -> require(tracked, material, amountRequired * horizonsRolls.rolls(), false));
+        blueprint.getMaterialCollection(Manufactured.class).forEach((material, amountRequired) -> require(tracked, material, amountRequired * horizonsRolls.rolls(), false));
+        blueprint.getMaterialCollection(Commodity.class).forEach((material, amountRequired) -> require(tracked, material, amountRequired * horizonsRolls.rolls(), true));
+        return tracked;
+    }
+
+    private static void require(final Tracked tracked, final Material material, final int amountRequired, final boolean tradeable) {
+        final Requirement requirement = new Requirement(tracked, amountRequired, tradeable);
+        REQUIREMENTS.computeIfAbsent(material, key -> new ArrayList<>()).add(requirement);
+        //compare against the amount of the last update, so the next update applies every change exactly once
+        final int amount = AMOUNTS.computeIfAbsent(material, CraftabilityService::getAmount);
+        tracked.apply(requirement, Integer.MAX_VALUE, amount);
+    }
+
+    private static int getAmount(final Material material) {
+        if (material instanceof OdysseyMaterial odysseyMaterial) {
+            return StorageService.getMaterialStorage(odysseyMaterial).getTotalValue();
+        } else if (material instanceof Commodity commodity) {
+            return StorageService.getCommodityCount(commodity, StoragePool.SHIP);
+        }
+        return StorageService.getMaterialCount((HorizonsMaterial) material);
+    }
+
+    record HorizonsRolls(HorizonsBlueprint blueprint, int rolls) {
+    }
+
+    private record Requirement(Tracked blueprint, int amount, boolean tradeable) {
+        boolean isMet(final int available) {
+            return available >= this.amount;
+        }
+    }
+
+    private static final class Tracked {
+        private final Object key;
+        private final Supplier<Craftability> rules;
+        private int missing;
+        private int missingTradeable;
+        private Craftability craftability = Craftability.CRAFTABLE;
+
+        private Tracked(final Object key, final Supplier<Craftability> rules) {
+            this.key = key;
+            this.rules = rules;
+            if (rules != null) {
+                this.craftability = rules.get();
+            }
+        }
+
+        void apply(final Requirement requirement, final int previous, final int amount) {
+            if (this.rules != null) {
+                this.craftability = this.rules.get();
+                return;
+            }
+            final boolean wasMet = requirement.isMet(previous);
+            final boolean isMet = requirement.isMet(amount);
+            if (wasMet == isMet) {
+                return;
+            }
+            if (requirement.tradeable()) {
+                this.missingTradeable += isMet ? -1 : 1;
+            } else {
+                this.missing += isMet ? -1 : 1;
+            }
+            if (this.missing > 0) {
+                this.craftability = Craftability.NOT_CRAFTABLE;
+            } else if (this.missingTradeable > 0) {
+                this.craftability = Craftability.CRAFTABLE_WITH_TRADE;
+            } else {
+                this.craftability = Craftability.CRAFTABLE;
+            }
+        }
+    }
+}
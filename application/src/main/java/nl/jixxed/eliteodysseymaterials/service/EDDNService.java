@@ -9,6 +9,7 @@ import jakarta.json.JsonReader;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import nl.jixxed.eliteodysseymaterials.constants.OsConstants;
 import nl.jixxed.eliteodysseymaterials.constants.PreferenceConstants;
 import nl.jixxed.eliteodysseymaterials.domain.ApplicationState;
 import nl.jixxed.eliteodysseymaterials.domain.Commander;
@@ -53,25 +54,29 @@ import nl.jixxed.eliteodysseymaterials.service.eddn.*;
 import nl.jixxed.eliteodysseymaterials.service.event.EventListener;
 import nl.jixxed.eliteodysseymaterials.service.event.EventService;
 import nl.jixxed.eliteodysseymaterials.service.event.JournalInitEvent;
-import org.apache.commons.io.input.CharSequenceInputStream;
+import nl.jixxed.eliteodysseymaterials.service.event.TerminateApplicationEvent;
 import org.apache.poi.ss.formula.eval.NotImplementedException;
 import org.leadpony.justify.api.JsonSchema;
 import org.leadpony.justify.api.JsonValidatingException;
 import org.leadpony.justify.api.JsonValidationService;
 import org.leadpony.justify.api.ProblemHandler;
 
+import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
-import java.util.zip.Deflater;
 
 @Slf4j
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
@@ -81,6 +86,15 @@ public class EDDNService {
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
     private static final LocalDateTime MIN_DATETIME = LocalDateTime.of(1970, 1, 1, 0, 0, 0);
     private static final List<EventListener<?>> EVENT_LISTENERS = new ArrayList<>();
+    private static final Map<String, JsonSchema> SCHEMAS = new ConcurrentHashMap<>();
+    private static final EDDNUploadQueue UPLOAD_QUEUE = new EDDNUploadQueue(
+            HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build(),
+            URI.create("https://eddn.edcd.io:4430/upload/"),
+            new EDDNCompressor(PreferencesService.getPreference(PreferenceConstants.EDDN_COMPRESSION_LEVEL, EDDNCompressor.DEFAULT_LEVEL)),
+            new File(OsConstants.EDDN_SPOOL),
+            500,
+            5,
+            2000);
 
 
     public static void init() {
@@ -94,6 +108,8 @@ public class EDDNService {
                 UserPreferencesService.setPreference(PreferenceConstants.USER_LATEST_EVENT, lastTimestamp.plusSeconds(1));
             }
         }));
+        EVENT_LISTENERS.add(EventService.addStaticListener(TerminateApplicationEvent.class, event -> UPLOAD_QUEUE.stop()));
+        UPLOAD_QUEUE.start();
     }
     private static final ApplicationState APPLICATION_STATE = ApplicationState.getInstance();
     private static final List<FSSSignalDiscovered> fssSignalDiscoveredList = new ArrayList<>();
@@ -374,40 +390,41 @@ public class EDDNService {
         final boolean isNew = isNew(event, delaySecondsAllowed);
         final Boolean isEnabled = PreferencesService.getPreference(PreferenceConstants.EDDN_ENABLED, Boolean.FALSE);
         if (isLive && isNew && isEnabled) {
-            final Runnable run = () -> {
-                try {
-                    final String data = OBJECT_MAPPER.writeValueAsString(message);
-                    final JsonSchema schema = JSON_VALIDATION_SERVICE.readSchema(EDDNService.class.getResourceAsStream("/schemavalidation/eddn/" + schemaName));
-                    validateAndSend(data, schema);
-                } catch (final InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                } catch (final JsonProcessingException e) {
-                    log.error("failed to convert to json string", e);
-                } catch (final Exception e) {
-                    log.error("publish to EDDN error", e);
-                }
-            };
-            new Thread(run).start();
+            //serialized and validated by the upload worker
+            UPLOAD_QUEUE.offer(() -> toValidatedJson(message, schemaName));
         }
     }
 
-    private static void validateAndSend(final String data, final JsonSchema schema) throws IOException, InterruptedException {
-        try (final JsonReader jsonReader = JSON_VALIDATION_SERVICE.createReader(new CharSequenceInputStream(data, StandardCharsets.UTF_8), schema, PROBLEM_HANDLER)) {
-//            log.info("Attempt to send: " + data);
+    private static byte[] toValidatedJson(final Object message, final String schemaName) {
+        try {
+            final byte[] data = OBJECT_MAPPER.writeValueAsBytes(message);
+            return validate(data, getSchema(schemaName)) ? data : null;
+        } catch (final JsonProcessingException e) {
+            log.error("failed to convert to json string", e);
+        } catch (final Exception e) {
+            log.error("publish to EDDN error", e);
+        }
+        return null;
+    }
+
+    private static JsonSchema getSchema(final String schemaName) {
+        return SCHEMAS.computeIfAbsent(schemaName, name -> {
+            try (final InputStream schema = EDDNService.class.getResourceAsStream("/schemavalidation/eddn/" + name)) {
+                return JSON_VALIDATION_SERVICE.readSchema(schema);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private static boolean validate(final byte[] data, final JsonSchema schema) {
+        try (final JsonReader jsonReader = JSON_VALIDATION_SERVICE.createReader(new ByteArrayInputStream(data), schema, PROBLEM_HANDLER)) {
             jsonReader.readValue();
-            final HttpClient httpClient = HttpClient.newHttpClient();
-            final HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create("https://eddn.edcd.io:4430/upload/"))
-                    .header("Content-Type", "application/json")
-                    .header("Content-Encoding", "gzip")
-                    .POST(HttpRequest.BodyPublishers.ofByteArray(convertJsonToCompressed(data)))
-                    .build();
-            final HttpResponse<String> send = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-            log.info(send.body());
-            // Do something useful here
+            return true;
         } catch (final JsonValidatingException ex) {
             log.error("Schema validation failed. Not sending Data to EDDN.", ex);
-            log.error(data);
+            log.error(new String(data, StandardCharsets.UTF_8));
+            return false;
         }
     }
 
@@ -416,17 +433,6 @@ public class EDDNService {
         return event.getTimestamp().isAfter(lastTimestamp) || event.getTimestamp().isEqual(lastTimestamp);
     }
 
-    private static byte[] convertJsonToCompressed(final String data) {
-        final Deflater def = new Deflater(9, true);
-        def.setInput(data.getBytes(StandardCharsets.UTF_8));
-        def.finish();
-        final byte[] compressedBuffer = new byte[data.length() * 2];
-        final int numberOfBytesAfterCompression = def.deflate(compressedBuffer, 0, compressedBuffer.length, Deflater.FULL_FLUSH);
-        final byte[] compressedBytes = new byte[numberOfBytesAfterCompression];
-        System.arraycopy(compressedBuffer, 0, compressedBytes, 0, numberOfBytesAfterCompression);
-        return compressedBytes;
-    }
-
     private static String getBuildVersion() {
         final String version = System.getProperty("app.version");
         return version != null ? version : "dev";
@@ -0,0 +1,126 @@
+package nl.jixxed.eliteodysseymaterials.service;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import nl.jixxed.eliteodysseymaterials.domain.StarSystem;
+import nl.jixxed.eliteodysseymaterials.enums.Engineer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Picks an engineer for every stop of a route, so the total distance travelled is the shortest possible.
+ * <p>
+ * The stops are visited in order and each stop lists the engineers that can do it. The remote workshop can be used
+ * from anywhere, but only if the route starts with it. The distances between engineers are fixed and computed once.
+ * The best remaining distance is computed per stop and engineer, from the last stop back to the first, which takes
+ * stops × engineers² steps instead of trying every combination. Of routes with the same distance, the one that comes
+ * first in the order of the engineers of the stops is picked.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class EngineerRouteSolver {
+    private static final Engineer[] ENGINEERS = Engineer.values();
+    private static final double[][] DISTANCES = new double[ENGINEERS.length][ENGINEERS.length];
+
+    static {
+        for (final Engineer from : ENGINEERS) {
+            for (final Engineer to : ENGINEERS) {
+                if (from != Engineer.REMOTE_WORKSHOP) {
+                    DISTANCES[from.ordinal()][to.ordinal()] = to.getDistance(from.getStarSystem());
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the engineer to visit for every stop, or an empty list if no route satisfies the remote workshop rule
+     */
+    static List<Engineer> solve(final List<List<Engineer>> stops, final StarSystem start) {
+        if (stops.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final double[] startDistances = new double[ENGINEERS.length];
+        for (final Engineer engineer : ENGINEERS) {
+            startDistances[engineer.ordinal()] = engineer.getDistance(start);
+        }
+        final Suffixes withRemoteWorkshop = new Suffixes(stops, startDistances, true);
+        final Suffixes withoutRemoteWorkshop = new Suffixes(stops, startDistances, false);
+        double shortest = Double.POSITIVE_INFINITY;
+        int first = -1;
+        Suffixes suffixes = null;
+        final List<Engineer> firstStop = stops.get(0);
+        for (int candidate = 0; candidate < firstStop.size(); candidate++) {
+            final Suffixes candidateSuffixes = firstStop.get(candidate) == Engineer.REMOTE_WORKSHOP ? withRemoteWorkshop : withoutRemoteWorkshop;
+            final double length = startDistances[firstStop.get(candidate).ordinal()] + candidateSuffixes.remaining[0][candidate];
+            if (length < shortest) {
+                shortest = length;
+                first = candidate;
+                suffixes = candidateSuffixes;
+            }
+        }
+        if (suffixes == null) {
+            return Collections.emptyList();
+        }
+        final List<Engineer> route = new ArrayList<>(stops.size());
+        int candidate = first;
+        for (int stop = 0; stop < stops.size(); stop++) {
+            route.add(stops.get(stop).get(candidate));
+            candidate = suffixes.next[stop][candidate];
+        }
+        return route;
+    }
+
+    private static double distance(final Engineer from, final Engineer to, final double[] startDistances) {
+        if (to == Engineer.REMOTE_WORKSHOP) {
+            return 0D;
+        }
+        //the remote workshop is wherever the commander is
+        return from == Engineer.REMOTE_WORKSHOP ? startDistances[to.ordinal()] : DISTANCES[from.ordinal()][to.ordinal()];
+    }
+
+    /**
+     * Shortest distance from each engineer of a stop through the remaining stops, and the engineer of the next stop
+     * it is reached through.
+     */
+    private static final class Suffixes {
+        private final double[][] remaining;
+        private final int[][] next;
+
+        private Suffixes(final List<List<Engineer>> stops, final double[] startDistances, final boolean allowRemoteWorkshop) {
+            this.remaining = new double[stops.size()][];
+            this.next = new int[stops.size()][];
+            for (int stop = stops.size() - 1; stop >= 0; stop--) {
+                final List<Engineer> engineers = stops.get(stop);
+                this.remaining[stop] = new double[engineers.size()];
+                this.next[stop] = new int[engineers.size()];
+                for (int candidate = 0; candidate < engineers.size(); candidate++) {
+                    final Engineer engineer = engineers.get(candidate);
+                    if (stop > 0 && !allowRemoteWorkshop && engineer == Engineer.REMOTE_WORKSHOP) {
+                        this.remaining[stop][candidate] = Double.POSITIVE_INFINITY;
+                        this.next[stop][candidate] = -1;
+                    } else if (stop == stops.size() - 1) {
+                        this.remaining[stop][candidate] = 0D;
+                        this.next[stop][candidate] = -1;
+                    } else {
+                        bestNext(stops.get(stop + 1), stop, candidate, engineer, startDistances);
+                    }
+                }
+            }
+        }
+
+        private void bestNext(final List<Engineer> nextStop, final int stop, final int candidate, final Engineer engineer, final double[] startDistances) {
+            double shortest = Double.POSITIVE_INFINITY;
+            int best = -1;
+            for (int nextCandidate = 0; nextCandidate < nextStop.size(); nextCandidate++) {
+                final double length = distance(engineer, nextStop.get(nextCandidate), startDistances) + this.remaining[stop + 1][nextCandidate];
+                if (length < shortest) {
+                    shortest = length;
+                    best = nextCandidate;
+                }
+            }
+            this.remaining[stop][candidate] = shortest;
+            this.next[stop][candidate] = best;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package nl.jixxed.eliteodysseymaterials.service;
+
+import io.reactivex.rxjava3.schedulers.Schedulers;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import nl.jixxed.eliteodysseymaterials.constants.AppConstants;
+import nl.jixxed.eliteodysseymaterials.domain.*;
+import nl.jixxed.eliteodysseymaterials.enums.StoragePool;
+import nl.jixxed.eliteodysseymaterials.service.event.EngineerEvent;
+import nl.jixxed.eliteodysseymaterials.service.event.EventService;
+import nl.jixxed.eliteodysseymaterials.service.event.StorageEvent;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Keeps a checkpoint per commander of how far the current journal has been processed, so a restart only has to
+ * process the lines written after it.
+ * <p>
+ * Capturing and restoring must happen on the FX thread, after and before handling journal messages respectively.
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class JournalCheckpointService {
+    private static final ApplicationState APPLICATION_STATE = ApplicationState.getInstance();
+    private static final CommanderFileRepository<JournalCheckpoint> CHECKPOINTS = new CommanderFileRepository<>(AppConstants.JOURNAL_CHECKPOINT_FILE, JournalCheckpoint.class, JournalCheckpoint::new);
+
+    /**
+     * @return the checkpoint of the commander if it was made for this journal
+     */
+    public static Optional<JournalCheckpoint> find(final Commander commander, final String journalFile, final String header, final long length) {
+        try {
+            return Optional.of(CHECKPOINTS.get(commander))
+                    .filter(checkpoint -> checkpoint.matches(journalFile, header, length));
+        } catch (final IllegalStateException e) {
+            log.warn("Ignoring unreadable journal checkpoint", e);
+            return Optional.empty();
+        }
+    }
+
+    public static void save(final Commander commander, final String journalFile, final String header, final long offset, final List<String> contextLines) {
+        final JournalCheckpoint checkpoint = new JournalCheckpoint();
+        checkpoint.setJournalFile(journalFile);
+        checkpoint.setHeader(header);
+        checkpoint.setOffset(offset);
+        checkpoint.setContextLines(new ArrayList<>(contextLines));
+        checkpoint.setRaw(new EnumMap<>(StorageService.getRaw()));
+        checkpoint.setEncoded(new EnumMap<>(StorageService.getEncoded()));
+        checkpoint.setManufactured(new EnumMap<>(StorageService.getManufactured()));
+        checkpoint.setCommoditiesShip(new EnumMap<>(StorageService.getCommoditiesShip()));
+        checkpoint.setCommoditiesSrv(new EnumMap<>(StorageService.getCommoditiesSrv()));
+        checkpoint.setCommoditiesFleetcarrier(new EnumMap<>(StorageService.getCommoditiesFleetcarrier()));
+        captureStorage(StorageService.getGoods(), checkpoint.getGoods());
+        captureStorage(StorageService.getAssets(), checkpoint.getAssets());
+        captureStorage(StorageService.getData(), checkpoint.getData());
+        captureStorage(StorageService.getConsumables(), checkpoint.getConsumables());
+        APPLICATION_STATE.getEngineerStates().forEach((engineer, engineerStatus) ->
+                checkpoint.getEngineerStates().put(engineer, new EngineerStatus(engineerStatus.getEngineerState(), engineerStatus.getRank(), engineerStatus.getProgress())));
+        final Location location = LocationService.getCurrentLocation();
+        final StarSystem starSystem = location.getStarSystem();
+        checkpoint.setLocation(new JournalCheckpoint.LocationSnapshot(starSystem.getName(), starSystem.getX(), starSystem.getY(), starSystem.getZ(),
+                starSystem.getPrimaryEconomy(), starSystem.getSecondaryEconomy(), starSystem.getGovernment(), starSystem.getSecurity(), starSystem.getState(),
+                LocationService.getCurrentSystemAddress(), location.getBody(), location.getBodyID(), location.getStation(), location.getLatitude(), location.getLongitude()));
+        //serializing the snapshot doesn't need the FX thread
+        Schedulers.single().scheduleDirect(() -> CHECKPOINTS.save(commander, checkpoint));
+    }
+
+    public static void restore(final JournalCheckpoint checkpoint) {
+        StorageService.getRaw().putAll(checkpoint.getRaw());
+        StorageService.getEncoded().putAll(checkpoint.getEncoded());
+        StorageService.getManufactured().putAll(checkpoint.getManufactured());
+        StorageService.getCommoditiesShip().putAll(checkpoint.getCommoditiesShip());
+        StorageService.getCommoditiesSrv().putAll(checkpoint.getCommoditiesSrv());
+        StorageService.getCommoditiesFleetcarrier().putAll(checkpoint.getCommoditiesFleetcarrier());
+        restoreStorage(checkpoint.getGoods(), StorageService.getGoods());
+        restoreStorage(checkpoint.getAssets(), StorageService.getAssets());
+        restoreStorage(checkpoint.getData(), StorageService.getData());
+        restoreStorage(checkpoint.getConsumables(), StorageService.getConsumables());
+        checkpoint.getEngineerStates().forEach((engineer, engineerStatus) ->
+                APPLICATION_STATE.setEngineerStatus(engineer, engineerStatus.getEngineerState(), engineerStatus.getRank(), engineerStatus.getProgress()));
+        final JournalCheckpoint.LocationSnapshot location = checkpoint.getLocation();
+        if (location != null) {
+            final StarSystem starSystem = new StarSystem(location.getStarSystem(), location.getPrimaryEconomy(), location.getSecondaryEconomy(), location.getGovernment(), location.getSecurity(), location.getState(), location.getX(), location.getY(), location.getZ());
+            LocationService.restoreLocation(new Location(starSystem, location.getBody(), location.getBodyID(), location.getStation(), location.getLatitude(), location.getLongitude()), location.getSystemAddress());
+        }
+        EventService.publish(new EngineerEvent());
+        for (final StoragePool storagePool : StoragePool.values()) {
+            EventService.publish(new StorageEvent(storagePool));
+        }
+        log.info("Restored journal checkpoint of {} at offset {}", checkpoint.getJournalFile(), checkpoint.getOffset());
+    }
+
+    private static <T> void captureStorage(final Map<T, Storage> storage, final Map<T, JournalCheckpoint.StorageCounts> counts) {
+        storage.forEach((material, value) -> counts.put(material, new JournalCheckpoint.StorageCounts(value.getBackPackValue(), value.getShipLockerValue(), value.getFleetCarrierValue())));
+    }
+
+    private static <T> void restoreStorage(final Map<T, JournalCheckpoint.StorageCounts> counts, final Map<T, Storage> storage) {
+        counts.forEach((material, value) -> {
+            final Storage materialStorage = storage.get(material);
+            if (materialStorage != null) {
+                materialStorage.setValue(value.getBackPack(), StoragePool.BACKPACK);
+                materialStorage.setValue(value.getShipLocker(), StoragePool.SHIPLOCKER);
+                materialStorage.setValue(value.getFleetCarrier(), StoragePool.FLEETCARRIER);
+            }
+        });
+    }
+}
@@ -0,0 +1,157 @@
+package nl.jixxed.eliteodysseymaterials.service;
+
+import nl.jixxed.eliteodysseymaterials.domain.StarSystem;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Immutable 3D k-d tree of items located in a star system, for nearest neighbour queries.
+ * <p>
+ * The tree is stored in arrays: the item at the middle of a range splits it on the axis of its depth, with the lower
+ * half of the range left of it and the upper half right of it. A query skips a half when the distance to the splitting
+ * plane is larger than the furthest item found so far. Distances are compared squared, so no square roots are taken.
+ * Items at the same distance are returned in the order of the list the tree was built from, like a linear scan would.
+ */
+final class KdTree<T> {
+    private static final int DIMENSIONS = 3;
+    private final List<T> items;
+    private final double[] coordinates;
+    private final int[] order;
+
+    private KdTree(final List<T> items, final double[] coordinates, final int[] order) {
+        this.items = items;
+        this.coordinates = coordinates;
+        this.order = order;
+    }
+
+    static <T> KdTree<T> of(final List<T> items, final Function<? super T, StarSystem> location) {
+        final Integer[] indices = new Integer[items.size()];
+        final double[] unsorted = new double[items.size() * DIMENSIONS];
+        for (int index = 0; index < items.size(); index++) {
+            final StarSystem starSystem = location.apply(items.get(index));
+            indices[index] = index;
+            unsorted[index * DIMENSIONS] = starSystem.getX();
+            unsorted[index * DIMENSIONS + 1] = starSystem.getY();
+            unsorted[index * DIMENSIONS + 2] = starSystem.getZ();
+        }
+        split(indices, unsorted, 0, indices.length, 0);
+        final List<T> sorted = new ArrayList<>(items.size());
+        final double[] coordinates = new double[unsorted.length];
+        final int[] order = new int[indices.length];
+        for (int index = 0; index < indices.length; index++) {
+            sorted.add(items.get(indices[index]));
+            System.arraycopy(unsorted, indices[index] * DIMENSIONS, coordinates, index * DIMENSIONS, DIMENSIONS);
+            order[index] = indices[index];
+        }
+        return new KdTree<>(Collections.unmodifiableList(sorted), coordinates, order);
+    }
+
+    private static void split(final Integer[] indices, final double[] coordinates, final int from, final int to, final int axis) {
+        if (to - from > 1) {
+            Arrays.sort(indices, from, to, Comparator.comparingDouble(index -> coordinates[index * DIMENSIONS + axis]));
+            final int middle = (from + to) >>> 1;
+            split(indices, coordinates, from, middle, (axis + 1) % DIMENSIONS);
+            split(indices, coordinates, middle + 1, to, (axis + 1) % DIMENSIONS);
+        }
+    }
+
+    int size() {
+        return this.items.size();
+    }
+
+    /**
+     * @return the item closest to the location that passes the filter
+     */
+    Optional<T> nearest(final StarSystem location, final Predicate<? super T> filter) {
+        final List<T> nearest = nearest(location, 1, filter);
+        return nearest.isEmpty() ? Optional.empty() : Optional.of(nearest.get(0));
+    }
+
+    /**
+     * @return up to count items that pass the filter, closest to the location first
+     */
+    List<T> nearest(final StarSystem location, final int count, final Predicate<? super T> filter) {
+        if (count <= 0) {
+            return Collections.emptyList();
+        }
+        final Search search = new Search(location, count, filter);
+        search.visit(0, this.items.size(), 0);
+        final List<T> nearest = new ArrayList<>(search.found);
+        for (int index = 0; index < search.found; index++) {
+            nearest.add(this.items.get(search.indices[index]));
+        }
+        return nearest;
+    }
+
+    /**
+     * The closest items found so far, kept sorted by distance.
+     */
+    private final class Search {
+        private final double[] target;
+        private final Predicate<? super T> filter;
+        private final int[] indices;
+        private final double[] distances;
+        private int found;
+
+        private Search(final StarSystem location, final int count, final Predicate<? super T> filter) {
+            this.target = new double[]{location.getX(), location.getY(), location.getZ()};
+            this.filter = filter;
+            this.indices = new int[count];
+            this.distances = new double[count];
+        }
+
+        private void visit(final int from, final int to, final int axis) {
+            if (from >= to) {
+                return;
+            }
+            final int middle = (from + to) >>> 1;
+            final double dx = this.target[0] - KdTree.this.coordinates[middle * DIMENSIONS];
+            final double dy = this.target[1] - KdTree.this.coordinates[middle * DIMENSIONS + 1];
+            final double dz = this.target[2] - KdTree.this.coordinates[middle * DIMENSIONS + 2];
+            final double distance = dx * dx + dy * dy + dz * dz;
+            if (isCloser(distance, middle) && this.filter.test(KdTree.this.items.get(middle))) {
+                add(distance, middle);
+            }
+            final double plane = this.target[axis] - KdTree.this.coordinates[middle * DIMENSIONS + axis];
+            final int next = (axis + 1) % DIMENSIONS;
+            if (plane < 0) {
+                visit(from, middle, next);
+                if (plane * plane <= furthest()) {
+                    visit(middle + 1, to, next);
+                }
+            } else {
+                visit(middle + 1, to, next);
+                if (plane * plane <= furthest()) {
+                    visit(from, middle, next);
+                }
+            }
+        }
+
+        private double furthest() {
+            return this.found < this.indices.length ? Double.POSITIVE_INFINITY : this.distances[this.found - 1];
+        }
+
+        private boolean isCloser(final double distance, final int index) {
+            return this.found < this.indices.length || compare(distance, index, this.found - 1) < 0;
+        }
+
+        private void add(final double distance, final int index) {
+            int position = Math.min(this.found, this.indices.length - 1);
+            while (position > 0 && compare(distance, index, position - 1) < 0) {
+                this.indices[position] = this.indices[position - 1];
+                this.distances[position] = this.distances[position - 1];
+                position--;
+            }
+            this.indices[position] = index;
+            this.distances[position] = distance;
+            this.found = Math.min(this.found + 1, this.indices.length);
+        }
+
+        private int compare(final double distance, final int index, final int position) {
+            final int byDistance = Double.compare(distance, this.distances[position]);
+            return byDistance != 0 ? byDistance : Integer.compare(KdTree.this.order[index], KdTree.this.order[this.indices[position]]);
+        }
+    }
+}
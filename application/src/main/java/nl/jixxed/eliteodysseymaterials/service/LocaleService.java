@@ -13,6 +13,7 @@ import nl.jixxed.eliteodysseymaterials.enums.Asset;
 import nl.jixxed.eliteodysseymaterials.enums.Data;
 import nl.jixxed.eliteodysseymaterials.enums.OdysseyMaterial;
 import nl.jixxed.eliteodysseymaterials.helper.CSVResourceBundle;
+import nl.jixxed.eliteodysseymaterials.helper.LocaleBundleCompiler;
 
 import java.text.MessageFormat;
 import java.text.NumberFormat;
@@ -23,51 +24,7 @@ import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 public class LocaleService {
-    private static final String[] RESOURCE_BUNDLE_NAMES = {
-            "blueprint/horizons/category",
-            "blueprint/horizons/description",
-            "blueprint/horizons/modifier",
-            "blueprint/horizons/names",
-            "blueprint/horizons/type.description",
-            "blueprint/horizons/type.names",
-            "blueprint/odyssey/category",
-            "blueprint/odyssey/description",
-            "blueprint/odyssey/modifier",
-            "blueprint/odyssey/names",
-            "blueprint/odyssey/tips",
-            "broker/broker",
-            "engineer/names",
-            "engineer/specialisation",
-            "loadout/equipment",
-            "loadout/modification",
-            "loadout/stat.group",
-            "loadout/stat.name",
-            "loadout/stat.value",
-            "material/horizons/category",
-            "material/horizons/commodity",
-            "material/horizons/commodity.type",
-            "material/horizons/encoded",
-            "material/horizons/manufactured",
-            "material/horizons/raw",
-            "material/horizons/spawn",
-            "material/odyssey/asset",
-            "material/odyssey/consumable",
-            "material/odyssey/data",
-            "material/odyssey/good",
-            "material/odyssey/spawn",
-            "material/trade",
-            "application",
-            "blueprint",
-            "menu",
-            "tab.bartender",
-            "tab.engineer",
-            "tab.loadout",
-            "tab.overview",
-            "tab.settings",
-            "tab.trade",
-            "tab.wishlist",
-            "tooltip"
-    };
+    private static final String[] RESOURCE_BUNDLE_NAMES = LocaleBundleCompiler.BASE_NAMES.toArray(String[]::new);
     private static Locale currentLocale = Locale.ENGLISH;
     private static final ApplicationState APPLICATION_STATE = ApplicationState.getInstance();
     private static final NumberFormat NUMBER_FORMAT = NumberFormat.getNumberInstance();
@@ -111,6 +111,20 @@ public class LocationService {
         }));
     }
 
+    /**
+     * Restores a previously captured location, e.g. from a journal checkpoint.
+     */
+    public static void restoreLocation(final Location location, final Long systemAddress) {
+        currentStarSystem = location.getStarSystem();
+        currentSystemAddress = systemAddress;
+        body = location.getBody();
+        bodyID = location.getBodyID();
+        station = location.getStation();
+        latitude = location.getLatitude();
+        longitude = location.getLongitude();
+        notifyListeners();
+    }
+
     public static StarSystem getCurrentStarSystem() {
         return currentStarSystem;
     }
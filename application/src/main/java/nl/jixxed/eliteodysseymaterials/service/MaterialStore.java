@@ -0,0 +1,253 @@
+package nl.jixxed.eliteodysseymaterials.service;
+
+import nl.jixxed.eliteodysseymaterials.domain.Storage;
+import nl.jixxed.eliteodysseymaterials.enums.Material;
+import nl.jixxed.eliteodysseymaterials.enums.StoragePool;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+
+/**
+ * Amounts of the materials of one enum, one int array per storage pool indexed by ordinal.
+ * <p>
+ * The total of each pool is kept up to date on every write, and every write that changes an amount is appended to the
+ * change log. The maps handed out are live views on the arrays, so existing code can keep reading and writing through
+ * them.
+ */
+class MaterialStore<E extends Enum<E> & Material> {
+    private final Class<E> type;
+    private final E[] materials;
+    private final StoragePool[] pools;
+    private final int[][] amounts;
+    private final int[] totals;
+    private final StorageChangeLog changeLog;
+    private final Map<E, Storage> storages;
+
+    MaterialStore(final Class<E> type, final StorageChangeLog changeLog, final StoragePool... pools) {
+        this.type = type;
+        this.materials = type.getEnumConstants();
+        this.pools = pools;
+        this.amounts = new int[pools.length][this.materials.length];
+        this.totals = new int[pools.length];
+        this.changeLog = changeLog;
+        final Map<E, Storage> handles = new EnumMap<>(type);
+        for (final E material : this.materials) {
+            handles.put(material, new StorageHandle(material.ordinal()));
+        }
+        this.storages = Collections.unmodifiableMap(handles);
+    }
+
+    int get(final E material, final StoragePool pool) {
+        return this.amounts[poolIndex(pool)][material.ordinal()];
+    }
+
+    synchronized void set(final E material, final StoragePool pool, final int amount) {
+        final int poolIndex = poolIndex(pool);
+        final int previous = this.amounts[poolIndex][material.ordinal()];
+        if (previous != amount) {
+            this.amounts[poolIndex][material.ordinal()] = amount;
+            this.totals[poolIndex] += amount - previous;
+            this.changeLog.append(material, pool, previous, amount);
+        }
+    }
+
+    synchronized void reset(final StoragePool pool) {
+        for (final E material : this.materials) {
+            set(material, pool, 0);
+        }
+    }
+
+    /**
+     * @return the sum of the amounts of all materials in the pool, or 0 for a pool this store doesn't have
+     */
+    int getTotal(final StoragePool pool) {
+        for (int index = 0; index < this.pools.length; index++) {
+            if (this.pools[index] == pool) {
+                return this.totals[index];
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * @return a live map of the amounts in the pool
+     */
+    Map<E, Integer> asMap(final StoragePool pool) {
+        return new PoolMap(poolIndex(pool));
+    }
+
+    /**
+     * @return a live map of the amounts per pool, for stores with the backpack, ship locker and fleet carrier pools
+     */
+    Map<E, Storage> asStorageMap() {
+        return this.storages;
+    }
+
+    /**
+     * @return the amount to store for a boxed value, a missing value counts as none
+     */
+    private static int amountOf(final Integer value) {
+        return value == null ? 0 : value;
+    }
+
+    private int poolIndex(final StoragePool pool) {
+        for (int index = 0; index < this.pools.length; index++) {
+            if (this.pools[index] == pool) {
+                return index;
+            }
+        }
+        throw new IllegalArgumentException("storagePool not supported");
+    }
+
+    private final class PoolMap extends AbstractMap<E, Integer> {
+        private final int poolIndex;
+
+        private PoolMap(final int poolIndex) {
+            this.poolIndex = poolIndex;
+        }
+
+        @Override
+        public Integer get(final Object key) {
+            return MaterialStore.this.type.isInstance(key) ? MaterialStore.this.amounts[this.poolIndex][((Enum<?>) key).ordinal()] : null;
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return MaterialStore.this.type.isInstance(key);
+        }
+
+        @Override
+        public Integer put(final E key, final Integer value) {
+            final Integer previous = get(key);
+            set(key, MaterialStore.this.pools[this.poolIndex], amountOf(value));
+            return previous;
+        }
+
+        @Override
+        public int size() {
+            return MaterialStore.this.materials.length;
+        }
+
+        @Override
+        public void forEach(final BiConsumer<? super E, ? super Integer> action) {
+            for (final E material : MaterialStore.this.materials) {
+                action.accept(material, MaterialStore.this.amounts[this.poolIndex][material.ordinal()]);
+            }
+        }
+
+        @Override
+        public void replaceAll(final BiFunction<? super E, ? super Integer, ? extends Integer> function) {
+            for (final E material : MaterialStore.this.materials) {
+                put(material, function.apply(material, get(material)));
+            }
+        }
+
+        @Override
+        public Set<Entry<E, Integer>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<E, Integer>> iterator() {
+                    return new Iterator<>() {
+                        private int ordinal;
+
+                        @Override
+                        public boolean hasNext() {
+                            return this.ordinal < MaterialStore.this.materials.length;
+                        }
+
+                        @Override
+                        public Entry<E, Integer> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            final E material = MaterialStore.this.materials[this.ordinal++];
+                            return new SimpleEntry<>(material, get(material)) {
+                                @Override
+                                public Integer setValue(final Integer value) {
+                                    super.setValue(value);
+                                    return put(material, value);
+                                }
+                            };
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return MaterialStore.this.materials.length;
+                }
+            };
+        }
+    }
+
+    /**
+     * Live {@link Storage} of one material, reading and writing the arrays of the store.
+     */
+    private final class StorageHandle extends Storage {
+        private final int ordinal;
+
+        private StorageHandle(final int ordinal) {
+            this.ordinal = ordinal;
+        }
+
+        @Override
+        public Integer getBackPackValue() {
+            return amount(StoragePool.BACKPACK);
+        }
+
+        @Override
+        public Integer getShipLockerValue() {
+            return amount(StoragePool.SHIPLOCKER);
+        }
+
+        @Override
+        public Integer getFleetCarrierValue() {
+            return amount(StoragePool.FLEETCARRIER);
+        }
+
+        @Override
+        public void setValue(final Integer value, final StoragePool pool) {
+            if (pool == StoragePool.BACKPACK || pool == StoragePool.SHIPLOCKER || pool == StoragePool.FLEETCARRIER) {
+                set(MaterialStore.this.materials[this.ordinal], pool, amountOf(value));
+            }
+        }
+
+        @Override
+        public Integer getTotalValue() {
+            return amount(StoragePool.BACKPACK) + amount(StoragePool.SHIPLOCKER) + amount(StoragePool.FLEETCARRIER);
+        }
+
+        @Override
+        public Integer getAvailableValue() {
+            return amount(StoragePool.BACKPACK) + amount(StoragePool.SHIPLOCKER);
+        }
+
+        @Override
+        public Integer getValue(final StoragePool target) {
+            return switch (target) {
+                case BACKPACK, SHIPLOCKER, FLEETCARRIER -> amount(target);
+                case SHIP, SRV -> null;
+            };
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            return this == o;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
+
+        @Override
+        public String toString() {
+            return "Storage(backPack=" + getBackPackValue() + ", shipLocker=" + getShipLockerValue() + ", fleetCarrier=" + getFleetCarrierValue() + ")";
+        }
+
+        private int amount(final StoragePool pool) {
+            return MaterialStore.this.amounts[poolIndex(pool)][this.ordinal];
+        }
+    }
+}
@@ -14,14 +14,14 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.List;
+import java.util.*;
+import java.util.stream.Collectors;
 
 @Slf4j
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class MaterialTraderService {
     private static final List<MaterialTrader> MATERIAL_TRADERS = new ArrayList<>();
+    private static final Map<HorizonsStorageType, KdTree<MaterialTrader>> TRADERS_BY_TYPE = new EnumMap<>(HorizonsStorageType.class);
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
     static {
@@ -37,18 +37,27 @@ public class MaterialTraderService {
         } catch (final IOException ex) {
             throw new RuntimeException(ex);
         }
+        MATERIAL_TRADERS.stream()
+                .collect(Collectors.groupingBy(MaterialTrader::getType, () -> new EnumMap<>(HorizonsStorageType.class), Collectors.toList()))
+                .forEach((type, materialTraders) -> TRADERS_BY_TYPE.put(type, KdTree.of(materialTraders, MaterialTrader::getStarSystem)));
     }
 
 
     public static MaterialTrader findClosest(final StarSystem currentLocation, final HorizonsStorageType type) {
         final Integer range = PreferencesService.getPreference(PreferenceConstants.HORIZONS_MATERIAL_TRADER_MAX_RANGE, 5000);
-        return MATERIAL_TRADERS.stream()
-                .filter(materialTrader -> materialTrader.getType().equals(type) && materialTrader.getDistanceFromStar() <= range)
-                .min(Comparator.comparing(materialTrader -> getDistance(materialTrader.getStarSystem(), currentLocation)))
+        return Optional.ofNullable(TRADERS_BY_TYPE.get(type))
+                .flatMap(materialTraders -> materialTraders.nearest(currentLocation, materialTrader -> materialTrader.getDistanceFromStar() <= range))
                 .orElseThrow(IllegalArgumentException::new);
     }
 
+    static List<MaterialTrader> getMaterialTraders() {
+        return Collections.unmodifiableList(MATERIAL_TRADERS);
+    }
+
     public static Double getDistance(final StarSystem location1, final StarSystem location2) {
-        return Math.sqrt(Math.pow(location1.getX() - location2.getX(), 2) + Math.pow(location1.getY() - location2.getY(), 2) + Math.pow(location1.getZ() - location2.getZ(), 2));
+        final double dx = location1.getX() - location2.getX();
+        final double dy = location1.getY() - location2.getY();
+        final double dz = location1.getZ() - location2.getZ();
+        return Math.sqrt(dx * dx + dy * dy + dz * dz);
     }
 }
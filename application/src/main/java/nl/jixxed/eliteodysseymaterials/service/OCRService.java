@@ -4,6 +4,7 @@ import com.sun.jna.NativeLibrary;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import nl.jixxed.eliteodysseymaterials.constants.OsConstants;
 import nl.jixxed.eliteodysseymaterials.constants.PreferenceConstants;
 import nl.jixxed.eliteodysseymaterials.enums.ApplicationLocale;
 import nl.jixxed.eliteodysseymaterials.service.ar.OcrConstants;
@@ -17,33 +18,38 @@ import nl.jixxed.tess4j.TesseractException;
 import nl.jixxed.tess4j.util.LoadLibs;
 
 import java.awt.image.BufferedImage;
+import java.io.File;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 
+/**
+ * Text recognition for the AR overlay on a pool of Tesseract engines, so menu rows can be recognised in parallel.
+ * Every call states the character whitelist it needs instead of changing a shared engine. Results are cached by image
+ * content, so text that was recognised before is returned without running Tesseract.
+ */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 @Slf4j
 public class OCRService {
-    private static final ITesseract instance;  // JNA Interface Mapping
     private static final String TESS_DATA_PATH = "tess.data.path";
     private static final String LEPT_DATA_PATH = "lept.data.path";
     private static final List<EventListener<?>> EVENT_LISTENERS = new ArrayList<>();
+    private static final OcrEnginePool<ITesseract> ENGINES = new OcrEnginePool<>(OcrConstants.OCR_ENGINES, OCRService::createEngine, OCRService::configureEngine);
+    private static final OcrResultCache RESULTS = new OcrResultCache(new File(OsConstants.OCR_CACHE), OcrConstants.OCR_CACHE_SIZE);
+    private static volatile String language;
 
     static {
 
         System.setProperty(TESS_DATA_PATH, OcrConstants.TESS4J_DIR);
         System.setProperty(LEPT_DATA_PATH, OcrConstants.TESS4J_DIR);
-        instance = new Tesseract1();
-        instance.setDatapath(Path.of(OcrConstants.TESS4J_DIR, "tessdata").toString());
-        instance.setLanguage(ApplicationLocale.valueOf(PreferencesService.getPreference(PreferenceConstants.AR_LOCALE, "ENGLISH")).getIso6392B());
-
-        setCharWhitelist(LocaleService.getDataCharacterForCurrentARLocale());
-        EVENT_LISTENERS.add(EventService.addStaticListener(ARLocaleChangeEvent.class, arLocaleChangeEvent -> {
-                    instance.setLanguage(arLocaleChangeEvent.getLocale().getIso6392B());
-                    setCharWhitelist(LocaleService.getDataCharacterForCurrentARLocale());
-                }
+        language = ApplicationLocale.valueOf(PreferencesService.getPreference(PreferenceConstants.AR_LOCALE, "ENGLISH")).getIso6392B();
+        EVENT_LISTENERS.add(EventService.addStaticListener(ARLocaleChangeEvent.class, arLocaleChangeEvent ->
+                language = arLocaleChangeEvent.getLocale().getIso6392B()
         ));
         EVENT_LISTENERS.add(EventService.addStaticListener(TerminateApplicationEvent.class, event -> {
+                    RESULTS.save();
                     try {
                         NativeLibrary.getInstance(LoadLibs.getTesseractLibName()).dispose();
                         NativeLibrary.getInstance(LoadLibs.getLeptonicaLibName()).dispose();
@@ -54,11 +60,52 @@ public class OCRService {
         ));
     }
 
-    static void setCharWhitelist(final String characters) {
-        instance.setVariable("tessedit_char_whitelist", characters);
+    private static ITesseract createEngine() {
+        final ITesseract engine = new Tesseract1();
+        engine.setDatapath(Path.of(OcrConstants.TESS4J_DIR, "tessdata").toString());
+        log.debug("Created OCR engine");
+        return engine;
+    }
+
+    private static void configureEngine(final ITesseract engine, final OcrEnginePool.Profile profile) {
+        engine.setLanguage(profile.language());
+        engine.setVariable("tessedit_char_whitelist", profile.whitelist());
+    }
+
+    /**
+     * @param cacheable whether the recognised text may be cached, only text that resolves to something known should be
+     */
+    static String imageToString(final BufferedImage image, final String characterWhitelist, final Predicate<String> cacheable) throws TesseractException {
+        final OcrEnginePool.Profile profile = new OcrEnginePool.Profile(language, characterWhitelist);
+        final String key = OcrResultCache.key(profile, image);
+        final String cached = RESULTS.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        try {
+            final String text = ENGINES.withEngine(profile, engine -> engine.doOCR(image));
+            if (cacheable.test(text)) {
+                RESULTS.put(key, text);
+            }
+            return text;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TesseractException("Interrupted while waiting for an OCR engine");
+        }
+    }
+
+    /**
+     * @return total time OCR requests have been waiting for a free engine
+     */
+    static long getEngineWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(ENGINES.getWaitNanos());
+    }
+
+    static long getCacheHits() {
+        return RESULTS.getHits();
     }
 
-    static synchronized String imageToString(final BufferedImage image) throws TesseractException {
-        return instance.doOCR(image);
+    static long getCacheMisses() {
+        return RESULTS.getMisses();
     }
 }
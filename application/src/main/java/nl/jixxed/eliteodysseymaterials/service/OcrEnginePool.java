@@ -0,0 +1,104 @@
+package nl.jixxed.eliteodysseymaterials.service;
+
+import java.util.*;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Bounded pool of OCR engines, each configured for a language and character whitelist.
+ * <p>
+ * A checkout prefers an idle engine that already has the requested profile. Engines are created lazily up to the
+ * maximum; after that an idle engine of another profile is reconfigured, and callers wait when all engines are in use.
+ * An engine is only ever used by the thread that checked it out.
+ */
+class OcrEnginePool<E> {
+    private final int maxEngines;
+    private final Supplier<E> engineFactory;
+    private final BiConsumer<E, Profile> configurer;
+    private final Semaphore available;
+    private final Map<Profile, Deque<E>> idle = new HashMap<>();
+    private final Map<E, Profile> profiles = new IdentityHashMap<>();
+    private final AtomicLong waitNanos = new AtomicLong();
+    private int created;
+
+    OcrEnginePool(final int maxEngines, final Supplier<E> engineFactory, final BiConsumer<E, Profile> configurer) {
+        this.maxEngines = maxEngines;
+        this.engineFactory = engineFactory;
+        this.configurer = configurer;
+        this.available = new Semaphore(maxEngines, true);
+    }
+
+    <T, X extends Exception> T withEngine(final Profile profile, final EngineTask<E, T, X> task) throws X, InterruptedException {
+        final E engine = checkout(profile);
+        try {
+            return task.run(engine);
+        } finally {
+            checkin(engine);
+        }
+    }
+
+    E checkout(final Profile profile) throws InterruptedException {
+        final long start = System.nanoTime();
+        this.available.acquire();
+        this.waitNanos.addAndGet(System.nanoTime() - start);
+        synchronized (this) {
+            final Deque<E> matching = this.idle.get(profile);
+            if (matching != null && !matching.isEmpty()) {
+                return matching.pop();
+            }
+            E engine = null;
+            try {
+                if (this.created < this.maxEngines) {
+                    engine = this.engineFactory.get();
+                    this.created++;
+                } else {
+                    //all engines exist and at least one is idle, since a permit was acquired
+                    engine = this.idle.values().stream()
+                            .filter(engines -> !engines.isEmpty())
+                            .findFirst()
+                            .map(Deque::pop)
+                            .orElseThrow(IllegalStateException::new);
+                }
+                this.configurer.accept(engine, profile);
+                this.profiles.put(engine, profile);
+                return engine;
+            } catch (final RuntimeException | Error e) {
+                //drop the engine, its configuration is unknown, so a new one can be created in its place
+                if (engine != null) {
+                    this.profiles.remove(engine);
+                    this.created--;
+                }
+                this.available.release();
+                throw e;
+            }
+        }
+    }
+
+    void checkin(final E engine) {
+        synchronized (this) {
+            this.idle.computeIfAbsent(this.profiles.get(engine), key -> new ArrayDeque<>()).push(engine);
+        }
+        this.available.release();
+    }
+
+    synchronized int getCreated() {
+        return this.created;
+    }
+
+    /**
+     * @return total time spent waiting for an engine to become available
+     */
+    long getWaitNanos() {
+        return this.waitNanos.get();
+    }
+
+    record Profile(String language, String whitelist) {
+    }
+
+    @FunctionalInterface
+    interface EngineTask<E, T, X extends Exception> {
+        T run(E engine) throws X;
+    }
+}
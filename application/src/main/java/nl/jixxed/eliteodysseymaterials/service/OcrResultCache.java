@@ -0,0 +1,180 @@
+package nl.jixxed.eliteodysseymaterials.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.extern.slf4j.Slf4j;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.Raster;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded LRU cache of OCR results, keyed by the content of the recognised image, persisted between runs.
+ * <p>
+ * The key is a hash of the binarised image together with the language and character whitelist. Tesseract gives the
+ * same text for the same input, so a row that was read before, on any terminal, is recognised without running it again.
+ * Callers only put results that were recognised as something known, so a misread image is read again next time. The
+ * file is versioned, results of an older version are dropped on load.
+ */
+@Slf4j
+class OcrResultCache {
+    private static final TypeReference<LinkedHashMap<String, String>> CACHE_TYPE = new TypeReference<>() {
+    };
+    //images with less contrast are blank
+    private static final int MIN_CONTRAST = 16;
+    private static final int KEY_BYTES = 18;
+    //increase when the recognition changes, e.g. another Tesseract version or preprocessing, to drop the old results
+    static final int VERSION = 2;
+    private static final String VERSION_FIELD = "version";
+    private static final String RESULTS_FIELD = "results";
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final File cacheFile;
+    private final int capacity;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private Map<String, String> results;
+    private boolean changed;
+
+    OcrResultCache(final File cacheFile, final int capacity) {
+        this.cacheFile = cacheFile;
+        this.capacity = capacity;
+    }
+
+    /**
+     * @return the cached text, or null when the image was not recognised before
+     */
+    synchronized String get(final String key) {
+        final String text = getResults().get(key);
+        (text != null ? this.hits : this.misses).incrementAndGet();
+        return text;
+    }
+
+    synchronized void put(final String key, final String text) {
+        getResults().put(key, text);
+        this.changed = true;
+    }
+
+    synchronized int size() {
+        return getResults().size();
+    }
+
+    long getHits() {
+        return this.hits.get();
+    }
+
+    long getMisses() {
+        return this.misses.get();
+    }
+
+    synchronized void save() {
+        if (!this.changed) {
+            return;
+        }
+        try {
+            this.cacheFile.getParentFile().mkdirs();
+            //least recently used first, which is the order the entries are loaded in again
+            final ObjectNode cache = this.objectMapper.createObjectNode();
+            cache.put(VERSION_FIELD, VERSION);
+            cache.set(RESULTS_FIELD, this.objectMapper.valueToTree(this.results));
+            this.objectMapper.writeValue(this.cacheFile, cache);
+            this.changed = false;
+        } catch (final IOException e) {
+            log.error("Failed to save OCR cache", e);
+        }
+    }
+
+    /**
+     * Hashes the image, binarised halfway between its darkest and brightest pixel, with the recognition profile.
+     */
+    static String key(final OcrEnginePool.Profile profile, final BufferedImage image) {
+        final int width = image.getWidth();
+        final int height = image.getHeight();
+        final int[] luma = luma(image);
+        int min = 255;
+        int max = 0;
+        for (final int value : luma) {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        final byte[] bits = new byte[(luma.length + 7) / 8];
+        if (max - min >= MIN_CONTRAST) {
+            final int threshold = (min + max) / 2;
+            for (int i = 0; i < luma.length; i++) {
+                if (luma[i] > threshold) {
+                    bits[i >> 3] |= (byte) (1 << (i & 7));
+                }
+            }
+        }
+        final MessageDigest digest = sha256();
+        digest.update(profile.language().getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(profile.whitelist().getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(new byte[]{(byte) (width >> 24), (byte) (width >> 16), (byte) (width >> 8), (byte) width,
+                (byte) (height >> 24), (byte) (height >> 16), (byte) (height >> 8), (byte) height});
+        digest.update(bits);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest.digest(), KEY_BYTES));
+    }
+
+    private static int[] luma(final BufferedImage image) {
+        final int width = image.getWidth();
+        final int height = image.getHeight();
+        if (image.getType() == BufferedImage.TYPE_BYTE_GRAY) {
+            final Raster raster = image.getRaster();
+            return raster.getSamples(raster.getMinX(), raster.getMinY(), width, height, 0, new int[width * height]);
+        }
+        final int[] rgb = image.getRGB(0, 0, width, height, null, 0, width);
+        for (int i = 0; i < rgb.length; i++) {
+            rgb[i] = (((rgb[i] >> 16) & 0xFF) * 2 + ((rgb[i] >> 8) & 0xFF) * 5 + (rgb[i] & 0xFF)) >> 3;
+        }
+        return rgb;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Map<String, String> getResults() {
+        if (this.results == null) {
+            this.results = new LinkedHashMap<>(this.capacity, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<String, String> eldest) {
+                    return size() > OcrResultCache.this.capacity;
+                }
+            };
+            this.results.putAll(load());
+        }
+        return this.results;
+    }
+
+    private Map<String, String> load() {
+        if (this.cacheFile.exists()) {
+            try {
+                final JsonNode cache = this.objectMapper.readTree(this.cacheFile);
+                if (cache.path(VERSION_FIELD).asInt() != VERSION) {
+                    log.info("Dropping OCR cache of an older version");
+                    return Map.of();
+                }
+                return this.objectMapper.convertValue(cache.get(RESULTS_FIELD), CACHE_TYPE);
+            } catch (final IOException | IllegalArgumentException e) {
+                log.warn("Failed to load OCR cache, starting empty", e);
+            }
+        }
+        return Map.of();
+    }
+}
@@ -140,21 +140,17 @@ public class PathService {
 
     private static <T extends BlueprintName<T>> void tryOptimizePath(final List<PathItem<T>> sortedPathItems) {
         if (sortedPathItems.size() > 1) {
-            final List<List<Engineer>> paths = getPossiblePathsForItem(sortedPathItems).stream().filter(engineers -> !engineers.contains(Engineer.REMOTE_WORKSHOP) || engineers.get(0).equals(Engineer.REMOTE_WORKSHOP)).collect(Collectors.toList());
-            List<Engineer> shortestPath = new ArrayList<>();
-            double shortestLength = Double.MAX_VALUE;
-            for (final List<Engineer> engineers : paths) {
-                double total = 0D;
-                for (final Engineer engineer : engineers) {
-                    final StarSystem starSystem = (engineers.indexOf(engineer) == 0) ? LocationService.getCurrentStarSystem() : engineers.get(engineers.indexOf(engineer) - 1).getStarSystem();
-                    total += engineer.getDistance(starSystem);
-                }
-                if (total < shortestLength) {
-                    shortestLength = total;
-                    shortestPath = engineers;
-                }
+            final List<List<Engineer>> stops = sortedPathItems.stream()
+                    .map(pathItem -> {
+                        final List<Engineer> engineers = new ArrayList<>(pathItem.getAlternateEngineers());
+                        engineers.add(pathItem.getEngineer());
+                        return engineers;
+                    })
+                    .toList();
+            final List<Engineer> shortestPath = EngineerRouteSolver.solve(stops, LocationService.getCurrentStarSystem());
+            if (!shortestPath.isEmpty()) {
+                setShortestPath(sortedPathItems, shortestPath);
             }
-            setShortestPath(sortedPathItems, shortestPath);
         }
     }
 
@@ -166,38 +162,6 @@ public class PathService {
         }
     }
 
-    private static <T extends BlueprintName<T>> List<List<Engineer>> getPossiblePathsForItem(final List<PathItem<T>> sortedPathItems) {
-        final List<Engineer> engineers = new ArrayList<>(sortedPathItems.get(0).getAlternateEngineers());
-        engineers.add(sortedPathItems.get(0).getEngineer());
-        final List<List<Engineer>> paths = new ArrayList<>();
-        engineers.forEach(engineer -> {
-            final List<Engineer> path = new ArrayList<>();
-            path.add(engineer);
-            if (sortedPathItems.size() > 1) {
-                paths.addAll(getPossiblePathsForItem(sortedPathItems, path, 0));
-            } else {
-                paths.add(path);
-            }
-        });
-        return paths;
-    }
-
-    private static <T extends BlueprintName<T>> List<List<Engineer>> getPossiblePathsForItem(final List<PathItem<T>> sortedPathItems, final List<Engineer> currentPath, final int index) {
-        final List<Engineer> engineers = new ArrayList<>(sortedPathItems.get(index + 1).getAlternateEngineers());
-        engineers.add(sortedPathItems.get(index + 1).getEngineer());
-        final List<List<Engineer>> paths = new ArrayList<>();
-        for (final Engineer engineer : engineers) {
-            final List<Engineer> path = new ArrayList<>(currentPath);
-            path.add(engineer);
-            if (path.size() == sortedPathItems.size()) {
-                paths.add(path);
-            } else {
-                paths.addAll(getPossiblePathsForItem(sortedPathItems, path, index + 1));
-            }
-        }
-        return paths;
-    }
-
     private static <T extends BlueprintName<T>> List<? extends WishlistBlueprintTemplate<T>> getBlueprintsForEngineer(final List<? extends WishlistBlueprintTemplate<T>> wishlistBlueprints, final List<PathItem<T>> pathItems, final Engineer engineer, final List<Engineer> allowedEngineers) {
         return wishlistBlueprints.stream()
                 .filter(WishlistBlueprintTemplate::isVisibleBlueprint)
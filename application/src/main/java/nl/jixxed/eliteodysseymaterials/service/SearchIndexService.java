@@ -0,0 +1,150 @@
+package nl.jixxed.eliteodysseymaterials.service;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import nl.jixxed.eliteodysseymaterials.enums.*;
+import nl.jixxed.eliteodysseymaterials.service.event.EventListener;
+import nl.jixxed.eliteodysseymaterials.service.event.EventService;
+import nl.jixxed.eliteodysseymaterials.service.event.LanguageChangedEvent;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Shared index of the localized names of materials, commodities, blueprints and engineers, for the search bars of all
+ * tabs.
+ * <p>
+ * Names are folded to lower case without accents, and every 1 to 3 character substring points to the names that
+ * contain it. A query of up to 3 characters is a single lookup; a longer query only checks the names that contain its
+ * rarest trigram. The result of the last query is kept, so checking every card against the same query costs a set
+ * lookup per card. The index is rebuilt when the language changes.
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class SearchIndexService {
+    private static final int MAX_GRAM_LENGTH = 3;
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final List<EventListener<?>> EVENT_LISTENERS = new ArrayList<>();
+    private static volatile Index index;
+    private static volatile Result lastResult;
+
+    static {
+        EVENT_LISTENERS.add(EventService.addStaticListener(LanguageChangedEvent.class, event -> {
+            index = null;
+            lastResult = null;
+        }));
+    }
+
+    /**
+     * @return true if the localized name for the key contains the query, ignoring case and accents. A blank query
+     * matches everything.
+     */
+    public static boolean matches(final String localizationKey, final String query) {
+        if (query == null || query.isBlank()) {
+            return true;
+        }
+        final Index currentIndex = getIndex();
+        if (!currentIndex.names().containsKey(localizationKey)) {
+            //not part of the catalogue, compare directly
+            return normalize(LocaleService.getLocalizedStringForCurrentLocale(localizationKey)).contains(normalize(query));
+        }
+        return search(query).contains(localizationKey);
+    }
+
+    /**
+     * @return the localization keys of the catalogue whose localized name contains the query, ignoring case and accents
+     */
+    public static Set<String> search(final String query) {
+        final Result result = lastResult;
+        if (result != null && result.query().equals(query)) {
+            return result.keys();
+        }
+        final Set<String> keys = getIndex().search(normalize(query));
+        lastResult = new Result(query, keys);
+        return keys;
+    }
+
+    /**
+     * Folds the text to lower case without accents, the form names and queries are compared in.
+     */
+    public static String normalize(final String text) {
+        final String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    private static Index getIndex() {
+        Index currentIndex = index;
+        if (currentIndex == null) {
+            currentIndex = Index.build(catalogue());
+            index = currentIndex;
+        }
+        return currentIndex;
+    }
+
+    private static Stream<String> catalogue() {
+        return Stream.of(
+                Arrays.stream(Good.values()).map(Good::getLocalizationKey),
+                Arrays.stream(Asset.values()).map(Asset::getLocalizationKey),
+                Arrays.stream(Data.values()).map(Data::getLocalizationKey),
+                Arrays.stream(Raw.values()).map(Raw::getLocalizationKey),
+                Arrays.stream(Encoded.values()).map(Encoded::getLocalizationKey),
+                Arrays.stream(Manufactured.values()).map(Manufactured::getLocalizationKey),
+                Arrays.stream(Commodity.values()).map(Commodity::getLocalizationKey),
+                Arrays.stream(CommodityType.values()).map(CommodityType::getLocalizationKey),
+                Arrays.stream(OdysseyBlueprintName.values()).map(OdysseyBlueprintName::getLocalizationKey),
+                Arrays.stream(HorizonsBlueprintName.values()).map(HorizonsBlueprintName::getLocalizationKey),
+                Arrays.stream(Engineer.values()).map(Engineer::getLocalizationKey),
+                Arrays.stream(Specialisation.values()).map(Specialisation::getLocalizationKey)
+        ).flatMap(Function.identity());
+    }
+
+    private record Result(String query, Set<String> keys) {
+    }
+
+    private record Index(Map<String, String> names, Map<String, Set<String>> grams) {
+        static Index build(final Stream<String> localizationKeys) {
+            final Map<String, String> names = new HashMap<>();
+            localizationKeys.distinct().forEach(key -> {
+                try {
+                    names.put(key, normalize(LocaleService.getLocalizedStringForCurrentLocale(key)));
+                } catch (final MissingResourceException e) {
+                    log.debug("No localization to index for " + key);
+                }
+            });
+            final Map<String, Set<String>> grams = new HashMap<>();
+            names.forEach((key, name) -> {
+                for (int start = 0; start < name.length(); start++) {
+                    for (int end = start + 1; end <= Math.min(name.length(), start + MAX_GRAM_LENGTH); end++) {
+                        grams.computeIfAbsent(name.substring(start, end), gram -> new HashSet<>()).add(key);
+                    }
+                }
+            });
+            grams.replaceAll((gram, keys) -> Set.copyOf(keys));
+            return new Index(Map.copyOf(names), Map.copyOf(grams));
+        }
+
+        Set<String> search(final String query) {
+            if (query.length() <= MAX_GRAM_LENGTH) {
+                return this.grams.getOrDefault(query, Set.of());
+            }
+            Set<String> candidates = null;
+            for (int start = 0; start + MAX_GRAM_LENGTH <= query.length(); start++) {
+                final Set<String> keys = this.grams.getOrDefault(query.substring(start, start + MAX_GRAM_LENGTH), Set.of());
+                if (candidates == null || keys.size() < candidates.size()) {
+                    candidates = keys;
+                }
+            }
+            final Set<String> matches = new HashSet<>();
+            for (final String key : candidates) {
+                if (this.names.get(key).contains(query)) {
+                    matches.add(key);
+                }
+            }
+            return Collections.unmodifiableSet(matches);
+        }
+    }
+}
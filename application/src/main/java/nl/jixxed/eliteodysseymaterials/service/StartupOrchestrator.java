@@ -0,0 +1,132 @@
+package nl.jixxed.eliteodysseymaterials.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.management.ManagementFactory;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the startup tasks of the application off the FX thread, each as soon as the tasks it depends on are done, and
+ * reports how long every task and startup phase took.
+ * <p>
+ * Static initializers that refer to each other can wait on each other forever when they run on two threads at once,
+ * so tasks that initialize related classes have to be declared as depending on each other. Tasks and phases are also
+ * recorded as JFR events.
+ */
+@Slf4j
+public class StartupOrchestrator {
+    private final Map<String, CompletableFuture<Void>> tasks = new LinkedHashMap<>();
+    private final Map<String, Timing> timings = new ConcurrentHashMap<>();
+    private final Map<String, Long> phases = new ConcurrentHashMap<>();
+    private final ExecutorService executor;
+
+    public StartupOrchestrator() {
+        final AtomicInteger threads = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors()), runnable -> {
+            final Thread thread = new Thread(runnable, "Startup-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Schedules a task, to run once the tasks it depends on are done. Dependencies have to be scheduled first.
+     */
+    public void task(final String name, final Runnable action, final String... dependencies) {
+        final CompletableFuture<?>[] required = Arrays.stream(dependencies)
+                .map(dependency -> Objects.requireNonNull(this.tasks.get(dependency), "Unknown startup task: " + dependency))
+                .toArray(CompletableFuture[]::new);
+        this.tasks.put(name, CompletableFuture.allOf(required).thenRunAsync(() -> run(name, action), this.executor));
+    }
+
+    /**
+     * Waits for all tasks to finish.
+     *
+     * @throws CompletionException with the failure of the first task that failed
+     */
+    public void await() {
+        try {
+            CompletableFuture.allOf(this.tasks.values().toArray(CompletableFuture[]::new)).join();
+        } finally {
+            this.executor.shutdown();
+        }
+    }
+
+    /**
+     * Records that startup reached the phase, the first time it does.
+     */
+    public void phase(final String name) {
+        final long uptime = ManagementFactory.getRuntimeMXBean().getUptime();
+        if (this.phases.putIfAbsent(name, uptime) == null) {
+            final PhaseEvent event = new PhaseEvent();
+            event.phase = name;
+            event.uptime = uptime;
+            event.commit();
+            log.info(String.format("Startup reached %s after %d ms", name, uptime));
+        }
+    }
+
+    /**
+     * Logs when each task started and how long it took, in the order they started.
+     */
+    public void report() {
+        final StringBuilder report = new StringBuilder("Startup tasks:");
+        this.timings.entrySet().stream()
+                .sorted(Comparator.comparingLong(entry -> entry.getValue().start()))
+                .forEach(entry -> report.append(String.format("%n  %-24s %-10s started at %6d ms, took %6d ms", entry.getKey(), entry.getValue().thread(), entry.getValue().start(), entry.getValue().duration())));
+        log.info(report.toString());
+    }
+
+    /**
+     * Runs the static initializer of the class, to load its data before it is needed.
+     */
+    public static void initialize(final Class<?> type) {
+        try {
+            Class.forName(type.getName(), true, type.getClassLoader());
+        } catch (final ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void run(final String name, final Runnable action) {
+        final TaskEvent event = new TaskEvent();
+        event.task = name;
+        final long start = ManagementFactory.getRuntimeMXBean().getUptime();
+        final long startNanos = System.nanoTime();
+        event.begin();
+        try {
+            action.run();
+        } finally {
+            event.commit();
+            this.timings.put(name, new Timing(Thread.currentThread().getName(), start, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos)));
+        }
+    }
+
+    private record Timing(String thread, long start, long duration) {
+    }
+
+    @Name("nl.jixxed.eliteodysseymaterials.StartupTask")
+    @Label("Startup Task")
+    @Category({"Odyssey Materials Helper", "Startup"})
+    static class TaskEvent extends Event {
+        @Label("Task")
+        String task;
+    }
+
+    @Name("nl.jixxed.eliteodysseymaterials.StartupPhase")
+    @Label("Startup Phase")
+    @Category({"Odyssey Materials Helper", "Startup"})
+    static class PhaseEvent extends Event {
+        @Label("Phase")
+        String phase;
+        @Label("Uptime")
+        @jdk.jfr.Timespan(jdk.jfr.Timespan.MILLISECONDS)
+        long uptime;
+    }
+}
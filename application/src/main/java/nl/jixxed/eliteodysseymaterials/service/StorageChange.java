@@ -0,0 +1,13 @@
+package nl.jixxed.eliteodysseymaterials.service;
+
+import nl.jixxed.eliteodysseymaterials.enums.Material;
+import nl.jixxed.eliteodysseymaterials.enums.StoragePool;
+
+/**
+ * A single mutation of the amount of a material in a storage pool.
+ */
+public record StorageChange(Material material, StoragePool storagePool, int previous, int amount) {
+    public int delta() {
+        return this.amount - this.previous;
+    }
+}
@@ -0,0 +1,61 @@
+package nl.jixxed.eliteodysseymaterials.service;
+
+import nl.jixxed.eliteodysseymaterials.enums.Material;
+import nl.jixxed.eliteodysseymaterials.enums.StoragePool;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Append-only log of storage changes, kept in a ring buffer.
+ * <p>
+ * A reader keeps the position it has read up to and only consumes the changes after it. Once more changes were
+ * appended than the buffer holds the oldest are dropped, and a reader that fell that far behind has to read the
+ * storage again.
+ */
+class StorageChangeLog {
+    private final StorageChange[] changes;
+    private long position;
+
+    StorageChangeLog(final int capacity) {
+        this.changes = new StorageChange[capacity];
+    }
+
+    synchronized void append(final Material material, final StoragePool storagePool, final int previous, final int amount) {
+        this.changes[(int) (this.position % this.changes.length)] = new StorageChange(material, storagePool, previous, amount);
+        this.position++;
+    }
+
+    synchronized long getPosition() {
+        return this.position;
+    }
+
+    /**
+     * Passes the changes after the position to the consumer, or calls overflow instead if some of them were dropped.
+     *
+     * @return the position to read from next time
+     */
+    long read(final long from, final Consumer<StorageChange> consumer, final Runnable overflow) {
+        final List<StorageChange> read;
+        final long to;
+        synchronized (this) {
+            to = this.position;
+            if (to - from > this.changes.length) {
+                read = null;
+            } else {
+                read = new ArrayList<>((int) (to - from));
+                for (long index = from; index < to; index++) {
+                    read.add(this.changes[(int) (index % this.changes.length)]);
+                }
+            }
+        }
+        //consumers run outside the lock, so they can't hold up the writers
+        if (read == null) {
+            overflow.run();
+        } else {
+            read.forEach(consumer);
+        }
+        return to;
+    }
+}
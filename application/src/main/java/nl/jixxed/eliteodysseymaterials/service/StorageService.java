@@ -7,36 +7,65 @@ import nl.jixxed.eliteodysseymaterials.domain.AnyRelevantStorage;
 import nl.jixxed.eliteodysseymaterials.domain.Storage;
 import nl.jixxed.eliteodysseymaterials.enums.*;
 
-import java.util.Arrays;
 import java.util.Collections;
-import java.util.EnumMap;
 import java.util.Map;
-
+import java.util.function.Consumer;
+
+/**
+ * Amounts of all materials and commodities per storage pool.
+ * <p>
+ * Amounts are kept in primitive arrays per material enum with running totals per pool, see {@link MaterialStore}.
+ * Every change is also appended to a change log, so listeners can apply the deltas since they last looked instead of
+ * reading all amounts again.
+ */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class StorageService {
+    private static final int CHANGE_LOG_CAPACITY = 8192;
+    private static final StorageChangeLog CHANGE_LOG = new StorageChangeLog(CHANGE_LOG_CAPACITY);
+    private static final MaterialStore<Raw> RAW = new MaterialStore<>(Raw.class, CHANGE_LOG, StoragePool.SHIP);
+    private static final MaterialStore<Encoded> ENCODED = new MaterialStore<>(Encoded.class, CHANGE_LOG, StoragePool.SHIP);
+    private static final MaterialStore<Manufactured> MANUFACTURED = new MaterialStore<>(Manufactured.class, CHANGE_LOG, StoragePool.SHIP);
+    private static final MaterialStore<Commodity> COMMODITIES = new MaterialStore<>(Commodity.class, CHANGE_LOG, StoragePool.SHIP, StoragePool.SRV, StoragePool.FLEETCARRIER);
+    private static final MaterialStore<Good> GOODS = new MaterialStore<>(Good.class, CHANGE_LOG, StoragePool.BACKPACK, StoragePool.SHIPLOCKER, StoragePool.FLEETCARRIER);
+    private static final MaterialStore<Asset> ASSETS = new MaterialStore<>(Asset.class, CHANGE_LOG, StoragePool.BACKPACK, StoragePool.SHIPLOCKER, StoragePool.FLEETCARRIER);
+    private static final MaterialStore<Data> DATA = new MaterialStore<>(Data.class, CHANGE_LOG, StoragePool.BACKPACK, StoragePool.SHIPLOCKER, StoragePool.FLEETCARRIER);
+    private static final MaterialStore<Consumable> CONSUMABLES = new MaterialStore<>(Consumable.class, CHANGE_LOG, StoragePool.BACKPACK, StoragePool.SHIPLOCKER, StoragePool.FLEETCARRIER);
     @Getter
-    private static final Map<Raw, Integer> raw = new EnumMap<>(Raw.class);
+    private static final Map<Raw, Integer> raw = RAW.asMap(StoragePool.SHIP);
     @Getter
-    private static final Map<Encoded, Integer> encoded = new EnumMap<>(Encoded.class);
+    private static final Map<Encoded, Integer> encoded = ENCODED.asMap(StoragePool.SHIP);
     @Getter
-    private static final Map<Manufactured, Integer> manufactured = new EnumMap<>(Manufactured.class);
+    private static final Map<Manufactured, Integer> manufactured = MANUFACTURED.asMap(StoragePool.SHIP);
     @Getter
-    private static final Map<Commodity, Integer> commoditiesShip = new EnumMap<>(Commodity.class);
+    private static final Map<Commodity, Integer> commoditiesShip = COMMODITIES.asMap(StoragePool.SHIP);
     @Getter
-    private static final Map<Commodity, Integer> commoditiesSrv = new EnumMap<>(Commodity.class);
+    private static final Map<Commodity, Integer> commoditiesSrv = COMMODITIES.asMap(StoragePool.SRV);
     @Getter
-    private static final Map<Commodity, Integer> commoditiesFleetcarrier = new EnumMap<>(Commodity.class);
+    private static final Map<Commodity, Integer> commoditiesFleetcarrier = COMMODITIES.asMap(StoragePool.FLEETCARRIER);
     @Getter
-    private static final Map<Good, Storage> goods = new EnumMap<>(Good.class);
+    private static final Map<Good, Storage> goods = GOODS.asStorageMap();
     @Getter
-    private static final Map<Asset, Storage> assets = new EnumMap<>(Asset.class);
+    private static final Map<Asset, Storage> assets = ASSETS.asStorageMap();
     @Getter
-    private static final Map<Data, Storage> data = new EnumMap<>(Data.class);
+    private static final Map<Data, Storage> data = DATA.asStorageMap();
     @Getter
-    private static final Map<Consumable, Storage> consumables = new EnumMap<>(Consumable.class);
+    private static final Map<Consumable, Storage> consumables = CONSUMABLES.asStorageMap();
+
+    /**
+     * @return the position of the change log after the last change, to read the changes made from now on
+     */
+    public static long getChangeLogPosition() {
+        return CHANGE_LOG.getPosition();
+    }
 
-    static {
-        initCounts();
+    /**
+     * Passes the changes made after the position to the consumer. If the reader fell so far behind that some of those
+     * changes were dropped from the log, overflow is called instead and the reader should read all amounts again.
+     *
+     * @return the position to read from next time
+     */
+    public static long readChanges(final long position, final Consumer<StorageChange> consumer, final Runnable overflow) {
+        return CHANGE_LOG.read(position, consumer, overflow);
     }
 
     public static Map<OdysseyMaterial, Storage> getMaterials(final OdysseyStorageType storageType) {
@@ -72,35 +101,27 @@ public class StorageService {
 
     public static void addMaterial(final HorizonsMaterial material, final Integer amount) {
         if (material instanceof Raw rawMaterial) {
-            raw.put(rawMaterial, Math.min(raw.get(material) + amount, material.getMaxAmount()));
+            RAW.set(rawMaterial, StoragePool.SHIP, Math.min(RAW.get(rawMaterial, StoragePool.SHIP) + amount, material.getMaxAmount()));
         } else if (material instanceof Encoded encodedMaterial) {
-            encoded.put(encodedMaterial, Math.min(encoded.get(material) + amount, material.getMaxAmount()));
+            ENCODED.set(encodedMaterial, StoragePool.SHIP, Math.min(ENCODED.get(encodedMaterial, StoragePool.SHIP) + amount, material.getMaxAmount()));
         } else if (material instanceof Manufactured manufacturedMaterial) {
-            manufactured.put(manufacturedMaterial, Math.min(manufactured.get(material) + amount, material.getMaxAmount()));
+            MANUFACTURED.set(manufacturedMaterial, StoragePool.SHIP, Math.min(MANUFACTURED.get(manufacturedMaterial, StoragePool.SHIP) + amount, material.getMaxAmount()));
         } else if (material instanceof Commodity commodity) {
             throw new UnsupportedOperationException("use addCommodity instead");
         }
     }
 
     public static void addCommodity(final Commodity commodity, final StoragePool storagePool, final Integer amount) {
-        if (StoragePool.FLEETCARRIER.equals(storagePool)) {
-            commoditiesFleetcarrier.put(commodity, commoditiesFleetcarrier.get(commodity) + amount);
-        } else if (StoragePool.SHIP.equals(storagePool)) {
-            commoditiesShip.put(commodity, commoditiesShip.get(commodity) + amount);
-        } else if (StoragePool.SRV.equals(storagePool)) {
-            commoditiesSrv.put(commodity, commoditiesSrv.get(commodity) + amount);
-        } else {
-            throw new IllegalArgumentException("storagePool not supported");
-        }
+        COMMODITIES.set(commodity, storagePool, COMMODITIES.get(commodity, storagePool) + amount);
     }
 
     public static Integer getMaterialCount(final HorizonsMaterial material) {
-        if (material instanceof Raw) {
-            return raw.get(material);
-        } else if (material instanceof Encoded) {
-            return encoded.get(material);
-        } else if (material instanceof Manufactured) {
-            return manufactured.get(material);
+        if (material instanceof Raw rawMaterial) {
+            return RAW.get(rawMaterial, StoragePool.SHIP);
+        } else if (material instanceof Encoded encodedMaterial) {
+            return ENCODED.get(encodedMaterial, StoragePool.SHIP);
+        } else if (material instanceof Manufactured manufacturedMaterial) {
+            return MANUFACTURED.get(manufacturedMaterial, StoragePool.SHIP);
         } else if (material instanceof Commodity) {
             throw new UnsupportedOperationException("Use getCommodityCount instead");
         }
@@ -108,94 +129,61 @@ public class StorageService {
     }
 
     public static Integer getCommodityCount(final Commodity commodity, final StoragePool storagePool) {
-        if (StoragePool.FLEETCARRIER.equals(storagePool)) {
-            return commoditiesFleetcarrier.getOrDefault(commodity, 0);
-        } else if (StoragePool.SHIP.equals(storagePool)) {
-            return commoditiesShip.getOrDefault(commodity, 0);
-        } else if (StoragePool.SRV.equals(storagePool)) {
-            return commoditiesSrv.getOrDefault(commodity, 0);
+        if (StoragePool.FLEETCARRIER.equals(storagePool) || StoragePool.SHIP.equals(storagePool) || StoragePool.SRV.equals(storagePool)) {
+            return COMMODITIES.get(commodity, storagePool);
         }
         throw new IllegalArgumentException("Unknown storagePool for commodity");
     }
 
     public static void resetShipLockerCounts() {
-        getAssets().values().forEach(value -> value.setValue(0, StoragePool.SHIPLOCKER));
-        getData().values().forEach(value -> value.setValue(0, StoragePool.SHIPLOCKER));
-        getGoods().values().forEach(value -> value.setValue(0, StoragePool.SHIPLOCKER));
+        ASSETS.reset(StoragePool.SHIPLOCKER);
+        DATA.reset(StoragePool.SHIPLOCKER);
+        GOODS.reset(StoragePool.SHIPLOCKER);
     }
 
     public static void resetFleetCarrierCounts() {
-        getAssets().values().forEach(value -> value.setValue(0, StoragePool.FLEETCARRIER));
-        getData().values().forEach(value -> value.setValue(0, StoragePool.FLEETCARRIER));
-        getGoods().values().forEach(value -> value.setValue(0, StoragePool.FLEETCARRIER));
-        Arrays.stream(Commodity.values()).forEach(material ->
-                getCommoditiesFleetcarrier().put(material, 0)
-        );
+        ASSETS.reset(StoragePool.FLEETCARRIER);
+        DATA.reset(StoragePool.FLEETCARRIER);
+        GOODS.reset(StoragePool.FLEETCARRIER);
+        COMMODITIES.reset(StoragePool.FLEETCARRIER);
     }
 
     public static void resetSrvCounts() {
-        Arrays.stream(Commodity.values()).forEach(material ->
-                getCommoditiesSrv().put(material, 0)
-        );
+        COMMODITIES.reset(StoragePool.SRV);
     }
 
     public static void resetBackPackCounts() {
-        getAssets().values().forEach(value -> value.setValue(0, StoragePool.BACKPACK));
-        getData().values().forEach(value -> value.setValue(0, StoragePool.BACKPACK));
-        getGoods().values().forEach(value -> value.setValue(0, StoragePool.BACKPACK));
+        ASSETS.reset(StoragePool.BACKPACK);
+        DATA.reset(StoragePool.BACKPACK);
+        GOODS.reset(StoragePool.BACKPACK);
     }
 
     public static void resetHorizonsMaterialCounts() {
-        Arrays.stream(Raw.values()).forEach(material ->
-                getRaw().put(material, 0)
-        );
-        Arrays.stream(Encoded.values()).forEach(material ->
-                getEncoded().put(material, 0)
-        );
-        Arrays.stream(Manufactured.values()).forEach(material ->
-                getManufactured().put(material, 0)
-        );
+        RAW.reset(StoragePool.SHIP);
+        ENCODED.reset(StoragePool.SHIP);
+        MANUFACTURED.reset(StoragePool.SHIP);
     }
 
     public static void resetHorizonsCommodityCounts() {
-        Arrays.stream(Commodity.values()).forEach(material ->
-                getCommoditiesShip().put(material, 0)
-        );
-    }
-
-    private static void initCounts() {
-        Arrays.stream(Asset.values()).forEach(material ->
-                getAssets().put(material, new Storage())
-        );
-        Arrays.stream(Data.values()).forEach(material ->
-                getData().put(material, new Storage())
-        );
-        Arrays.stream(Good.values()).forEach(material ->
-                getGoods().put(material, new Storage())
-        );
-        Arrays.stream(Raw.values()).forEach(material ->
-                getRaw().put(material, 0)
-        );
-        Arrays.stream(Encoded.values()).forEach(material ->
-                getEncoded().put(material, 0)
-        );
-        Arrays.stream(Manufactured.values()).forEach(material ->
-                getManufactured().put(material, 0)
-        );
-        Arrays.stream(Commodity.values()).forEach(material -> {
-            getCommoditiesShip().put(material, 0);
-            getCommoditiesFleetcarrier().put(material, 0);
-            getCommoditiesSrv().put(material, 0);
-        });
+        COMMODITIES.reset(StoragePool.SHIP);
     }
 
     public static Integer getStorageTotal(final OdysseyStorageType storageType, final StoragePool... storagePools) {
-        return Arrays.stream(storagePools)
-                .map(storagePool -> getMaterials(storageType).values().stream()
-                        .map(storage -> storage.getValue(storagePool))
-                        .mapToInt(Integer::intValue)
-                        .sum())
-                .mapToInt(Integer::intValue)
-                .sum();
+        final MaterialStore<?> store = switch (storageType) {
+            case GOOD -> GOODS;
+            case DATA -> DATA;
+            case ASSET -> ASSETS;
+            case OTHER -> CONSUMABLES;
+            case TRADE, CONSUMABLE -> null;
+        };
+        if (store == null) {
+            //trade and consumable storages never hold an amount in any pool
+            return 0;
+        }
+        int total = 0;
+        for (final StoragePool storagePool : storagePools) {
+            total += store.getTotal(storagePool);
+        }
+        return total;
     }
 }
@@ -9,22 +9,28 @@ import nl.jixxed.eliteodysseymaterials.domain.StarSystem;
 import nl.jixxed.eliteodysseymaterials.enums.HorizonsBrokerType;
 import nl.jixxed.eliteodysseymaterials.enums.TechnologyBroker;
 import nl.jixxed.eliteodysseymaterials.enums.TechnologyBrokerJson;
+import nl.jixxed.eliteodysseymaterials.service.event.EventListener;
+import nl.jixxed.eliteodysseymaterials.service.event.EventService;
+import nl.jixxed.eliteodysseymaterials.service.event.TechnologyBrokerRangeChangedEvent;
 
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.List;
+import java.util.*;
+import java.util.stream.Collectors;
 
 @Slf4j
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class TechnologyBrokerService {
     private static final List<TechnologyBroker> TECHNOLOGY_BROKERS = new ArrayList<>();
+    private static final Map<HorizonsBrokerType, KdTree<TechnologyBroker>> BROKERS_BY_TYPE = new EnumMap<>(HorizonsBrokerType.class);
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final List<EventListener<?>> EVENT_LISTENERS = new ArrayList<>();
+    private static volatile int range = PreferencesService.getPreference(PreferenceConstants.HORIZONS_TECHNOLOGY_BROKER_MAX_RANGE, 5000);
 
     static {
+        EVENT_LISTENERS.add(EventService.addStaticListener(0, TechnologyBrokerRangeChangedEvent.class, event -> range = event.getRange()));
 
         final InputStream inputStream = TechnologyBrokerService.class.getResourceAsStream("/technologybroker/brokers.json");
 
@@ -37,18 +43,35 @@ public class TechnologyBrokerService {
         } catch (final IOException ex) {
             throw new RuntimeException(ex);
         }
+        TECHNOLOGY_BROKERS.stream()
+                .collect(Collectors.groupingBy(TechnologyBroker::getType, () -> new EnumMap<>(HorizonsBrokerType.class), Collectors.toList()))
+                .forEach((type, technologyBrokers) -> BROKERS_BY_TYPE.put(type, KdTree.of(technologyBrokers, TechnologyBroker::getStarSystem)));
     }
 
 
     public static TechnologyBroker findClosest(final StarSystem currentLocation, final List<HorizonsBrokerType> horizonsBrokerTypes) {
-        final Integer range = PreferencesService.getPreference(PreferenceConstants.HORIZONS_TECHNOLOGY_BROKER_MAX_RANGE, 5000);
-        return TECHNOLOGY_BROKERS.stream()
-                .filter(technologyBroker -> horizonsBrokerTypes.contains(technologyBroker.getType()) && technologyBroker.getDistanceFromStar() <= range)
-                .min(Comparator.comparing(technologyBroker -> getDistance(technologyBroker.getStarSystem(), currentLocation)))
+        return findClosest(currentLocation, horizonsBrokerTypes, range);
+    }
+
+    /**
+     * Brokers at the same distance are ordered as they were loaded, whatever their type, like a scan of all brokers.
+     */
+    static TechnologyBroker findClosest(final StarSystem currentLocation, final List<HorizonsBrokerType> horizonsBrokerTypes, final int range) {
+        return horizonsBrokerTypes.stream()
+                .distinct()
+                .map(BROKERS_BY_TYPE::get)
+                .filter(Objects::nonNull)
+                .map(technologyBrokers -> technologyBrokers.nearest(currentLocation, technologyBroker -> technologyBroker.getDistanceFromStar() <= range))
+                .flatMap(Optional::stream)
+                .min(Comparator.comparingDouble((TechnologyBroker technologyBroker) -> getDistance(technologyBroker.getStarSystem(), currentLocation))
+                        .thenComparingInt(TECHNOLOGY_BROKERS::indexOf))
                 .orElseThrow(IllegalArgumentException::new);
     }
 
     public static Double getDistance(final StarSystem location1, final StarSystem location2) {
-        return Math.sqrt(Math.pow(location1.getX() - location2.getX(), 2) + Math.pow(location1.getY() - location2.getY(), 2) + Math.pow(location1.getZ() - location2.getZ(), 2));
+        final double dx = location1.getX() - location2.getX();
+        final double dy = location1.getY() - location2.getY();
+        final double dz = location1.getZ() - location2.getZ();
+        return Math.sqrt(dx * dx + dy * dy + dz * dz);
     }
 }
@@ -0,0 +1,106 @@
+package nl.jixxed.eliteodysseymaterials.service;
+
+import nl.jixxed.eliteodysseymaterials.enums.Material;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Required amount per material for the selected wishlist and for all wishlists of a commander.
+ * <p>
+ * Materials are spread over several enums, so amounts are kept in one int array per enum, indexed by ordinal.
+ * The index is tied to the repository version of the wishlists it was built from and is kept up to date by applying
+ * the contribution of each added, removed or modified wishlist blueprint.
+ */
+class WishlistDemandIndex<M extends Material> {
+    private final Map<Class<?>, int[]> all = new IdentityHashMap<>();
+    private final Map<Class<?>, int[]> selected = new IdentityHashMap<>();
+    private final Map<String, Map<M, Integer>> itemContributions = new HashMap<>();
+    private long version = -1L;
+    private String selectedWishlistUUID;
+    private boolean allSelected;
+    private long builds;
+
+    synchronized boolean isBuiltFrom(final long version) {
+        return this.version == version;
+    }
+
+    synchronized void reset(final long version, final String selectedWishlistUUID, final boolean allSelected) {
+        this.all.clear();
+        this.selected.clear();
+        this.itemContributions.clear();
+        this.version = version;
+        this.selectedWishlistUUID = selectedWishlistUUID;
+        this.allSelected = allSelected;
+        this.builds++;
+    }
+
+    /**
+     * Moves the index to a new version of the wishlists that has the same content, e.g. after a save.
+     */
+    synchronized void rebind(final long version) {
+        this.version = version;
+    }
+
+    /**
+     * @return how often the index was reset to be built from scratch
+     */
+    synchronized long getBuilds() {
+        return this.builds;
+    }
+
+    synchronized void addItem(final String wishlistUUID, final String itemUUID, final Map<M, Integer> demand) {
+        if (itemUUID != null) {
+            this.itemContributions.put(itemKey(wishlistUUID, itemUUID), demand);
+        }
+        apply(wishlistUUID, demand, 1);
+    }
+
+    synchronized void removeItem(final String wishlistUUID, final String itemUUID, final Map<M, Integer> demand) {
+        final Map<M, Integer> recorded = itemUUID != null ? this.itemContributions.remove(itemKey(wishlistUUID, itemUUID)) : null;
+        apply(wishlistUUID, recorded != null ? recorded : demand, -1);
+    }
+
+    synchronized void modifyItem(final String wishlistUUID, final String itemUUID, final Map<M, Integer> demand) {
+        final Map<M, Integer> recorded = this.itemContributions.put(itemKey(wishlistUUID, itemUUID), demand);
+        if (recorded != null) {
+            apply(wishlistUUID, recorded, -1);
+        }
+        apply(wishlistUUID, demand, 1);
+    }
+
+    synchronized int getSelected(final M material) {
+        return get(this.selected, material);
+    }
+
+    synchronized int getAll(final M material) {
+        return get(this.all, material);
+    }
+
+    private void apply(final String wishlistUUID, final Map<M, Integer> demand, final int sign) {
+        final boolean isSelected = this.allSelected || wishlistUUID.equals(this.selectedWishlistUUID);
+        demand.forEach((material, amount) -> {
+            add(this.all, material, sign * amount);
+            if (isSelected) {
+                add(this.selected, material, sign * amount);
+            }
+        });
+    }
+
+    private static String itemKey(final String wishlistUUID, final String itemUUID) {
+        return wishlistUUID + "/" + itemUUID;
+    }
+
+    private static void add(final Map<Class<?>, int[]> table, final Material material, final int amount) {
+        final Enum<?> constant = (Enum<?>) material;
+        final Class<?> type = constant.getDeclaringClass();
+        table.computeIfAbsent(type, key -> new int[key.getEnumConstants().length])[constant.ordinal()] += amount;
+    }
+
+    private static int get(final Map<Class<?>, int[]> table, final Material material) {
+        final Enum<?> constant = (Enum<?>) material;
+        final int[] amounts = table.get(constant.getDeclaringClass());
+        return amounts != null ? amounts[constant.ordinal()] : 0;
+    }
+}
@@ -1,32 +1,31 @@
 package nl.jixxed.eliteodysseymaterials.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import javafx.application.Platform;
 import lombok.extern.slf4j.Slf4j;
 import nl.jixxed.eliteodysseymaterials.constants.AppConstants;
 import nl.jixxed.eliteodysseymaterials.constants.HorizonsBlueprintConstants;
 import nl.jixxed.eliteodysseymaterials.constants.OdysseyBlueprintConstants;
-import nl.jixxed.eliteodysseymaterials.constants.OsConstants;
 import nl.jixxed.eliteodysseymaterials.domain.*;
 import nl.jixxed.eliteodysseymaterials.enums.*;
 import nl.jixxed.eliteodysseymaterials.service.event.*;
 
-import java.io.File;
-import java.io.FileOutputStream;
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 @Slf4j
 public class WishlistService {
 
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
     public static final ApplicationState APPLICATION_STATE = ApplicationState.getInstance();
     private static final List<EventListener<?>> EVENT_LISTENERS = new ArrayList<>();
+    private static final CommanderFileRepository<Wishlists> ODYSSEY_WISHLISTS = new CommanderFileRepository<>(AppConstants.ODYSSEY_WISHLIST_FILE, Wishlists.class, WishlistService::createWishlists);
+    private static final CommanderFileRepository<HorizonsWishlists> HORIZONS_WISHLISTS = new CommanderFileRepository<>(AppConstants.HORIZONS_WISHLIST_FILE, HorizonsWishlists.class, WishlistService::createHorizonsWishlists);
+    private static final WishlistDemandIndex<OdysseyMaterial> ODYSSEY_DEMAND = new WishlistDemandIndex<>();
+    private static final WishlistDemandIndex<HorizonsMaterial> HORIZONS_DEMAND = new WishlistDemandIndex<>();
 
     static {
 
@@ -62,60 +61,117 @@ public class WishlistService {
     }
 
     public static Integer getAllWishlistsCount(final OdysseyMaterial odysseyMaterial) {
-        return APPLICATION_STATE.getPreferredCommander().map(commander ->
-                        getWishlists(commander).getWishlists().stream().mapToInt(wishlist -> wishlist.getItems().stream()
-                                        .map(odysseyWishlistBlueprint -> OdysseyBlueprintConstants.getRecipe(odysseyWishlistBlueprint.getRecipeName()).getRequiredAmount(odysseyMaterial))
-                                        .mapToInt(Integer::intValue)
-                                        .sum())
-                                .sum())
+        return APPLICATION_STATE.getPreferredCommander()
+                .map(commander -> getOdysseyDemand(commander).getAll(odysseyMaterial))
                 .orElse(0);
-
     }
 
     public static Integer getCurrentWishlistCount(final OdysseyMaterial odysseyMaterial) {
-        return APPLICATION_STATE.getPreferredCommander().map(commander ->
-                getWishlists(commander).getSelectedWishlist().getItems().stream()
-                        .map(odysseyWishlistBlueprint -> OdysseyBlueprintConstants.getRecipe(odysseyWishlistBlueprint.getRecipeName()).getRequiredAmount(odysseyMaterial))
-                        .mapToInt(Integer::intValue)
-                        .sum()
-        ).orElse(0);
-
+        return APPLICATION_STATE.getPreferredCommander()
+                .map(commander -> getOdysseyDemand(commander).getSelected(odysseyMaterial))
+                .orElse(0);
     }
 
     public static Integer getCurrentWishlistCount(final HorizonsMaterial horizonsMaterial) {
-        return APPLICATION_STATE.getPreferredCommander().map(commander ->
-                getHorizonsWishlists(commander).getSelectedWishlist().getItems().stream()
-                        .mapToInt(horizonsWishlistBlueprint -> {
-                            if (horizonsWishlistBlueprint instanceof HorizonsModuleWishlistBlueprint horizonsModuleWishlistBlueprint) {//modules
-                                return horizonsModuleWishlistBlueprint.getBlueprintGradeRolls().entrySet().stream().mapToInt(entry -> {
-                                    final HorizonsBlueprint blueprint = (HorizonsBlueprint) HorizonsBlueprintConstants.getRecipe(horizonsModuleWishlistBlueprint.getRecipeName(), getBlueprintType(horizonsModuleWishlistBlueprint), entry.getKey());
-                                    return blueprint.getRequiredAmount(horizonsMaterial) * entry.getValue();
-                                }).sum();
-                            } else {//other
-                                final HorizonsBlueprint blueprint = (HorizonsBlueprint) HorizonsBlueprintConstants.getRecipe((HorizonsBlueprintName) horizonsWishlistBlueprint.getRecipeName(), getBlueprintType(horizonsWishlistBlueprint), getBlueprintGrade(horizonsWishlistBlueprint));
-                                return blueprint.getRequiredAmount(horizonsMaterial);
-                            }
-                        })
-                        .sum()
-        ).orElse(0);
+        return APPLICATION_STATE.getPreferredCommander()
+                .map(commander -> getHorizonsDemand(commander).getSelected(horizonsMaterial))
+                .orElse(0);
     }
 
     public static Integer getAllWishlistsCount(final HorizonsMaterial horizonsMaterial) {
-        return APPLICATION_STATE.getPreferredCommander().map(commander ->
-                getHorizonsWishlists(commander).getWishlists().stream().mapToInt(wishlist -> wishlist.getItems().stream()
-                        .mapToInt(horizonsWishlistBlueprint -> {
-                            if (horizonsWishlistBlueprint instanceof HorizonsModuleWishlistBlueprint horizonsModuleWishlistBlueprint) {//modules
-                                return horizonsModuleWishlistBlueprint.getBlueprintGradeRolls().entrySet().stream().mapToInt(entry -> {
-                                    final HorizonsBlueprint blueprint = (HorizonsBlueprint) HorizonsBlueprintConstants.getRecipe(horizonsModuleWishlistBlueprint.getRecipeName(), getBlueprintType(horizonsModuleWishlistBlueprint), entry.getKey());
-                                    return blueprint.getRequiredAmount(horizonsMaterial) * entry.getValue();
-                                }).sum();
-                            } else {//other
-                                final HorizonsBlueprint blueprint = (HorizonsBlueprint) HorizonsBlueprintConstants.getRecipe((HorizonsBlueprintName) horizonsWishlistBlueprint.getRecipeName(), getBlueprintType(horizonsWishlistBlueprint), getBlueprintGrade(horizonsWishlistBlueprint));
-                                return blueprint.getRequiredAmount(horizonsMaterial);
-                            }
-                        })
-                        .sum()
-                ).sum()).orElse(0);
+        return APPLICATION_STATE.getPreferredCommander()
+                .map(commander -> getHorizonsDemand(commander).getAll(horizonsMaterial))
+                .orElse(0);
+    }
+
+    static WishlistDemandIndex<OdysseyMaterial> getOdysseyDemand(final Commander commander) {
+        synchronized (ODYSSEY_DEMAND) {
+            final long version = ODYSSEY_WISHLISTS.getVersion(commander);
+            if (!ODYSSEY_DEMAND.isBuiltFrom(version)) {
+                final Wishlists wishlists = getWishlists(commander);
+                final Wishlist selectedWishlist = wishlists.getSelectedWishlist();
+                ODYSSEY_DEMAND.reset(version, selectedWishlist.getUuid(), selectedWishlist == Wishlist.ALL);
+                wishlists.getWishlists().forEach(wishlist -> wishlist.getItems()
+                        .forEach(wishlistBlueprint -> ODYSSEY_DEMAND.addItem(wishlist.getUuid(), null, getDemand(wishlistBlueprint))));
+            }
+            return ODYSSEY_DEMAND;
+        }
+    }
+
+    static WishlistDemandIndex<HorizonsMaterial> getHorizonsDemand(final Commander commander) {
+        synchronized (HORIZONS_DEMAND) {
+            final long version = HORIZONS_WISHLISTS.getVersion(commander);
+            if (!HORIZONS_DEMAND.isBuiltFrom(version)) {
+                final HorizonsWishlists wishlists = getHorizonsWishlists(commander);
+                final HorizonsWishlist selectedWishlist = wishlists.getSelectedWishlist();
+                HORIZONS_DEMAND.reset(version, selectedWishlist.getUuid(), selectedWishlist == HorizonsWishlist.ALL);
+                wishlists.getWishlists().forEach(wishlist -> wishlist.getItems()
+                        .forEach(wishlistBlueprint -> HORIZONS_DEMAND.addItem(wishlist.getUuid(), ((HorizonsWishlistBlueprint) wishlistBlueprint).getUuid(), getDemand(wishlistBlueprint))));
+            }
+            return HORIZONS_DEMAND;
+        }
+    }
+
+    /**
+     * Saves the wishlists and applies the change to the demand index, if the index was built from the current version
+     * of the wishlists. Otherwise the index is rebuilt on the next count.
+     */
+    private static void saveWishlists(final Commander commander, final Wishlists wishlists, final Consumer<WishlistDemandIndex<OdysseyMaterial>> demandChange) {
+        synchronized (ODYSSEY_DEMAND) {
+            final boolean indexed = ODYSSEY_DEMAND.isBuiltFrom(ODYSSEY_WISHLISTS.getVersion(commander));
+            if (indexed) {
+                demandChange.accept(ODYSSEY_DEMAND);
+            }
+            saveWishlists(commander, wishlists);
+            if (indexed) {
+                ODYSSEY_DEMAND.rebind(ODYSSEY_WISHLISTS.getVersion(commander));
+            }
+        }
+    }
+
+    private static void saveHorizonsWishlists(final Commander commander, final HorizonsWishlists wishlists, final Consumer<WishlistDemandIndex<HorizonsMaterial>> demandChange) {
+        synchronized (HORIZONS_DEMAND) {
+            final boolean indexed = HORIZONS_DEMAND.isBuiltFrom(HORIZONS_WISHLISTS.getVersion(commander));
+            if (indexed) {
+                demandChange.accept(HORIZONS_DEMAND);
+            }
+            saveHorizonsWishlists(commander, wishlists);
+            if (indexed) {
+                HORIZONS_DEMAND.rebind(HORIZONS_WISHLISTS.getVersion(commander));
+            }
+        }
+    }
+
+    private static Map<OdysseyMaterial, Integer> getDemand(final OdysseyWishlistBlueprint wishlistBlueprint) {
+        return new HashMap<>(OdysseyBlueprintConstants.getRecipe(wishlistBlueprint.getRecipeName()).getMaterialCollection(OdysseyMaterial.class));
+    }
+
+    private static Map<HorizonsMaterial, Integer> getDemand(final WishlistBlueprint<HorizonsBlueprintName> wishlistBlueprint) {
+        if (wishlistBlueprint instanceof HorizonsModuleWishlistBlueprint horizonsModuleWishlistBlueprint) {//modules
+            final Map<HorizonsMaterial, Integer> demand = new HashMap<>();
+            horizonsModuleWishlistBlueprint.getBlueprintGradeRolls().forEach((grade, rolls) -> {
+                final HorizonsBlueprint blueprint = (HorizonsBlueprint) HorizonsBlueprintConstants.getRecipe(horizonsModuleWishlistBlueprint.getRecipeName(), getBlueprintType(horizonsModuleWishlistBlueprint), grade);
+                blueprint.getMaterialCollection(HorizonsMaterial.class).forEach((material, amount) -> demand.merge(material, amount * rolls, Integer::sum));
+            });
+            return demand;
+        } else {//other
+            final HorizonsBlueprint blueprint = (HorizonsBlueprint) HorizonsBlueprintConstants.getRecipe((HorizonsBlueprintName) wishlistBlueprint.getRecipeName(), getBlueprintType(wishlistBlueprint), getBlueprintGrade(wishlistBlueprint));
+            return new HashMap<>(blueprint.getMaterialCollection(HorizonsMaterial.class));
+        }
+    }
+
+    /**
+     * Passes every blueprint on the Horizons wishlists of the commander to the consumer, with the number of rolls.
+     */
+    static void forEachHorizonsBlueprint(final Commander commander, final BiConsumer<HorizonsBlueprint, Integer> blueprintRolls) {
+        getHorizonsWishlists(commander).getWishlists().forEach(wishlist -> wishlist.getItems().forEach(wishlistBlueprint -> {
+            if (wishlistBlueprint instanceof HorizonsModuleWishlistBlueprint horizonsModuleWishlistBlueprint) {
+                horizonsModuleWishlistBlueprint.getBlueprintGradeRolls().forEach((grade, rolls) ->
+                        blueprintRolls.accept((HorizonsBlueprint) HorizonsBlueprintConstants.getRecipe(horizonsModuleWishlistBlueprint.getRecipeName(), getBlueprintType(horizonsModuleWishlistBlueprint), grade), rolls));
+            } else {
+                blueprintRolls.accept((HorizonsBlueprint) HorizonsBlueprintConstants.getRecipe((HorizonsBlueprintName) wishlistBlueprint.getRecipeName(), getBlueprintType(wishlistBlueprint), getBlueprintGrade(wishlistBlueprint)), 1);
+            }
+        }));
     }
 
     private static HorizonsBlueprintType getBlueprintType(final WishlistBlueprint<HorizonsBlueprintName> blueprint) {
@@ -139,40 +195,19 @@ public class WishlistService {
     }
 
     public static boolean isMaterialOnWishlist(final OdysseyMaterial odysseyMaterial) {
-        return APPLICATION_STATE.getPreferredCommander()
-                .map(commander -> getWishlists(commander).getWishlists().stream()
-                        .anyMatch(wishlist -> wishlist.getItems().stream()
-                                .anyMatch(wishlistBlueprint -> OdysseyBlueprintConstants.getRecipe(wishlistBlueprint.getRecipeName()).hasIngredient(odysseyMaterial))))
-                .orElse(false);
-
+        return getAllWishlistsCount(odysseyMaterial) > 0;
     }
 
     public static boolean isMaterialOnWishlist(final HorizonsMaterial horizonsMaterial) {
-        return APPLICATION_STATE.getPreferredCommander()
-                .map(commander -> getHorizonsWishlists(commander).getWishlists().stream()
-                        .anyMatch(wishlist -> wishlist.getItems().stream()
-                                .anyMatch(wishlistBlueprint -> {
-                                    if (wishlistBlueprint instanceof HorizonsModuleWishlistBlueprint horizonsModuleWishlistBlueprint) {//modules
-                                        return horizonsModuleWishlistBlueprint.getBlueprintGradeRolls().entrySet().stream().anyMatch(entry -> {
-                                            final HorizonsBlueprint blueprint = (HorizonsBlueprint) HorizonsBlueprintConstants.getRecipe(horizonsModuleWishlistBlueprint.getRecipeName(), getBlueprintType(horizonsModuleWishlistBlueprint), entry.getKey());
-                                            return blueprint.hasIngredient(horizonsMaterial);
-                                        });
-                                    } else {//other
-                                        final HorizonsBlueprint blueprint = (HorizonsBlueprint) HorizonsBlueprintConstants.getRecipe((HorizonsBlueprintName) wishlistBlueprint.getRecipeName(), getBlueprintType(wishlistBlueprint), getBlueprintGrade(wishlistBlueprint));
-                                        return blueprint.hasIngredient(horizonsMaterial);
-                                    }
-
-                                })))
-                .orElse(false);
-
+        return getAllWishlistsCount(horizonsMaterial) > 0;
     }
 
-
     private static void addToWishList(final String wishlistUUID, final Commander commander, final BlueprintName recipe) {
         final Wishlists wishlists = getWishlists(commander);
         final Wishlist wishlist = wishlists.getWishlist(wishlistUUID);
-        wishlist.getItems().add(new OdysseyWishlistBlueprint((OdysseyBlueprintName) recipe, true));
-        saveWishlists(commander, wishlists);
+        final OdysseyWishlistBlueprint wishlistBlueprint = new OdysseyWishlistBlueprint((OdysseyBlueprintName) recipe, true);
+        wishlist.getItems().add(wishlistBlueprint);
+        saveWishlists(commander, wishlists, demand -> demand.addItem(wishlistUUID, null, getDemand(wishlistBlueprint)));
         EventService.publish(new WishlistChangedEvent(wishlistUUID));
     }
 
@@ -180,7 +215,7 @@ public class WishlistService {
         final HorizonsWishlists wishlists = getHorizonsWishlists(commander);
         final HorizonsWishlist wishlist = wishlists.getWishlist(wishlistUUID);
         wishlist.getItems().add(recipe);
-        saveHorizonsWishlists(commander, wishlists);
+        saveHorizonsWishlists(commander, wishlists, demand -> demand.addItem(wishlistUUID, recipe.getUuid(), getDemand(recipe)));
         EventService.publish(new HorizonsWishlistChangedEvent(wishlistUUID));
     }
 
@@ -189,7 +224,7 @@ public class WishlistService {
         final Wishlist wishlist = wishlists.getWishlist(wishlistUUID);
         final Optional<OdysseyWishlistBlueprint> found = wishlist.getItems().stream().filter(wishlistRecipe -> wishlistRecipe.equals(recipe)).findFirst();
         found.ifPresent(wishlistRecipe -> wishlist.getItems().remove(wishlistRecipe));
-        saveWishlists(commander, wishlists);
+        saveWishlists(commander, wishlists, demand -> found.ifPresent(wishlistRecipe -> demand.removeItem(wishlistUUID, null, getDemand(wishlistRecipe))));
         EventService.publish(new WishlistChangedEvent(wishlistUUID));
     }
 
@@ -198,7 +233,7 @@ public class WishlistService {
         final HorizonsWishlist wishlist = wishlists.getWishlist(wishlistUUID);
         final Optional<WishlistBlueprint<HorizonsBlueprintName>> found = wishlist.getItems().stream().filter(wishlistRecipe -> ((HorizonsWishlistBlueprint) wishlistRecipe).getUuid().equals(recipe.getUuid())).findFirst();
         found.ifPresent(wishlistRecipe -> wishlist.getItems().remove(wishlistRecipe));
-        saveHorizonsWishlists(commander, wishlists);
+        saveHorizonsWishlists(commander, wishlists, demand -> found.ifPresent(wishlistRecipe -> demand.removeItem(wishlistUUID, recipe.getUuid(), getDemand(wishlistRecipe))));
         EventService.publish(new HorizonsWishlistChangedEvent(wishlistUUID));
     }
 
@@ -207,7 +242,9 @@ public class WishlistService {
         final Wishlist wishlist = wishlists.getWishlist(wishlistUUID);
         final Optional<OdysseyWishlistBlueprint> existingRecipe = wishlist.getItems().stream().filter(recipe -> recipe.getRecipeName().equals(wishlistBlueprint.getRecipeName()) && recipe.isVisible() == !wishlistBlueprint.isVisible()).findFirst();
         existingRecipe.ifPresent(recipe -> recipe.setVisible(wishlistBlueprint.isVisible()));
-        saveWishlists(commander, wishlists);
+        //hidden blueprints still count towards the demand
+        saveWishlists(commander, wishlists, demand -> {
+        });
         EventService.publish(new WishlistChangedEvent(wishlistUUID));
     }
 
@@ -217,7 +254,9 @@ public class WishlistService {
         final Optional<WishlistBlueprint<HorizonsBlueprintName>> existingRecipe = wishlist.getItems().stream().filter(recipe -> wishlistBlueprint.getUuid().equals(((HorizonsWishlistBlueprint) recipe).getUuid()) && recipe.isVisible() == !wishlistBlueprint.isVisible()).
                 findFirst();
         existingRecipe.ifPresent(recipe -> recipe.setVisible(wishlistBlueprint.isVisible()));
-        saveHorizonsWishlists(commander, wishlists);
+        //hidden blueprints still count towards the demand
+        saveHorizonsWishlists(commander, wishlists, demand -> {
+        });
         EventService.publish(new HorizonsWishlistChangedEvent(wishlistUUID));
     }
 
@@ -233,7 +272,7 @@ public class WishlistService {
                 moduleWishlistBlueprint.setBlueprintGradeRolls(((HorizonsModuleWishlistBlueprint) wishlistBlueprint).getBlueprintGradeRolls());
             }
         });
-        saveHorizonsWishlists(commander, wishlists);
+        saveHorizonsWishlists(commander, wishlists, demand -> existingRecipe.ifPresent(recipe -> demand.modifyItem(wishlistUUID, recipe.getUuid(), getDemand(recipe))));
         EventService.publish(new HorizonsWishlistChangedEvent(wishlistUUID));
     }
 
@@ -251,105 +290,27 @@ public class WishlistService {
 
 
     public static HorizonsWishlists getHorizonsWishlists(final Commander commander) {
-        try {
-            final String pathname = commander.getCommanderFolder();
-            final File commanderFolder = new File(pathname);
-            commanderFolder.mkdirs();
-            final File wishlistsFile = new File(pathname + OsConstants.OS_SLASH + AppConstants.HORIZONS_WISHLIST_FILE);
-            String wishlistsFileContents;
-            if (wishlistsFile.exists()) {//load from file if exists
-                wishlistsFileContents = Files.readString(wishlistsFile.toPath());
-                if (wishlistsFileContents.isEmpty()) {//create default if empty
-                    createHorizonsWishlist(commander);
-                }
-            } else {//save to file from preferences
-                createHorizonsWishlist(commander);
-            }
-            wishlistsFileContents = Files.readString(wishlistsFile.toPath());
-            try {
-                return OBJECT_MAPPER.readValue(wishlistsFileContents, HorizonsWishlists.class);
-            } catch (final IOException e) {
-                log.warn("Unable to load horizons wishlists from configuration. Try to create new one.", e);
-                createHorizonsWishlist(commander);
-                wishlistsFileContents = Files.readString(wishlistsFile.toPath());
-                return OBJECT_MAPPER.readValue(wishlistsFileContents, HorizonsWishlists.class);
-            }
-        } catch (final IOException e) {
-            log.error("Unable to load horizons wishlists from configuration.", e);
-            throw new RuntimeException(e);
-        }
+        return HORIZONS_WISHLISTS.get(commander);
     }
 
     public static Wishlists getWishlists(final Commander commander) {
-        try {
-            final String pathname = commander.getCommanderFolder();
-            final File commanderFolder = new File(pathname);
-            commanderFolder.mkdirs();
-            final File wishlistsFile = new File(pathname + OsConstants.OS_SLASH + AppConstants.ODYSSEY_WISHLIST_FILE);
-            String wishlistsFileContents;
-            if (wishlistsFile.exists()) {//load from file if exists
-                wishlistsFileContents = Files.readString(wishlistsFile.toPath());
-                if (wishlistsFileContents.isEmpty()) {//create default if empty
-                    createWishlist(commander);
-                }
-            } else {//save to file from preferences
-                createWishlist(commander);
-            }
-            wishlistsFileContents = Files.readString(wishlistsFile.toPath());
-            try {
-                return OBJECT_MAPPER.readValue(wishlistsFileContents, Wishlists.class);
-            } catch (final IOException e) {
-                log.warn("Unable to load wishlists from configuration. Try to create new one.", e);
-                createWishlist(commander);
-                wishlistsFileContents = Files.readString(wishlistsFile.toPath());
-                return OBJECT_MAPPER.readValue(wishlistsFileContents, Wishlists.class);
-            }
-        } catch (final IOException e) {
-            log.error("Unable to load wishlists from configuration.", e);
-            throw new RuntimeException(e);
-        }
+        return ODYSSEY_WISHLISTS.get(commander);
     }
 
-    private static void createWishlist(final Commander commander) {
+    private static Wishlists createWishlists() {
         final Wishlists wishlists = new Wishlists();
         final Wishlist defaultWishlist = new Wishlist();
         defaultWishlist.setName("Default wishlist");
         wishlists.addWishlist(defaultWishlist);
-        saveWishlists(commander, wishlists);
+        return wishlists;
     }
 
     public static void saveHorizonsWishlists(final Commander commander, final HorizonsWishlists wishlists) {
-        try {
-            final String wishlistsJson = OBJECT_MAPPER.writeValueAsString(wishlists);
-            final String pathname = commander.getCommanderFolder();
-            final File commanderFolder = new File(pathname);
-            commanderFolder.mkdirs();
-            final File wishlistsFile = new File(pathname + OsConstants.OS_SLASH + AppConstants.HORIZONS_WISHLIST_FILE);
-            try (final FileOutputStream fileOutputStream = new FileOutputStream(wishlistsFile)) {
-                fileOutputStream.write(wishlistsJson.getBytes(StandardCharsets.UTF_8));
-            }
-        } catch (final JsonProcessingException e) {
-            log.error("Failed to save horizons wishlists", e);
-        } catch (final IOException e) {
-            log.error("Failed to save horizons wishlists to wishlists file", e);
-        }
+        HORIZONS_WISHLISTS.save(commander, wishlists);
     }
 
     public static void saveWishlists(final Commander commander, final Wishlists wishlists) {
-        try {
-            final String wishlistsJson = OBJECT_MAPPER.writeValueAsString(wishlists);
-            final String pathname = commander.getCommanderFolder();
-            final File commanderFolder = new File(pathname);
-            commanderFolder.mkdirs();
-            final File wishlistsFile = new File(pathname + OsConstants.OS_SLASH + AppConstants.ODYSSEY_WISHLIST_FILE);
-            try (final FileOutputStream fileOutputStream = new FileOutputStream(wishlistsFile)) {
-                fileOutputStream.write(wishlistsJson.getBytes(StandardCharsets.UTF_8));
-            }
-        } catch (final JsonProcessingException e) {
-            log.error("Failed to save odyssey wishlists", e);
-        } catch (final IOException e) {
-            log.error("Failed to save odyssey wishlists to wishlists file", e);
-        }
+        ODYSSEY_WISHLISTS.save(commander, wishlists);
     }
 
     public static void deleteWishlist(final String activeWishlistUUID, final Commander commander) {
@@ -364,13 +325,12 @@ public class WishlistService {
         saveHorizonsWishlists(commander, wishlists);
     }
 
-    private static void createHorizonsWishlist(final Commander commander) {
-
+    private static HorizonsWishlists createHorizonsWishlists() {
         final HorizonsWishlists wishlists = new HorizonsWishlists();
         final HorizonsWishlist defaultWishlist = new HorizonsWishlist();
         defaultWishlist.setName("Default wishlist");
         wishlists.addWishlist(defaultWishlist);
-        saveHorizonsWishlists(commander, wishlists);
+        return wishlists;
     }
 
 
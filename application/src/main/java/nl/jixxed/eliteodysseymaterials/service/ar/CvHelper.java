@@ -10,10 +10,13 @@ import org.opencv.core.Point;
 import org.opencv.imgcodecs.Imgcodecs;
 import org.opencv.imgproc.Imgproc;
 
+import javax.imageio.ImageIO;
 import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.awt.image.DataBufferByte;
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 
 @Slf4j
 public class CvHelper {
@@ -27,6 +30,20 @@ public class CvHelper {
         return convertToMat(buffImg, null);
     }
 
+    /**
+     * Reads an image resource into an OpenCV Mat without JavaFX, so templates can also be loaded headless.
+     */
+    public static Mat loadTemplate(final String resource) {
+        try (final InputStream inputStream = CvHelper.class.getResourceAsStream(resource)) {
+            if (inputStream == null) {
+                throw new IllegalArgumentException("Template not found: " + resource);
+            }
+            return convertToMat(ImageIO.read(inputStream), null);
+        } catch (final IOException e) {
+            throw new IllegalStateException("Failed to load template " + resource, e);
+        }
+    }
+
     public static Mat convertToMat(final BufferedImage buffImg, Mat targetMat) {
         final BufferedImage convertedImg;
         if (buffImg.getType() == BufferedImage.TYPE_4BYTE_ABGR) {
@@ -122,23 +139,20 @@ public class CvHelper {
     }
 
     public static void overlayImage(final Mat overlay, final Mat output, final Point location, final double extraPixels) {
-        for (int y = (int) Math.max(location.y, 0); y < output.rows(); ++y) {
-            final int overlayY = (int) (y - location.y + extraPixels);
-            if (overlayY >= overlay.rows() - extraPixels) {
-                break;
-            }
-            for (int x = (int) Math.max(location.x, 0); x < output.cols(); ++x) {
-                final int overlayX = (int) (x - location.x + extraPixels);
-                if (overlayX >= overlay.cols() - extraPixels) {
-                    break;
-                }
-                final double[] finalPixelValue = new double[4];
-                finalPixelValue[0] = overlay.get(overlayY, overlayX)[0];
-                finalPixelValue[1] = overlay.get(overlayY, overlayX)[1];
-                finalPixelValue[2] = overlay.get(overlayY, overlayX)[2];
-                finalPixelValue[3] = overlay.get(overlayY, overlayX)[3];
-                output.put(y, x, finalPixelValue);
-            }
+        //copies the same pixels as walking the output from the location until the overlay minus its extra pixels ends
+        final int startY = (int) Math.max(location.y, 0);
+        final int startX = (int) Math.max(location.x, 0);
+        final int offsetY = (int) (startY - location.y + extraPixels) - startY;
+        final int offsetX = (int) (startX - location.x + extraPixels) - startX;
+        final int endY = Math.min(output.rows(), (int) Math.ceil(overlay.rows() - extraPixels) - offsetY);
+        final int endX = Math.min(output.cols(), (int) Math.ceil(overlay.cols() - extraPixels) - offsetX);
+        if (endY <= startY || endX <= startX) {
+            return;
         }
+        final Mat source = overlay.submat(startY + offsetY, endY + offsetY, startX + offsetX, endX + offsetX);
+        final Mat target = output.submat(startY, endY, startX, endX);
+        source.convertTo(target, output.type());
+        source.release();
+        target.release();
     }
 }
\ No newline at end of file
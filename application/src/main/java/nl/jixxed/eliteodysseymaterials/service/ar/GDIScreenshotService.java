@@ -148,8 +148,4 @@ public class GDIScreenshotService implements ScreenshotService {
         return image;
     }
 
-    private static final User32 USER = User32.INSTANCE;
-
-    private static final GDI32 GDI = GDI32.INSTANCE;
-
 }
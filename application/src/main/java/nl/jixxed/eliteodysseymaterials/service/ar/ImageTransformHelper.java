@@ -99,8 +99,13 @@ public class ImageTransformHelper {
 
 
     public static BufferedImage transformForSelection(final BufferedImage downloadMenuCapture, final java.awt.Rectangle requestedArea) {
-        final Mat src = CvHelper.convertToMat(downloadMenuCapture, null);
-        final Mat result = Mat.zeros(src.rows(), src.cols(), CvType.CV_32FC4);
+        final MatPool pool = MatPool.get();
+        final Mat src = pool.toMat("selectionCapture", downloadMenuCapture);
+        final Mat result = pool.acquire("selectionResult", src.rows(), src.cols(), CvType.CV_32FC4);
+        result.setTo(Scalar.all(0));
+        final Mat fromPoints = pool.acquire("selectionFromPoints", 1, 4, CvType.CV_32FC2);
+        final Mat toPoints = pool.acquire("selectionToPoints", 1, 4, CvType.CV_32FC2);
+        final Mat dst = pool.acquire("selectionSection", (int) size.height, (int) size.width, src.type());
         for (int row = 0; row < row_count - 1; row++) {
             for (int col = 0; col < col_count - 1; col++) {
 
@@ -109,8 +114,6 @@ public class ImageTransformHelper {
                 if (!section.intersects(requestedArea)) {
                     continue;
                 }
-                final Mat fromPoints = new Mat(1, 4, CvType.CV_32FC2);
-                final Mat toPoints = new Mat(1, 4, CvType.CV_32FC2);
                 fromPoints.put(0, 0, sourceRows[row][col].x - EXTRA_PIXELS, sourceRows[row][col].y - EXTRA_PIXELS);
                 fromPoints.put(0, 1, sourceRows[row][col + 1].x + EXTRA_PIXELS, sourceRows[row][col + 1].y - EXTRA_PIXELS);
                 fromPoints.put(0, 2, sourceRows[row + 1][col].x - EXTRA_PIXELS, sourceRows[row + 1][col].y + EXTRA_PIXELS);
@@ -120,20 +123,14 @@ public class ImageTransformHelper {
                 toPoints.put(0, 2, 0 - EXTRA_PIXELS, dy + EXTRA_PIXELS);
                 toPoints.put(0, 3, dx + EXTRA_PIXELS, dy + EXTRA_PIXELS);
                 final Mat perspectiveTransform = Imgproc.getPerspectiveTransform(fromPoints, toPoints, Core.DECOMP_LU);
-                final Mat dst = new Mat();
-                dst.create(size, src.type());
 
                 Imgproc.warpPerspective(src, dst, perspectiveTransform, size, Imgproc.INTER_LANCZOS4);
                 CvHelper.overlayImage(dst, result, new Point((dx * col), (dy * row)), EXTRA_PIXELS);
                 perspectiveTransform.release();
-                fromPoints.release();
-                toPoints.release();
-                dst.release();
             }
         }
-        final BufferedImage bufferedImage = CvHelper.createBufferedImage(result);
-        src.release();
-        result.release();
-        return bufferedImage;
+        final Mat converted = pool.acquire("selectionConverted", result.rows(), result.cols(), CvType.CV_8UC4);
+        result.convertTo(converted, CvType.CV_8UC4);
+        return CvHelper.createBufferedImage(converted);
     }
 }
@@ -0,0 +1,205 @@
+package nl.jixxed.eliteodysseymaterials.service.ar;
+
+import org.opencv.core.CvType;
+import org.opencv.core.Mat;
+import org.opencv.imgproc.Imgproc;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.ComponentSampleModel;
+import java.awt.image.DataBufferByte;
+import java.awt.image.DataBufferInt;
+import java.awt.image.Raster;
+import java.awt.image.SinglePixelPackedSampleModel;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-thread pool of native OpenCV buffers for the AR preprocessing, so recognising menus doesn't allocate native
+ * memory for every frame and row.
+ * <p>
+ * Each step of a pipeline uses a named slot. A slot keeps its Mat between calls and only reallocates when the requested
+ * size or type changes, like after a scaling change. In steady state the allocation counter should not grow.
+ */
+public class MatPool {
+    private static final ThreadLocal<MatPool> POOLS = ThreadLocal.withInitial(MatPool::new);
+    private static final AtomicLong ACQUISITIONS = new AtomicLong();
+    private static final AtomicLong ALLOCATIONS = new AtomicLong();
+    private static final int[] ABGR_BAND_OFFSETS = {3, 2, 1, 0};
+    private final Map<String, Mat> slots = new HashMap<>();
+    private byte[] pixels = new byte[0];
+    private BufferedImage scratch;
+
+    private MatPool() {
+    }
+
+    /**
+     * @return the pool of the current thread
+     */
+    public static MatPool get() {
+        return POOLS.get();
+    }
+
+    public static long getAcquisitions() {
+        return ACQUISITIONS.get();
+    }
+
+    /**
+     * @return how often a slot allocated a native buffer, in all threads
+     */
+    public static long getAllocations() {
+        return ALLOCATIONS.get();
+    }
+
+    /**
+     * Returns the Mat of the slot with the requested size and type. The content is whatever the previous user left in it.
+     */
+    public Mat acquire(final String slot, final int rows, final int cols, final int type) {
+        ACQUISITIONS.incrementAndGet();
+        final Mat mat = this.slots.computeIfAbsent(slot, key -> new Mat());
+        if (mat.rows() != rows || mat.cols() != cols || mat.type() != type) {
+            ALLOCATIONS.incrementAndGet();
+            mat.create(rows, cols, type);
+        }
+        return mat;
+    }
+
+    /**
+     * Returns the slot holding the lookup table. The table is copied to native memory only the first time.
+     */
+    public Mat lookUpTable(final String slot, final byte[] table) {
+        ACQUISITIONS.incrementAndGet();
+        Mat mat = this.slots.get(slot);
+        if (mat == null) {
+            ALLOCATIONS.incrementAndGet();
+            mat = new Mat(1, table.length, CvType.CV_8U);
+            mat.put(0, 0, table);
+            this.slots.put(slot, mat);
+        }
+        return mat;
+    }
+
+    /**
+     * Copies the image into the slot as 4 channel ABGR bytes, the layout {@link CvHelper#convertToMat(BufferedImage, Mat)}
+     * produces. RGB, ABGR and gray images, including subimages, are read from their buffer without an intermediate
+     * image.
+     */
+    public Mat toMat(final String slot, final BufferedImage image) {
+        final int width = image.getWidth();
+        final int height = image.getHeight();
+        final Mat mat = acquire(slot, height, width, CvType.CV_8UC4);
+        if (this.pixels.length != width * height * 4) {
+            this.pixels = new byte[width * height * 4];
+        }
+        if (!copyIntRgb(image.getRaster(), this.pixels) && !copyByteAbgr(image, this.pixels) && !copyByteGray(image, this.pixels)) {
+            copyDrawn(image, this.pixels);
+        }
+        mat.put(0, 0, this.pixels);
+        return mat;
+    }
+
+    /**
+     * Creates an image of a gray Mat through a 4 channel slot. Unlike {@link CvHelper#createBufferedImage(Mat)} this
+     * leaves the gray Mat as it is, so its own slot isn't reallocated on the next acquire.
+     */
+    public BufferedImage toBufferedImage(final String slot, final Mat gray) {
+        final Mat rgba = acquire(slot, gray.rows(), gray.cols(), CvType.CV_8UC4);
+        Imgproc.cvtColor(gray, rgba, Imgproc.COLOR_GRAY2RGBA);
+        return CvHelper.createBufferedImage(rgba);
+    }
+
+    private static boolean copyIntRgb(final Raster raster, final byte[] target) {
+        if (!(raster.getDataBuffer() instanceof DataBufferInt dataBuffer)
+                || !(raster.getSampleModel() instanceof SinglePixelPackedSampleModel sampleModel)
+                || !Arrays.equals(sampleModel.getBitMasks(), new int[]{0xFF0000, 0xFF00, 0xFF})) {
+            return false;
+        }
+        final int[] data = dataBuffer.getData();
+        final int stride = sampleModel.getScanlineStride();
+        final int start = dataBuffer.getOffset() - raster.getSampleModelTranslateY() * stride - raster.getSampleModelTranslateX();
+        int index = 0;
+        for (int y = 0; y < raster.getHeight(); y++) {
+            final int row = start + y * stride;
+            for (int x = 0; x < raster.getWidth(); x++) {
+                final int rgb = data[row + x];
+                target[index++] = (byte) 0xFF;
+                target[index++] = (byte) rgb;
+                target[index++] = (byte) (rgb >> 8);
+                target[index++] = (byte) (rgb >> 16);
+            }
+        }
+        return true;
+    }
+
+    private static boolean copyByteAbgr(final BufferedImage image, final byte[] target) {
+        final Raster raster = image.getRaster();
+        if ((image.getType() != BufferedImage.TYPE_4BYTE_ABGR && image.getType() != BufferedImage.TYPE_4BYTE_ABGR_PRE)
+                || !(raster.getDataBuffer() instanceof DataBufferByte dataBuffer)
+                || !(raster.getSampleModel() instanceof ComponentSampleModel sampleModel)
+                || sampleModel.getPixelStride() != 4
+                || !Arrays.equals(sampleModel.getBandOffsets(), ABGR_BAND_OFFSETS)) {
+            return false;
+        }
+        final byte[] data = dataBuffer.getData();
+        final int stride = sampleModel.getScanlineStride();
+        final int start = dataBuffer.getOffset() - raster.getSampleModelTranslateY() * stride - raster.getSampleModelTranslateX() * 4;
+        final int rowLength = raster.getWidth() * 4;
+        for (int y = 0; y < raster.getHeight(); y++) {
+            System.arraycopy(data, start + y * stride, target, y * rowLength, rowLength);
+        }
+        if (image.isAlphaPremultiplied()) {
+            unpremultiply(target);
+        }
+        return true;
+    }
+
+    private static void unpremultiply(final byte[] abgr) {
+        for (int i = 0; i < abgr.length; i += 4) {
+            final int alpha = abgr[i] & 0xFF;
+            if (alpha != 0xFF) {
+                for (int channel = i + 1; channel < i + 4; channel++) {
+                    abgr[channel] = alpha == 0 ? 0 : (byte) Math.min(0xFF, ((abgr[channel] & 0xFF) * 0xFF + alpha / 2) / alpha);
+                }
+            }
+        }
+    }
+
+    private static boolean copyByteGray(final BufferedImage image, final byte[] target) {
+        final Raster raster = image.getRaster();
+        if (image.getType() != BufferedImage.TYPE_BYTE_GRAY
+                || !(raster.getDataBuffer() instanceof DataBufferByte dataBuffer)
+                || !(raster.getSampleModel() instanceof ComponentSampleModel sampleModel)
+                || sampleModel.getPixelStride() != 1) {
+            return false;
+        }
+        final byte[] data = dataBuffer.getData();
+        final int stride = sampleModel.getScanlineStride();
+        final int start = dataBuffer.getOffset() - raster.getSampleModelTranslateY() * stride - raster.getSampleModelTranslateX();
+        int index = 0;
+        for (int y = 0; y < raster.getHeight(); y++) {
+            final int row = start + y * stride;
+            for (int x = 0; x < raster.getWidth(); x++) {
+                final byte gray = data[row + x];
+                target[index++] = (byte) 0xFF;
+                target[index++] = gray;
+                target[index++] = gray;
+                target[index++] = gray;
+            }
+        }
+        return true;
+    }
+
+    private void copyDrawn(final BufferedImage image, final byte[] target) {
+        if (this.scratch == null || this.scratch.getWidth() != image.getWidth() || this.scratch.getHeight() != image.getHeight()) {
+            this.scratch = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_4BYTE_ABGR);
+        }
+        final Graphics2D graphics = this.scratch.createGraphics();
+        graphics.setComposite(AlphaComposite.Src);
+        graphics.drawImage(image, 0, 0, null);
+        graphics.dispose();
+        System.arraycopy(((DataBufferByte) this.scratch.getRaster().getDataBuffer()).getData(), 0, target, 0, target.length);
+    }
+}
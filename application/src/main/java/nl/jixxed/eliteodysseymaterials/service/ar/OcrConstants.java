@@ -6,4 +6,8 @@ import java.io.File;
 
 public class OcrConstants {
     public static final String TESS4J_DIR = new File(OsConstants.TESS4J).getPath();
+    //one engine per menu row worker
+    public static final int OCR_ENGINES = 6;
+    //recognised texts kept between runs, a data port has up to 15 rows
+    public static final int OCR_CACHE_SIZE = 2000;
 }
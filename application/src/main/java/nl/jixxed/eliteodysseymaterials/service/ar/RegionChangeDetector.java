@@ -0,0 +1,101 @@
+package nl.jixxed.eliteodysseymaterials.service.ar;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.awt.image.SinglePixelPackedSampleModel;
+import java.awt.image.WritableRaster;
+import java.util.Arrays;
+
+/**
+ * Tells whether a captured region changed since the previous capture, so template matching and OCR can be skipped for
+ * frames that look the same.
+ * <p>
+ * A capture is reduced to the average brightness of a grid of cells, read from a sparse set of pixels per cell. The
+ * region changed when any cell differs more than the tolerance from the previous capture, which ignores compression
+ * noise but not a menu opening or scrolling.
+ */
+public class RegionChangeDetector {
+    private static final int SAMPLES_PER_CELL = 8;
+
+    private final int gridSize;
+    private final int tolerance;
+    private int[] signature;
+    private int[] previousSignature;
+    private int width = -1;
+    private int height = -1;
+
+    public RegionChangeDetector(final int gridSize, final int tolerance) {
+        this.gridSize = gridSize;
+        this.tolerance = tolerance;
+        this.signature = new int[gridSize * gridSize];
+        this.previousSignature = new int[gridSize * gridSize];
+    }
+
+    /**
+     * Compares the capture with the previous one and remembers it for the next call.
+     *
+     * @return true if the region changed, or when there is nothing to compare with
+     */
+    public boolean hasChanged(final BufferedImage capture) {
+        if (capture == null) {
+            reset();
+            return true;
+        }
+        final boolean sizeChanged = capture.getWidth() != this.width || capture.getHeight() != this.height;
+        this.width = capture.getWidth();
+        this.height = capture.getHeight();
+        final int[] swap = this.previousSignature;
+        this.previousSignature = this.signature;
+        this.signature = swap;
+        computeSignature(capture, this.signature);
+        if (sizeChanged) {
+            return true;
+        }
+        for (int cell = 0; cell < this.signature.length; cell++) {
+            if (Math.abs(this.signature[cell] - this.previousSignature[cell]) > this.tolerance) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Forgets the previous capture, so the next capture counts as changed.
+     */
+    public void reset() {
+        this.width = -1;
+        this.height = -1;
+        Arrays.fill(this.signature, 0);
+    }
+
+    private void computeSignature(final BufferedImage capture, final int[] target) {
+        //read int pixels directly from captures that own their buffer, like the screenshots
+        final WritableRaster raster = capture.getRaster();
+        final boolean direct = raster.getParent() == null && raster.getDataBuffer() instanceof DataBufferInt && raster.getSampleModel() instanceof SinglePixelPackedSampleModel;
+        final int[] pixels = direct ? ((DataBufferInt) raster.getDataBuffer()).getData() : null;
+        final int scanlineStride = direct ? ((SinglePixelPackedSampleModel) raster.getSampleModel()).getScanlineStride() : 0;
+        final int cellWidth = Math.max(1, this.width / this.gridSize);
+        final int cellHeight = Math.max(1, this.height / this.gridSize);
+        final int stepX = Math.max(1, cellWidth / SAMPLES_PER_CELL);
+        final int stepY = Math.max(1, cellHeight / SAMPLES_PER_CELL);
+        for (int cellY = 0; cellY < this.gridSize; cellY++) {
+            for (int cellX = 0; cellX < this.gridSize; cellX++) {
+                long sum = 0;
+                int samples = 0;
+                final int endY = Math.min(this.height, (cellY + 1) * cellHeight);
+                final int endX = Math.min(this.width, (cellX + 1) * cellWidth);
+                for (int y = cellY * cellHeight + stepY / 2; y < endY; y += stepY) {
+                    for (int x = cellX * cellWidth + stepX / 2; x < endX; x += stepX) {
+                        sum += luma(pixels != null ? pixels[y * scanlineStride + x] : capture.getRGB(x, y));
+                        samples++;
+                    }
+                }
+                target[cellY * this.gridSize + cellX] = samples == 0 ? 0 : (int) (sum / samples);
+            }
+        }
+    }
+
+    private static int luma(final int rgb) {
+        return (((rgb >> 16) & 0xFF) * 2 + ((rgb >> 8) & 0xFF) * 5 + (rgb & 0xFF)) >> 3;
+    }
+}
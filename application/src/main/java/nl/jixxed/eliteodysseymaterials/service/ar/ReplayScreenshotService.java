@@ -0,0 +1,137 @@
+package nl.jixxed.eliteodysseymaterials.service.ar;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.imageio.ImageIO;
+import java.awt.Rectangle;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replays a folder of recorded game frames instead of capturing the screen, so AR recognition can be run and measured
+ * without the game or a display.
+ * <p>
+ * Frames are PNG captures of the game window content, played in file name order. The current frame only changes on
+ * {@link #nextFrame()}. With a frame rate that waits for the clock started by {@link #start()} and moves on to the
+ * frame that is due, so frames that passed during slow processing are skipped like in the game. Without a frame rate
+ * (0) every frame is stepped through.
+ */
+@Slf4j
+public class ReplayScreenshotService implements ScreenshotService {
+    private final File[] frames;
+    private final double fps;
+    private long startNanos;
+    private int frameIndex;
+    private int decodedIndex = -1;
+    private BufferedImage decoded;
+
+    public ReplayScreenshotService(final File folder, final double fps) {
+        final File[] pngFiles = folder.listFiles((dir, name) -> name.toLowerCase().endsWith(".png"));
+        if (pngFiles == null || pngFiles.length == 0) {
+            throw new IllegalArgumentException("No png frames found in " + folder);
+        }
+        Arrays.sort(pngFiles, Comparator.comparing(File::getName));
+        this.frames = pngFiles;
+        this.fps = fps;
+    }
+
+    public synchronized void start() {
+        this.startNanos = System.nanoTime();
+        this.frameIndex = 0;
+    }
+
+    /**
+     * Moves on to the next frame, waiting until it is due when replaying at a frame rate.
+     *
+     * @return false when there are no frames left
+     */
+    public boolean nextFrame() throws InterruptedException {
+        final long dueNanos;
+        synchronized (this) {
+            if (this.fps <= 0) {
+                if (this.frameIndex + 1 >= this.frames.length) {
+                    return false;
+                }
+                this.frameIndex++;
+                return true;
+            }
+            dueNanos = this.startNanos + (long) ((this.frameIndex + 1) * 1_000_000_000D / this.fps);
+        }
+        final long waitNanos = dueNanos - System.nanoTime();
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+        synchronized (this) {
+            final int dueIndex = (int) ((System.nanoTime() - this.startNanos) * this.fps / 1_000_000_000D);
+            if (dueIndex >= this.frames.length) {
+                return false;
+            }
+            this.frameIndex = Math.max(dueIndex, this.frameIndex + 1);
+            return true;
+        }
+    }
+
+    public synchronized int getFrameIndex() {
+        return this.frameIndex;
+    }
+
+    public int getFrameCount() {
+        return this.frames.length;
+    }
+
+    public synchronized String getFrameName() {
+        return this.frames[this.frameIndex].getName();
+    }
+
+    /**
+     * @return the current frame, which has the size of the game window content
+     */
+    public synchronized BufferedImage getFrame() {
+        if (this.frameIndex != this.decodedIndex) {
+            this.decoded = decode(this.frames[this.frameIndex]);
+            this.decodedIndex = this.frameIndex;
+        }
+        return this.decoded;
+    }
+
+    /**
+     * Crops the bounds from the current frame. The offset is the position of the game window on screen and is ignored,
+     * as frames only contain the window content.
+     */
+    @Override
+    public synchronized BufferedImage getScreenshot(final Point offset, final Rectangle bounds, final BufferedImage output) {
+        final BufferedImage frame = getFrame();
+        if (bounds.x < 0 || bounds.y < 0 || bounds.x + bounds.width > frame.getWidth() || bounds.y + bounds.height > frame.getHeight()) {
+            log.warn("Requested area {} is outside of frame {}", bounds, this.frames[this.decodedIndex].getName());
+            return null;
+        }
+        final BufferedImage target = output != null && output.getWidth() == bounds.width && output.getHeight() == bounds.height && output.getType() == BufferedImage.TYPE_INT_RGB
+                ? output
+                : new BufferedImage(bounds.width, bounds.height, BufferedImage.TYPE_INT_RGB);
+        target.setData(frame.getRaster().createChild(bounds.x, bounds.y, bounds.width, bounds.height, 0, 0, null));
+        return target;
+    }
+
+    private static BufferedImage decode(final File file) {
+        try {
+            final BufferedImage image = ImageIO.read(file);
+            if (image == null) {
+                throw new IllegalArgumentException("Not a readable image: " + file);
+            }
+            //same pixel layout as the GDI captures, which the helpers read as int pixels
+            final BufferedImage frame = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+            final Graphics2D graphics = frame.createGraphics();
+            graphics.drawImage(image, 0, 0, null);
+            graphics.dispose();
+            return frame;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package nl.jixxed.eliteodysseymaterials.service.ar;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the ticks of an AR timer, how many were skipped because the captured region did not change, and the CPU time
+ * the ticks used.
+ */
+public class TickStatistics {
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+    private final AtomicLong ticks = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+    private final AtomicLong cpuNanos = new AtomicLong();
+
+    /**
+     * @return CPU time of the current thread, or the wall clock when the JVM doesn't measure thread CPU time
+     */
+    public static long currentThreadCpuNanos() {
+        return THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported() ? THREAD_MX_BEAN.getCurrentThreadCpuTime() : System.nanoTime();
+    }
+
+    public void record(final long cpuNanos, final boolean skipped) {
+        this.ticks.incrementAndGet();
+        if (skipped) {
+            this.skipped.incrementAndGet();
+        }
+        this.cpuNanos.addAndGet(cpuNanos);
+    }
+
+    public long getTicks() {
+        return this.ticks.get();
+    }
+
+    public long getSkipped() {
+        return this.skipped.get();
+    }
+
+    public double getSkipRatio() {
+        final long tickCount = this.ticks.get();
+        return tickCount == 0 ? 0 : (double) this.skipped.get() / tickCount;
+    }
+
+    public double getCpuMillisPerTick() {
+        final long tickCount = this.ticks.get();
+        return tickCount == 0 ? 0 : (double) this.cpuNanos.get() / tickCount / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d ticks, %.1f%% skipped, %.3f ms cpu per tick", getTicks(), getSkipRatio() * 100, getCpuMillisPerTick());
+    }
+}
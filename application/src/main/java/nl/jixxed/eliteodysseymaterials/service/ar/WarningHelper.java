@@ -1,7 +1,5 @@
 package nl.jixxed.eliteodysseymaterials.service.ar;
 
-import javafx.scene.image.Image;
-import nl.jixxed.eliteodysseymaterials.service.ARService;
 import org.opencv.core.Core;
 import org.opencv.core.CvType;
 import org.opencv.core.Mat;
@@ -14,13 +12,10 @@ public class WarningHelper {
     private static final int MATCH_METHOD = Imgproc.TM_CCOEFF_NORMED;
     private static final Mat alertTemplate;
     private static final Mat alertTemplateScaled;
-    private static Mat menuWarningResult;
-    private static Mat alertCaptureMat;
-    private static Mat alertCaptureMatGray;
 
     static {
-        alertTemplate = CvHelper.convertToMat(new Image(ARService.class.getResourceAsStream("/images/opencv/cv_template_alert_small.png")));
-        alertTemplateScaled = CvHelper.convertToMat(new Image(ARService.class.getResourceAsStream("/images/opencv/cv_template_alert_small.png")));
+        alertTemplate = CvHelper.loadTemplate("/images/opencv/cv_template_alert_small.png");
+        alertTemplateScaled = CvHelper.loadTemplate("/images/opencv/cv_template_alert_small.png");
         Imgproc.cvtColor(alertTemplate, alertTemplate, Imgproc.COLOR_BGRA2GRAY);
         Imgproc.cvtColor(alertTemplateScaled, alertTemplateScaled, Imgproc.COLOR_BGRA2GRAY);
 
@@ -36,21 +31,12 @@ public class WarningHelper {
                 (int) (140 * scaling),
                 (int) (60 * scaling));
 
-        alertCaptureMat = CvHelper.convertToMat(alertCapture, alertCaptureMat);
+        final MatPool pool = MatPool.get();
+        final Mat alertCaptureMat = pool.toMat("alertCapture", alertCapture);
         final int result_cols = alertCaptureMat.cols() - alertTemplateScaled.cols() + 1;
         final int result_rows = alertCaptureMat.rows() - alertTemplateScaled.rows() + 1;
-        if (menuWarningResult == null || menuWarningResult.cols() != result_cols || menuWarningResult.rows() != result_rows) {
-            if (menuWarningResult != null) {
-                menuWarningResult.release();
-            }
-            menuWarningResult = new Mat(result_rows, result_cols, CvType.CV_32FC1);
-        }
-        if (alertCaptureMatGray == null || alertCaptureMat.cols() != alertCaptureMatGray.cols() || alertCaptureMat.rows() != alertCaptureMatGray.rows()) {
-            if (alertCaptureMatGray != null) {
-                alertCaptureMatGray.release();
-            }
-            alertCaptureMatGray = new Mat();
-        }
+        final Mat menuWarningResult = pool.acquire("alertMatch", result_rows, result_cols, CvType.CV_32FC1);
+        final Mat alertCaptureMatGray = pool.acquire("alertCaptureGray", alertCaptureMat.rows(), alertCaptureMat.cols(), CvType.CV_8UC1);
 
         //grayscale capture
         Imgproc.cvtColor(alertCaptureMat, alertCaptureMatGray, Imgproc.COLOR_BGRA2GRAY);
@@ -0,0 +1,64 @@
+package nl.jixxed.eliteodysseymaterials.service.eddn;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Arrays;
+import java.util.zip.Deflater;
+
+/**
+ * Raw deflate of EDDN payloads that reuses one Deflater and one output buffer for every message.
+ * <p>
+ * The compressed bytes are kept in {@link #getBuffer()} and are only valid until the next call, so an instance must
+ * be confined to a single thread, like the upload worker. {@link #close()} releases the native deflater memory.
+ */
+@Slf4j
+public class EDDNCompressor implements AutoCloseable {
+    public static final int DEFAULT_LEVEL = Deflater.BEST_COMPRESSION;
+    private static final int INITIAL_BUFFER_SIZE = 8 * 1024;
+
+    private final Deflater deflater;
+    private byte[] buffer = new byte[INITIAL_BUFFER_SIZE];
+
+    public EDDNCompressor(final int level) {
+        this.deflater = new Deflater(validLevel(level), true);
+    }
+
+    private static int validLevel(final int level) {
+        if (level == Deflater.DEFAULT_COMPRESSION || (level >= Deflater.NO_COMPRESSION && level <= Deflater.BEST_COMPRESSION)) {
+            return level;
+        }
+        log.warn("Invalid EDDN compression level {}, using {}", level, DEFAULT_LEVEL);
+        return DEFAULT_LEVEL;
+    }
+
+    /**
+     * Compresses already serialized json.
+     *
+     * @return the number of compressed bytes in the buffer
+     */
+    public int compress(final byte[] json) {
+        this.deflater.reset();
+        this.deflater.setInput(json);
+        this.deflater.finish();
+        int count = 0;
+        while (!this.deflater.finished()) {
+            if (count == this.buffer.length) {
+                this.buffer = Arrays.copyOf(this.buffer, this.buffer.length * 2);
+            }
+            count += this.deflater.deflate(this.buffer, count, this.buffer.length - count);
+        }
+        return count;
+    }
+
+    /**
+     * @return the buffer holding the result of the last compression, from offset 0
+     */
+    public byte[] getBuffer() {
+        return this.buffer;
+    }
+
+    @Override
+    public void close() {
+        this.deflater.end();
+    }
+}
@@ -0,0 +1,12 @@
+package nl.jixxed.eliteodysseymaterials.service.eddn;
+
+/**
+ * EDDN message that is serialized and validated by the upload worker instead of the thread that queued it.
+ */
+@FunctionalInterface
+public interface EDDNMessage {
+    /**
+     * @return the utf-8 json to upload, or null if the message must not be sent
+     */
+    byte[] toJson();
+}
@@ -0,0 +1,294 @@
+package nl.jixxed.eliteodysseymaterials.service.eddn;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Serializes, validates and uploads EDDN messages from a single worker thread over a shared HttpClient, so queueing a
+ * message doesn't block the caller.
+ * <p>
+ * The in-memory queue is bounded. When it is full, messages overflow to a spool folder instead of blocking the
+ * caller, and are picked up again once the queue has drained. Failed uploads are retried with exponential backoff;
+ * messages that still fail, or that are queued when the application stops, stay in the spool and are sent on the
+ * next start.
+ */
+@Slf4j
+public class EDDNUploadQueue {
+    private static final String SPOOL_SUFFIX = ".json";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final long IDLE_POLL_MILLIS = 1000;
+
+    private final HttpClient httpClient;
+    private final URI endpoint;
+    private final EDDNCompressor compressor;
+    private final File spoolFolder;
+    private final BlockingQueue<Upload> queue;
+    private final int capacity;
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final AtomicLong sequence = new AtomicLong();
+    //spool files that failed during this session, retried on the next start
+    private final Set<String> deferred = Collections.synchronizedSet(new HashSet<>());
+    private final AtomicLong sent = new AtomicLong();
+    private Thread worker;
+    private volatile boolean running;
+
+    public EDDNUploadQueue(final HttpClient httpClient, final URI endpoint, final EDDNCompressor compressor, final File spoolFolder, final int capacity, final int maxAttempts, final long initialBackoffMillis) {
+        this.httpClient = httpClient;
+        this.endpoint = endpoint;
+        this.compressor = compressor;
+        this.spoolFolder = spoolFolder;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.capacity = capacity;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMillis = initialBackoffMillis;
+    }
+
+    public synchronized void start() {
+        if (this.running) {
+            return;
+        }
+        this.running = true;
+        this.worker = new Thread(this::run, "EDDN Upload Thread");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Queues a utf-8 json message without blocking. If the queue is full the message is spooled to disk.
+     *
+     * @return whether the message was queued in memory
+     */
+    public boolean offer(final byte[] json) {
+        return offer(() -> json);
+    }
+
+    /**
+     * Queues a message that the worker serializes. If the queue is full the message is serialized right away and
+     * spooled to disk.
+     *
+     * @return whether the message was queued in memory
+     */
+    public boolean offer(final EDDNMessage message) {
+        if (this.queue.offer(new Upload(message, null))) {
+            return true;
+        }
+        log.warn("EDDN upload queue full, spooling message");
+        spool(message);
+        return false;
+    }
+
+    /**
+     * Stops the worker and spools everything that has not been sent yet.
+     */
+    public synchronized void stop() {
+        this.running = false;
+        boolean stopped = true;
+        if (this.worker != null) {
+            this.worker.interrupt();
+            try {
+                this.worker.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            stopped = !this.worker.isAlive();
+            this.worker = null;
+        }
+        final List<Upload> remaining = new ArrayList<>();
+        this.queue.drainTo(remaining);
+        remaining.stream()
+                .filter(upload -> upload.spoolFile() == null)
+                .forEach(upload -> spool(upload.message()));
+        if (stopped) {
+            this.compressor.close();
+        } else {
+            //the worker may still be compressing, the deflater is released once it is garbage collected
+            log.warn("EDDN upload thread did not stop in time");
+        }
+    }
+
+    public int getQueued() {
+        return this.queue.size();
+    }
+
+    public long getSent() {
+        return this.sent.get();
+    }
+
+    private void run() {
+        while (this.running) {
+            try {
+                final Upload upload = this.queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (upload != null) {
+                    uploadOrSpool(upload);
+                } else {
+                    refillFromSpool();
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void uploadOrSpool(final Upload upload) throws InterruptedException {
+        final byte[] json = toJson(upload.message());
+        if (json == null) {
+            if (upload.spoolFile() != null) {
+                deleteSpoolFile(upload.spoolFile());
+            }
+            return;
+        }
+        try {
+            upload(upload, json);
+        } catch (final InterruptedException e) {
+            //stopped while sending or backing off
+            if (upload.spoolFile() == null) {
+                spool(json);
+            }
+            throw e;
+        }
+    }
+
+    private void upload(final Upload upload, final byte[] json) throws InterruptedException {
+        for (int attempt = 1; attempt <= this.maxAttempts; attempt++) {
+            final Result result = send(json);
+            if (result == Result.SENT || result == Result.REJECTED) {
+                if (result == Result.SENT) {
+                    this.sent.incrementAndGet();
+                }
+                if (upload.spoolFile() != null) {
+                    deleteSpoolFile(upload.spoolFile());
+                }
+                return;
+            }
+            if (attempt < this.maxAttempts) {
+                Thread.sleep(this.initialBackoffMillis << (attempt - 1));
+            }
+        }
+        log.warn("EDDN upload failed after {} attempts, keeping it for the next start", this.maxAttempts);
+        final Path spoolFile = upload.spoolFile() != null ? upload.spoolFile() : spool(json);
+        if (spoolFile != null) {
+            this.deferred.add(spoolFile.getFileName().toString());
+        }
+    }
+
+    private Result send(final byte[] json) throws InterruptedException {
+        try {
+            //the compressed bytes are only read while sending, so the buffer of the compressor can be handed over as is
+            final int length = this.compressor.compress(json);
+            final HttpRequest request = HttpRequest.newBuilder()
+                    .uri(this.endpoint)
+                    .timeout(REQUEST_TIMEOUT)
+                    .header("Content-Type", "application/json")
+                    .header("Content-Encoding", "gzip")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(this.compressor.getBuffer(), 0, length))
+                    .build();
+            final HttpResponse<String> response = this.httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            final int status = response.statusCode();
+            if (status == 200) {
+                log.info(response.body());
+                return Result.SENT;
+            }
+            if (status == 429 || status >= 500) {
+                log.warn("EDDN upload failed with status {}: {}", status, response.body());
+                return Result.FAILED;
+            }
+            log.error("EDDN rejected upload with status {}: {}", status, response.body());
+            return Result.REJECTED;
+        } catch (final IOException e) {
+            log.warn("EDDN upload failed", e);
+            return Result.FAILED;
+        }
+    }
+
+    private void refillFromSpool() {
+        final File[] files = this.spoolFolder.listFiles((dir, name) -> name.endsWith(SPOOL_SUFFIX) && !this.deferred.contains(name));
+        if (files == null || files.length == 0) {
+            return;
+        }
+        Arrays.sort(files, Comparator.comparing(File::getName));
+        int room = this.capacity / 2;
+        for (final File file : files) {
+            if (room-- <= 0) {
+                break;
+            }
+            try {
+                final byte[] json = Files.readAllBytes(file.toPath());
+                if (!this.queue.offer(new Upload(() -> json, file.toPath()))) {
+                    break;
+                }
+            } catch (final IOException e) {
+                log.error("Failed to read spooled EDDN message " + file.getName(), e);
+                this.deferred.add(file.getName());
+            }
+        }
+    }
+
+    private void spool(final EDDNMessage message) {
+        final byte[] json = toJson(message);
+        if (json != null) {
+            spool(json);
+        }
+    }
+
+    private static byte[] toJson(final EDDNMessage message) {
+        try {
+            return message.toJson();
+        } catch (final RuntimeException e) {
+            log.error("Failed to prepare EDDN message", e);
+            return null;
+        }
+    }
+
+    private Path spool(final byte[] json) {
+        final String name = String.format("%013d-%06d", System.currentTimeMillis(), this.sequence.incrementAndGet() % 1_000_000);
+        final Path target = this.spoolFolder.toPath().resolve(name + SPOOL_SUFFIX);
+        final Path temp = this.spoolFolder.toPath().resolve(name + TEMP_SUFFIX);
+        try {
+            this.spoolFolder.mkdirs();
+            Files.write(temp, json);
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (final AtomicMoveNotSupportedException e) {
+                Files.move(temp, target);
+            }
+            return target;
+        } catch (final IOException e) {
+            log.error("Failed to spool EDDN message", e);
+            return null;
+        }
+    }
+
+    private static void deleteSpoolFile(final Path spoolFile) {
+        try {
+            Files.deleteIfExists(spoolFile);
+        } catch (final IOException e) {
+            log.error("Failed to delete spooled EDDN message " + spoolFile, e);
+        }
+    }
+
+    private enum Result {
+        SENT, REJECTED, FAILED
+    }
+
+    private record Upload(EDDNMessage message, Path spoolFile) {
+    }
+}
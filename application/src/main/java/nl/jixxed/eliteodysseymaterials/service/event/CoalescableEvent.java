@@ -0,0 +1,9 @@
+package nl.jixxed.eliteodysseymaterials.service.event;
+
+/**
+ * Event that may be merged with other events of the same class and key when published inside
+ * {@link EventService#publishCoalesced(Runnable)}. Only the last event per key is delivered.
+ */
+public interface CoalescableEvent extends Event {
+    Object getCoalesceKey();
+}
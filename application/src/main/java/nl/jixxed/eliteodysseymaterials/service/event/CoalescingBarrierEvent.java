@@ -0,0 +1,8 @@
+package nl.jixxed.eliteodysseymaterials.service.event;
+
+/**
+ * Event that has to reach its listeners after the {@link CoalescableEvent}s published before it. Publishing one inside
+ * {@link EventService#publishCoalesced(Runnable)} first delivers the events held back so far.
+ */
+public interface CoalescingBarrierEvent extends Event {
+}
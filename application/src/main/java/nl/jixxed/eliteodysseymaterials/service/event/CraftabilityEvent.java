@@ -0,0 +1,19 @@
+package nl.jixxed.eliteodysseymaterials.service.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import nl.jixxed.eliteodysseymaterials.domain.HorizonsBlueprint;
+import nl.jixxed.eliteodysseymaterials.enums.OdysseyBlueprintName;
+
+import java.util.Set;
+
+/**
+ * Event indicating the craftability of blueprints changed after a storage mutation. Only contains the blueprints that
+ * flipped between not craftable, craftable with trade and craftable.
+ */
+@AllArgsConstructor
+@Getter
+public class CraftabilityEvent implements Event {
+    private final Set<OdysseyBlueprintName> odysseyBlueprints;
+    private final Set<HorizonsBlueprint> horizonsBlueprints;
+}
@@ -6,34 +6,93 @@ import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.lang.ref.WeakReference;
-import java.util.*;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 @SuppressWarnings("java:S3740")
 @Slf4j
 public class EventService {
-    private static final Map<Class<? extends Event>, List<WeakReference<EventListener<? extends Event>>>> LISTENERS_MAP = new HashMap<>();
+    private static final Map<Class<? extends Event>, Listeners> LISTENERS_MAP = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Map<CoalesceKey, Event>> COALESCED_EVENTS = new ThreadLocal<>();
 
     public static <T extends Event> void publish(final T event) {
-        //clean up null references
-        LISTENERS_MAP.getOrDefault(event.getClass(), Collections.emptyList()).removeIf(ref -> ref.get() == null);
-        LISTENERS_MAP.getOrDefault(event.getClass(), Collections.emptyList()).stream()
-                .filter(ref ->ref.get() != null)
-                .sorted(Comparator.comparingInt(ref-> ref.get().getPriority()))
-                .forEachOrdered(ref -> {
-                    if (event instanceof TerminateApplicationEvent) {
-                        //make sure we call each TerminateApplicationEvent listener and try to close all running threads
-                        try {
-                            ((EventListener<T>) ref.get()).handleEvent(event);
-                        } catch (final Exception ex) {
-                            log.error(ex.getMessage(), ex);
-                        }
-                    } else if(ref.get() != null){
-                        ((EventListener<T>) ref.get()).handleEvent(event);
-                    }
-                });
+        final Map<CoalesceKey, Event> coalescedEvents = COALESCED_EVENTS.get();
+        if (coalescedEvents != null) {
+            if (event instanceof CoalescableEvent coalescableEvent) {
+                coalescedEvents.put(new CoalesceKey(event.getClass(), coalescableEvent.getCoalesceKey()), event);
+                return;
+            }
+            if (event instanceof CoalescingBarrierEvent) {
+                //events held back so far were published before this one, deliver them first
+                flush(coalescedEvents);
+            }
+        }
+        dispatch(event);
+    }
+
+    private static void flush(final Map<CoalesceKey, Event> coalescedEvents) {
+        while (!coalescedEvents.isEmpty()) {
+            final List<Event> events = List.copyOf(coalescedEvents.values());
+            coalescedEvents.clear();
+            events.forEach(EventService::dispatch);
+        }
+    }
+
+    private static <T extends Event> void dispatch(final T event) {
+        final Listeners listeners = LISTENERS_MAP.get(event.getClass());
+        if (listeners == null) {
+            return;
+        }
+        //make sure we call each TerminateApplicationEvent listener and try to close all running threads
+        final boolean isolateFailures = event instanceof TerminateApplicationEvent;
+        final WeakReference<EventListener<? extends Event>>[] refs = listeners.snapshot;
+        boolean hasDeadReferences = false;
+        for (final WeakReference<EventListener<? extends Event>> ref : refs) {
+            final EventListener<T> listener = (EventListener<T>) ref.get();
+            if (listener == null) {
+                hasDeadReferences = true;
+            } else if (isolateFailures) {
+                try {
+                    listener.handleEvent(event);
+                } catch (final Exception ex) {
+                    log.error(ex.getMessage(), ex);
+                }
+            } else {
+                listener.handleEvent(event);
+            }
+        }
+        if (hasDeadReferences) {
+            listeners.purge();
+        }
+    }
+
+    /**
+     * Runs the batch while holding back {@link CoalescableEvent}s published on the current thread. The last event per
+     * class and key is published, in order of first occurrence, once the batch is done, so listeners get one
+     * notification per key for the whole batch. Other events are delivered right away, except that a
+     * {@link CoalescingBarrierEvent} first delivers the events held back before it.
+     */
+    public static void publishCoalesced(final Runnable batch) {
+        if (COALESCED_EVENTS.get() != null) {
+            batch.run();
+            return;
+        }
+        final Map<CoalesceKey, Event> coalescedEvents = new LinkedHashMap<>();
+        COALESCED_EVENTS.set(coalescedEvents);
+        try {
+            batch.run();
+        } finally {
+            COALESCED_EVENTS.remove();
+        }
+        coalescedEvents.values().forEach(EventService::publish);
     }
+
     @CheckReturnValue
     public static <T extends Event> EventListener<T> addListener(final Object owner, final Class<T> eventClass, final Consumer<T> consumer) {
         return addListener(owner, 5, eventClass, consumer);
@@ -42,9 +101,7 @@ public class EventService {
     public static <T extends Event> EventListener<T> addListener(final Object owner, final Integer priority, final Class<T> eventClass, final Consumer<T> consumer) {
         final NonStaticEventListener<T> listener = new NonStaticEventListener<>(owner, priority, eventClass, consumer);
         logListener(owner, listener, "register");
-        final List<WeakReference<EventListener<? extends Event>>> eventListeners = LISTENERS_MAP.getOrDefault(eventClass, new ArrayList<>());
-        eventListeners.add(new WeakReference<>(listener));
-        LISTENERS_MAP.putIfAbsent(eventClass, eventListeners);
+        LISTENERS_MAP.computeIfAbsent(eventClass, key -> new Listeners()).add(listener);
         logListenerSize();
         return listener;
     }
@@ -56,47 +113,39 @@ public class EventService {
     public static <T extends Event> EventListener<T> addStaticListener(final Integer priority, final Class<T> eventClass, final Consumer<T> consumer) {
         final EventListener<T> listener = new EventListener<>(priority, eventClass, consumer);
         logListener(null, listener, "register static");
-        final List<WeakReference<EventListener<? extends Event>>> eventListeners = LISTENERS_MAP.getOrDefault(eventClass, new ArrayList<>());
-        eventListeners.add(new WeakReference<>(listener));
-        LISTENERS_MAP.putIfAbsent(eventClass, eventListeners);
+        LISTENERS_MAP.computeIfAbsent(eventClass, key -> new Listeners()).add(listener);
         logListenerSize();
         return listener;
     }
 
     public static void removeListener(final Consumer<? extends Event> eventConsumer, final Class<? extends Event> eventClass) {
-        LISTENERS_MAP.computeIfPresent(eventClass, (aClass, eventListeners) -> {
-            eventListeners.removeIf(ref -> {
-                if(ref.get() == null){
-                    return true;
-                }
-                final boolean remove = ref.get().getConsumer().equals(eventConsumer);
+        final Listeners listeners = LISTENERS_MAP.get(eventClass);
+        if (listeners != null) {
+            listeners.removeIf(listener -> {
+                final boolean remove = listener.getConsumer().equals(eventConsumer);
                 if (remove) {
-                    logListener(null, ref.get(), "deregister");
+                    logListener(null, listener, "deregister");
                 }
                 return remove;
             });
-            return eventListeners;
-        });
+        }
         logListenerSize();
     }
 
     public static void removeListener(final EventListener<? extends Event> eventListener) {
         logListener(null, eventListener, "deregister");
-        LISTENERS_MAP.computeIfPresent(eventListener.getEventClass(), (aClass, eventListeners) -> {
-            eventListeners.removeIf(ref-> ref.get() == eventListener);
-            return eventListeners;
-        });
+        final Listeners listeners = LISTENERS_MAP.get(eventListener.getEventClass());
+        if (listeners != null) {
+            listeners.removeIf(listener -> listener == eventListener);
+        }
         logListenerSize();
     }
 
     public static void removeListener(final Object owner) {
-        LISTENERS_MAP.values().forEach(eventListeners -> eventListeners.removeIf(ref -> {
-            if(ref.get() == null){
-                return true;
-            }
-            final boolean remove = ref.get() instanceof NonStaticEventListener nonStaticEventListener && nonStaticEventListener.hasOwner(owner);
+        LISTENERS_MAP.values().forEach(listeners -> listeners.removeIf(listener -> {
+            final boolean remove = listener instanceof NonStaticEventListener nonStaticEventListener && nonStaticEventListener.hasOwner(owner);
             if (remove) {
-                logListener(owner, ref.get(), "deregister");
+                logListener(owner, listener, "deregister");
             }
             return remove;
         }));
@@ -110,10 +159,65 @@ public class EventService {
 
     @SuppressWarnings("java:S125")
     private static void logListenerSize() {
-//        log.debug("listener size: " + (Integer) LISTENERS_MAP.values().stream().mapToInt(List::size).sum());
+//        log.debug("listener size: " + (Integer) LISTENERS_MAP.values().stream().mapToInt(listeners -> listeners.snapshot.length).sum());
     }
 
     public static void shutdown() {
         LISTENERS_MAP.clear();
     }
+
+    private record CoalesceKey(Class<? extends Event> eventClass, Object key) {
+    }
+
+    /**
+     * Listeners of one event class, ordered by priority and then by registration.
+     * <p>
+     * The array is replaced on every change and never modified, so publishing just iterates the current snapshot
+     * without locking, sorting or allocating. References to collected listeners are dropped on the next change, or
+     * after a publish that ran into one.
+     */
+    private static final class Listeners {
+        @SuppressWarnings("unchecked")
+        private static final WeakReference<EventListener<? extends Event>>[] EMPTY = new WeakReference[0];
+        private volatile WeakReference<EventListener<? extends Event>>[] snapshot = EMPTY;
+
+        synchronized void add(final EventListener<? extends Event> listener) {
+            final WeakReference<EventListener<? extends Event>>[] current = this.snapshot;
+            final List<WeakReference<EventListener<? extends Event>>> updated = new ArrayList<>(current.length + 1);
+            boolean added = false;
+            for (final WeakReference<EventListener<? extends Event>> ref : current) {
+                final EventListener<? extends Event> existing = ref.get();
+                if (existing == null) {
+                    continue;
+                }
+                if (!added && existing.getPriority() > listener.getPriority()) {
+                    updated.add(new WeakReference<>(listener));
+                    added = true;
+                }
+                updated.add(ref);
+            }
+            if (!added) {
+                updated.add(new WeakReference<>(listener));
+            }
+            this.snapshot = updated.toArray(EMPTY);
+        }
+
+        void purge() {
+            removeIf(listener -> false);
+        }
+
+        synchronized void removeIf(final Predicate<EventListener<? extends Event>> filter) {
+            final WeakReference<EventListener<? extends Event>>[] current = this.snapshot;
+            final List<WeakReference<EventListener<? extends Event>>> updated = new ArrayList<>(current.length);
+            for (final WeakReference<EventListener<? extends Event>> ref : current) {
+                final EventListener<? extends Event> existing = ref.get();
+                if (existing != null && !filter.test(existing)) {
+                    updated.add(ref);
+                }
+            }
+            if (updated.size() != current.length) {
+                this.snapshot = updated.toArray(EMPTY);
+            }
+        }
+    }
 }
@@ -5,6 +5,7 @@ import lombok.Getter;
 
 @AllArgsConstructor
 @Getter
-public class JournalInitEvent implements Event {
+//notifications are enabled once initialised, so the storage events of the journal read have to be delivered first
+public class JournalInitEvent implements CoalescingBarrierEvent {
     private final boolean isInitialised;
 }
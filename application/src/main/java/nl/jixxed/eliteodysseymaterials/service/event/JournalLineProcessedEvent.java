@@ -8,8 +8,13 @@ import java.io.File;
 
 @AllArgsConstructor
 @Getter
-public class JournalLineProcessedEvent implements Event {
+public class JournalLineProcessedEvent implements CoalescableEvent {
     private final String timestamp;
     private final JournalEventType journalEventType;
     private final File file;
+
+    @Override
+    public Object getCoalesceKey() {
+        return this.journalEventType;
+    }
 }
@@ -9,6 +9,11 @@ import nl.jixxed.eliteodysseymaterials.enums.StoragePool;
  */
 @AllArgsConstructor
 @Getter
-public class StorageEvent implements Event {
+public class StorageEvent implements CoalescableEvent {
     private final StoragePool storagePool;
+
+    @Override
+    public Object getCoalesceKey() {
+        return this.storagePool;
+    }
 }
@@ -0,0 +1,10 @@
+package nl.jixxed.eliteodysseymaterials.service.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class TechnologyBrokerRangeChangedEvent implements Event {
+    private final int range;
+}
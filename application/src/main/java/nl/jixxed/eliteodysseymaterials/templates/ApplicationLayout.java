@@ -31,16 +31,46 @@ public class ApplicationLayout extends AnchorPane {
     private SettingsTab settingsTab;
     private final IntegerProperty fontSize = new SimpleIntegerProperty(14);
     private final List<EventListener<?>> eventListeners = new ArrayList<>();
+    private final Application application;
 
     public ApplicationLayout(final Application application) {
-        initComponents(application);
+        this.application = application;
+        initComponents();
         initEventHandling();
     }
 
+    /**
+     * Builds the content of the expansion tabs that weren't selected at startup. Content is built when its tab is
+     * selected as well, whichever comes first.
+     */
+    public void buildContentAreas() {
+        buildOdysseyContentArea();
+        buildHorizonsContentArea();
+    }
+
+    private void buildOdysseyContentArea() {
+        if (this.odysseyContentArea == null) {
+            this.odysseyContentArea = new OdysseyContentArea(this.application);
+            AnchorPaneHelper.setAnchor(this.odysseyContentArea, 0.0, this.bottomBar.getHeight(), 0.0, 0.0);
+            this.odyssey.setContent(this.odysseyContentArea);
+        }
+    }
+
+    private void buildHorizonsContentArea() {
+        if (this.horizonsContentArea == null) {
+            this.horizonsContentArea = new HorizonsContentArea(this.application);
+            this.horizons.setContent(this.horizonsContentArea);
+        }
+    }
+
     private void initEventHandling() {
         this.eventListeners.add(EventService.addListener(this, AfterFontSizeSetEvent.class, fontSizeEvent -> this.fontSize.set(fontSizeEvent.getFontSize())));
         this.eventListeners.add(EventService.addListener(this, ApplicationLifeCycleEvent.class, applicationLifeCycleEvent -> AnchorPaneHelper.setAnchor(this.tabsMain, 0.0, this.bottomBar.getHeight(), 0.0, 0.0)));
-        this.bottomBar.heightProperty().addListener(observable -> AnchorPaneHelper.setAnchor(this.odysseyContentArea, 0.0, this.bottomBar.getHeight(), 0.0, 0.0));
+        this.bottomBar.heightProperty().addListener(observable -> {
+            if (this.odysseyContentArea != null) {
+                AnchorPaneHelper.setAnchor(this.odysseyContentArea, 0.0, this.bottomBar.getHeight(), 0.0, 0.0);
+            }
+        });
         this.eventListeners.add(EventService.addListener(this, ImportResultEvent.class, importResultEvent -> {
             if (importResultEvent.getResult().getResultType().equals(ImportResult.ResultType.SUCCESS_HORIZONS_WISHLIST) || importResultEvent.getResult().getResultType().equals(ImportResult.ResultType.SUCCESS_EDSY_WISHLIST) || importResultEvent.getResult().getResultType().equals(ImportResult.ResultType.SUCCESS_CORIOLIS_WISHLIST)) {
                 this.tabsMain.getSelectionModel().select(this.horizons);
@@ -50,14 +80,12 @@ public class ApplicationLayout extends AnchorPane {
         }));
     }
 
-    private void initComponents(final Application application) {
+    private void initComponents() {
         this.getStyleClass().add("app");
         this.bottomBar = new BottomBar();
-        this.settingsTab = new SettingsTab(application);
+        this.settingsTab = new SettingsTab(this.application);
         this.settingsTab.setClosable(false);
         AnchorPaneHelper.setAnchor(this.bottomBar, null, 0.0, 0.0, 0.0);
-        this.odysseyContentArea = new OdysseyContentArea(application);
-        this.horizonsContentArea = new HorizonsContentArea(application);
         this.odyssey = new Tab();
         this.odyssey.textProperty().bind(LocaleService.getStringBinding("tabs.odyssey"));
         this.odyssey.setClosable(false);
@@ -69,12 +97,21 @@ public class ApplicationLayout extends AnchorPane {
         this.tabsMain.setSide(Side.LEFT);
         this.tabsMain.tabMaxWidthProperty().bind(this.tabsMain.heightProperty().divide(3).subtract(this.fontSize.multiply(5.14)));
         this.tabsMain.tabMinWidthProperty().bind(this.tabsMain.heightProperty().divide(3).subtract(this.fontSize.multiply(5.14)));
-        this.odyssey.setContent(this.odysseyContentArea);
-        this.horizons.setContent(this.horizonsContentArea);
         this.tabsMain.getSelectionModel().select(Math.min(PreferencesService.getPreference(PreferenceConstants.SELECTED_TAB_MAIN, 0), this.tabsMain.getTabs().size()-1));
+        //only the content on screen is built before the window is shown, the rest is built by buildContentAreas
+        buildSelectedContentArea(this.tabsMain.getSelectionModel().getSelectedItem());
         this.tabsMain.getSelectionModel().selectedItemProperty().addListener((observable, oldValue, newValue) -> {
+            buildSelectedContentArea(newValue);
             PreferencesService.setPreference(PreferenceConstants.SELECTED_TAB_MAIN, this.tabsMain.getTabs().indexOf(newValue));
         });
         this.getChildren().addAll(this.tabsMain, this.bottomBar);
     }
+
+    private void buildSelectedContentArea(final Tab tab) {
+        if (tab == this.odyssey) {
+            buildOdysseyContentArea();
+        } else if (tab == this.horizons) {
+            buildHorizonsContentArea();
+        }
+    }
 }
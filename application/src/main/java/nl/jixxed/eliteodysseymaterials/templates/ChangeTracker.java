@@ -0,0 +1,31 @@
+package nl.jixxed.eliteodysseymaterials.templates;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Remembers the state each item of a view was last shown with, so a refresh only updates the items that changed.
+ * States are compared with equals, so they must not be mutated after they are passed in.
+ */
+public class ChangeTracker<T> {
+    private final Map<T, Object> shownStates = new HashMap<>();
+
+    /**
+     * Records the state as shown.
+     *
+     * @return true if the item was not shown before or was shown with a different state
+     */
+    public boolean update(final T item, final Object state) {
+        final boolean shown = this.shownStates.containsKey(item);
+        final Object shownState = this.shownStates.put(item, state);
+        return !shown || !Objects.equals(shownState, state);
+    }
+
+    /**
+     * Forgets all states, so every item counts as changed on the next update.
+     */
+    public void reset() {
+        this.shownStates.clear();
+    }
+}
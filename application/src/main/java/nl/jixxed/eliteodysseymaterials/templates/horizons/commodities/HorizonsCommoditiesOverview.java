@@ -12,6 +12,7 @@ import nl.jixxed.eliteodysseymaterials.domain.CommoditiesSearch;
 import nl.jixxed.eliteodysseymaterials.enums.*;
 import nl.jixxed.eliteodysseymaterials.helper.ScalingHelper;
 import nl.jixxed.eliteodysseymaterials.service.LocaleService;
+import nl.jixxed.eliteodysseymaterials.service.SearchIndexService;
 import nl.jixxed.eliteodysseymaterials.service.event.EventListener;
 import nl.jixxed.eliteodysseymaterials.service.event.EventService;
 import nl.jixxed.eliteodysseymaterials.service.event.HorizonsCommoditiesSearchEvent;
@@ -51,7 +52,7 @@ public class HorizonsCommoditiesOverview extends VBox implements Template {
             if (hasCardsVisibleInGroup(horizonsCommodityCardsForType)) {
                 final HorizonsCommodityCard[] array = Arrays.stream(horizonsCommodityCardsForType)
                         .filter(HorizonsCommoditiesShow.getFilter(this.currentSearch))
-                        .filter(card -> this.currentSearch.getQuery().isBlank() || LocaleService.getLocalizedStringForCurrentLocale(card.getCommodity().getLocalizationKey()).toLowerCase(LocaleService.getCurrentLocale()).contains(this.currentSearch.getQuery().toLowerCase(LocaleService.getCurrentLocale())) || LocaleService.getLocalizedStringForCurrentLocale(card.getCommodity().getCommodityType().getLocalizationKey()).toLowerCase(LocaleService.getCurrentLocale()).contains(this.currentSearch.getQuery().toLowerCase(LocaleService.getCurrentLocale())))
+                        .filter(card -> SearchIndexService.matches(card.getCommodity().getLocalizationKey(), this.currentSearch.getQuery()) || SearchIndexService.matches(card.getCommodity().getCommodityType().getLocalizationKey(), this.currentSearch.getQuery()))
                         .sorted(HorizonsCommoditiesSort.getSort(this.currentSearch))
                         .toList()
                         .toArray(HorizonsCommodityCard[]::new);
@@ -61,7 +62,7 @@ public class HorizonsCommoditiesOverview extends VBox implements Template {
     }
 
     private boolean hasCardsVisibleInGroup(final HorizonsCommodityCard[] horizonsCommodityCardsForType) {
-        return Arrays.stream(horizonsCommodityCardsForType).anyMatch(card -> (this.currentSearch.getQuery().isBlank() || LocaleService.getLocalizedStringForCurrentLocale(card.getCommodity().getLocalizationKey()).toLowerCase(LocaleService.getCurrentLocale()).contains(this.currentSearch.getQuery().toLowerCase(LocaleService.getCurrentLocale())) || LocaleService.getLocalizedStringForCurrentLocale(card.getCommodity().getCommodityType().getLocalizationKey()).toLowerCase(LocaleService.getCurrentLocale()).contains(this.currentSearch.getQuery().toLowerCase(LocaleService.getCurrentLocale()))) && HorizonsCommoditiesShow.getFilter(this.currentSearch).test(card));
+        return Arrays.stream(horizonsCommodityCardsForType).anyMatch(card -> (SearchIndexService.matches(card.getCommodity().getLocalizationKey(), this.currentSearch.getQuery()) || SearchIndexService.matches(card.getCommodity().getCommodityType().getLocalizationKey(), this.currentSearch.getQuery())) && HorizonsCommoditiesShow.getFilter(this.currentSearch).test(card));
     }
 
     private void createCommodityCardRow(final CommodityType type, final HorizonsCommodityCard[] array) {
@@ -8,6 +8,7 @@ import nl.jixxed.eliteodysseymaterials.constants.HorizonsBlueprintConstants;
 import nl.jixxed.eliteodysseymaterials.enums.Engineer;
 import nl.jixxed.eliteodysseymaterials.enums.HorizonsTabs;
 import nl.jixxed.eliteodysseymaterials.service.LocaleService;
+import nl.jixxed.eliteodysseymaterials.service.SearchIndexService;
 import nl.jixxed.eliteodysseymaterials.service.event.EventListener;
 import nl.jixxed.eliteodysseymaterials.service.event.EventService;
 import nl.jixxed.eliteodysseymaterials.service.event.HorizonsEngineerSearchEvent;
@@ -59,7 +60,7 @@ public class HorizonsEngineersTab extends HorizonsTab {
                 .filter(horizonsEngineerCard -> search.isBlank()
                         || horizonsEngineerCard.getEngineer().getSettlement().getSettlementName().toLowerCase().contains(search.toLowerCase())
                         || horizonsEngineerCard.getEngineer().getStarSystem().getName().toLowerCase().contains(search.toLowerCase())
-                        || LocaleService.getLocalizedStringForCurrentLocale(horizonsEngineerCard.getEngineer().getLocalizationKey()).toLowerCase().contains(search.toLowerCase())
+                        || SearchIndexService.matches(horizonsEngineerCard.getEngineer().getLocalizationKey(), search)
                         || hasBlueprintLike(horizonsEngineerCard.getEngineer(), search)
                 )
                 .toList();
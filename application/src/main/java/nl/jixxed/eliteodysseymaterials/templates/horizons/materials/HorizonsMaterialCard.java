@@ -14,14 +14,13 @@ import nl.jixxed.eliteodysseymaterials.builder.ResizableImageViewBuilder;
 import nl.jixxed.eliteodysseymaterials.enums.GameVersion;
 import nl.jixxed.eliteodysseymaterials.enums.HorizonsMaterial;
 import nl.jixxed.eliteodysseymaterials.enums.HorizonsMaterialType;
-import nl.jixxed.eliteodysseymaterials.enums.StoragePool;
 import nl.jixxed.eliteodysseymaterials.service.LocaleService;
 import nl.jixxed.eliteodysseymaterials.service.MaterialService;
+import nl.jixxed.eliteodysseymaterials.service.SearchIndexService;
 import nl.jixxed.eliteodysseymaterials.service.StorageService;
 import nl.jixxed.eliteodysseymaterials.service.event.EventListener;
 import nl.jixxed.eliteodysseymaterials.service.event.EventService;
 import nl.jixxed.eliteodysseymaterials.service.event.HorizonsMaterialSearchEvent;
-import nl.jixxed.eliteodysseymaterials.service.event.StorageEvent;
 import nl.jixxed.eliteodysseymaterials.templates.Template;
 import nl.jixxed.eliteodysseymaterials.templates.components.segmentbar.SegmentType;
 import nl.jixxed.eliteodysseymaterials.templates.components.segmentbar.TypeSegment;
@@ -92,27 +91,27 @@ public class HorizonsMaterialCard extends VBox implements Template {
 
     @Override
     public void initEventHandling() {
-        this.eventListeners.add(EventService.addListener(this, StorageEvent.class, storageEvent -> {
-            if (storageEvent.getStoragePool().equals(StoragePool.SHIP)) {
-                final Integer materialCount = StorageService.getMaterialCount(this.material);
-                final Integer maxAmount = this.material.getMaxAmount();
-                this.present.setValue(materialCount.equals(0) ? materialCount : Math.max(materialCount, this.material.getMaxAmount() / 7));
-                this.present.setText(materialCount.toString());
-                final Integer availableStorage = maxAmount - materialCount;
-                this.notPresent.setValue(availableStorage.equals(0) ? availableStorage : Math.max(availableStorage, this.material.getMaxAmount() / 7));
-                this.notPresent.setText(String.valueOf(availableStorage));
-            }
-        }));
-
         this.eventListeners.add(EventService.addListener(this, HorizonsMaterialSearchEvent.class, horizonsMaterialSearchEvent -> {
             update(horizonsMaterialSearchEvent.getSearch());
         }));
     }
 
+    /**
+     * Shows the amount in storage. Called by the overview for the materials whose amount changed.
+     */
+    void updateAmount(final Integer materialCount) {
+        final Integer maxAmount = this.material.getMaxAmount();
+        this.present.setValue(materialCount.equals(0) ? materialCount : Math.max(materialCount, this.material.getMaxAmount() / 7));
+        this.present.setText(materialCount.toString());
+        final Integer availableStorage = maxAmount - materialCount;
+        this.notPresent.setValue(availableStorage.equals(0) ? availableStorage : Math.max(availableStorage, this.material.getMaxAmount() / 7));
+        this.notPresent.setText(String.valueOf(availableStorage));
+    }
+
     private void update(final String search) {
-        if (search.isBlank() || !LocaleService.getLocalizedStringForCurrentLocale(this.material.getLocalizationKey()).toLowerCase(LocaleService.getCurrentLocale()).contains(search.toLowerCase(LocaleService.getCurrentLocale()))) {
+        if (search.isBlank() || !SearchIndexService.matches(this.material.getLocalizationKey(), search)) {
             this.nameLabel.getStyleClass().remove("horizons-materialcard-name-highlight");
-        } else if (!this.nameLabel.getStyleClass().contains("horizons-materialcard-name-highlight") && LocaleService.getLocalizedStringForCurrentLocale(this.material.getLocalizationKey()).toLowerCase(LocaleService.getCurrentLocale()).contains(search.toLowerCase(LocaleService.getCurrentLocale()))) {
+        } else if (!this.nameLabel.getStyleClass().contains("horizons-materialcard-name-highlight")) {
             this.nameLabel.getStyleClass().add("horizons-materialcard-name-highlight");
         }
     }
@@ -1,5 +1,6 @@
 package nl.jixxed.eliteodysseymaterials.templates.horizons.materials;
 
+import javafx.application.Platform;
 import javafx.geometry.Orientation;
 import javafx.scene.control.Separator;
 import javafx.scene.layout.FlowPane;
@@ -12,9 +13,13 @@ import nl.jixxed.eliteodysseymaterials.builder.LabelBuilder;
 import nl.jixxed.eliteodysseymaterials.enums.*;
 import nl.jixxed.eliteodysseymaterials.helper.ScalingHelper;
 import nl.jixxed.eliteodysseymaterials.service.LocaleService;
+import nl.jixxed.eliteodysseymaterials.service.SearchIndexService;
+import nl.jixxed.eliteodysseymaterials.service.StorageService;
 import nl.jixxed.eliteodysseymaterials.service.event.EventListener;
 import nl.jixxed.eliteodysseymaterials.service.event.EventService;
 import nl.jixxed.eliteodysseymaterials.service.event.HorizonsMaterialSearchEvent;
+import nl.jixxed.eliteodysseymaterials.service.event.StorageEvent;
+import nl.jixxed.eliteodysseymaterials.templates.ChangeTracker;
 import nl.jixxed.eliteodysseymaterials.templates.Template;
 import nl.jixxed.eliteodysseymaterials.templates.destroyables.DestroyableLabel;
 
@@ -22,6 +27,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 public class HorizonsMaterialOverview extends VBox implements Template {
 
@@ -30,6 +37,10 @@ public class HorizonsMaterialOverview extends VBox implements Template {
     private HorizonsMaterialCard[] manufacturedCards;
     private HBox nearestTraders;
     private final List<EventListener<?>> eventListeners = new ArrayList<>();
+    //amounts the cards show, so a refresh only updates the cards of materials that changed
+    private final ChangeTracker<HorizonsMaterial> shownAmounts = new ChangeTracker<>();
+    private final AtomicBoolean refreshRequested = new AtomicBoolean();
+
     HorizonsMaterialOverview() {
         initComponents();
         initEventHandling();
@@ -59,14 +70,14 @@ public class HorizonsMaterialOverview extends VBox implements Template {
         this.getChildren().add(this.nearestTraders);
         this.getChildren().add(new Separator(Orientation.HORIZONTAL));
         Arrays.stream(HorizonsMaterialType.getRawTypes()).forEach(type -> {
-            if (Arrays.stream(Raw.materialsForType(type)).anyMatch(raw -> search.isBlank() || LocaleService.getLocalizedStringForCurrentLocale(raw.getLocalizationKey()).toLowerCase(LocaleService.getCurrentLocale()).contains(search.toLowerCase(LocaleService.getCurrentLocale())))) {
+            if (Arrays.stream(Raw.materialsForType(type)).anyMatch(raw -> SearchIndexService.matches(raw.getLocalizationKey(), search))) {
                 final HorizonsMaterialCard[] array = Arrays.stream(this.rawCards).filter(horizonsMaterialCard -> horizonsMaterialCard.getMaterial().getMaterialType().equals(type)).sorted(Comparator.comparing(card -> card.getMaterial().getRarity())).toList().toArray(HorizonsMaterialCard[]::new);
                 createMaterialCardRow(type, array);
             }
         });
         this.getChildren().add(new Separator(Orientation.HORIZONTAL));
         Arrays.stream(HorizonsMaterialType.getEncodedTypes()).forEach(type -> {
-            if (Arrays.stream(Encoded.materialsForType(type)).anyMatch(encoded -> search.isBlank() || LocaleService.getLocalizedStringForCurrentLocale(encoded.getLocalizationKey()).toLowerCase(LocaleService.getCurrentLocale()).contains(search.toLowerCase(LocaleService.getCurrentLocale())))) {
+            if (Arrays.stream(Encoded.materialsForType(type)).anyMatch(encoded -> SearchIndexService.matches(encoded.getLocalizationKey(), search))) {
                 final HorizonsMaterialCard[] array = Arrays.stream(this.encodedCards).filter(horizonsMaterialCard -> horizonsMaterialCard.getMaterial().getMaterialType().equals(type)).sorted(Comparator.comparing(card -> card.getMaterial().getRarity())).toList().toArray(HorizonsMaterialCard[]::new);
                 createMaterialCardRow(type, array);
 
@@ -74,7 +85,7 @@ public class HorizonsMaterialOverview extends VBox implements Template {
         });
         this.getChildren().add(new Separator(Orientation.HORIZONTAL));
         Arrays.stream(HorizonsMaterialType.getManufacturedTypes()).forEach(type -> {
-            if (Arrays.stream(Manufactured.materialsForType(type)).anyMatch(manufactured -> search.isBlank() || LocaleService.getLocalizedStringForCurrentLocale(manufactured.getLocalizationKey()).toLowerCase(LocaleService.getCurrentLocale()).contains(search.toLowerCase(LocaleService.getCurrentLocale())))) {
+            if (Arrays.stream(Manufactured.materialsForType(type)).anyMatch(manufactured -> SearchIndexService.matches(manufactured.getLocalizationKey(), search))) {
                 final HorizonsMaterialCard[] array = Arrays.stream(this.manufacturedCards).filter(horizonsMaterialCard -> horizonsMaterialCard.getMaterial().getMaterialType().equals(type)).sorted(Comparator.comparing(card -> card.getMaterial().getRarity())).toList().toArray(HorizonsMaterialCard[]::new);
                 createMaterialCardRow(type, array);
             }
@@ -98,5 +109,29 @@ public class HorizonsMaterialOverview extends VBox implements Template {
         this.eventListeners.add(EventService.addListener(this, HorizonsMaterialSearchEvent.class, horizonsMaterialSearchEvent -> {
             update(horizonsMaterialSearchEvent.getSearch());
         }));
+        this.eventListeners.add(EventService.addListener(this, StorageEvent.class, storageEvent -> {
+            if (StoragePool.SHIP.equals(storageEvent.getStoragePool())) {
+                requestRefresh();
+            }
+        }));
+    }
+
+    /**
+     * Refreshes the cards once on the next pulse, however many storage events arrive before it.
+     */
+    private void requestRefresh() {
+        if (this.refreshRequested.compareAndSet(false, true)) {
+            Platform.runLater(this::refresh);
+        }
+    }
+
+    private void refresh() {
+        this.refreshRequested.set(false);
+        Stream.of(this.rawCards, this.encodedCards, this.manufacturedCards).flatMap(Arrays::stream).forEach(card -> {
+            final Integer materialCount = StorageService.getMaterialCount(card.getMaterial());
+            if (this.shownAmounts.update(card.getMaterial(), materialCount)) {
+                card.updateAmount(materialCount);
+            }
+        });
     }
 }
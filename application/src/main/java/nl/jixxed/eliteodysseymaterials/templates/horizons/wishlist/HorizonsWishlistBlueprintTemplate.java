@@ -15,6 +15,7 @@ import nl.jixxed.eliteodysseymaterials.builder.TooltipBuilder;
 import nl.jixxed.eliteodysseymaterials.constants.HorizonsBlueprintConstants;
 import nl.jixxed.eliteodysseymaterials.domain.*;
 import nl.jixxed.eliteodysseymaterials.enums.*;
+import nl.jixxed.eliteodysseymaterials.service.CraftabilityService;
 import nl.jixxed.eliteodysseymaterials.service.ImageService;
 import nl.jixxed.eliteodysseymaterials.service.LocaleService;
 import nl.jixxed.eliteodysseymaterials.service.event.*;
@@ -48,7 +49,7 @@ public class HorizonsWishlistBlueprintTemplate extends HBox implements WishlistB
     private Button removeBlueprint;
     private final Set<HorizonsWishlistIngredient> wishlistIngredients = new HashSet<>();
     private final Set<HorizonsWishlistIngredient> otherIngredients = new HashSet<>();
-    private EventListener<StorageEvent> storageEventEventListener;
+    private EventListener<CraftabilityEvent> craftabilityEventEventListener;
     private Tooltip tooltip;
 
     HorizonsWishlistBlueprintTemplate(final String wishlistUUID, final WishlistBlueprint<HorizonsBlueprintName> wishlistBlueprint) {
@@ -119,13 +120,13 @@ public class HorizonsWishlistBlueprintTemplate extends HBox implements WishlistB
             Tooltip.install(this.wishlistRecipeName, this.tooltip);
         }
         initFadeTransition();
-        final Craftability craftability = HorizonsBlueprintConstants.getCraftability(getRecipeName(), getBlueprintType(), getBlueprintGrade());
+        final Craftability craftability = CraftabilityService.getCraftability(getRecipeName(), getBlueprintType(), getBlueprintGrade());
         this.canCraft(craftability);
     }
 
     @Override
     public void remove() {
-        EventService.removeListener(this.storageEventEventListener);
+        EventService.removeListener(this.craftabilityEventEventListener);
         APPLICATION_STATE.getPreferredCommander().ifPresent(commander -> EventService.publish(new HorizonsWishlistBlueprintEvent(commander, this.wishlistUUID, List.of(this.wishlistBlueprint), Action.REMOVED)));
     }
 
@@ -138,8 +139,11 @@ public class HorizonsWishlistBlueprintTemplate extends HBox implements WishlistB
     }
 
     private void initEventHandling() {
-        this.storageEventEventListener = EventService.addListener(this, StorageEvent.class, storageEvent -> {
-            final Craftability craftability = HorizonsBlueprintConstants.getCraftability(getRecipeName(), getBlueprintType(), getBlueprintGrade());
+        this.craftabilityEventEventListener = EventService.addListener(this, CraftabilityEvent.class, craftabilityEvent -> {
+            if (craftabilityEvent.getHorizonsBlueprints().stream().noneMatch(blueprint -> getRecipeName().equals(blueprint.getHorizonsBlueprintName()) && getBlueprintType().equals(blueprint.getHorizonsBlueprintType()))) {
+                return;
+            }
+            final Craftability craftability = CraftabilityService.getCraftability(getRecipeName(), getBlueprintType(), getBlueprintGrade());
             this.canCraft(craftability);
         });
     }
@@ -247,6 +251,6 @@ public class HorizonsWishlistBlueprintTemplate extends HBox implements WishlistB
 
     @Override
     public void onDestroy() {
-        EventService.removeListener(this.storageEventEventListener);
+        EventService.removeListener(this.craftabilityEventEventListener);
     }
 }
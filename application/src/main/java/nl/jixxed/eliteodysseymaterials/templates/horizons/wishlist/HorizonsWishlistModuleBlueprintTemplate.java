@@ -15,6 +15,7 @@ import nl.jixxed.eliteodysseymaterials.constants.HorizonsBlueprintConstants;
 import nl.jixxed.eliteodysseymaterials.domain.*;
 import nl.jixxed.eliteodysseymaterials.enums.*;
 import nl.jixxed.eliteodysseymaterials.helper.AnchorPaneHelper;
+import nl.jixxed.eliteodysseymaterials.service.CraftabilityService;
 import nl.jixxed.eliteodysseymaterials.service.ImageService;
 import nl.jixxed.eliteodysseymaterials.service.LocaleService;
 import nl.jixxed.eliteodysseymaterials.service.event.*;
@@ -54,7 +55,7 @@ public class HorizonsWishlistModuleBlueprintTemplate extends VBox implements Wis
     private Button toggleControls;
     private final Set<HorizonsWishlistIngredient> wishlistIngredients = new HashSet<>();
     private final Set<HorizonsWishlistIngredient> otherIngredients = new HashSet<>();
-    private EventListener<StorageEvent> storageEventEventListener;
+    private EventListener<CraftabilityEvent> craftabilityEventEventListener;
     private Tooltip tooltip;
 
     HorizonsWishlistModuleBlueprintTemplate(final String wishlistUUID, final HorizonsModuleWishlistBlueprint wishlistBlueprint) {
@@ -124,7 +125,7 @@ public class HorizonsWishlistModuleBlueprintTemplate extends VBox implements Wis
                                                     LocaleService.LocalizationKey.of(this.wishlistBlueprint.getRecipeName().getLocalizationKey()),
                                                     LocaleService.LocalizationKey.of(this.wishlistBlueprint.getBlueprintType().getLocalizationKey()),
                                                     this.wishlistBlueprint.getBlueprintGradeRolls().keySet().stream().sorted(Comparator.comparing(HorizonsBlueprintGrade::getGrade)).map(HorizonsBlueprintGrade::getGrade).map(String::valueOf).collect(Collectors.joining(","))));
-                                            final Craftability craftability = HorizonsBlueprintConstants.getCraftability(getRecipeName(), getBlueprintType(), this.wishlistBlueprint.getBlueprintGradeRolls());
+                                            final Craftability craftability = CraftabilityService.getCraftability(getRecipeName(), getBlueprintType(), this.wishlistBlueprint.getBlueprintGradeRolls());
                                             this.canCraft(craftability);
                                         }));
                                         buttonIntField.getStyleClass().add("wishlist-rolls-select");
@@ -167,13 +168,13 @@ public class HorizonsWishlistModuleBlueprintTemplate extends VBox implements Wis
         Tooltip.install(this.wishlistRecipeName, this.tooltip);
 
         initFadeTransition();
-        final Craftability craftability = HorizonsBlueprintConstants.getCraftability(getRecipeName(), getBlueprintType(), this.wishlistBlueprint.getBlueprintGradeRolls());
+        final Craftability craftability = CraftabilityService.getCraftability(getRecipeName(), getBlueprintType(), this.wishlistBlueprint.getBlueprintGradeRolls());
         this.canCraft(craftability);
     }
 
     @Override
     public void remove() {
-        EventService.removeListener(this.storageEventEventListener);
+        EventService.removeListener(this.craftabilityEventEventListener);
         APPLICATION_STATE.getPreferredCommander().ifPresent(commander -> EventService.publish(new HorizonsWishlistBlueprintEvent(commander, this.wishlistUUID, List.of(this.wishlistBlueprint), Action.REMOVED)));
     }
 
@@ -190,8 +191,11 @@ public class HorizonsWishlistModuleBlueprintTemplate extends VBox implements Wis
     }
 
     private void initEventHandling() {
-        this.storageEventEventListener = EventService.addListener(this, StorageEvent.class, storageEvent -> {
-            final Craftability craftability = HorizonsBlueprintConstants.getCraftability(getRecipeName(), getBlueprintType(), this.wishlistBlueprint.getBlueprintGradeRolls());
+        this.craftabilityEventEventListener = EventService.addListener(this, CraftabilityEvent.class, craftabilityEvent -> {
+            if (craftabilityEvent.getHorizonsBlueprints().stream().noneMatch(blueprint -> getRecipeName().equals(blueprint.getHorizonsBlueprintName()) && getBlueprintType().equals(blueprint.getHorizonsBlueprintType()))) {
+                return;
+            }
+            final Craftability craftability = CraftabilityService.getCraftability(getRecipeName(), getBlueprintType(), this.wishlistBlueprint.getBlueprintGradeRolls());
             this.canCraft(craftability);
         });
     }
@@ -280,6 +284,6 @@ public class HorizonsWishlistModuleBlueprintTemplate extends VBox implements Wis
 
     @Override
     public void onDestroy() {
-        EventService.removeListener(this.storageEventEventListener);
+        EventService.removeListener(this.craftabilityEventEventListener);
     }
 }
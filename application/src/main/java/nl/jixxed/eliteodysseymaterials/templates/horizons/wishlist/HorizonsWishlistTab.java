@@ -669,7 +669,7 @@ public class HorizonsWishlistTab extends HorizonsTab {
         }
 
         this.wishlistBlueprints.forEach(wishlistBlueprint -> wishlistBlueprint.addWishlistIngredients(allIngredients));
-        allIngredients.forEach(horizonsWishlistIngredient -> ((HorizonsWishlistIngredient) horizonsWishlistIngredient).searchHighlight(!this.currentSearch.getQuery().isBlank() && LocaleService.getLocalizedStringForCurrentLocale(((HorizonsWishlistIngredient) horizonsWishlistIngredient).getHorizonsMaterial().getLocalizationKey()).toLowerCase().contains(this.currentSearch.getQuery().toLowerCase())));
+        allIngredients.forEach(horizonsWishlistIngredient -> ((HorizonsWishlistIngredient) horizonsWishlistIngredient).searchHighlight(!this.currentSearch.getQuery().isBlank() && SearchIndexService.matches(((HorizonsWishlistIngredient) horizonsWishlistIngredient).getHorizonsMaterial().getLocalizationKey(), this.currentSearch.getQuery())));
 
 
         removeAndAddFlows();
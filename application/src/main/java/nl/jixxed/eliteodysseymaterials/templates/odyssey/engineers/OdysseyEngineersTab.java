@@ -8,6 +8,7 @@ import nl.jixxed.eliteodysseymaterials.constants.OdysseyBlueprintConstants;
 import nl.jixxed.eliteodysseymaterials.enums.Engineer;
 import nl.jixxed.eliteodysseymaterials.enums.OdysseyTabs;
 import nl.jixxed.eliteodysseymaterials.service.LocaleService;
+import nl.jixxed.eliteodysseymaterials.service.SearchIndexService;
 import nl.jixxed.eliteodysseymaterials.service.event.EventListener;
 import nl.jixxed.eliteodysseymaterials.service.event.EventService;
 import nl.jixxed.eliteodysseymaterials.service.event.OdysseyEngineerSearchEvent;
@@ -62,8 +63,8 @@ public class OdysseyEngineersTab extends OdysseyTab {
                 .filter(odysseyEngineerCard -> search.isBlank()
                         || odysseyEngineerCard.getEngineer().getSettlement().getSettlementName().toLowerCase().contains(search.toLowerCase())
                         || odysseyEngineerCard.getEngineer().getStarSystem().getName().toLowerCase().contains(search.toLowerCase())
-                        || LocaleService.getLocalizedStringForCurrentLocale(odysseyEngineerCard.getEngineer().getSpecialisation().getLocalizationKey()).toLowerCase().contains(search.toLowerCase())
-                        || LocaleService.getLocalizedStringForCurrentLocale(odysseyEngineerCard.getEngineer().getLocalizationKey()).toLowerCase().contains(search.toLowerCase())
+                        || SearchIndexService.matches(odysseyEngineerCard.getEngineer().getSpecialisation().getLocalizationKey(), search)
+                        || SearchIndexService.matches(odysseyEngineerCard.getEngineer().getLocalizationKey(), search)
                         || hasBlueprintLike(odysseyEngineerCard.getEngineer(), search)
                 )
                 .toList();
@@ -120,23 +120,6 @@ class OdysseyMaterialCard extends VBox implements Template {
             this.wishlistAmount.setText(String.valueOf(Wishlist.ALL.getItems().stream().map(bp -> OdysseyBlueprintConstants.getRecipe(bp.getRecipeName()).getRequiredAmount(this.odysseyMaterial)).mapToInt(Integer::intValue).sum()));
             this.totalAmount.setText(String.valueOf(0));
         }));
-        this.eventListeners.add(EventService.addListener(this, StorageEvent.class, storageEvent -> {
-            if (StoragePool.FLEETCARRIER.equals(storageEvent.getStoragePool())) {
-                this.fleetCarrierAmount.setText(String.valueOf(this.amounts.getFleetCarrierValue()));
-            } else if (StoragePool.BACKPACK.equals(storageEvent.getStoragePool())) {
-                this.backpackAmount.setText(String.valueOf(this.amounts.getBackPackValue()));
-            } else if (StoragePool.SHIPLOCKER.equals(storageEvent.getStoragePool())) {
-                this.shiplockerAmount.setText(String.valueOf(this.amounts.getShipLockerValue()));
-            }
-            this.totalAmount.setText(String.valueOf(this.amounts.getTotalValue()));
-            Platform.runLater(this::updateStyle);
-        }));
-
-        this.eventListeners.add(EventService.addListener(this, SearchEvent.class, searchEvent -> {
-            this.materialShow = searchEvent.getSearch().getMaterialShow();
-            Platform.runLater(this::updateStyle);
-        }));
-
         this.eventListeners.add(EventService.addListener(this, IrrelevantMaterialOverrideEvent.class, event ->
                 Platform.runLater(this::updateMaterialCardStyle)
         ));
@@ -149,6 +132,22 @@ class OdysseyMaterialCard extends VBox implements Template {
         ));
     }
 
+    /**
+     * Shows the current amounts. Called by the overview for the materials whose amounts changed.
+     */
+    void updateAmounts() {
+        this.fleetCarrierAmount.setText(String.valueOf(this.amounts.getFleetCarrierValue()));
+        this.backpackAmount.setText(String.valueOf(this.amounts.getBackPackValue()));
+        this.shiplockerAmount.setText(String.valueOf(this.amounts.getShipLockerValue()));
+        this.totalAmount.setText(String.valueOf(this.amounts.getTotalValue()));
+        updateStyle();
+    }
+
+    void setMaterialShow(final OdysseyMaterialShow materialShow) {
+        this.materialShow = materialShow;
+        updateStyle();
+    }
+
     private void updateStyle() {
         updateMaterialCardStyle();
         this.backpackImage.getStyleClass().removeAll("materialcard-amount-image-nonzero");
@@ -6,6 +6,7 @@ import io.reactivex.rxjava3.schedulers.Schedulers;
 import javafx.application.Platform;
 import javafx.beans.value.ChangeListener;
 import javafx.geometry.Orientation;
+import javafx.scene.Node;
 import javafx.scene.control.ScrollPane;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.VBox;
@@ -14,15 +15,17 @@ import nl.jixxed.eliteodysseymaterials.constants.PreferenceConstants;
 import nl.jixxed.eliteodysseymaterials.domain.Search;
 import nl.jixxed.eliteodysseymaterials.domain.Storage;
 import nl.jixxed.eliteodysseymaterials.enums.*;
-import nl.jixxed.eliteodysseymaterials.service.LocaleService;
 import nl.jixxed.eliteodysseymaterials.service.PreferencesService;
+import nl.jixxed.eliteodysseymaterials.service.SearchIndexService;
 import nl.jixxed.eliteodysseymaterials.service.StorageService;
 import nl.jixxed.eliteodysseymaterials.service.event.EventListener;
 import nl.jixxed.eliteodysseymaterials.service.event.*;
+import nl.jixxed.eliteodysseymaterials.templates.ChangeTracker;
 import nl.jixxed.eliteodysseymaterials.templates.odyssey.OdysseyMaterialTotals;
 
 import java.util.*;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Predicate;
 
 public class OdysseyMaterialOverview extends VBox {
@@ -39,6 +42,9 @@ public class OdysseyMaterialOverview extends VBox {
     private Search currentSearch = new Search("", OdysseyMaterialSort.ALPHABETICAL, OdysseyMaterialShow.ALL);
     private ChangeListener<Number> resizeListener;
     private final List<EventListener<?>> eventListeners = new ArrayList<>();
+    //amounts the cards show, so a refresh only updates the cards of materials that changed
+    private final ChangeTracker<OdysseyMaterial> shownAmounts = new ChangeTracker<>();
+    private final AtomicBoolean refreshRequested = new AtomicBoolean();
 
     OdysseyMaterialOverview(final ScrollPane scrollPane) {
         this.scrollPane = scrollPane;
@@ -102,12 +108,19 @@ public class OdysseyMaterialOverview extends VBox {
         this.eventListeners.add(EventService.addListener(this, 1, SearchEvent.class, searchEvent -> {
             this.currentSearch = searchEvent.getSearch();
             Platform.runLater(() -> {
+                this.materialCards.values().forEach(card -> card.setMaterialShow(this.currentSearch.getMaterialShow()));
                 this.updateContent(this.currentSearch);
                 layoutChildren();
             });
 
         }));
         this.eventListeners.add(EventService.addListener(this, CommanderResetEvent.class, event -> Platform.runLater(() -> this.updateContent(this.currentSearch))));
+        //cards are reset to zero when another commander is selected
+        this.eventListeners.add(EventService.addListener(this, CommanderSelectedEvent.class, event -> {
+            this.shownAmounts.reset();
+            requestRefresh();
+        }));
+        this.eventListeners.add(EventService.addListener(this, StorageEvent.class, storageEvent -> requestRefresh()));
         Observable
                 .create((ObservableEmitter<JournalLineProcessedEvent> emitter) -> this.eventListeners.add(EventService.addListener(this, JournalLineProcessedEvent.class, journalProcessedEvent -> {
                     if (JournalEventType.BACKPACK.equals(journalProcessedEvent.getJournalEventType())
@@ -149,15 +162,54 @@ public class OdysseyMaterialOverview extends VBox {
     }
 
 
+    /**
+     * Refreshes the overview once on the next pulse, however many storage events arrive before it.
+     */
+    private void requestRefresh() {
+        if (this.refreshRequested.compareAndSet(false, true)) {
+            Platform.runLater(this::refresh);
+        }
+    }
+
+    private void refresh() {
+        this.refreshRequested.set(false);
+        boolean changed = updateChangedCards(StorageService.getGoods());
+        changed |= updateChangedCards(StorageService.getAssets());
+        changed |= updateChangedCards(StorageService.getData());
+        if (changed) {
+            updateContent(this.currentSearch);
+        }
+    }
+
+    private boolean updateChangedCards(final Map<? extends OdysseyMaterial, Storage> materials) {
+        boolean changed = false;
+        for (final Map.Entry<? extends OdysseyMaterial, Storage> entry : materials.entrySet()) {
+            final Storage storage = entry.getValue();
+            if (this.shownAmounts.update(entry.getKey(), Storage.of(storage.getBackPackValue(), storage.getShipLockerValue(), storage.getFleetCarrierValue()))) {
+                final OdysseyMaterialCard card = this.materialCards.get(entry.getKey());
+                if (card != null) {
+                    card.updateAmounts();
+                }
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
     private void updateContent(final Search search) {
-        this.assetChemicalFlow.getChildren().clear();
-        this.assetTechFlow.getChildren().clear();
-        this.assetCircuitFlow.getChildren().clear();
-        this.goodFlow.getChildren().clear();
-        this.dataFlow.getChildren().clear();
-        addGoods(search);
-        addAssets(search);
-        addDatas(search);
+        final Map<FlowPane, List<OdysseyMaterialCard>> content = new LinkedHashMap<>();
+        for (final FlowPane flowPane : new FlowPane[]{this.goodFlow, this.assetChemicalFlow, this.assetCircuitFlow, this.assetTechFlow, this.dataFlow}) {
+            content.put(flowPane, new ArrayList<>());
+        }
+        addGoods(search, content.get(this.goodFlow));
+        addAssets(search, content);
+        addDatas(search, content.get(this.dataFlow));
+        //only touch the scene graph when the filtered and sorted result differs from what is shown
+        content.forEach((flowPane, cards) -> {
+            if (!flowPane.getChildren().equals(cards)) {
+                flowPane.getChildren().setAll(cards);
+            }
+        });
         removeAndAddFlows();
     }
 
@@ -173,26 +225,28 @@ public class OdysseyMaterialOverview extends VBox {
     }
 
     private void removeAndAddFlows() {
-        this.getChildren().removeAll(this.goodFlow, this.assetChemicalFlow, this.assetCircuitFlow, this.assetTechFlow, this.dataFlow);
+        final List<Node> children = new ArrayList<>(this.getChildren());
+        children.removeAll(List.of(this.goodFlow, this.assetChemicalFlow, this.assetCircuitFlow, this.assetTechFlow, this.dataFlow));
         for (final FlowPane flowPane : new FlowPane[]{this.goodFlow, this.assetChemicalFlow, this.assetCircuitFlow, this.assetTechFlow, this.dataFlow}) {
             if (!flowPane.getChildren().isEmpty()) {
-                this.getChildren().add(flowPane);
+                children.add(flowPane);
             }
         }
+        if (!this.getChildren().equals(children)) {
+            this.getChildren().setAll(children);
+        }
     }
 
-    private void addGoods(final Search search) {
+    private void addGoods(final Search search, final List<OdysseyMaterialCard> cards) {
         StorageService.getGoods().entrySet().stream()
                 .filter(OdysseyMaterialShow.getFilter(search))
                 .filter(onSearchQuery(search))
                 .filter(onKnownMaterial())
                 .sorted(OdysseyMaterialSort.getSort(search))
-                .forEach(entry -> {
-                    this.goodFlow.getChildren().add(this.materialCards.get(entry.getKey()));
-                });
+                .forEach(entry -> cards.add(this.materialCards.get(entry.getKey())));
     }
 
-    private void addAssets(final Search search) {
+    private void addAssets(final Search search, final Map<FlowPane, List<OdysseyMaterialCard>> content) {
         StorageService.getAssets().entrySet().stream()
                 .filter(OdysseyMaterialShow.getFilter(search))
                 .filter(onSearchQuery(search))
@@ -202,22 +256,20 @@ public class OdysseyMaterialOverview extends VBox {
                 .forEach(entry -> {
                     final OdysseyMaterialCard materialCard = this.materialCards.get(entry.getKey());
                     switch (entry.getKey().getType()) {
-                        case TECH -> this.assetTechFlow.getChildren().add(materialCard);
-                        case CHEMICAL -> this.assetChemicalFlow.getChildren().add(materialCard);
-                        case CIRCUIT -> this.assetCircuitFlow.getChildren().add(materialCard);
+                        case TECH -> content.get(this.assetTechFlow).add(materialCard);
+                        case CHEMICAL -> content.get(this.assetChemicalFlow).add(materialCard);
+                        case CIRCUIT -> content.get(this.assetCircuitFlow).add(materialCard);
                     }
                 });
     }
 
-    private void addDatas(final Search search) {
+    private void addDatas(final Search search, final List<OdysseyMaterialCard> cards) {
         StorageService.getData().entrySet().stream()
                 .filter(OdysseyMaterialShow.getFilter(search))
                 .filter(onSearchQuery(search))
                 .filter(onKnownMaterial())
                 .sorted(OdysseyMaterialSort.getSort(search))
-                .forEach(entry -> {
-                    this.dataFlow.getChildren().add(this.materialCards.get(entry.getKey()));
-                });
+                .forEach(entry -> cards.add(this.materialCards.get(entry.getKey())));
     }
 
     private Predicate<? super Map.Entry<? extends OdysseyMaterial, Storage>> onKnownMaterial() {
@@ -225,7 +277,7 @@ public class OdysseyMaterialOverview extends VBox {
     }
 
     private Predicate<? super Map.Entry<? extends OdysseyMaterial, Storage>> onSearchQuery(final Search search) {
-        return (Map.Entry<? extends OdysseyMaterial, Storage> o) -> search.getQuery().isBlank() || LocaleService.getLocalizedStringForCurrentLocale(o.getKey().getLocalizationKey()).toLowerCase().contains(search.getQuery().toLowerCase());
+        return (Map.Entry<? extends OdysseyMaterial, Storage> o) -> SearchIndexService.matches(o.getKey().getLocalizationKey(), search.getQuery());
     }
 
 
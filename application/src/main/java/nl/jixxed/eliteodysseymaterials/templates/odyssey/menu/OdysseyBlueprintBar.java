@@ -92,9 +92,10 @@ class OdysseyBlueprintBar extends Accordion {
         recipes.getSelectionModel().select(recipes.getItems().get(0));
         recipes.setButtonCell(new ListCell<>() {
             @SuppressWarnings("java:S1068")
-            private final EventListener<StorageEvent> storageEventEventListener = EventService.addListener(OdysseyBlueprintBar.this, StorageEvent.class, event -> {
-                updateStyle(getItem());
-                updateText(getItem(), this.emptyProperty().get());
+            private final EventListener<CraftabilityEvent> craftabilityEventEventListener = EventService.addListener(OdysseyBlueprintBar.this, CraftabilityEvent.class, event -> {
+                if (event.getOdysseyBlueprints().contains(getItem())) {
+                    updateStyle(getItem());
+                }
             });
             @SuppressWarnings("java:S1068")
             private final EventListener<EngineerEvent> engineerEventEventListener = EventService.addListener(OdysseyBlueprintBar.this, EngineerEvent.class, event -> {
@@ -138,9 +139,10 @@ class OdysseyBlueprintBar extends Accordion {
         return listView -> new ListCell<>() {
 
             @SuppressWarnings("java:S1068")
-            private final EventListener<StorageEvent> storageEventEventListener = EventService.addListener(OdysseyBlueprintBar.this, StorageEvent.class, event -> {
-                updateStyle(getItem());
-                updateText(getItem(), this.emptyProperty().get());
+            private final EventListener<CraftabilityEvent> craftabilityEventEventListener = EventService.addListener(OdysseyBlueprintBar.this, CraftabilityEvent.class, event -> {
+                if (event.getOdysseyBlueprints().contains(getItem())) {
+                    updateStyle(getItem());
+                }
             });
             @SuppressWarnings("java:S1068")
             private final EventListener<EngineerEvent> engineerEventEventListener = EventService.addListener(OdysseyBlueprintBar.this, EngineerEvent.class, event -> {
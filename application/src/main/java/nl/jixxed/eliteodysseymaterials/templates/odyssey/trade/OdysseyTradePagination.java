@@ -25,6 +25,7 @@ import nl.jixxed.eliteodysseymaterials.domain.TradeSpec;
 import nl.jixxed.eliteodysseymaterials.enums.*;
 import nl.jixxed.eliteodysseymaterials.helper.CryptoHelper;
 import nl.jixxed.eliteodysseymaterials.service.LocaleService;
+import nl.jixxed.eliteodysseymaterials.service.SearchIndexService;
 import nl.jixxed.eliteodysseymaterials.service.event.EventListener;
 import nl.jixxed.eliteodysseymaterials.service.event.EventService;
 import nl.jixxed.eliteodysseymaterials.service.event.TradeSearchEvent;
@@ -242,8 +243,8 @@ class OdysseyTradePagination extends VBox {
         this.visibleTrades.clear();
         final List<TradeSpec> filteredTradeSpecs = this.trades.stream()
                 .filter(TradeShow.getFilter(this.tradeSearch))
-                .filter(tradeSpec -> LocaleService.getLocalizedStringForCurrentLocale(tradeSpec.getOfferOdysseyMaterial().getLocalizationKey()).toLowerCase(LocaleService.getCurrentLocale()).contains(this.tradeSearch.getQuery().toLowerCase(LocaleService.getCurrentLocale()))
-                        || LocaleService.getLocalizedStringForCurrentLocale(tradeSpec.getReceiveOdysseyMaterial().getLocalizationKey()).toLowerCase(LocaleService.getCurrentLocale()).contains(this.tradeSearch.getQuery().toLowerCase(LocaleService.getCurrentLocale())))
+                .filter(tradeSpec -> SearchIndexService.matches(tradeSpec.getOfferOdysseyMaterial().getLocalizationKey(), this.tradeSearch.getQuery())
+                        || SearchIndexService.matches(tradeSpec.getReceiveOdysseyMaterial().getLocalizationKey(), this.tradeSearch.getQuery()))
                 .sorted(TradeSort.getSort(this.tradeSearch))
                 .toList();
         final int toIndex = Math.min(filteredTradeSpecs.size(), (pageIndex * PAGE_SIZE + PAGE_SIZE));
@@ -14,6 +14,7 @@ import nl.jixxed.eliteodysseymaterials.builder.TooltipBuilder;
 import nl.jixxed.eliteodysseymaterials.constants.OdysseyBlueprintConstants;
 import nl.jixxed.eliteodysseymaterials.domain.*;
 import nl.jixxed.eliteodysseymaterials.enums.*;
+import nl.jixxed.eliteodysseymaterials.service.CraftabilityService;
 import nl.jixxed.eliteodysseymaterials.service.ImageService;
 import nl.jixxed.eliteodysseymaterials.service.LocaleService;
 import nl.jixxed.eliteodysseymaterials.service.event.*;
@@ -46,7 +47,7 @@ public class OdysseyWishlistBlueprintTemplate extends HBox implements WishlistBl
     private Button removeBlueprint;
     private final Set<OdysseyWishlistIngredient> wishlistIngredients = new HashSet<>();
     private final Set<OdysseyWishlistIngredient> otherIngredients = new HashSet<>();
-    private EventListener<StorageEvent> storageEventEventListener;
+    private EventListener<CraftabilityEvent> craftabilityEventEventListener;
     private Tooltip tooltip;
     public OdysseyWishlistBlueprintTemplate(final String wishlistUUID, final OdysseyWishlistBlueprint odysseyWishlistBlueprint) {
         this.wishlistUUID = wishlistUUID;
@@ -105,13 +106,13 @@ public class OdysseyWishlistBlueprintTemplate extends HBox implements WishlistBl
             Tooltip.install(this.wishlistRecipeName, this.tooltip);
         }
         initFadeTransition();
-        final Craftability craftability = OdysseyBlueprintConstants.getCraftability((OdysseyBlueprintName) this.getRecipeName());
+        final Craftability craftability = CraftabilityService.getCraftability((OdysseyBlueprintName) this.getRecipeName());
         this.canCraft(craftability);
     }
 
     @Override
     public void remove() {
-        EventService.removeListener(this.storageEventEventListener);
+        EventService.removeListener(this.craftabilityEventEventListener);
         APPLICATION_STATE.getPreferredCommander().ifPresent(commander -> EventService.publish(new WishlistBlueprintEvent(commander, this.wishlistUUID, List.of(this.odysseyWishlistBlueprint), Action.REMOVED)));
     }
 
@@ -124,8 +125,11 @@ public class OdysseyWishlistBlueprintTemplate extends HBox implements WishlistBl
     }
 
     private void initEventHandling() {
-        this.storageEventEventListener = EventService.addListener(this, StorageEvent.class, storageEvent -> {
-            final Craftability craftability = OdysseyBlueprintConstants.getCraftability((OdysseyBlueprintName) this.getRecipeName());
+        this.craftabilityEventEventListener = EventService.addListener(this, CraftabilityEvent.class, craftabilityEvent -> {
+            if (!craftabilityEvent.getOdysseyBlueprints().contains(this.getRecipeName())) {
+                return;
+            }
+            final Craftability craftability = CraftabilityService.getCraftability((OdysseyBlueprintName) this.getRecipeName());
             this.canCraft(craftability);
         });
     }
@@ -213,6 +217,6 @@ public class OdysseyWishlistBlueprintTemplate extends HBox implements WishlistBl
 
     @Override
     public void onDestroy() {
-        EventService.removeListener(this.storageEventEventListener);
+        EventService.removeListener(this.craftabilityEventEventListener);
     }
 }
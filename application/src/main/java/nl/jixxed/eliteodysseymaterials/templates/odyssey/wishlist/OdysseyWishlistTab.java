@@ -612,7 +612,7 @@ public class OdysseyWishlistTab extends OdysseyTab {
         }
 
         this.wishlistBlueprints.forEach(wishlistBlueprint -> wishlistBlueprint.addWishlistIngredients(allIngredients));
-        allIngredients.forEach(odysseyWishlistIngredient -> ((OdysseyWishlistIngredient) odysseyWishlistIngredient).searchHighlight(!this.currentSearch.getQuery().isBlank() && LocaleService.getLocalizedStringForCurrentLocale(((OdysseyWishlistIngredient) odysseyWishlistIngredient).getOdysseyMaterial().getLocalizationKey()).toLowerCase().contains(this.currentSearch.getQuery().toLowerCase())));
+        allIngredients.forEach(odysseyWishlistIngredient -> ((OdysseyWishlistIngredient) odysseyWishlistIngredient).searchHighlight(!this.currentSearch.getQuery().isBlank() && SearchIndexService.matches(((OdysseyWishlistIngredient) odysseyWishlistIngredient).getOdysseyMaterial().getLocalizationKey(), this.currentSearch.getQuery())));
 
         removeAndAddFlows();
         try {
@@ -268,7 +268,10 @@ public class SettingsTab extends OdysseyTab {
     private HBox createTechnologyBrokerMaxRangeSetting() {
         final Label maxRangeLabel = LabelBuilder.builder().withStyleClass(SETTINGS_LABEL_CLASS).withText(LocaleService.getStringBinding("tab.settings.broker.max.range")).build();
         final ButtonIntField rangeField = new ButtonIntField(0, 9999999, PreferencesService.getPreference(PreferenceConstants.HORIZONS_TECHNOLOGY_BROKER_MAX_RANGE, 5000));
-        rangeField.addHandlerOnValidChange(range -> PreferencesService.setPreference(PreferenceConstants.HORIZONS_TECHNOLOGY_BROKER_MAX_RANGE, range));
+        rangeField.addHandlerOnValidChange(range -> {
+            PreferencesService.setPreference(PreferenceConstants.HORIZONS_TECHNOLOGY_BROKER_MAX_RANGE, range);
+            EventService.publish(new TechnologyBrokerRangeChangedEvent(range));
+        });
 
         rangeField.getStyleClass().add("material-trader-range-setting");
         return BoxBuilder.builder()
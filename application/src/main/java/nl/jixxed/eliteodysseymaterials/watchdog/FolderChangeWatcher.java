@@ -0,0 +1,102 @@
+package nl.jixxed.eliteodysseymaterials.watchdog;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import nl.jixxed.eliteodysseymaterials.service.event.EventListener;
+import nl.jixxed.eliteodysseymaterials.service.event.EventService;
+import nl.jixxed.eliteodysseymaterials.service.event.TerminateApplicationEvent;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+/**
+ * Reports created, modified and deleted files in folders, from a single watcher thread for all folders.
+ * <p>
+ * A folder is registered before {@link #watch} returns, so no change made after the call is missed.
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class FolderChangeWatcher {
+    private static final Map<Path, List<Consumer<File>>> LISTENERS = new HashMap<>();
+    private static final List<EventListener<?>> EVENT_LISTENERS = new ArrayList<>();
+    private static WatchService watchService;
+
+    /**
+     * Calls the listener with every file that changes in the folder, from the watcher thread. The folder has to exist.
+     */
+    public static synchronized void watch(final File folder, final Consumer<File> listener) {
+        final Path path = folder.toPath().toAbsolutePath();
+        List<Consumer<File>> listeners = LISTENERS.get(path);
+        if (listeners == null) {
+            try {
+                path.register(getWatchService(), ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+            } catch (final IOException e) {
+                log.error("Failed to watch " + path, e);
+                return;
+            }
+            listeners = new CopyOnWriteArrayList<>();
+            LISTENERS.put(path, listeners);
+        }
+        listeners.add(listener);
+    }
+
+    private static WatchService getWatchService() throws IOException {
+        if (watchService == null) {
+            watchService = FileSystems.getDefault().newWatchService();
+            final Thread thread = new Thread(() -> run(watchService), "Folder Watcher Thread");
+            thread.setDaemon(true);
+            thread.start();
+            EVENT_LISTENERS.add(EventService.addStaticListener(TerminateApplicationEvent.class, event -> stop()));
+        }
+        return watchService;
+    }
+
+    private static void run(final WatchService service) {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                final WatchKey key = service.take();
+                final Path folder = (Path) key.watchable();
+                final List<Consumer<File>> listeners = getListeners(folder);
+                for (final WatchEvent<?> event : key.pollEvents()) {
+                    if (event.context() instanceof Path changed) {
+                        final File file = folder.resolve(changed).toFile();
+                        listeners.forEach(listener -> listener.accept(file));
+                    }
+                }
+                if (!key.reset()) {
+                    removeFolder(folder);
+                }
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final ClosedWatchServiceException e) {
+            //stopped
+        }
+        log.info("Thread finished: " + Thread.currentThread().getName());
+    }
+
+    private static synchronized List<Consumer<File>> getListeners(final Path folder) {
+        return LISTENERS.getOrDefault(folder, List.of());
+    }
+
+    private static synchronized void removeFolder(final Path folder) {
+        LISTENERS.remove(folder);
+    }
+
+    private static synchronized void stop() {
+        try {
+            if (watchService != null) {
+                watchService.close();
+            }
+        } catch (final IOException e) {
+            log.error("Failed to stop the folder watcher", e);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package nl.jixxed.eliteodysseymaterials.watchdog;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import nl.jixxed.eliteodysseymaterials.enums.GameVersion;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Header facts of journal files, persisted between runs.
+ * <p>
+ * Entries are keyed by file name and are only valid as long as the size and last modified time of the file are
+ * unchanged, so only new or growing journals are read again. Reading stops at the Commander event.
+ */
+@Slf4j
+class JournalHeaderIndex {
+    private static final TypeReference<Map<String, JournalHeader>> INDEX_TYPE = new TypeReference<>() {
+    };
+    private final ObjectMapper objectMapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private final File indexFile;
+    private Map<String, JournalHeader> headers;
+    private boolean changed;
+
+    JournalHeaderIndex(final File indexFile) {
+        this.indexFile = indexFile;
+    }
+
+    synchronized JournalHeader get(final File file) {
+        final Map<String, JournalHeader> index = getHeaders();
+        final long length = file.length();
+        final long lastModified = file.lastModified();
+        final JournalHeader cached = index.get(file.getName());
+        if (cached != null && cached.length() == length && cached.lastModified() == lastModified) {
+            return cached;
+        }
+        final JournalHeader header = read(file, length, lastModified);
+        index.put(file.getName(), header);
+        this.changed = true;
+        return header;
+    }
+
+    /**
+     * Drops entries of journals that are no longer in the folder.
+     */
+    synchronized void retain(final Collection<File> files) {
+        final Set<String> names = files.stream().map(File::getName).collect(Collectors.toSet());
+        this.changed |= getHeaders().keySet().retainAll(names);
+    }
+
+    synchronized void save() {
+        if (!this.changed) {
+            return;
+        }
+        try {
+            this.indexFile.getParentFile().mkdirs();
+            this.objectMapper.writeValue(this.indexFile, this.headers);
+            this.changed = false;
+        } catch (final IOException e) {
+            log.error("Failed to save journal index", e);
+        }
+    }
+
+    private Map<String, JournalHeader> getHeaders() {
+        if (this.headers == null) {
+            this.headers = load();
+        }
+        return this.headers;
+    }
+
+    private Map<String, JournalHeader> load() {
+        if (this.indexFile.exists()) {
+            try {
+                return new HashMap<>(this.objectMapper.readValue(this.indexFile, INDEX_TYPE));
+            } catch (final IOException e) {
+                log.warn("Failed to load journal index, rebuilding it", e);
+            }
+        }
+        return new HashMap<>();
+    }
+
+    @SuppressWarnings("java:S1192")
+    private JournalHeader read(final File file, final long length, final long lastModified) {
+        boolean hasFileHeader = false;
+        GameVersion gameVersion = GameVersion.UNKNOWN;
+        try (final BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                hasFileHeader = true;
+                final JsonNode journalMessage = this.objectMapper.readTree(line);
+                final String event = journalMessage.path("event").asText();
+                if (event.equalsIgnoreCase("Fileheader")) {
+                    gameVersion = getGameVersion(journalMessage.path("gameversion").asText(""));
+                } else if (event.equals("Commander")) {
+                    return new JournalHeader(length, lastModified, true, gameVersion,
+                            journalMessage.path("Name").asText(), journalMessage.path("FID").asText(), journalMessage.path("timestamp").asText());
+                }
+            }
+        } catch (final IOException e) {
+            log.error("Error reading journal header of " + file.getName(), e);
+        }
+        return new JournalHeader(length, lastModified, hasFileHeader, gameVersion, null, null, null);
+    }
+
+    private static GameVersion getGameVersion(final String gameversion) {
+        if (gameversion.startsWith("3")) {
+            return GameVersion.LEGACY;
+        } else if (gameversion.startsWith("4")) {
+            return GameVersion.LIVE;
+        }
+        return GameVersion.UNKNOWN;
+    }
+
+    record JournalHeader(long length, long lastModified, boolean hasFileHeader, GameVersion gameVersion, String commander,
+                         String fid, String timestamp) {
+        boolean hasCommanderHeader() {
+            return this.commander != null;
+        }
+    }
+}
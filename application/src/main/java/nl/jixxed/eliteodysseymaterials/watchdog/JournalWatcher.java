@@ -1,10 +1,9 @@
 package nl.jixxed.eliteodysseymaterials.watchdog;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import javafx.application.Platform;
 import lombok.extern.slf4j.Slf4j;
 import nl.jixxed.eliteodysseymaterials.constants.AppConstants;
+import nl.jixxed.eliteodysseymaterials.constants.OsConstants;
 import nl.jixxed.eliteodysseymaterials.domain.ApplicationState;
 import nl.jixxed.eliteodysseymaterials.domain.Commander;
 import nl.jixxed.eliteodysseymaterials.enums.GameVersion;
@@ -12,8 +11,6 @@ import nl.jixxed.eliteodysseymaterials.service.event.CommanderAllListedEvent;
 import nl.jixxed.eliteodysseymaterials.service.event.EventService;
 
 import java.io.File;
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.function.Consumer;
 import java.util.regex.Matcher;
@@ -21,7 +18,7 @@ import java.util.regex.Pattern;
 
 @Slf4j
 public class JournalWatcher {
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JournalHeaderIndex headerIndex = new JournalHeaderIndex(new File(OsConstants.JOURNAL_INDEX));
     private Optional<File> currentlyWatchedFile = Optional.empty();
     private File watchedFolder;
     private FileWatcher fileWatcher;
@@ -32,8 +29,11 @@ public class JournalWatcher {
     public void watch(final File folder, final Consumer<File> fileModifiedProcessor, final Consumer<File> fileSwitchedProcessor) {
         Platform.runLater(() -> {
             this.watchedFolder = folder;
-            listCommanders(folder);
-            findLatestFile(folder);
+            final List<File> journals = listJournals(folder);
+            listCommanders(journals);
+            findLatestFile(journals);
+            this.headerIndex.retain(journals);
+            this.headerIndex.save();
             this.currentlyWatchedFile.ifPresent(fileSwitchedProcessor);
             this.fileWatcher = new FileWatcher("Journal Watcher Thread", true).withListener(new FileAdapter() {
                 @Override
@@ -69,62 +69,35 @@ public class JournalWatcher {
         this.currentlyWatchedFile = Optional.of(file);
     }
 
-    private void listCommanders(final File folder) {
+    private List<File> listJournals(final File folder) {
         try {
-            Arrays.stream(Objects.requireNonNull(folder.listFiles()))
+            return Arrays.stream(Objects.requireNonNull(folder.listFiles()))
                     .filter(file -> file.getName().startsWith(AppConstants.JOURNAL_FILE_PREFIX))
                     .filter(file -> file.getName().endsWith(AppConstants.JOURNAL_FILE_SUFFIX))
                     .filter(this::isNewerThan2020)
-                    .filter(this::hasFileHeader)
-                    .filter(this::hasCommanderHeader)
-                    .forEach(this::listCommander);
-            EventService.publish(new CommanderAllListedEvent());
+                    .toList();
         } catch (final NullPointerException ex) {
-            log.error("Failed to list commanders at " + folder.getAbsolutePath(), ex);
+            log.error("Failed to list journals at " + folder.getAbsolutePath(), ex);
+            return Collections.emptyList();
         }
     }
 
-    @SuppressWarnings("java:S1192")
-    private void listCommander(final File file) {
-        try (final Scanner scanner = new Scanner(file, StandardCharsets.UTF_8)) {
-            GameVersion gameVersion = GameVersion.UNKNOWN;
-            while (scanner.hasNext()) {
-                final String line = scanner.nextLine();
-                final JsonNode journalMessage = this.objectMapper.readTree(line);
-                final JsonNode eventNode = journalMessage.get("event");
-
-                if (eventNode.asText().equalsIgnoreCase("Fileheader")) {
-                    final String gameversion = journalMessage.get("gameversion").asText("");
-                    if (gameversion.startsWith("3")) {
-                        gameVersion = GameVersion.LEGACY;
-                    } else if (gameversion.startsWith("4")) {
-                        gameVersion = GameVersion.LIVE;
-                    }
-                } else if (eventNode.asText().equals("Commander") && !gameVersion.equals(GameVersion.UNKNOWN)) {
-                    final JsonNode nameNode = journalMessage.get("Name");
-                    final JsonNode fidNode = journalMessage.get("FID");
-                    APPLICATION_STATE.addCommander(nameNode.asText(), fidNode.asText(), gameVersion);
-                    break;
-                }
-            }
-        } catch (final IOException e) {
-            log.error("Error listing commander", e);
-        }
+    private void listCommanders(final List<File> journals) {
+        journals.stream()
+                .map(this.headerIndex::get)
+                .filter(JournalHeaderIndex.JournalHeader::hasFileHeader)
+                .filter(JournalHeaderIndex.JournalHeader::hasCommanderHeader)
+                .filter(header -> !GameVersion.UNKNOWN.equals(header.gameVersion()))
+                .forEach(header -> APPLICATION_STATE.addCommander(header.commander(), header.fid(), header.gameVersion()));
+        EventService.publish(new CommanderAllListedEvent());
     }
 
-    private void findLatestFile(final File folder) {
-        try {
-            this.currentlyWatchedFile = Arrays.stream(Objects.requireNonNull(folder.listFiles()))
-                    .filter(file -> file.getName().startsWith(AppConstants.JOURNAL_FILE_PREFIX))
-                    .filter(file -> file.getName().endsWith(AppConstants.JOURNAL_FILE_SUFFIX))
-                    .filter(this::isNewerThan2020)
-                    .filter(this::hasFileHeader)
-                    .filter(this::isSelectedCommander)
-                    .max(Comparator.comparingLong(this::getFileTimestamp));
-            log.info("Registered watched file: " + this.currentlyWatchedFile.map(File::getName).orElse("No file"));
-        } catch (final NullPointerException ex) {
-            log.error("Failed to Registered watched file at " + folder.getAbsolutePath());
-        }
+    private void findLatestFile(final List<File> journals) {
+        this.currentlyWatchedFile = journals.stream()
+                .filter(this::hasFileHeader)
+                .filter(this::isSelectedCommander)
+                .max(Comparator.comparingLong(this::getFileTimestamp));
+        log.info("Registered watched file: " + this.currentlyWatchedFile.map(File::getName).orElse("No file"));
     }
 
 
@@ -151,30 +124,8 @@ public class JournalWatcher {
     private synchronized boolean isSelectedCommander(final File file) {
         final Optional<Commander> preferredCommander = APPLICATION_STATE.getPreferredCommander();
         return preferredCommander.map(commander -> {
-            try (final Scanner scanner = new Scanner(file, StandardCharsets.UTF_8)) {
-                GameVersion gameVersion = GameVersion.UNKNOWN;
-
-                while (scanner.hasNext()) {
-                    final String line = scanner.nextLine();
-                    final JsonNode journalMessage = this.objectMapper.readTree(line);
-                    final JsonNode eventNode = journalMessage.get("event");
-                    if (eventNode.asText().equalsIgnoreCase("Fileheader")) {
-                        final String gameversion = journalMessage.get("gameversion").asText("");
-                        if (gameversion.startsWith("3")) {
-                            gameVersion = GameVersion.LEGACY;
-                        } else if (gameversion.startsWith("4")) {
-                            gameVersion = GameVersion.LIVE;
-                        }
-                    } else if (eventNode.asText().equals("Commander")) {
-                        final JsonNode nameNode = journalMessage.get("Name");
-                        final JsonNode fidNode = journalMessage.get("FID");
-                        return gameVersion.equals(commander.getGameVersion()) && nameNode.asText().equals(commander.getName()) && fidNode.asText().equals(commander.getFid());
-                    }
-                }
-            } catch (final IOException e) {
-                log.error("Error checking for selected commander", e);
-            }
-            return false;
+            final JournalHeaderIndex.JournalHeader header = this.headerIndex.get(file);
+            return header.hasCommanderHeader() && header.gameVersion().equals(commander.getGameVersion()) && header.commander().equals(commander.getName()) && header.fid().equals(commander.getFid());
         }).orElse(true);
     }
 
@@ -192,37 +143,18 @@ public class JournalWatcher {
     }
 
     private synchronized boolean hasCommanderHeader(final File file) {
-        try (final Scanner scanner = new Scanner(file, StandardCharsets.UTF_8)) {
-
-            while (scanner.hasNext()) {
-                final String line = scanner.nextLine();
-
-                final JsonNode journalMessage = this.objectMapper.readTree(line);
-                final JsonNode eventNode = journalMessage.get("event");
-                if (eventNode.asText().equals("Commander")) {
-                    return true;
-                }
-            }
-
-        } catch (final IOException e) {
-            log.error("Error checking for commander header in file: " + file.getName(), e);
-        }
-        return false;
+        return this.headerIndex.get(file).hasCommanderHeader();
     }
 
     private synchronized boolean hasFileHeader(final File file) {
-        try (final Scanner scanner = new Scanner(file, StandardCharsets.UTF_8)) {
-            return scanner.hasNext();
-        } catch (final NoSuchElementException | IOException e) {
-            log.error("Error checking for file header", e);
-        }
-        return false;
+        return this.headerIndex.get(file).hasFileHeader();
     }
 
     public void stop() {
         if (this.fileWatcher != null) {
             this.fileWatcher.stop();
         }
+        this.headerIndex.save();
     }
 
     public File getWatchedFolder() {
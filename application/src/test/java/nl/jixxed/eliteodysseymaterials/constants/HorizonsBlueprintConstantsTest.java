@@ -0,0 +1,43 @@
+package nl.jixxed.eliteodysseymaterials.constants;
+
+import nl.jixxed.eliteodysseymaterials.domain.HorizonsBlueprint;
+import nl.jixxed.eliteodysseymaterials.enums.*;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+class HorizonsBlueprintConstantsTest {
+
+    @Test
+    void findRecipesContaining_matchesFullScan() {
+        Stream.of(Raw.values(), Encoded.values(), Manufactured.values(), Commodity.values())
+                .flatMap(Stream::of)
+                .forEach(material -> Assertions.assertThat(HorizonsBlueprintConstants.findRecipesContaining(material))
+                        .as(material.toString())
+                        .containsExactlyInAnyOrderEntriesOf(scan(material)));
+    }
+
+    private static Map<HorizonsBlueprint, Integer> scan(final HorizonsMaterial horizonsMaterial) {
+        final Map<HorizonsBlueprint, Integer> recipes = new HashMap<>();
+        Stream.of(
+                        HorizonsBlueprintConstants.getEngineerUnlockRequirements().values().stream().map(HorizonsBlueprint.class::cast),
+                        HorizonsBlueprintConstants.RECIPES.values().stream()
+                                .flatMap(blueprintNames -> blueprintNames.values().stream())
+                                .flatMap(blueprintTypes -> blueprintTypes.values().stream())
+                                .flatMap(blueprintGrades -> blueprintGrades.values().stream()),
+                        HorizonsBlueprintConstants.getExperimentalEffects().values().stream().flatMap(blueprintTypes -> blueprintTypes.values().stream()),
+                        HorizonsBlueprintConstants.getSynthesis().values().stream().flatMap(blueprintGrades -> blueprintGrades.values().stream()),
+                        HorizonsBlueprintConstants.getTechbrokerUnlocks().values().stream().flatMap(blueprintTypes -> blueprintTypes.values().stream()))
+                .flatMap(blueprints -> blueprints)
+                .forEach(blueprint -> {
+                    final Integer amount = blueprint.getMaterialCollection(horizonsMaterial.getClass()).get(horizonsMaterial);
+                    if (amount != null) {
+                        recipes.put(blueprint, amount);
+                    }
+                });
+        return recipes;
+    }
+}
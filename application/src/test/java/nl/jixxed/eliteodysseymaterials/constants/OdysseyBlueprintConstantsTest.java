@@ -0,0 +1,62 @@
+package nl.jixxed.eliteodysseymaterials.constants;
+
+import nl.jixxed.eliteodysseymaterials.domain.ApplicationState;
+import nl.jixxed.eliteodysseymaterials.enums.*;
+import nl.jixxed.eliteodysseymaterials.service.event.EngineerEvent;
+import nl.jixxed.eliteodysseymaterials.service.event.EventService;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+class OdysseyBlueprintConstantsTest {
+
+    @Test
+    void findRecipesContaining_matchesFullScan() {
+        Stream.of(Good.values(), Data.values(), Asset.values())
+                .flatMap(Stream::of)
+                .forEach(material -> Assertions.assertThat(OdysseyBlueprintConstants.findRecipesContaining(material))
+                        .as(material.toString())
+                        .containsExactlyInAnyOrderEntriesOf(scan(material)));
+    }
+
+    @Test
+    void findRecipesContaining_isUnmodifiable() {
+        Assertions.assertThatThrownBy(() -> OdysseyBlueprintConstants.findRecipesContaining(Data.OPINIONPOLLS).clear())
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void isEngineeringIngredient() {
+        Assertions.assertThat(OdysseyBlueprintConstants.isEngineeringIngredient(Data.OPINIONPOLLS)).isTrue();
+        Assertions.assertThat(OdysseyBlueprintConstants.isEngineeringIngredient(Good.UNKNOWN)).isFalse();
+    }
+
+    @Test
+    void isEngineeringIngredientAndNotCompleted_refreshesOnEngineerEvent() {
+        final ApplicationState applicationState = ApplicationState.getInstance();
+        applicationState.resetEngineerStates();
+        Assertions.assertThat(OdysseyBlueprintConstants.isEngineeringIngredientAndNotCompleted(Data.OPINIONPOLLS)).isTrue();
+        try {
+            Stream.of(Engineer.values()).forEach(engineer -> applicationState.setEngineerState(engineer, EngineerState.UNLOCKED));
+            Assertions.assertThat(OdysseyBlueprintConstants.isEngineeringIngredientAndNotCompleted(Data.OPINIONPOLLS)).isTrue();
+            EventService.publish(new EngineerEvent());
+            Assertions.assertThat(OdysseyBlueprintConstants.isEngineeringIngredientAndNotCompleted(Data.OPINIONPOLLS)).isFalse();
+        } finally {
+            applicationState.resetEngineerStates();
+        }
+    }
+
+    private static Map<OdysseyBlueprintName, Integer> scan(final OdysseyMaterial odysseyMaterial) {
+        final Map<OdysseyBlueprintName, Integer> recipes = new EnumMap<>(OdysseyBlueprintName.class);
+        OdysseyBlueprintConstants.RECIPES.values().forEach(blueprints -> blueprints.forEach((blueprintName, blueprint) -> {
+            final Integer amount = blueprint.getMaterialCollection(odysseyMaterial.getClass()).get(odysseyMaterial);
+            if (amount != null) {
+                recipes.put(blueprintName, amount);
+            }
+        }));
+        return recipes;
+    }
+}
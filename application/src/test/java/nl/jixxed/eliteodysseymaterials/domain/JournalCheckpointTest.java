@@ -0,0 +1,58 @@
+package nl.jixxed.eliteodysseymaterials.domain;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import nl.jixxed.eliteodysseymaterials.enums.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JournalCheckpointTest {
+    private static final String HEADER = "{ \"timestamp\":\"2022-01-01T10:00:00Z\", \"event\":\"Fileheader\", \"part\":1 }";
+    private static final String JOURNAL = "Journal.2022-01-01T100000.01.log";
+
+    @Test
+    void matchesSameJournal() {
+        final JournalCheckpoint checkpoint = createCheckpoint();
+
+        assertThat(checkpoint.matches(JOURNAL, HEADER, 2048)).isTrue();
+        assertThat(checkpoint.matches(JOURNAL, HEADER, 1024)).isTrue();
+    }
+
+    @Test
+    void doesNotMatchOtherOrTruncatedJournal() {
+        final JournalCheckpoint checkpoint = createCheckpoint();
+
+        assertThat(checkpoint.matches("Journal.2022-01-02T100000.01.log", HEADER, 2048)).isFalse();
+        assertThat(checkpoint.matches(JOURNAL, HEADER.replace("10:00", "11:00"), 2048)).isFalse();
+        assertThat(checkpoint.matches(JOURNAL, HEADER, 1000)).isFalse();
+        assertThat(new JournalCheckpoint().matches(JOURNAL, HEADER, 2048)).isFalse();
+    }
+
+    @Test
+    void survivesSerialization() throws JsonProcessingException {
+        final ObjectMapper objectMapper = new ObjectMapper();
+        final JournalCheckpoint checkpoint = createCheckpoint();
+
+        final JournalCheckpoint read = objectMapper.readValue(objectMapper.writeValueAsString(checkpoint), JournalCheckpoint.class);
+
+        assertThat(read).isEqualTo(checkpoint);
+        assertThat(read.getGoods().get(Good.BIOCHEMICALAGENT).getShipLocker()).isEqualTo(4);
+    }
+
+    private static JournalCheckpoint createCheckpoint() {
+        final JournalCheckpoint checkpoint = new JournalCheckpoint();
+        checkpoint.setJournalFile(JOURNAL);
+        checkpoint.setHeader(HEADER);
+        checkpoint.setOffset(1024);
+        checkpoint.setContextLines(List.of("{ \"timestamp\":\"2022-01-01T10:00:05Z\", \"event\":\"Commander\", \"FID\":\"F1\", \"Name\":\"Test\" }"));
+        checkpoint.getRaw().put(Raw.IRON, 12);
+        checkpoint.getGoods().put(Good.BIOCHEMICALAGENT, new JournalCheckpoint.StorageCounts(1, 4, 0));
+        checkpoint.getEngineerStates().put(Engineer.DOMINO_GREEN, new EngineerStatus(EngineerState.UNLOCKED, 5, 100));
+        checkpoint.setLocation(new JournalCheckpoint.LocationSnapshot("Sol", 0, 0, 0, SystemEconomy.UNKNOWN, SystemEconomy.UNKNOWN,
+                SystemGovernment.UNKNOWN, SystemSecurity.UNKNOWN, "", 10477373803L, null, null, null, null, null));
+        return checkpoint;
+    }
+}
@@ -0,0 +1,43 @@
+package nl.jixxed.eliteodysseymaterials.enums;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EnumNamesTest {
+
+    @Test
+    void forName_findsEveryConstantIgnoringCase() {
+        Arrays.stream(JournalEventType.values()).forEach(journalEventType -> {
+            assertThat(JournalEventType.forName(journalEventType.name())).isEqualTo(journalEventType);
+            assertThat(JournalEventType.forName(journalEventType.name().toLowerCase(Locale.ROOT))).isEqualTo(journalEventType);
+        });
+        Arrays.stream(Commodity.values()).forEach(commodity -> assertThat(Commodity.forName(commodity.name().toLowerCase(Locale.ROOT))).isEqualTo(commodity));
+    }
+
+    @Test
+    void forName_returnsFallbackForMisses() {
+        assertThat(JournalEventType.forName("")).isEqualTo(JournalEventType.UNKNOWN);
+        assertThat(JournalEventType.forName("Backpack2")).isEqualTo(JournalEventType.UNKNOWN);
+        assertThat(Commodity.forName(null)).isEqualTo(Commodity.UNKNOWN);
+        assertThat(OdysseyBlueprintName.forName("unknown blueprint")).isNull();
+    }
+
+    @Test
+    void forName_resolvesAliases() {
+        assertThat(Data.forName("geographicaldata")).isEqualTo(Data.GEOLOGICALDATA);
+        assertThat(OdysseyMaterial.subtypeForName("EnhancedInterrogation")).isEqualTo(Data.ENHANCEDINTERROGATIONRECORDINGS);
+        assertThat(Good.forName("geographicaldata")).isEqualTo(Good.UNKNOWN);
+    }
+
+    @Test
+    void subtypeForName_searchesEveryMaterialType() {
+        assertThat(OdysseyMaterial.subtypeForName("healthpack")).isEqualTo(Consumable.HEALTHPACK);
+        assertThat(HorizonsMaterial.subtypeForName("Tritium")).isEqualTo(Commodity.TRITIUM);
+        assertThatThrownBy(() -> OdysseyMaterial.subtypeForName("f493ft30cmg075hmx87h")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,46 @@
+package nl.jixxed.eliteodysseymaterials.helper;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocaleBundleTest {
+
+    @Test
+    void compiledBundles_matchCsvBundles() throws IOException, URISyntaxException {
+        final Map<String, Map<String, String>> languages = LocaleBundleCompiler.compile(Path.of(Objects.requireNonNull(LocaleBundleTest.class.getResource("/locale")).toURI()));
+
+        assertThat(languages).containsKeys("en", "de", "es", "fr", "pt", "ru");
+        for (final Map.Entry<String, Map<String, String>> language : languages.entrySet()) {
+            final ResourceBundle compiled = roundTrip(language.getValue());
+            final ResourceBundle csv = new CSVResourceBundle(new Locale(language.getKey()), LocaleBundleCompiler.BASE_NAMES.toArray(String[]::new));
+
+            assertThat(compiled.keySet()).isEqualTo(csv.keySet());
+            csv.keySet().forEach(key -> assertThat(compiled.getString(key)).as(key).isEqualTo(csv.getString(key)));
+        }
+    }
+
+    @Test
+    void read_returnsNullForUnknownKeys() throws IOException {
+        final LocaleBundle bundle = roundTrip(Map.of("a.key", "Ünïcödé", "b.key", "", "c.key", "text"));
+
+        assertThat(bundle.handleGetObject("a.key")).isEqualTo("Ünïcödé");
+        assertThat(bundle.handleGetObject("b.key")).isEqualTo("");
+        assertThat(bundle.handleGetObject("c.key")).isEqualTo("text");
+        assertThat(bundle.handleGetObject("d.key")).isNull();
+        assertThat(Collections.list(bundle.getKeys())).containsExactly("a.key", "b.key", "c.key");
+    }
+
+    private static LocaleBundle roundTrip(final Map<String, String> translations) throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        LocaleBundle.write(translations, outputStream);
+        return LocaleBundle.read(new ByteArrayInputStream(outputStream.toByteArray()));
+    }
+}
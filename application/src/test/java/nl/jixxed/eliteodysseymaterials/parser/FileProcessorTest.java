@@ -0,0 +1,60 @@
+package nl.jixxed.eliteodysseymaterials.parser;
+
+import nl.jixxed.eliteodysseymaterials.domain.JournalCheckpoint;
+import nl.jixxed.eliteodysseymaterials.enums.JournalEventType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileProcessorTest {
+    private static final String FILE_HEADER = "{ \"timestamp\":\"2022-03-15T15:12:50Z\", \"event\":\"Fileheader\", \"part\":1, \"gameversion\":\"4.0.0.1302\" }";
+    private static final String SHIP_LOCKER = "{ \"timestamp\":\"2022-03-15T15:13:00Z\", \"event\":\"ShipLocker\", \"Items\":[], \"Components\":[], \"Consumables\":[], \"Data\":[] }";
+    private static final String EARLY_BACKPACK = "{ \"timestamp\":\"2022-03-15T15:12:55Z\", \"event\":\"Backpack\", \"Items\":[], \"Components\":[], \"Consumables\":[], \"Data\":[] }";
+    private static final String BACKPACK = "{ \"timestamp\":\"2022-03-15T15:20:00Z\", \"event\":\"Backpack\", \"Items\":[], \"Components\":[], \"Consumables\":[], \"Data\":[] }";
+
+    @TempDir
+    Path folder;
+    private File journal;
+
+    @BeforeEach
+    void setUp() {
+        this.journal = this.folder.resolve("Journal.2022-03-15T151250.01.log").toFile();
+        FileProcessor.reset();
+    }
+
+    @Test
+    void readMessages_keepsBackpackAfterShipLockerFromCheckpoint() throws IOException {
+        append(FILE_HEADER, SHIP_LOCKER);
+        final JournalCheckpoint checkpoint = new JournalCheckpoint();
+        checkpoint.setOffset(this.journal.length());
+        checkpoint.setContextLines(List.of(SHIP_LOCKER));
+        append(BACKPACK);
+
+        FileProcessor.restoreContext(checkpoint);
+        final List<JournalLine> messages = FileProcessor.readMessages(this.journal);
+
+        assertThat(messages).extracting(JournalLine::line).containsExactly(BACKPACK);
+    }
+
+    @Test
+    void readMessages_dropsBackpackBeforeShipLocker() throws IOException {
+        append(FILE_HEADER, EARLY_BACKPACK, SHIP_LOCKER);
+
+        final List<JournalLine> messages = FileProcessor.readMessages(this.journal);
+
+        assertThat(messages).extracting(JournalLine::journalEventType).doesNotContain(JournalEventType.BACKPACK).contains(JournalEventType.SHIPLOCKER);
+    }
+
+    private void append(final String... lines) throws IOException {
+        Files.write(this.journal.toPath(), List.of(lines), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+}
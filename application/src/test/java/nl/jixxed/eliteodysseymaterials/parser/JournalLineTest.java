@@ -0,0 +1,74 @@
+package nl.jixxed.eliteodysseymaterials.parser;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import nl.jixxed.eliteodysseymaterials.enums.JournalEventType;
+import nl.jixxed.eliteodysseymaterials.schemas.journal.Scan.Scan;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+class JournalLineTest {
+    private final ObjectMapper objectMapper = JournalLine.createObjectMapper();
+
+    {
+        this.objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        this.objectMapper.registerModule(new JavaTimeModule());
+    }
+
+    @Test
+    void parse_extracts_header_fields() throws IOException {
+        final JournalLine journalLine = JournalLine.parse(this.objectMapper, readScan());
+
+        Assertions.assertThat(journalLine.hasEvent()).isTrue();
+        Assertions.assertThat(journalLine.eventName()).isEqualTo("Scan");
+        Assertions.assertThat(journalLine.journalEventType()).isEqualTo(JournalEventType.SCAN);
+        Assertions.assertThat(journalLine.timestamp()).isEqualTo("2022-10-25T10:25:53Z");
+    }
+
+    @Test
+    void parse_without_event() throws IOException {
+        final JournalLine journalLine = JournalLine.parse(this.objectMapper, "{\"timestamp\":\"2022-10-25T10:25:53Z\"}");
+
+        Assertions.assertThat(journalLine.hasEvent()).isFalse();
+        Assertions.assertThat(journalLine.journalEventType()).isEqualTo(JournalEventType.UNKNOWN);
+    }
+
+    @Test
+    void tree_binds_same_as_text() throws IOException {
+        final String line = readScan();
+        final JournalLine journalLine = JournalLine.parse(this.objectMapper, line);
+
+        Assertions.assertThat(this.objectMapper.treeToValue(journalLine.jsonNode(), Scan.class))
+                .isEqualTo(this.objectMapper.readValue(line, Scan.class));
+    }
+
+    @Test
+    void parse_counts_once_per_line() throws IOException {
+        final long parses = JournalLine.getParses();
+
+        JournalLine.parse(this.objectMapper, readScan());
+
+        Assertions.assertThat(JournalLine.getParses()).isEqualTo(parses + 1);
+    }
+
+    @Test
+    void binding_the_tree_is_not_a_parse_but_reading_the_line_again_is() throws IOException {
+        final String line = readScan();
+        final JournalLine journalLine = JournalLine.parse(this.objectMapper, line);
+        final long parses = JournalLine.getParses();
+
+        this.objectMapper.treeToValue(journalLine.jsonNode(), Scan.class);
+        Assertions.assertThat(JournalLine.getParses()).isEqualTo(parses);
+
+        this.objectMapper.readValue(line, Scan.class);
+        Assertions.assertThat(JournalLine.getParses()).isEqualTo(parses + 1);
+    }
+
+    private static String readScan() throws IOException {
+        return new String(JournalLineTest.class.getResourceAsStream("/eddn/scan_parents.json").readAllBytes(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,75 @@
+package nl.jixxed.eliteodysseymaterials.parser;
+
+import nl.jixxed.eliteodysseymaterials.enums.StoragePool;
+import nl.jixxed.eliteodysseymaterials.service.event.EventListener;
+import nl.jixxed.eliteodysseymaterials.service.event.EventService;
+import nl.jixxed.eliteodysseymaterials.service.event.StorageEvent;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+
+class JournalMessageDispatcherTest {
+    private final Queue<Runnable> fxQueue = new ArrayDeque<>();
+    private final JournalMessageDispatcher dispatcher = new JournalMessageDispatcher(this.fxQueue::add, 10, TimeUnit.SECONDS.toNanos(10));
+
+    @Test
+    void submit_schedulesOneDrainPerBatch() {
+        final List<Integer> handled = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            final int message = i;
+            this.dispatcher.submit(() -> handled.add(message));
+        }
+
+        Assertions.assertThat(this.fxQueue).hasSize(1);
+        Assertions.assertThat(this.dispatcher.getBacklog()).isEqualTo(25);
+
+        this.fxQueue.poll().run();
+
+        Assertions.assertThat(handled).hasSize(10);
+        Assertions.assertThat(this.dispatcher.getBacklog()).isEqualTo(15);
+        Assertions.assertThat(this.fxQueue).hasSize(1);
+
+        while (!this.fxQueue.isEmpty()) {
+            this.fxQueue.poll().run();
+        }
+
+        Assertions.assertThat(handled).hasSize(25).isSorted();
+        Assertions.assertThat(this.dispatcher.getBacklog()).isZero();
+        Assertions.assertThat(this.dispatcher.getDrainRate()).isPositive();
+    }
+
+    @Test
+    void drain_coalescesStorageEvents() {
+        final List<StoragePool> events = new ArrayList<>();
+        final EventListener<StorageEvent> listener = EventService.addStaticListener(StorageEvent.class, event -> events.add(event.getStoragePool()));
+        for (int i = 0; i < 10; i++) {
+            this.dispatcher.submit(() -> EventService.publish(new StorageEvent(StoragePool.SHIP)));
+            this.dispatcher.submit(() -> EventService.publish(new StorageEvent(StoragePool.BACKPACK)));
+        }
+
+        while (!this.fxQueue.isEmpty()) {
+            this.fxQueue.poll().run();
+        }
+
+        Assertions.assertThat(events).containsExactly(StoragePool.SHIP, StoragePool.BACKPACK, StoragePool.SHIP, StoragePool.BACKPACK);
+        EventService.removeListener(listener);
+    }
+
+    @Test
+    void drain_continuesAfterFailingMessage() {
+        final List<String> handled = new ArrayList<>();
+        this.dispatcher.submit(() -> {
+            throw new IllegalStateException("test");
+        });
+        this.dispatcher.submit(() -> handled.add("next"));
+
+        this.fxQueue.poll().run();
+
+        Assertions.assertThat(handled).containsExactly("next");
+    }
+}
@@ -0,0 +1,134 @@
+package nl.jixxed.eliteodysseymaterials.service;
+
+import nl.jixxed.eliteodysseymaterials.domain.Commander;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CommanderFileRepositoryTest {
+    private static final String FILE_NAME = "notes.json";
+
+    @TempDir
+    Path folder;
+    private Commander commander;
+    private CommanderFileRepository<Notes> repository;
+
+    @BeforeEach
+    void setUp() {
+        this.commander = Mockito.mock(Commander.class);
+        Mockito.when(this.commander.getCommanderFolder()).thenReturn(this.folder.toString());
+        this.repository = new CommanderFileRepository<>(FILE_NAME, Notes.class, Notes::new);
+    }
+
+    @Test
+    void get_createsTheDefault() throws IOException {
+        assertThat(this.repository.get(this.commander).getLines()).isEmpty();
+        assertThat(Files.readString(file())).isEqualTo("{\"lines\":[]}");
+    }
+
+    @Test
+    void get_returnsTheCachedInstance() {
+        final Notes notes = this.repository.get(this.commander);
+        final long version = this.repository.getVersion(this.commander);
+
+        assertThat(this.repository.get(this.commander)).isSameAs(notes);
+        assertThat(this.repository.getVersion(this.commander)).isEqualTo(version);
+    }
+
+    @Test
+    void save_storesACopyAsNewVersion() {
+        final long version = this.repository.getVersion(this.commander);
+        final Notes notes = notes("saved");
+
+        this.repository.save(this.commander, notes);
+        notes.getLines().add("not saved");
+
+        assertThat(this.repository.get(this.commander)).isNotSameAs(notes);
+        assertThat(this.repository.get(this.commander).getLines()).containsExactly("saved");
+        assertThat(this.repository.getVersion(this.commander)).isGreaterThan(version);
+    }
+
+    @Test
+    void save_writesBehindAfterAQuietPeriod() throws IOException {
+        this.repository.get(this.commander);
+
+        this.repository.save(this.commander, notes("first"));
+        this.repository.save(this.commander, notes("second"));
+
+        assertThat(this.repository.get(this.commander).getLines()).containsExactly("second");
+        assertThat(Files.readString(file())).isEqualTo("{\"lines\":[]}");
+        awaitTrue(() -> readFile().contains("second"));
+        assertThat(Files.exists(this.folder.resolve(FILE_NAME + ".tmp"))).isFalse();
+    }
+
+    @Test
+    void flushAll_writesPendingChangesImmediately() throws IOException {
+        this.repository.save(this.commander, notes("pending"));
+
+        this.repository.flushAll();
+
+        assertThat(Files.readString(file())).isEqualTo("{\"lines\":[\"pending\"]}");
+        assertThat(Files.exists(this.folder.resolve(FILE_NAME + ".tmp"))).isFalse();
+    }
+
+    @Test
+    void get_reloadsExternalChanges() throws IOException {
+        this.repository.get(this.commander);
+
+        Files.writeString(file(), "{\"lines\":[\"external\"]}");
+
+        awaitTrue(() -> this.repository.get(this.commander).getLines().contains("external"));
+    }
+
+    private Path file() {
+        return this.folder.resolve(FILE_NAME);
+    }
+
+    private String readFile() {
+        try {
+            return Files.readString(file());
+        } catch (final IOException e) {
+            return "";
+        }
+    }
+
+    private static Notes notes(final String line) {
+        final Notes notes = new Notes();
+        notes.getLines().add(line);
+        return notes;
+    }
+
+    private static void awaitTrue(final BooleanSupplier condition) {
+        final long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("waited too long").isLessThan(deadline);
+            try {
+                Thread.sleep(50);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    public static class Notes {
+        private List<String> lines = new ArrayList<>();
+
+        public List<String> getLines() {
+            return this.lines;
+        }
+
+        public void setLines(final List<String> lines) {
+            this.lines = lines;
+        }
+    }
+}
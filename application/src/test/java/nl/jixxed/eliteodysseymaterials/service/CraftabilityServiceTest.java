@@ -0,0 +1,135 @@
+package nl.jixxed.eliteodysseymaterials.service;
+
+import nl.jixxed.eliteodysseymaterials.constants.HorizonsBlueprintConstants;
+import nl.jixxed.eliteodysseymaterials.constants.OdysseyBlueprintConstants;
+import nl.jixxed.eliteodysseymaterials.domain.EngineerBlueprint;
+import nl.jixxed.eliteodysseymaterials.domain.HorizonsBlueprint;
+import nl.jixxed.eliteodysseymaterials.domain.OdysseyBlueprint;
+import nl.jixxed.eliteodysseymaterials.enums.*;
+import nl.jixxed.eliteodysseymaterials.service.event.CraftabilityEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CraftabilityServiceTest {
+
+    @BeforeEach
+    @AfterEach
+    void resetStorage() {
+        StorageService.resetShipLockerCounts();
+        StorageService.resetBackPackCounts();
+        StorageService.resetFleetCarrierCounts();
+        StorageService.resetHorizonsMaterialCounts();
+        StorageService.resetHorizonsCommodityCounts();
+        CraftabilityService.update();
+    }
+
+    @Test
+    void matchesFullScanAfterStorageChanges() {
+        final List<OdysseyBlueprintName> odysseyBlueprints = OdysseyBlueprintConstants.RECIPES.values().stream().flatMap(recipes -> recipes.keySet().stream()).toList();
+        final List<HorizonsBlueprint> horizonsBlueprints = HorizonsBlueprintConstants.RECIPES.values().stream()
+                .flatMap(recipes -> recipes.values().stream())
+                .flatMap(types -> types.values().stream())
+                .flatMap(grades -> grades.values().stream())
+                .toList();
+        odysseyBlueprints.forEach(CraftabilityService::getCraftability);
+        horizonsBlueprints.forEach(blueprint -> CraftabilityService.getCraftability(blueprint.getHorizonsBlueprintName(), blueprint.getHorizonsBlueprintType(), blueprint.getHorizonsBlueprintGrade()));
+
+        final Random random = new Random(42);
+        for (int round = 0; round < 5; round++) {
+            Stream.of(StorageService.getGoods(), StorageService.getData(), StorageService.getAssets())
+                    .flatMap(storages -> storages.values().stream())
+                    .forEach(storage -> storage.setValue(random.nextInt(25), StoragePool.SHIPLOCKER));
+            StorageService.getRaw().replaceAll((material, amount) -> random.nextInt(25));
+            StorageService.getEncoded().replaceAll((material, amount) -> random.nextInt(25));
+            StorageService.getManufactured().replaceAll((material, amount) -> random.nextInt(25));
+            StorageService.getCommoditiesShip().replaceAll((material, amount) -> random.nextInt(25));
+            CraftabilityService.update();
+
+            odysseyBlueprints.forEach(name -> assertThat(CraftabilityService.getCraftability(name))
+                    .as(name.name())
+                    .isEqualTo(scan(name)));
+            horizonsBlueprints.forEach(blueprint -> assertThat(CraftabilityService.getCraftability(blueprint.getHorizonsBlueprintName(), blueprint.getHorizonsBlueprintType(), blueprint.getHorizonsBlueprintGrade()))
+                    .as(blueprint.toString())
+                    .isEqualTo(scan(blueprint)));
+        }
+    }
+
+    @Test
+    void publishesOnlyFlippedBlueprints() {
+        final OdysseyBlueprint blueprint = OdysseyBlueprintConstants.getRecipe(OdysseyBlueprintName.NIGHT_VISION);
+        assertThat(CraftabilityService.getCraftability(OdysseyBlueprintName.NIGHT_VISION)).isEqualTo(Craftability.NOT_CRAFTABLE);
+
+        blueprint.getMaterialCollection(OdysseyMaterial.class).forEach((material, amount) -> StorageService.getMaterialStorage(material).setValue(amount, StoragePool.SHIPLOCKER));
+        final Optional<CraftabilityEvent> event = CraftabilityService.update();
+
+        assertThat(event).hasValueSatisfying(craftabilityEvent -> assertThat(craftabilityEvent.getOdysseyBlueprints()).contains(OdysseyBlueprintName.NIGHT_VISION));
+        assertThat(CraftabilityService.getCraftability(OdysseyBlueprintName.NIGHT_VISION)).isEqualTo(Craftability.CRAFTABLE);
+        assertThat(CraftabilityService.update()).isEmpty();
+
+        blueprint.getMaterialCollection(OdysseyMaterial.class).forEach((material, amount) -> StorageService.getMaterialStorage(material).setValue(amount + 1, StoragePool.SHIPLOCKER));
+        assertThat(CraftabilityService.update().map(CraftabilityEvent::getOdysseyBlueprints).orElse(Set.of())).doesNotContain(OdysseyBlueprintName.NIGHT_VISION);
+    }
+
+    @Test
+    void evictsBlueprintsThatAreNoLongerWanted() {
+        final HorizonsBlueprint kept = (HorizonsBlueprint) HorizonsBlueprintConstants.getRecipe(HorizonsBlueprintName.FRAME_SHIFT_DRIVE, HorizonsBlueprintType.INCREASED_FSD_RANGE, HorizonsBlueprintGrade.GRADE_1);
+        final HorizonsBlueprint evicted = (HorizonsBlueprint) HorizonsBlueprintConstants.getRecipe(HorizonsBlueprintName.SENSORS, HorizonsBlueprintType.LIGHT_WEIGHT_SCANNER, HorizonsBlueprintGrade.GRADE_1);
+        CraftabilityService.retainHorizonsBlueprints(Set.of());
+        final int trackedMaterials = CraftabilityService.getTrackedMaterials();
+        CraftabilityService.getCraftability(kept.getHorizonsBlueprintName(), kept.getHorizonsBlueprintType(), Map.of(HorizonsBlueprintGrade.GRADE_1, 2));
+        CraftabilityService.getCraftability(evicted.getHorizonsBlueprintName(), evicted.getHorizonsBlueprintType(), evicted.getHorizonsBlueprintGrade());
+        assertThat(CraftabilityService.getTrackedHorizonsBlueprints()).isEqualTo(2);
+
+        CraftabilityService.retainHorizonsBlueprints(Set.of(new CraftabilityService.HorizonsRolls(kept, 2)));
+        assertThat(CraftabilityService.getTrackedHorizonsBlueprints()).isEqualTo(1);
+        assertThat(CraftabilityService.getTrackedMaterials()).isEqualTo(trackedMaterials + kept.getMaterialCollection(HorizonsMaterial.class).size());
+
+        StorageService.getRaw().put(Raw.PHOSPHORUS, 1);
+        assertThat(CraftabilityService.update().map(CraftabilityEvent::getHorizonsBlueprints).orElse(Set.of())).doesNotContain(evicted);
+
+        CraftabilityService.retainHorizonsBlueprints(Set.of());
+        assertThat(CraftabilityService.getTrackedHorizonsBlueprints()).isZero();
+        assertThat(CraftabilityService.getTrackedMaterials()).isEqualTo(trackedMaterials);
+    }
+
+    private static Craftability scan(final OdysseyBlueprintName odysseyBlueprintName) {
+        final OdysseyBlueprint blueprint = OdysseyBlueprintConstants.getRecipe(odysseyBlueprintName);
+        if (blueprint instanceof EngineerBlueprint engineerBlueprint) {
+            return engineerBlueprint.getCraftability();
+        }
+        if (!hasAll(blueprint.getMaterialCollection(Good.class)) || !hasAll(blueprint.getMaterialCollection(Data.class))) {
+            return Craftability.NOT_CRAFTABLE;
+        }
+        return hasAll(blueprint.getMaterialCollection(Asset.class)) ? Craftability.CRAFTABLE : Craftability.CRAFTABLE_WITH_TRADE;
+    }
+
+    private static Craftability scan(final HorizonsBlueprint blueprint) {
+        if (!hasAll(blueprint.getMaterialCollection(Raw.class)) || !hasAll(blueprint.getMaterialCollection(Encoded.class)) || !hasAll(blueprint.getMaterialCollection(Manufactured.class))) {
+            return Craftability.NOT_CRAFTABLE;
+        }
+        return hasAll(blueprint.getMaterialCollection(Commodity.class)) ? Craftability.CRAFTABLE : Craftability.CRAFTABLE_WITH_TRADE;
+    }
+
+    private static boolean hasAll(final Map<? extends Material, Integer> materials) {
+        return materials.entrySet().stream().allMatch(entry -> getAmount(entry.getKey()) >= entry.getValue());
+    }
+
+    private static int getAmount(final Material material) {
+        if (material instanceof OdysseyMaterial odysseyMaterial) {
+            return StorageService.getMaterialStorage(odysseyMaterial).getTotalValue();
+        } else if (material instanceof Commodity commodity) {
+            return StorageService.getCommodityCount(commodity, StoragePool.SHIP);
+        }
+        return StorageService.getMaterialCount((HorizonsMaterial) material);
+    }
+}
@@ -0,0 +1,105 @@
+package nl.jixxed.eliteodysseymaterials.service;
+
+import nl.jixxed.eliteodysseymaterials.domain.StarSystem;
+import nl.jixxed.eliteodysseymaterials.enums.Engineer;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class EngineerRouteSolverTest {
+    private static final StarSystem SOL = new StarSystem("Sol", 0, 0, 0);
+    private static final List<Engineer> HORIZONS_ENGINEERS = Arrays.stream(Engineer.values()).filter(Engineer::isHorizons).toList();
+
+    @Test
+    void solve_matchesShortestOfAllRoutes() {
+        final Random random = new Random(42);
+        for (int run = 0; run < 50; run++) {
+            final List<List<Engineer>> stops = new ArrayList<>();
+            final int stopCount = 1 + random.nextInt(5);
+            for (int stop = 0; stop < stopCount; stop++) {
+                final List<Engineer> engineers = new ArrayList<>();
+                final int engineerCount = 1 + random.nextInt(3);
+                while (engineers.size() < engineerCount) {
+                    final Engineer engineer = random.nextInt(8) == 0 ? Engineer.REMOTE_WORKSHOP : HORIZONS_ENGINEERS.get(random.nextInt(HORIZONS_ENGINEERS.size()));
+                    if (!engineers.contains(engineer)) {
+                        engineers.add(engineer);
+                    }
+                }
+                stops.add(engineers);
+            }
+
+            final List<Engineer> route = EngineerRouteSolver.solve(stops, SOL);
+            final List<Engineer> shortest = shortestOfAllRoutes(stops);
+
+            if (shortest == null) {
+                assertThat(route).isEmpty();
+            } else {
+                assertThat(route).hasSize(stops.size());
+                assertThat(length(route)).isCloseTo(length(shortest), within(1E-6));
+            }
+        }
+    }
+
+    @Test
+    void solve_usesRemoteWorkshopOnlyAsFirstStop() {
+        final List<List<Engineer>> stops = List.of(
+                List.of(Engineer.FELICITY_FARSEER),
+                List.of(Engineer.REMOTE_WORKSHOP, Engineer.ELVIRA_MARTUUK));
+
+        assertThat(EngineerRouteSolver.solve(stops, SOL)).containsExactly(Engineer.FELICITY_FARSEER, Engineer.ELVIRA_MARTUUK);
+        assertThat(EngineerRouteSolver.solve(List.of(List.of(Engineer.FELICITY_FARSEER), List.of(Engineer.REMOTE_WORKSHOP)), SOL)).isEmpty();
+    }
+
+    @Test
+    void solve_countsRepeatedEngineersOnce() {
+        final List<List<Engineer>> stops = List.of(
+                List.of(Engineer.FELICITY_FARSEER),
+                List.of(Engineer.ELVIRA_MARTUUK, Engineer.FELICITY_FARSEER),
+                List.of(Engineer.FELICITY_FARSEER));
+
+        assertThat(EngineerRouteSolver.solve(stops, SOL)).containsExactly(Engineer.FELICITY_FARSEER, Engineer.FELICITY_FARSEER, Engineer.FELICITY_FARSEER);
+    }
+
+    private static List<Engineer> shortestOfAllRoutes(final List<List<Engineer>> stops) {
+        List<List<Engineer>> routes = List.of(List.of());
+        for (final List<Engineer> engineers : stops) {
+            final List<List<Engineer>> extended = new ArrayList<>();
+            for (final List<Engineer> route : routes) {
+                for (final Engineer engineer : engineers) {
+                    final List<Engineer> next = new ArrayList<>(route);
+                    next.add(engineer);
+                    extended.add(next);
+                }
+            }
+            routes = extended;
+        }
+        List<Engineer> shortest = null;
+        for (final List<Engineer> route : routes) {
+            if ((!route.contains(Engineer.REMOTE_WORKSHOP) || route.get(0) == Engineer.REMOTE_WORKSHOP) && (shortest == null || length(route) < length(shortest))) {
+                shortest = route;
+            }
+        }
+        return shortest;
+    }
+
+    private static double length(final List<Engineer> route) {
+        double length = 0D;
+        StarSystem position = SOL;
+        for (final Engineer engineer : route) {
+            //like the remote workshop itself, the route continues from the current location after using it
+            if (engineer == Engineer.REMOTE_WORKSHOP) {
+                position = SOL;
+            } else {
+                length += engineer.getDistance(position);
+                position = engineer.getStarSystem();
+            }
+        }
+        return length;
+    }
+}
@@ -0,0 +1,56 @@
+package nl.jixxed.eliteodysseymaterials.service;
+
+import nl.jixxed.eliteodysseymaterials.domain.StarSystem;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KdTreeTest {
+
+    @Test
+    void nearest_matchesLinearScan() {
+        final Random random = new Random(42);
+        final List<StarSystem> starSystems = randomStarSystems(random, 500);
+        //a second station in the same system, to check that ties are returned in list order
+        starSystems.add(new StarSystem("duplicate", starSystems.get(0).getX(), starSystems.get(0).getY(), starSystems.get(0).getZ()));
+        final KdTree<StarSystem> tree = KdTree.of(starSystems, starSystem -> starSystem);
+        final Predicate<StarSystem> filter = starSystem -> starSystem.getName().hashCode() % 3 != 0;
+
+        for (final StarSystem location : randomStarSystems(random, 200)) {
+            assertThat(tree.nearest(location, filter)).contains(linearScan(starSystems, location, filter).get(0));
+            assertThat(tree.nearest(location, 5, filter)).containsExactlyElementsOf(linearScan(starSystems, location, filter).subList(0, 5));
+        }
+        assertThat(tree.nearest(starSystems.get(0), 2, starSystem -> true)).containsExactly(starSystems.get(0), starSystems.get(500));
+    }
+
+    @Test
+    void nearest_isEmptyWithoutMatches() {
+        final KdTree<StarSystem> tree = KdTree.of(randomStarSystems(new Random(1), 20), starSystem -> starSystem);
+
+        assertThat(tree.nearest(StarSystem.SOL, starSystem -> false)).isEmpty();
+        assertThat(tree.nearest(StarSystem.SOL, 3, starSystem -> false)).isEmpty();
+        assertThat(KdTree.of(List.<StarSystem>of(), starSystem -> starSystem).nearest(StarSystem.SOL, starSystem -> true)).isEmpty();
+        assertThat(tree.nearest(StarSystem.SOL, 30, starSystem -> true)).hasSize(20);
+    }
+
+    private static List<StarSystem> randomStarSystems(final Random random, final int count) {
+        final List<StarSystem> starSystems = new ArrayList<>();
+        for (int index = 0; index < count; index++) {
+            starSystems.add(new StarSystem("system " + index, random.nextDouble(-40000, 40000), random.nextDouble(-2000, 2000), random.nextDouble(-20000, 60000)));
+        }
+        return starSystems;
+    }
+
+    private static List<StarSystem> linearScan(final List<StarSystem> starSystems, final StarSystem location, final Predicate<StarSystem> filter) {
+        return starSystems.stream()
+                .filter(filter)
+                .sorted(Comparator.comparingDouble(starSystem -> MaterialTraderService.getDistance(starSystem, location)))
+                .toList();
+    }
+}
@@ -0,0 +1,77 @@
+package nl.jixxed.eliteodysseymaterials.service;
+
+import nl.jixxed.eliteodysseymaterials.domain.Storage;
+import nl.jixxed.eliteodysseymaterials.enums.Commodity;
+import nl.jixxed.eliteodysseymaterials.enums.Good;
+import nl.jixxed.eliteodysseymaterials.enums.StoragePool;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MaterialStoreTest {
+    private final StorageChangeLog changeLog = new StorageChangeLog(16);
+    private final MaterialStore<Good> goods = new MaterialStore<>(Good.class, this.changeLog, StoragePool.BACKPACK, StoragePool.SHIPLOCKER, StoragePool.FLEETCARRIER);
+
+    @Test
+    void keepsTotalsPerPool() {
+        final Map<Good, Storage> storages = this.goods.asStorageMap();
+        storages.get(Good.AGRICULTURALPROCESSSAMPLE).setValue(3, StoragePool.SHIPLOCKER);
+        storages.get(Good.BIOCHEMICALAGENT).setValue(4, StoragePool.SHIPLOCKER);
+        storages.get(Good.BIOCHEMICALAGENT).setValue(2, StoragePool.BACKPACK);
+        storages.get(Good.AGRICULTURALPROCESSSAMPLE).setValue(1, StoragePool.SHIPLOCKER);
+
+        assertThat(this.goods.getTotal(StoragePool.SHIPLOCKER)).isEqualTo(5);
+        assertThat(this.goods.getTotal(StoragePool.BACKPACK)).isEqualTo(2);
+        assertThat(this.goods.getTotal(StoragePool.SHIP)).isZero();
+        assertThat(storages.get(Good.BIOCHEMICALAGENT).getTotalValue()).isEqualTo(6);
+        assertThat(storages.get(Good.BIOCHEMICALAGENT).getAvailableValue()).isEqualTo(6);
+
+        this.goods.reset(StoragePool.SHIPLOCKER);
+        assertThat(this.goods.getTotal(StoragePool.SHIPLOCKER)).isZero();
+        assertThat(storages.get(Good.BIOCHEMICALAGENT).getTotalValue()).isEqualTo(2);
+    }
+
+    @Test
+    void logsOnlyChangingWrites() {
+        final Map<Good, Integer> shipLocker = this.goods.asMap(StoragePool.SHIPLOCKER);
+        final long position = this.changeLog.getPosition();
+        shipLocker.put(Good.BIOCHEMICALAGENT, 5);
+        shipLocker.put(Good.BIOCHEMICALAGENT, 5);
+        shipLocker.merge(Good.BIOCHEMICALAGENT, 2, Integer::sum);
+
+        final List<StorageChange> changes = new ArrayList<>();
+        this.changeLog.read(position, changes::add, () -> {
+            throw new AssertionError("overflow");
+        });
+        assertThat(changes).containsExactly(
+                new StorageChange(Good.BIOCHEMICALAGENT, StoragePool.SHIPLOCKER, 0, 5),
+                new StorageChange(Good.BIOCHEMICALAGENT, StoragePool.SHIPLOCKER, 5, 7));
+        assertThat(shipLocker.get(Good.BIOCHEMICALAGENT)).isEqualTo(7);
+        assertThat(shipLocker.get(Commodity.GOLD)).isNull();
+    }
+
+    @Test
+    void storesMissingValueAsNone() {
+        final Storage storage = this.goods.asStorageMap().get(Good.BIOCHEMICALAGENT);
+        storage.setValue(3, StoragePool.BACKPACK);
+        this.goods.asMap(StoragePool.SHIPLOCKER).put(Good.BIOCHEMICALAGENT, 2);
+
+        storage.setValue(null, StoragePool.BACKPACK);
+        this.goods.asMap(StoragePool.SHIPLOCKER).put(Good.BIOCHEMICALAGENT, null);
+
+        assertThat(storage.getTotalValue()).isZero();
+        assertThat(this.goods.getTotal(StoragePool.BACKPACK)).isZero();
+        assertThat(this.goods.getTotal(StoragePool.SHIPLOCKER)).isZero();
+    }
+
+    @Test
+    void rejectsUnknownPool() {
+        final MaterialStore<Commodity> commodities = new MaterialStore<>(Commodity.class, this.changeLog, StoragePool.SHIP);
+        assertThatThrownBy(() -> commodities.set(Commodity.GOLD, StoragePool.BACKPACK, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,125 @@
+package nl.jixxed.eliteodysseymaterials.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class OcrEnginePoolTest {
+    private static final OcrEnginePool.Profile DATA = new OcrEnginePool.Profile("eng", "ABC");
+    private static final OcrEnginePool.Profile ASSET = new OcrEnginePool.Profile("eng", "XYZ");
+
+    private final AtomicInteger configurations = new AtomicInteger();
+
+    @Test
+    void reusesEngineWithSameProfile() throws InterruptedException {
+        final OcrEnginePool<Engine> pool = createPool(2);
+
+        final Engine first = pool.checkout(DATA);
+        pool.checkin(first);
+        final Engine second = pool.checkout(DATA);
+
+        assertThat(second).isSameAs(first);
+        assertThat(pool.getCreated()).isEqualTo(1);
+        assertThat(this.configurations).hasValue(1);
+    }
+
+    @Test
+    void createsEnginePerProfileUpToMaximum() throws InterruptedException {
+        final OcrEnginePool<Engine> pool = createPool(2);
+        pool.checkin(pool.checkout(DATA));
+
+        final Engine asset = pool.checkout(ASSET);
+
+        assertThat(asset.profile).isEqualTo(ASSET);
+        assertThat(pool.getCreated()).isEqualTo(2);
+    }
+
+    @Test
+    void reconfiguresIdleEngineWhenAllAreCreated() throws InterruptedException {
+        final OcrEnginePool<Engine> pool = createPool(1);
+        final Engine data = pool.checkout(DATA);
+        pool.checkin(data);
+
+        final Engine asset = pool.checkout(ASSET);
+
+        assertThat(asset).isSameAs(data);
+        assertThat(asset.profile).isEqualTo(ASSET);
+        assertThat(pool.getCreated()).isEqualTo(1);
+    }
+
+    @Test
+    void runsInParallelWithinBound() throws InterruptedException, ExecutionException {
+        final OcrEnginePool<Engine> pool = createPool(3);
+        final AtomicInteger inUse = new AtomicInteger();
+        final AtomicInteger maxInUse = new AtomicInteger();
+        final ExecutorService executor = Executors.newFixedThreadPool(6);
+        try {
+            final List<Future<Integer>> rows = new ArrayList<>();
+            for (int row = 0; row < 12; row++) {
+                final int finalRow = row;
+                rows.add(executor.submit(() -> pool.withEngine(DATA, engine -> {
+                    maxInUse.accumulateAndGet(inUse.incrementAndGet(), Math::max);
+                    assertThat(engine.busy.compareAndSet(false, true)).as("engine used by one row at a time").isTrue();
+                    Thread.sleep(20);
+                    engine.busy.set(false);
+                    inUse.decrementAndGet();
+                    return finalRow;
+                })));
+            }
+            for (int row = 0; row < rows.size(); row++) {
+                assertThat(rows.get(row).get()).isEqualTo(row);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(maxInUse.get()).isEqualTo(3);
+        assertThat(pool.getCreated()).isEqualTo(3);
+        assertThat(pool.getWaitNanos()).isPositive();
+    }
+
+    @Test
+    void returnsPermitWhenCreationOrConfigurationFails() {
+        final AtomicBoolean failCreation = new AtomicBoolean(true);
+        final AtomicBoolean failConfiguration = new AtomicBoolean(true);
+        final OcrEnginePool<Engine> pool = new OcrEnginePool<>(1, () -> {
+            if (failCreation.getAndSet(false)) {
+                throw new IllegalStateException("no engine");
+            }
+            return new Engine();
+        }, (engine, profile) -> {
+            if (failConfiguration.getAndSet(false)) {
+                throw new IllegalStateException("no language");
+            }
+            engine.profile = profile;
+        });
+
+        assertThatThrownBy(() -> pool.checkout(DATA)).hasMessage("no engine");
+        assertThatThrownBy(() -> pool.checkout(DATA)).hasMessage("no language");
+        final Engine engine = assertTimeoutPreemptively(Duration.ofSeconds(5), () -> pool.checkout(DATA));
+
+        assertThat(engine.profile).isEqualTo(DATA);
+        assertThat(pool.getCreated()).isEqualTo(1);
+    }
+
+    private OcrEnginePool<Engine> createPool(final int maxEngines) {
+        return new OcrEnginePool<>(maxEngines, Engine::new, (engine, profile) -> {
+            this.configurations.incrementAndGet();
+            engine.profile = profile;
+        });
+    }
+
+    private static class Engine {
+        private final AtomicBoolean busy = new AtomicBoolean();
+        private OcrEnginePool.Profile profile;
+    }
+}
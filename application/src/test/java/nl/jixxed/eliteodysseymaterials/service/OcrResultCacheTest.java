@@ -0,0 +1,105 @@
+package nl.jixxed.eliteodysseymaterials.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OcrResultCacheTest {
+    private static final OcrEnginePool.Profile DATA = new OcrEnginePool.Profile("eng", "ABC ");
+    private static final OcrEnginePool.Profile ASSET = new OcrEnginePool.Profile("eng", "XYZ ");
+
+    @TempDir
+    File folder;
+
+    @Test
+    void countsHitsAndMisses() {
+        final OcrResultCache cache = new OcrResultCache(new File(this.folder, "ocr-cache.json"), 10);
+        final String key = OcrResultCache.key(DATA, row(10, 0x60));
+
+        assertThat(cache.get(key)).isNull();
+        cache.put(key, "BIOMETRIC DATA");
+
+        assertThat(cache.get(key)).isEqualTo("BIOMETRIC DATA");
+        assertThat(cache.getHits()).isEqualTo(1);
+        assertThat(cache.getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    void keysOnBinarisedContentAndProfile() {
+        final String key = OcrResultCache.key(DATA, row(10, 0x60));
+
+        assertThat(OcrResultCache.key(DATA, row(10, 0x63))).as("brightness noise").isEqualTo(key);
+        assertThat(OcrResultCache.key(DATA, toGray(row(10, 0x60)))).as("gray image").isEqualTo(key);
+        assertThat(OcrResultCache.key(DATA, row(30, 0x60))).as("other text").isNotEqualTo(key);
+        assertThat(OcrResultCache.key(ASSET, row(10, 0x60))).as("other whitelist").isNotEqualTo(key);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsed() {
+        final OcrResultCache cache = new OcrResultCache(new File(this.folder, "ocr-cache.json"), 2);
+        cache.put("a", "A");
+        cache.put("b", "B");
+        cache.get("a");
+        cache.put("c", "C");
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("a")).isEqualTo("A");
+        assertThat(cache.get("c")).isEqualTo("C");
+    }
+
+    @Test
+    void persistsBetweenRuns() {
+        final File cacheFile = new File(this.folder, "ocr/ocr-cache.json");
+        final OcrResultCache cache = new OcrResultCache(cacheFile, 2);
+        cache.put("a", "A");
+        cache.put("b", "B");
+        cache.get("a");
+        cache.save();
+
+        final OcrResultCache reloaded = new OcrResultCache(cacheFile, 2);
+        reloaded.put("c", "C");
+
+        assertThat(reloaded.get("a")).isEqualTo("A");
+        assertThat(reloaded.get("b")).as("least recently used before saving").isNull();
+        assertThat(reloaded.get("c")).isEqualTo("C");
+    }
+
+    @Test
+    void dropsResultsOfAnotherVersion() throws IOException {
+        final File cacheFile = new File(this.folder, "ocr-cache.json");
+        Files.writeString(cacheFile.toPath(), "{\"version\":" + (OcrResultCache.VERSION - 1) + ",\"results\":{\"a\":\"A\"}}");
+        final File unversionedFile = new File(this.folder, "unversioned.json");
+        Files.writeString(unversionedFile.toPath(), "{\"a\":\"A\"}");
+
+        assertThat(new OcrResultCache(cacheFile, 2).get("a")).isNull();
+        assertThat(new OcrResultCache(unversionedFile, 2).get("a")).isNull();
+    }
+
+    private static BufferedImage row(final int textX, final int background) {
+        final BufferedImage image = new BufferedImage(120, 20, BufferedImage.TYPE_INT_RGB);
+        final Graphics2D graphics = image.createGraphics();
+        graphics.setColor(new Color(background, background, background));
+        graphics.fillRect(0, 0, 120, 20);
+        graphics.setColor(Color.WHITE);
+        graphics.fillRect(textX, 5, 40, 10);
+        graphics.dispose();
+        return image;
+    }
+
+    private static BufferedImage toGray(final BufferedImage image) {
+        final BufferedImage gray = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_BYTE_GRAY);
+        final Graphics2D graphics = gray.createGraphics();
+        graphics.drawImage(image, 0, 0, null);
+        graphics.dispose();
+        return gray;
+    }
+}
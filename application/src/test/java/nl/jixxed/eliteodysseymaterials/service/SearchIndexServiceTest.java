@@ -0,0 +1,57 @@
+package nl.jixxed.eliteodysseymaterials.service;
+
+import nl.jixxed.eliteodysseymaterials.service.event.EventService;
+import nl.jixxed.eliteodysseymaterials.service.event.LanguageChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchIndexServiceTest {
+    private static final String BIOMETRIC_DATA = "material.data.biometricdata";
+    private static final String ATMOSPHERIC_DATA = "material.data.atmosphericdata";
+
+    @AfterEach
+    void restoreLanguage() {
+        changeLanguage(Locale.ENGLISH);
+    }
+
+    @Test
+    void findsNamesContainingTheQuery() {
+        assertThat(SearchIndexService.search("metric")).contains(BIOMETRIC_DATA).doesNotContain(ATMOSPHERIC_DATA);
+        assertThat(SearchIndexService.search("c d")).contains(BIOMETRIC_DATA, ATMOSPHERIC_DATA);
+        assertThat(SearchIndexService.search("biometric datas")).isEmpty();
+    }
+
+    @Test
+    void matchesIgnoringCase() {
+        assertThat(SearchIndexService.matches(BIOMETRIC_DATA, "BIOMETRIC D")).isTrue();
+        assertThat(SearchIndexService.matches(BIOMETRIC_DATA, "Bio")).isTrue();
+        assertThat(SearchIndexService.matches(BIOMETRIC_DATA, "atmos")).isFalse();
+        assertThat(SearchIndexService.matches(BIOMETRIC_DATA, " ")).isTrue();
+    }
+
+    @Test
+    void rebuildsForChangedLanguageAndIgnoresAccents() {
+        assertThat(SearchIndexService.matches(BIOMETRIC_DATA, "donnees")).isFalse();
+
+        changeLanguage(Locale.FRENCH);
+
+        assertThat(SearchIndexService.matches(BIOMETRIC_DATA, "donnees")).isTrue();
+        assertThat(SearchIndexService.matches(BIOMETRIC_DATA, "BIOMÉTRIQUES")).isTrue();
+        assertThat(SearchIndexService.matches(ATMOSPHERIC_DATA, "biométriques")).isFalse();
+    }
+
+    @Test
+    void normalizesCaseAndAccents() {
+        assertThat(SearchIndexService.normalize("Données Atmosphériques")).isEqualTo("donnees atmospheriques");
+        assertThat(SearchIndexService.normalize("Luftqualität")).isEqualTo("luftqualitat");
+    }
+
+    private static void changeLanguage(final Locale locale) {
+        LocaleService.setCurrentLocale(locale);
+        EventService.publish(new LanguageChangedEvent(locale));
+    }
+}
@@ -0,0 +1,84 @@
+package nl.jixxed.eliteodysseymaterials.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StartupOrchestratorTest {
+
+    @Test
+    void task_runsAfterItsDependencies() {
+        final List<String> finished = new CopyOnWriteArrayList<>();
+        final StartupOrchestrator startup = new StartupOrchestrator();
+        startup.task("first", () -> sleepAndAdd(finished, "first"));
+        startup.task("second", () -> sleepAndAdd(finished, "second"), "first");
+        startup.task("third", () -> finished.add("third"), "first", "second");
+
+        startup.await();
+
+        assertThat(finished).containsSubsequence("first", "second", "third");
+    }
+
+    @Test
+    void task_runsIndependentTasksConcurrently() {
+        final CountDownLatch latch = new CountDownLatch(2);
+        final StartupOrchestrator startup = new StartupOrchestrator();
+        //each task waits for the other, which only finishes when both run at the same time
+        startup.task("first", () -> countDownAndAwait(latch));
+        startup.task("second", () -> countDownAndAwait(latch));
+
+        startup.await();
+
+        assertThat(latch.getCount()).isZero();
+    }
+
+    @Test
+    void await_rethrowsTheFailureOfATask() {
+        final List<String> finished = new CopyOnWriteArrayList<>();
+        final StartupOrchestrator startup = new StartupOrchestrator();
+        startup.task("failing", () -> {
+            throw new IllegalStateException("failed");
+        });
+        startup.task("dependent", () -> finished.add("dependent"), "failing");
+
+        assertThatThrownBy(startup::await)
+                .isInstanceOf(CompletionException.class)
+                .hasRootCauseInstanceOf(IllegalStateException.class);
+        assertThat(finished).isEmpty();
+    }
+
+    @Test
+    void task_rejectsUnknownDependencies() {
+        final StartupOrchestrator startup = new StartupOrchestrator();
+
+        assertThatThrownBy(() -> startup.task("task", () -> {
+        }, "unknown")).isInstanceOf(NullPointerException.class);
+    }
+
+    private static void sleepAndAdd(final List<String> finished, final String name) {
+        try {
+            Thread.sleep(20);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        finished.add(name);
+    }
+
+    private static void countDownAndAwait(final CountDownLatch latch) {
+        latch.countDown();
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("tasks didn't run concurrently");
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
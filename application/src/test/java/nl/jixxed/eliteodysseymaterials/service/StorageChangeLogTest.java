@@ -0,0 +1,51 @@
+package nl.jixxed.eliteodysseymaterials.service;
+
+import nl.jixxed.eliteodysseymaterials.enums.Raw;
+import nl.jixxed.eliteodysseymaterials.enums.StoragePool;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StorageChangeLogTest {
+
+    @Test
+    void readsChangesAfterPosition() {
+        final StorageChangeLog changeLog = new StorageChangeLog(4);
+        changeLog.append(Raw.CARBON, StoragePool.SHIP, 0, 1);
+        final long position = changeLog.getPosition();
+        changeLog.append(Raw.CARBON, StoragePool.SHIP, 1, 2);
+        changeLog.append(Raw.IRON, StoragePool.SHIP, 0, 3);
+
+        final List<StorageChange> changes = new ArrayList<>();
+        final long next = changeLog.read(position, changes::add, () -> {
+            throw new AssertionError("overflow");
+        });
+
+        assertThat(changes).extracting(StorageChange::delta).containsExactly(1, 3);
+        assertThat(next).isEqualTo(3);
+        assertThat(changeLog.read(next, changes::add, () -> {
+            throw new AssertionError("overflow");
+        })).isEqualTo(3);
+        assertThat(changes).hasSize(2);
+    }
+
+    @Test
+    void reportsDroppedChanges() {
+        final StorageChangeLog changeLog = new StorageChangeLog(2);
+        changeLog.append(Raw.CARBON, StoragePool.SHIP, 0, 1);
+        changeLog.append(Raw.CARBON, StoragePool.SHIP, 1, 2);
+        changeLog.append(Raw.CARBON, StoragePool.SHIP, 2, 3);
+
+        final AtomicBoolean overflow = new AtomicBoolean();
+        final List<StorageChange> changes = new ArrayList<>();
+        final long next = changeLog.read(0, changes::add, () -> overflow.set(true));
+
+        assertThat(overflow).isTrue();
+        assertThat(changes).isEmpty();
+        assertThat(next).isEqualTo(3);
+    }
+}
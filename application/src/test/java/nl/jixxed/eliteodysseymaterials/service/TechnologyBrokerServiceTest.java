@@ -0,0 +1,43 @@
+package nl.jixxed.eliteodysseymaterials.service;
+
+import nl.jixxed.eliteodysseymaterials.constants.PreferenceConstants;
+import nl.jixxed.eliteodysseymaterials.domain.StarSystem;
+import nl.jixxed.eliteodysseymaterials.enums.HorizonsBrokerType;
+import nl.jixxed.eliteodysseymaterials.enums.TechnologyBroker;
+import nl.jixxed.eliteodysseymaterials.service.event.EventService;
+import nl.jixxed.eliteodysseymaterials.service.event.TechnologyBrokerRangeChangedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TechnologyBrokerServiceTest {
+    //Altair has a human broker, loaded early, and an aegis broker, loaded last
+    private static final StarSystem ALTAIR = new StarSystem("Altair", -12.3125, -2.75, 11);
+
+    @Test
+    void findClosest_breaksTiesInLoadOrder() {
+        final TechnologyBroker aegisFirst = TechnologyBrokerService.findClosest(ALTAIR, List.of(HorizonsBrokerType.AEGIS, HorizonsBrokerType.HUMAN), 5000);
+        final TechnologyBroker humanFirst = TechnologyBrokerService.findClosest(ALTAIR, List.of(HorizonsBrokerType.HUMAN, HorizonsBrokerType.AEGIS), 5000);
+
+        assertThat(aegisFirst).isSameAs(humanFirst);
+        assertThat(aegisFirst.getType()).isEqualTo(HorizonsBrokerType.HUMAN);
+        assertThat(aegisFirst.getName()).isEqualTo("Solo Orbiter");
+    }
+
+    @Test
+    void findClosest_usesTheRangeOfTheLastChange() {
+        final int range = PreferencesService.getPreference(PreferenceConstants.HORIZONS_TECHNOLOGY_BROKER_MAX_RANGE, 5000);
+        try {
+            //the aegis broker in Altair is 2106Ls from the star
+            EventService.publish(new TechnologyBrokerRangeChangedEvent(3000));
+            assertThat(TechnologyBrokerService.findClosest(ALTAIR, List.of(HorizonsBrokerType.AEGIS)).getStarSystem().getName()).isEqualTo("Altair");
+
+            EventService.publish(new TechnologyBrokerRangeChangedEvent(1000));
+            assertThat(TechnologyBrokerService.findClosest(ALTAIR, List.of(HorizonsBrokerType.AEGIS)).getStarSystem().getName()).isNotEqualTo("Altair");
+        } finally {
+            EventService.publish(new TechnologyBrokerRangeChangedEvent(range));
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package nl.jixxed.eliteodysseymaterials.service;
+
+import nl.jixxed.eliteodysseymaterials.enums.Encoded;
+import nl.jixxed.eliteodysseymaterials.enums.HorizonsMaterial;
+import nl.jixxed.eliteodysseymaterials.enums.Raw;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WishlistDemandIndexTest {
+
+    private static final long VERSION = 1L;
+
+    @Test
+    void addAndRemove() {
+        final WishlistDemandIndex<HorizonsMaterial> index = new WishlistDemandIndex<>();
+        index.reset(VERSION, "a", false);
+        index.addItem("a", "1", Map.of(Raw.IRON, 3, Encoded.SCANDATABANKS, 1));
+        index.addItem("b", "2", Map.of(Raw.IRON, 2));
+
+        assertThat(index.getAll(Raw.IRON)).isEqualTo(5);
+        assertThat(index.getSelected(Raw.IRON)).isEqualTo(3);
+        assertThat(index.getSelected(Encoded.SCANDATABANKS)).isEqualTo(1);
+        assertThat(index.getAll(Raw.CARBON)).isZero();
+
+        index.removeItem("a", "1", Map.of());
+
+        assertThat(index.getAll(Raw.IRON)).isEqualTo(2);
+        assertThat(index.getSelected(Raw.IRON)).isZero();
+        assertThat(index.getAll(Encoded.SCANDATABANKS)).isZero();
+    }
+
+    @Test
+    void modifyReplacesRecordedDemand() {
+        final WishlistDemandIndex<HorizonsMaterial> index = new WishlistDemandIndex<>();
+        index.reset(VERSION, "0", true);
+        index.addItem("a", "1", Map.of(Raw.IRON, 3));
+
+        index.modifyItem("a", "1", Map.of(Raw.IRON, 1, Raw.CARBON, 4));
+
+        assertThat(index.getSelected(Raw.IRON)).isEqualTo(1);
+        assertThat(index.getAll(Raw.CARBON)).isEqualTo(4);
+    }
+
+    @Test
+    void boundToVersion() {
+        final WishlistDemandIndex<HorizonsMaterial> index = new WishlistDemandIndex<>();
+        index.reset(VERSION, "a", false);
+
+        assertThat(index.isBuiltFrom(VERSION)).isTrue();
+        index.rebind(VERSION + 1);
+        assertThat(index.isBuiltFrom(VERSION)).isFalse();
+        assertThat(index.isBuiltFrom(VERSION + 1)).isTrue();
+        assertThat(index.getBuilds()).isEqualTo(1);
+    }
+}
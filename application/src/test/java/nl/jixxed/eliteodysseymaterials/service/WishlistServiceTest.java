@@ -0,0 +1,45 @@
+package nl.jixxed.eliteodysseymaterials.service;
+
+import nl.jixxed.eliteodysseymaterials.domain.Commander;
+import nl.jixxed.eliteodysseymaterials.enums.Good;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WishlistServiceTest {
+    @TempDir
+    Path folder;
+    private Commander commander;
+
+    @BeforeEach
+    void setUp() {
+        this.commander = Mockito.mock(Commander.class);
+        Mockito.when(this.commander.getCommanderFolder()).thenReturn(this.folder.toString());
+    }
+
+    @Test
+    void getOdysseyDemand_isNotRebuiltByReads() {
+        WishlistService.getOdysseyDemand(this.commander).getAll(Good.BIOCHEMICALAGENT);
+        final long builds = WishlistService.getOdysseyDemand(this.commander).getBuilds();
+
+        WishlistService.getWishlists(this.commander);
+        WishlistService.getWishlists(this.commander);
+
+        assertThat(WishlistService.getOdysseyDemand(this.commander).getAll(Good.BIOCHEMICALAGENT)).isZero();
+        assertThat(WishlistService.getOdysseyDemand(this.commander).getBuilds()).isEqualTo(builds);
+    }
+
+    @Test
+    void getOdysseyDemand_isRebuiltAfterAPlainSave() {
+        final long builds = WishlistService.getOdysseyDemand(this.commander).getBuilds();
+
+        WishlistService.saveWishlists(this.commander, WishlistService.getWishlists(this.commander));
+
+        assertThat(WishlistService.getOdysseyDemand(this.commander).getBuilds()).isEqualTo(builds + 1);
+    }
+}
@@ -0,0 +1,57 @@
+package nl.jixxed.eliteodysseymaterials.service.ar;
+
+import nu.pattern.OpenCV;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.opencv.core.Core;
+import org.opencv.core.CvType;
+import org.opencv.core.Mat;
+import org.opencv.core.Point;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CvHelperTest {
+    @BeforeAll
+    static void loadOpenCV() {
+        OpenCV.loadLocally();
+    }
+
+    @Test
+    void overlaysSectionWithoutItsExtraPixels() {
+        final Mat section = new Mat(30, 40, CvType.CV_8UC4);
+        Core.randu(section, 0, 256);
+        final Point[] locations = {new Point(0, 0), new Point(12.6, 7.3), new Point(-4.5, -2.2), new Point(85, 52.5), new Point(120, 90)};
+        for (final Point location : locations) {
+            final Mat expected = Mat.zeros(60, 100, CvType.CV_32FC4);
+            final Mat actual = Mat.zeros(60, 100, CvType.CV_32FC4);
+            overlayPerPixel(section, expected, location, 5.0);
+
+            CvHelper.overlayImage(section, actual, location, 5.0);
+
+            assertThat(floats(actual)).as("location " + location).isEqualTo(floats(expected));
+        }
+    }
+
+    //the original pixel by pixel implementation
+    private static void overlayPerPixel(final Mat overlay, final Mat output, final Point location, final double extraPixels) {
+        for (int y = (int) Math.max(location.y, 0); y < output.rows(); ++y) {
+            final int overlayY = (int) (y - location.y + extraPixels);
+            if (overlayY >= overlay.rows() - extraPixels) {
+                break;
+            }
+            for (int x = (int) Math.max(location.x, 0); x < output.cols(); ++x) {
+                final int overlayX = (int) (x - location.x + extraPixels);
+                if (overlayX >= overlay.cols() - extraPixels) {
+                    break;
+                }
+                output.put(y, x, overlay.get(overlayY, overlayX));
+            }
+        }
+    }
+
+    private static float[] floats(final Mat mat) {
+        final float[] floats = new float[(int) (mat.total() * mat.channels())];
+        mat.get(0, 0, floats);
+        return floats;
+    }
+}
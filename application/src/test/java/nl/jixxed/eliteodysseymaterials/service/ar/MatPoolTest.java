@@ -0,0 +1,104 @@
+package nl.jixxed.eliteodysseymaterials.service.ar;
+
+import nu.pattern.OpenCV;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.opencv.core.CvType;
+import org.opencv.core.Mat;
+import org.opencv.core.Scalar;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MatPoolTest {
+    @BeforeAll
+    static void loadOpenCV() {
+        OpenCV.loadLocally();
+    }
+
+    @Test
+    void reusesSlotUntilSizeChanges() {
+        final MatPool pool = MatPool.get();
+        final Mat first = pool.acquire("reuse", 20, 30, CvType.CV_8UC1);
+        final long allocations = MatPool.getAllocations();
+
+        final Mat second = pool.acquire("reuse", 20, 30, CvType.CV_8UC1);
+        assertThat(second).isSameAs(first);
+        assertThat(MatPool.getAllocations()).isEqualTo(allocations);
+
+        final Mat resized = pool.acquire("reuse", 40, 30, CvType.CV_8UC1);
+        assertThat(resized.rows()).isEqualTo(40);
+        assertThat(MatPool.getAllocations()).isEqualTo(allocations + 1);
+    }
+
+    @Test
+    void copiesLookUpTableOnce() {
+        final MatPool pool = MatPool.get();
+        final byte[] table = new byte[256];
+        table[1] = 7;
+        final Mat lookUpTable = pool.lookUpTable("table", table);
+        final long allocations = MatPool.getAllocations();
+
+        assertThat(pool.lookUpTable("table", table)).isSameAs(lookUpTable);
+        assertThat(MatPool.getAllocations()).isEqualTo(allocations);
+        assertThat(lookUpTable.get(0, 1)[0]).isEqualTo(7);
+    }
+
+    @Test
+    void toBufferedImageKeepsGraySlot() {
+        final MatPool pool = MatPool.get();
+        final Mat gray = pool.acquire("gray", 20, 30, CvType.CV_8UC1);
+        gray.setTo(new Scalar(200));
+        pool.toBufferedImage("rgba", gray);
+        final long allocations = MatPool.getAllocations();
+
+        final BufferedImage image = pool.toBufferedImage("rgba", pool.acquire("gray", 20, 30, CvType.CV_8UC1));
+
+        assertThat(gray.type()).isEqualTo(CvType.CV_8UC1);
+        assertThat(MatPool.getAllocations()).isEqualTo(allocations);
+        assertThat(image.getRaster().getDataElements(0, 0, 30, 20, null))
+                .isEqualTo(CvHelper.createBufferedImage(gray.clone()).getRaster().getDataElements(0, 0, 30, 20, null));
+    }
+
+    @Test
+    void convertsLikeCvHelper() {
+        final BufferedImage rgb = sample(BufferedImage.TYPE_INT_RGB);
+        final BufferedImage premultiplied = sample(BufferedImage.TYPE_4BYTE_ABGR_PRE);
+        final BufferedImage[] images = {
+                rgb,
+                rgb.getSubimage(7, 5, 33, 21),
+                sample(BufferedImage.TYPE_4BYTE_ABGR),
+                premultiplied.getSubimage(3, 4, 20, 20),
+                sample(BufferedImage.TYPE_BYTE_GRAY).getSubimage(1, 2, 30, 20),
+                sample(BufferedImage.TYPE_INT_ARGB),
+                sample(BufferedImage.TYPE_3BYTE_BGR)
+        };
+        for (final BufferedImage image : images) {
+            assertThat(bytes(MatPool.get().toMat("convert", image)))
+                    .as("image type " + image.getType())
+                    .isEqualTo(bytes(CvHelper.convertToMat(image, null)));
+        }
+    }
+
+    private static BufferedImage sample(final int type) {
+        final BufferedImage image = new BufferedImage(48, 32, type);
+        final Graphics2D graphics = image.createGraphics();
+        graphics.setColor(new Color(0x30, 0x60, 0x90));
+        graphics.fillRect(0, 0, 48, 32);
+        graphics.setColor(new Color(0xFF, 0x7F, 0x00));
+        graphics.fillRect(4, 6, 30, 10);
+        graphics.setColor(new Color(0x10, 0xC0, 0x40));
+        graphics.fillOval(20, 12, 20, 16);
+        graphics.dispose();
+        return image;
+    }
+
+    private static byte[] bytes(final Mat mat) {
+        final byte[] bytes = new byte[(int) (mat.total() * mat.channels())];
+        mat.get(0, 0, bytes);
+        return bytes;
+    }
+}
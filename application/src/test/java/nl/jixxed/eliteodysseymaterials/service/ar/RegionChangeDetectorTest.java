@@ -0,0 +1,82 @@
+package nl.jixxed.eliteodysseymaterials.service.ar;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RegionChangeDetectorTest {
+    private final RegionChangeDetector detector = new RegionChangeDetector(8, 6);
+
+    @Test
+    void firstCaptureCountsAsChanged() {
+        assertThat(this.detector.hasChanged(capture(0))).isTrue();
+    }
+
+    @Test
+    void identicalCaptureIsUnchanged() {
+        this.detector.hasChanged(capture(0));
+
+        assertThat(this.detector.hasChanged(capture(0))).isFalse();
+        assertThat(this.detector.hasChanged(capture(0))).isFalse();
+    }
+
+    @Test
+    void ignoresNoiseWithinTolerance() {
+        this.detector.hasChanged(capture(0));
+        final BufferedImage noisy = capture(0);
+        for (int x = 0; x < noisy.getWidth(); x += 3) {
+            for (int y = 0; y < noisy.getHeight(); y += 2) {
+                noisy.setRGB(x, y, noisy.getRGB(x, y) ^ 0x030303);
+            }
+        }
+
+        assertThat(this.detector.hasChanged(noisy)).isFalse();
+    }
+
+    @Test
+    void detectsChangedArea() {
+        this.detector.hasChanged(capture(0));
+
+        assertThat(this.detector.hasChanged(capture(40))).isTrue();
+        assertThat(this.detector.hasChanged(capture(40))).isFalse();
+    }
+
+    @Test
+    void readsSubimagesAndOtherImageTypes() {
+        final BufferedImage large = new BufferedImage(400, 300, BufferedImage.TYPE_4BYTE_ABGR);
+        final Graphics2D graphics = large.createGraphics();
+        graphics.drawImage(capture(0), 100, 50, null);
+        graphics.dispose();
+        this.detector.hasChanged(capture(0));
+
+        assertThat(this.detector.hasChanged(large.getSubimage(100, 50, 160, 120))).isFalse();
+    }
+
+    @Test
+    void resetAndSizeChangeCountAsChanged() {
+        this.detector.hasChanged(capture(0));
+        this.detector.reset();
+        assertThat(this.detector.hasChanged(capture(0))).isTrue();
+
+        assertThat(this.detector.hasChanged(new BufferedImage(80, 60, BufferedImage.TYPE_INT_RGB))).isTrue();
+        assertThat(this.detector.hasChanged(null)).isTrue();
+        assertThat(this.detector.hasChanged(capture(0))).isTrue();
+    }
+
+    private static BufferedImage capture(final int scrollOffset) {
+        final BufferedImage image = new BufferedImage(160, 120, BufferedImage.TYPE_INT_RGB);
+        final Graphics2D graphics = image.createGraphics();
+        graphics.setColor(new Color(0x202020));
+        graphics.fillRect(0, 0, 160, 120);
+        graphics.setColor(new Color(0xFF7F00));
+        for (int row = 0; row < 4; row++) {
+            graphics.fillRect(10, 5 + row * 30 + scrollOffset, 100, 12);
+        }
+        graphics.dispose();
+        return image;
+    }
+}
@@ -0,0 +1,94 @@
+package nl.jixxed.eliteodysseymaterials.service.ar;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReplayScreenshotServiceTest {
+    private static final Point WINDOW_POSITION = new Point(500, 300);
+
+    @TempDir
+    File folder;
+
+    @Test
+    void stepsThroughFramesInNameOrder() throws IOException, InterruptedException {
+        writeFrame("frame_0002.png", 0x00FF00);
+        writeFrame("frame_0001.png", 0xFF0000);
+        writeFrame("frame_0003.png", 0x0000FF);
+        final ReplayScreenshotService replay = new ReplayScreenshotService(this.folder, 0);
+        replay.start();
+
+        assertThat(replay.getFrameName()).isEqualTo("frame_0001.png");
+        assertThat(pixel(replay)).isEqualTo(0xFF0000);
+        assertThat(replay.nextFrame()).isTrue();
+        assertThat(pixel(replay)).isEqualTo(0x00FF00);
+        assertThat(replay.nextFrame()).isTrue();
+        assertThat(pixel(replay)).isEqualTo(0x0000FF);
+        assertThat(replay.nextFrame()).isFalse();
+        assertThat(replay.getFrameName()).isEqualTo("frame_0003.png");
+    }
+
+    @Test
+    void cropsBoundsIgnoringWindowPosition() throws IOException {
+        final BufferedImage image = new BufferedImage(40, 30, BufferedImage.TYPE_INT_RGB);
+        image.setRGB(12, 7, 0x123456);
+        ImageIO.write(image, "png", new File(this.folder, "frame.png"));
+        final ReplayScreenshotService replay = new ReplayScreenshotService(this.folder, 0);
+        replay.start();
+
+        final BufferedImage capture = replay.getScreenshot(WINDOW_POSITION, new Rectangle(10, 5, 8, 4), null);
+
+        assertThat(capture.getType()).isEqualTo(BufferedImage.TYPE_INT_RGB);
+        assertThat(capture.getWidth()).isEqualTo(8);
+        assertThat(capture.getHeight()).isEqualTo(4);
+        assertThat(capture.getRGB(2, 2) & 0xFFFFFF).isEqualTo(0x123456);
+        assertThat(replay.getScreenshot(WINDOW_POSITION, new Rectangle(10, 5, 8, 4), capture)).isSameAs(capture);
+        assertThat(replay.getScreenshot(WINDOW_POSITION, new Rectangle(35, 5, 8, 4), null)).isNull();
+    }
+
+    @Test
+    void skipsFramesThatPassedAtFrameRate() throws IOException, InterruptedException {
+        for (int frame = 0; frame < 10; frame++) {
+            writeFrame(String.format("frame_%04d.png", frame), frame);
+        }
+        final ReplayScreenshotService replay = new ReplayScreenshotService(this.folder, 100);
+        replay.start();
+
+        Thread.sleep(45);
+        assertThat(replay.nextFrame()).isTrue();
+
+        assertThat(replay.getFrameIndex()).isGreaterThanOrEqualTo(4);
+        while (replay.nextFrame()) {
+            assertThat(replay.getFrameIndex()).isLessThan(10);
+        }
+        assertThat(replay.getFrameIndex()).isLessThan(10);
+    }
+
+    @Test
+    void requiresFrames() {
+        assertThatThrownBy(() -> new ReplayScreenshotService(this.folder, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void writeFrame(final String name, final int rgb) throws IOException {
+        final BufferedImage image = new BufferedImage(4, 4, BufferedImage.TYPE_INT_RGB);
+        for (int x = 0; x < 4; x++) {
+            for (int y = 0; y < 4; y++) {
+                image.setRGB(x, y, rgb);
+            }
+        }
+        ImageIO.write(image, "png", new File(this.folder, name));
+    }
+
+    private static int pixel(final ReplayScreenshotService replay) {
+        return replay.getScreenshot(WINDOW_POSITION, new Rectangle(1, 1, 2, 2), null).getRGB(0, 0) & 0xFFFFFF;
+    }
+}
@@ -0,0 +1,75 @@
+package nl.jixxed.eliteodysseymaterials.service.eddn;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EDDNCompressorTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void compressesSerializedJson() throws DataFormatException {
+        try (final EDDNCompressor compressor = new EDDNCompressor(EDDNCompressor.DEFAULT_LEVEL)) {
+            final byte[] json = "{\"event\":\"Scan\",\"BodyName\":\"Sol 3\"}".getBytes(StandardCharsets.UTF_8);
+
+            final int length = compressor.compress(json);
+
+            assertThat(inflate(compressor.getBuffer(), length)).isEqualTo(json);
+        }
+    }
+
+    @Test
+    void reusesDeflaterAndGrowsBuffer() throws IOException, DataFormatException {
+        try (final EDDNCompressor compressor = new EDDNCompressor(EDDNCompressor.DEFAULT_LEVEL)) {
+            final byte[] large = this.objectMapper.writeValueAsBytes(createMessage(5000));
+            final byte[] small = this.objectMapper.writeValueAsBytes(createMessage(1));
+
+            final int largeLength = compressor.compress(large);
+            assertThat(inflate(compressor.getBuffer(), largeLength)).isEqualTo(large);
+            final int smallLength = compressor.compress(small);
+            assertThat(inflate(compressor.getBuffer(), smallLength)).isEqualTo(small);
+        }
+    }
+
+    @Test
+    void fallsBackToDefaultLevelWhenOutOfRange() throws DataFormatException {
+        try (final EDDNCompressor compressor = new EDDNCompressor(42)) {
+            final byte[] json = "{\"event\":\"Scan\"}".getBytes(StandardCharsets.UTF_8);
+
+            final int length = compressor.compress(json);
+
+            assertThat(inflate(compressor.getBuffer(), length)).isEqualTo(json);
+        }
+    }
+
+    private static Map<String, Object> createMessage(final int commodities) {
+        final Map<String, Object> message = new LinkedHashMap<>();
+        message.put("event", "Commodity");
+        for (int i = 0; i < commodities; i++) {
+            message.put("commodity" + i, Map.of("buyPrice", i * 7, "sellPrice", i * 11, "demand", i % 13));
+        }
+        return message;
+    }
+
+    private static byte[] inflate(final byte[] buffer, final int length) throws DataFormatException {
+        final Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(buffer, 0, length);
+            final byte[] result = new byte[1024 * 1024];
+            final int inflated = inflater.inflate(result);
+            assertThat(inflater.finished()).isTrue();
+            return Arrays.copyOf(result, inflated);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,278 @@
+package nl.jixxed.eliteodysseymaterials.service.eddn;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.*;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EDDNUploadQueueTest {
+    private static final HttpClient HTTP_CLIENT = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+    @TempDir
+    Path spool;
+    private StandInEndpoint endpoint;
+    private EDDNUploadQueue uploadQueue;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        this.endpoint = new StandInEndpoint();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (this.uploadQueue != null) {
+            this.uploadQueue.stop();
+        }
+        this.endpoint.close();
+    }
+
+    @Test
+    void uploadsInOrderOverSharedClient() throws InterruptedException {
+        this.uploadQueue = createQueue(10, 3);
+        this.uploadQueue.start();
+
+        this.uploadQueue.offer(json("{\"a\":1}"));
+        this.uploadQueue.offer(json("{\"a\":2}"));
+        this.uploadQueue.offer(json("{\"a\":3}"));
+
+        await(() -> this.endpoint.received.size() == 3);
+        assertThat(this.endpoint.received).containsExactly("{\"a\":1}", "{\"a\":2}", "{\"a\":3}");
+        assertThat(this.endpoint.contentEncodings).containsOnly("gzip");
+    }
+
+    @Test
+    void preparesMessagesOnTheWorker() throws InterruptedException {
+        final List<String> threads = new CopyOnWriteArrayList<>();
+        this.uploadQueue = createQueue(10, 3);
+        this.uploadQueue.start();
+
+        this.uploadQueue.offer(() -> {
+            threads.add(Thread.currentThread().getName());
+            return null;
+        });
+        this.uploadQueue.offer(() -> {
+            threads.add(Thread.currentThread().getName());
+            return json("{\"a\":1}");
+        });
+
+        await(() -> this.uploadQueue.getSent() == 1);
+        assertThat(threads).containsOnly("EDDN Upload Thread").hasSize(2);
+        assertThat(this.endpoint.received).containsExactly("{\"a\":1}");
+    }
+
+    @Test
+    void retriesServerErrorsWithBackoff() throws InterruptedException {
+        this.endpoint.statuses.add(503);
+        this.endpoint.statuses.add(500);
+        this.uploadQueue = createQueue(10, 3);
+        this.uploadQueue.start();
+
+        this.uploadQueue.offer(json("{\"a\":1}"));
+
+        await(() -> this.uploadQueue.getSent() == 1);
+        assertThat(this.endpoint.received).containsExactly("{\"a\":1}", "{\"a\":1}", "{\"a\":1}");
+    }
+
+    @Test
+    void dropsRejectedMessages() throws InterruptedException, IOException {
+        this.endpoint.statuses.add(400);
+        this.uploadQueue = createQueue(10, 3);
+        this.uploadQueue.start();
+
+        this.uploadQueue.offer(json("{\"a\":1}"));
+        this.uploadQueue.offer(json("{\"a\":2}"));
+
+        await(() -> this.uploadQueue.getSent() == 1);
+        assertThat(this.endpoint.received).containsExactly("{\"a\":1}", "{\"a\":2}");
+        assertThat(spooledFiles()).isEmpty();
+    }
+
+    @Test
+    void overflowIsSpooledAndSentLater() throws InterruptedException, IOException {
+        this.uploadQueue = createQueue(2, 3);
+
+        assertThat(this.uploadQueue.offer(json("{\"a\":1}"))).isTrue();
+        assertThat(this.uploadQueue.offer(json("{\"a\":2}"))).isTrue();
+        assertThat(this.uploadQueue.offer(json("{\"a\":3}"))).isFalse();
+        assertThat(spooledFiles()).hasSize(1);
+
+        this.uploadQueue.start();
+
+        await(() -> this.uploadQueue.getSent() == 3);
+        assertThat(this.endpoint.received).containsExactly("{\"a\":1}", "{\"a\":2}", "{\"a\":3}");
+        assertThat(spooledFiles()).isEmpty();
+    }
+
+    @Test
+    void unsentMessagesSurviveRestart() throws InterruptedException, IOException {
+        this.uploadQueue = createQueue(10, 3);
+        this.uploadQueue.offer(json("{\"a\":1}"));
+        this.uploadQueue.offer(json("{\"a\":2}"));
+        this.uploadQueue.stop();
+        assertThat(spooledFiles()).hasSize(2);
+
+        this.uploadQueue = createQueue(10, 3);
+        this.uploadQueue.start();
+
+        await(() -> this.uploadQueue.getSent() == 2);
+        assertThat(this.endpoint.received).containsExactly("{\"a\":1}", "{\"a\":2}");
+        assertThat(spooledFiles()).isEmpty();
+    }
+
+    @Test
+    void failedMessagesAreKeptForNextStart() throws InterruptedException, IOException {
+        this.endpoint.statuses.addAll(List.of(503, 503));
+        this.uploadQueue = createQueue(10, 2);
+        this.uploadQueue.start();
+
+        this.uploadQueue.offer(json("{\"a\":1}"));
+
+        await(() -> spooledFiles().size() == 1);
+        assertThat(Files.readString(spooledFiles().get(0))).isEqualTo("{\"a\":1}");
+    }
+
+    private EDDNUploadQueue createQueue(final int capacity, final int maxAttempts) {
+        return new EDDNUploadQueue(HTTP_CLIENT, this.endpoint.getUri(), new EDDNCompressor(EDDNCompressor.DEFAULT_LEVEL), this.spool.toFile(), capacity, maxAttempts, 10);
+    }
+
+    private static byte[] json(final String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private List<Path> spooledFiles() throws IOException {
+        try (final var files = Files.list(this.spool)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".json")).sorted().toList();
+        }
+    }
+
+    private static void await(final ThrowingBooleanSupplier condition) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        final BooleanSupplier supplier = () -> {
+            try {
+                return condition.getAsBoolean();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+        while (!supplier.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition met in time").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ThrowingBooleanSupplier {
+        boolean getAsBoolean() throws IOException;
+    }
+
+    /**
+     * Minimal HTTP/1.1 endpoint that records request bodies and answers with queued status codes, 200 by default.
+     */
+    private static class StandInEndpoint implements Closeable {
+        private final ServerSocket serverSocket = new ServerSocket(0);
+        private final List<String> received = new CopyOnWriteArrayList<>();
+        private final List<String> contentEncodings = new CopyOnWriteArrayList<>();
+        private final Queue<Integer> statuses = new ConcurrentLinkedQueue<>();
+        private final Thread acceptor;
+
+        StandInEndpoint() throws IOException {
+            this.acceptor = new Thread(this::accept, "EDDN stand-in");
+            this.acceptor.setDaemon(true);
+            this.acceptor.start();
+        }
+
+        URI getUri() {
+            return URI.create("http://localhost:" + this.serverSocket.getLocalPort() + "/upload/");
+        }
+
+        private void accept() {
+            while (!this.serverSocket.isClosed()) {
+                try {
+                    final Socket socket = this.serverSocket.accept();
+                    final Thread connection = new Thread(() -> serve(socket));
+                    connection.setDaemon(true);
+                    connection.start();
+                } catch (final IOException e) {
+                    return;
+                }
+            }
+        }
+
+        private void serve(final Socket socket) {
+            try (socket) {
+                final InputStream in = new BufferedInputStream(socket.getInputStream());
+                final OutputStream out = socket.getOutputStream();
+                String requestLine;
+                while ((requestLine = readLine(in)) != null && !requestLine.isEmpty()) {
+                    int contentLength = 0;
+                    String header;
+                    while ((header = readLine(in)) != null && !header.isEmpty()) {
+                        final String name = header.substring(0, header.indexOf(':')).trim();
+                        final String value = header.substring(header.indexOf(':') + 1).trim();
+                        if (name.equalsIgnoreCase("Content-Length")) {
+                            contentLength = Integer.parseInt(value);
+                        } else if (name.equalsIgnoreCase("Content-Encoding")) {
+                            this.contentEncodings.add(value);
+                        }
+                    }
+                    this.received.add(inflate(in.readNBytes(contentLength)));
+                    final Integer status = this.statuses.poll();
+                    final byte[] body = "OK".getBytes(StandardCharsets.UTF_8);
+                    out.write(("HTTP/1.1 " + (status != null ? status : 200) + " X\r\nContent-Length: " + body.length + "\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+                    out.write(body);
+                    out.flush();
+                }
+            } catch (final IOException e) {
+                //connection closed by client
+            }
+        }
+
+        private static String inflate(final byte[] body) throws IOException {
+            final Inflater inflater = new Inflater(true);
+            try {
+                inflater.setInput(body);
+                final byte[] json = new byte[64 * 1024];
+                return new String(json, 0, inflater.inflate(json), StandardCharsets.UTF_8);
+            } catch (final DataFormatException e) {
+                throw new IOException(e);
+            } finally {
+                inflater.end();
+            }
+        }
+
+        private static String readLine(final InputStream in) throws IOException {
+            final ByteArrayOutputStream line = new ByteArrayOutputStream();
+            int read;
+            while ((read = in.read()) != -1 && read != '\n') {
+                if (read != '\r') {
+                    line.write(read);
+                }
+            }
+            return read == -1 && line.size() == 0 ? null : line.toString(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.serverSocket.close();
+        }
+    }
+}
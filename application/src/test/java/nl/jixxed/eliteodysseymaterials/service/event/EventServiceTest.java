@@ -0,0 +1,137 @@
+package nl.jixxed.eliteodysseymaterials.service.event;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class EventServiceTest {
+
+    @Test
+    void publish_ordersByPriorityThenRegistration() {
+        final List<String> calls = new ArrayList<>();
+        final List<EventListener<?>> listeners = List.of(
+                EventService.addStaticListener(5, OrderEvent.class, event -> calls.add("5a")),
+                EventService.addStaticListener(0, OrderEvent.class, event -> calls.add("0")),
+                EventService.addStaticListener(9, OrderEvent.class, event -> calls.add("9")),
+                EventService.addStaticListener(5, OrderEvent.class, event -> calls.add("5b"))
+        );
+
+        EventService.publish(new OrderEvent());
+
+        Assertions.assertThat(calls).containsExactly("0", "5a", "5b", "9");
+        listeners.forEach(EventService::removeListener);
+    }
+
+    @Test
+    void removeListener_byOwner() {
+        final Object owner = new Object();
+        final AtomicInteger calls = new AtomicInteger();
+        final EventListener<RemoveEvent> listener = EventService.addListener(owner, RemoveEvent.class, event -> calls.incrementAndGet());
+
+        EventService.publish(new RemoveEvent());
+        EventService.removeListener(owner);
+        EventService.publish(new RemoveEvent());
+
+        Assertions.assertThat(calls).hasValue(1);
+        Assertions.assertThat(listener).isNotNull();
+    }
+
+    @Test
+    void addListener_concurrently() throws InterruptedException {
+        final int threads = 8;
+        final int perThread = 250;
+        final List<EventListener<?>> listeners = new ArrayList<>();
+        final ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        final CountDownLatch start = new CountDownLatch(1);
+        final AtomicInteger calls = new AtomicInteger();
+        for (int i = 0; i < threads; i++) {
+            executorService.submit(() -> {
+                start.await();
+                for (int j = 0; j < perThread; j++) {
+                    final EventListener<ConcurrentEvent> listener = EventService.addStaticListener(j % 10, ConcurrentEvent.class, event -> calls.incrementAndGet());
+                    synchronized (listeners) {
+                        listeners.add(listener);
+                    }
+                    EventService.publish(new ConcurrentEvent());
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executorService.shutdown();
+        Assertions.assertThat(executorService.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        calls.set(0);
+
+        EventService.publish(new ConcurrentEvent());
+
+        Assertions.assertThat(calls).hasValue(threads * perThread);
+        listeners.forEach(EventService::removeListener);
+    }
+
+    @Test
+    void publishCoalesced_deliversOncePerBatch() {
+        final List<String> calls = new ArrayList<>();
+        final List<EventListener<?>> listeners = List.of(
+                EventService.addStaticListener(KeyedEvent.class, event -> calls.add(event.value())),
+                EventService.addStaticListener(OrderEvent.class, event -> calls.add("order"))
+        );
+
+        EventService.publishCoalesced(() -> {
+            EventService.publish(new KeyedEvent("a", "a1"));
+            EventService.publish(new KeyedEvent("b", "b1"));
+            EventService.publish(new OrderEvent());
+            EventService.publish(new KeyedEvent("a", "a2"));
+            EventService.publish(new OrderEvent());
+            EventService.publish(new KeyedEvent("a", "a3"));
+        });
+
+        Assertions.assertThat(calls).containsExactly("order", "order", "a3", "b1");
+        listeners.forEach(EventService::removeListener);
+    }
+
+    @Test
+    void publishCoalesced_keepsOrderWithBarrierEvents() {
+        final List<String> calls = new ArrayList<>();
+        final List<EventListener<?>> listeners = List.of(
+                EventService.addStaticListener(KeyedEvent.class, event -> calls.add(event.value())),
+                EventService.addStaticListener(BarrierEvent.class, event -> calls.add("barrier"))
+        );
+
+        EventService.publishCoalesced(() -> {
+            EventService.publish(new KeyedEvent("a", "a1"));
+            EventService.publish(new KeyedEvent("b", "b1"));
+            EventService.publish(new KeyedEvent("a", "a2"));
+            EventService.publish(new BarrierEvent());
+            EventService.publish(new KeyedEvent("a", "a3"));
+        });
+
+        Assertions.assertThat(calls).containsExactly("a2", "b1", "barrier", "a3");
+        listeners.forEach(EventService::removeListener);
+    }
+
+    private static class OrderEvent implements Event {
+    }
+
+    private record KeyedEvent(String key, String value) implements CoalescableEvent {
+        @Override
+        public Object getCoalesceKey() {
+            return this.key;
+        }
+    }
+
+    private static class BarrierEvent implements CoalescingBarrierEvent {
+    }
+
+    private static class RemoveEvent implements Event {
+    }
+
+    private static class ConcurrentEvent implements Event {
+    }
+}
@@ -0,0 +1,38 @@
+package nl.jixxed.eliteodysseymaterials.templates;
+
+import nl.jixxed.eliteodysseymaterials.domain.Storage;
+import nl.jixxed.eliteodysseymaterials.enums.Data;
+import nl.jixxed.eliteodysseymaterials.enums.Good;
+import nl.jixxed.eliteodysseymaterials.enums.OdysseyMaterial;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChangeTrackerTest {
+    private final ChangeTracker<OdysseyMaterial> tracker = new ChangeTracker<>();
+
+    @Test
+    void firstUpdateCountsAsChanged() {
+        assertThat(this.tracker.update(Good.AGRICULTURALPROCESSSAMPLE, Storage.of(0, 0))).isTrue();
+        assertThat(this.tracker.update(Data.ACCIDENTLOGS, null)).isTrue();
+    }
+
+    @Test
+    void onlyDifferentStatesCountAsChanged() {
+        this.tracker.update(Good.AGRICULTURALPROCESSSAMPLE, Storage.of(1, 2, 3));
+        this.tracker.update(Data.ACCIDENTLOGS, null);
+
+        assertThat(this.tracker.update(Good.AGRICULTURALPROCESSSAMPLE, Storage.of(1, 2, 3))).isFalse();
+        assertThat(this.tracker.update(Data.ACCIDENTLOGS, null)).isFalse();
+        assertThat(this.tracker.update(Good.AGRICULTURALPROCESSSAMPLE, Storage.of(1, 5, 3))).isTrue();
+        assertThat(this.tracker.update(Good.AGRICULTURALPROCESSSAMPLE, Storage.of(1, 5, 3))).isFalse();
+    }
+
+    @Test
+    void resetForgetsShownStates() {
+        this.tracker.update(Good.AGRICULTURALPROCESSSAMPLE, 4);
+        this.tracker.reset();
+
+        assertThat(this.tracker.update(Good.AGRICULTURALPROCESSSAMPLE, 4)).isTrue();
+    }
+}
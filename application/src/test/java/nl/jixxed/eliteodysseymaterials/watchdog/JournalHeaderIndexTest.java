@@ -0,0 +1,96 @@
+package nl.jixxed.eliteodysseymaterials.watchdog;
+
+import nl.jixxed.eliteodysseymaterials.enums.GameVersion;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JournalHeaderIndexTest {
+    private static final String FILE_HEADER = "{ \"timestamp\":\"2022-03-15T15:12:50Z\", \"event\":\"Fileheader\", \"part\":1, \"gameversion\":\"4.0.0.1302\" }";
+    private static final String COMMANDER = "{ \"timestamp\":\"2022-03-15T15:12:55Z\", \"event\":\"Commander\", \"FID\":\"F123\", \"Name\":\"Jixxed\" }";
+
+    @TempDir
+    Path folder;
+
+    @Test
+    void readsHeaderFactsInOnePass() throws IOException {
+        final File journal = writeJournal("Journal.2022-03-15T151250.01.log", FILE_HEADER, COMMANDER);
+        final JournalHeaderIndex index = new JournalHeaderIndex(this.folder.resolve("index.json").toFile());
+
+        final JournalHeaderIndex.JournalHeader header = index.get(journal);
+
+        assertThat(header.hasFileHeader()).isTrue();
+        assertThat(header.hasCommanderHeader()).isTrue();
+        assertThat(header.gameVersion()).isEqualTo(GameVersion.LIVE);
+        assertThat(header.commander()).isEqualTo("Jixxed");
+        assertThat(header.fid()).isEqualTo("F123");
+        assertThat(header.timestamp()).isEqualTo("2022-03-15T15:12:55Z");
+    }
+
+    @Test
+    void journalWithoutCommander() throws IOException {
+        final File journal = writeJournal("Journal.2022-03-15T151250.01.log", FILE_HEADER);
+        final File empty = writeJournal("Journal.2022-03-16T151250.01.log");
+        final JournalHeaderIndex index = new JournalHeaderIndex(this.folder.resolve("index.json").toFile());
+
+        assertThat(index.get(journal).hasFileHeader()).isTrue();
+        assertThat(index.get(journal).hasCommanderHeader()).isFalse();
+        assertThat(index.get(empty).hasFileHeader()).isFalse();
+    }
+
+    @Test
+    void unchangedJournalsAreServedFromSavedIndex() throws IOException {
+        final File indexFile = this.folder.resolve("index.json").toFile();
+        final File journal = writeJournal("Journal.2022-03-15T151250.01.log", FILE_HEADER, COMMANDER);
+        final JournalHeaderIndex index = new JournalHeaderIndex(indexFile);
+        index.get(journal);
+        index.save();
+
+        //same size and modification time, so the file is not read again
+        final long lastModified = journal.lastModified();
+        Files.writeString(journal.toPath(), FILE_HEADER + "\n" + COMMANDER.replace("Jixxed", "Other1") + "\n");
+        journal.setLastModified(lastModified);
+
+        assertThat(new JournalHeaderIndex(indexFile).get(journal).commander()).isEqualTo("Jixxed");
+    }
+
+    @Test
+    void changedJournalsAreReadAgain() throws IOException {
+        final File indexFile = this.folder.resolve("index.json").toFile();
+        final File journal = writeJournal("Journal.2022-03-15T151250.01.log", FILE_HEADER);
+        final JournalHeaderIndex index = new JournalHeaderIndex(indexFile);
+        assertThat(index.get(journal).hasCommanderHeader()).isFalse();
+
+        Files.writeString(journal.toPath(), FILE_HEADER + "\n" + COMMANDER);
+
+        assertThat(index.get(journal).commander()).isEqualTo("Jixxed");
+    }
+
+    @Test
+    void retainDropsRemovedJournals() throws IOException {
+        final File indexFile = this.folder.resolve("index.json").toFile();
+        final File journal = writeJournal("Journal.2022-03-15T151250.01.log", FILE_HEADER, COMMANDER);
+        final File removed = writeJournal("Journal.2022-03-16T151250.01.log", FILE_HEADER, COMMANDER);
+        final JournalHeaderIndex index = new JournalHeaderIndex(indexFile);
+        index.get(journal);
+        index.get(removed);
+
+        index.retain(List.of(journal));
+        index.save();
+
+        assertThat(Files.readString(indexFile.toPath())).contains(journal.getName()).doesNotContain(removed.getName());
+    }
+
+    private File writeJournal(final String name, final String... lines) throws IOException {
+        final Path journal = this.folder.resolve(name);
+        Files.write(journal, List.of(lines));
+        return journal.toFile();
+    }
+}